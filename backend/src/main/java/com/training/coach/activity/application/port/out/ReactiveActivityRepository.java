@@ -0,0 +1,26 @@
+package com.training.coach.activity.application.port.out;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import java.time.LocalDate;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to activities, for read paths that stream long histories.
+ */
+public interface ReactiveActivityRepository {
+
+    /**
+     * Activities of the athlete from {@code startDate} to {@code endDate} inclusive, ordered by date and id. Rows
+     * are read a page at a time as the subscriber requests them.
+     */
+    Flux<ActivityLight> streamByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Insert the activities, replacing any stored under the same id, in batched statements.
+     *
+     * @return the number of rows written
+     */
+    Mono<Long> upsertAll(List<ActivityLight> activities);
+}
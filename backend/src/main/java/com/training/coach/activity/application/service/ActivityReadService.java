@@ -1,12 +1,14 @@
 package com.training.coach.activity.application.service;
 
 import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.activity.application.port.out.ReactiveActivityRepository;
 import com.training.coach.activity.domain.model.ActivityLight;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 @Service
 public class ActivityReadService {
@@ -14,9 +16,12 @@ public class ActivityReadService {
     private static final int MAX_RANGE_DAYS = 365;
 
     private final ActivityRepository activityRepository;
+    private final ReactiveActivityRepository reactiveActivityRepository;
 
-    public ActivityReadService(ActivityRepository activityRepository) {
+    public ActivityReadService(
+            ActivityRepository activityRepository, ReactiveActivityRepository reactiveActivityRepository) {
         this.activityRepository = activityRepository;
+        this.reactiveActivityRepository = reactiveActivityRepository;
     }
 
     public List<ActivityLight> getActivities(String athleteId, LocalDate startDate, LocalDate endDate) {
@@ -24,20 +29,35 @@ public class ActivityReadService {
         return activityRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate);
     }
 
+    /**
+     * Streams the activities of a range in date order, a page at a time as the subscriber requests them. Unlike
+     * {@link #getActivities}, the range is not capped, as the stream never holds more than a page in memory.
+     *
+     * @throws IllegalArgumentException if the range is missing or ends before it starts
+     */
+    public Flux<ActivityLight> streamActivities(String athleteId, LocalDate startDate, LocalDate endDate) {
+        validateOrder(startDate, endDate);
+        return reactiveActivityRepository.streamByAthleteIdAndDateRange(athleteId, startDate, endDate);
+    }
+
     public Optional<ActivityLight> getActivityByDate(String athleteId, LocalDate date) {
         return activityRepository.findByAthleteIdAndDate(athleteId, date);
     }
 
     private void validateRange(LocalDate startDate, LocalDate endDate) {
+        validateOrder(startDate, endDate);
+        long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (daysBetween > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private void validateOrder(LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Start date and end date are required");
         }
         if (endDate.isBefore(startDate)) {
             throw new IllegalArgumentException("End date must be on or after start date");
         }
-        long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-        if (daysBetween > MAX_RANGE_DAYS) {
-            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
-        }
     }
 }
@@ -0,0 +1,154 @@
+package com.training.coach.activity.infrastructure.adapter;
+
+import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.activity.application.port.out.ReactiveActivityRepository;
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.activity.infrastructure.persistence.entity.ActivityLightEntity;
+import com.training.coach.shared.persistence.KeysetPagination;
+import com.training.coach.shared.persistence.R2dbcPersistenceProperties;
+import com.training.coach.shared.persistence.R2dbcUpsert;
+import com.training.coach.shared.persistence.R2dbcUpsert.Column;
+import io.r2dbc.spi.Readable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC adapter of the activity store, on the {@code activity_light} table that JPA maps.
+ *
+ * <p>The blocking port is kept for the services that still use it and blocks on the reactive queries, which is
+ * only safe off the event loop, as blocking controller methods are.</p>
+ */
+@Component
+@Profile("r2dbc & !test")
+public class ActivityR2dbcRepositoryAdapter implements ActivityRepository, ReactiveActivityRepository {
+
+    private static final String SELECT = "SELECT id, athlete_id, external_activity_id, date, name, type, "
+            + "duration_seconds, distance_km, average_power, average_heart_rate, training_stress_score, "
+            + "intensity_factor, normalized_power FROM activity_light ";
+
+    private final DatabaseClient client;
+    private final int pageSize;
+    private final R2dbcUpsert<ActivityLightEntity> upsert;
+
+    public ActivityR2dbcRepositoryAdapter(DatabaseClient client, R2dbcPersistenceProperties properties) {
+        this.client = client;
+        this.pageSize = properties.pageSize();
+        this.upsert = new R2dbcUpsert<>("activity_light", List.of(
+                Column.of("id", String.class, ActivityLightEntity::getId),
+                Column.of("athlete_id", String.class, ActivityLightEntity::getAthleteId),
+                Column.of("external_activity_id", String.class, ActivityLightEntity::getExternalActivityId),
+                Column.of("date", LocalDate.class, ActivityLightEntity::getDate),
+                Column.of("name", String.class, ActivityLightEntity::getName),
+                Column.of("type", String.class, ActivityLightEntity::getType),
+                Column.of("duration_seconds", Integer.class, ActivityLightEntity::getDurationSeconds),
+                Column.of("distance_km", Double.class, ActivityLightEntity::getDistanceKm),
+                Column.of("average_power", Double.class, ActivityLightEntity::getAveragePower),
+                Column.of("average_heart_rate", Double.class, ActivityLightEntity::getAverageHeartRate),
+                Column.of("training_stress_score", Double.class, ActivityLightEntity::getTrainingStressScore),
+                Column.of("intensity_factor", Double.class, ActivityLightEntity::getIntensityFactor),
+                Column.of("normalized_power", Double.class, ActivityLightEntity::getNormalizedPower),
+                Column.insertOnly("created_at", Instant.class, ActivityLightEntity::getUpdatedAt),
+                Column.of("updated_at", Instant.class, ActivityLightEntity::getUpdatedAt)),
+                properties.upsertBatchSize());
+    }
+
+    @Override
+    public Flux<ActivityLight> streamByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return KeysetPagination.stream(
+                pageSize,
+                page(client.sql(SELECT + "WHERE athlete_id = :athleteId AND date >= :startDate AND date <= :endDate "
+                                + "ORDER BY date ASC, id ASC LIMIT :limit")
+                        .bind("startDate", startDate), athleteId, endDate),
+                last -> page(client.sql(SELECT + "WHERE athlete_id = :athleteId "
+                                + "AND (date > :date OR (date = :date AND id > :id)) AND date <= :endDate "
+                                + "ORDER BY date ASC, id ASC LIMIT :limit")
+                        .bind("date", last.date())
+                        .bind("id", last.id()), athleteId, endDate));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<ActivityLight> activities) {
+        return upsert.execute(client, activities.stream().map(ActivityRepositoryAdapter::toEntity).toList());
+    }
+
+    @Override
+    public ActivityLight save(ActivityLight activity) {
+        upsertAll(List.of(activity)).block();
+        return activity;
+    }
+
+    @Override
+    public List<ActivityLight> saveAll(List<ActivityLight> activities) {
+        upsertAll(activities).block();
+        return activities;
+    }
+
+    @Override
+    public Optional<ActivityLight> findByAthleteIdAndExternalActivityId(String athleteId, String externalActivityId) {
+        return client.sql(SELECT + "WHERE athlete_id = :athleteId AND external_activity_id = :externalActivityId "
+                        + "LIMIT 1")
+                .bind("athleteId", athleteId)
+                .bind("externalActivityId", externalActivityId)
+                .map(ActivityR2dbcRepositoryAdapter::toDomain)
+                .one()
+                .blockOptional();
+    }
+
+    @Override
+    public Optional<ActivityLight> findByAthleteIdAndDate(String athleteId, LocalDate date) {
+        return client.sql(SELECT + "WHERE athlete_id = :athleteId AND date = :date ORDER BY id ASC LIMIT 1")
+                .bind("athleteId", athleteId)
+                .bind("date", date)
+                .map(ActivityR2dbcRepositoryAdapter::toDomain)
+                .one()
+                .blockOptional();
+    }
+
+    @Override
+    public List<ActivityLight> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return streamByAthleteIdAndDateRange(athleteId, startDate, endDate).collectList().block();
+    }
+
+    @Override
+    public void deleteByAthleteId(String athleteId) {
+        client.sql("DELETE FROM activity_light WHERE athlete_id = :athleteId")
+                .bind("athleteId", athleteId)
+                .then()
+                .block();
+    }
+
+    private Mono<List<ActivityLight>> page(GenericExecuteSpec query, String athleteId, LocalDate endDate) {
+        return query.bind("athleteId", athleteId)
+                .bind("endDate", endDate)
+                .bind("limit", pageSize)
+                .map(ActivityR2dbcRepositoryAdapter::toDomain)
+                .all()
+                .collectList();
+    }
+
+    private static ActivityLight toDomain(Readable row) {
+        ActivityLightEntity entity = new ActivityLightEntity();
+        entity.setId(row.get("id", String.class));
+        entity.setAthleteId(row.get("athlete_id", String.class));
+        entity.setExternalActivityId(row.get("external_activity_id", String.class));
+        entity.setDate(row.get("date", LocalDate.class));
+        entity.setName(row.get("name", String.class));
+        entity.setType(row.get("type", String.class));
+        entity.setDurationSeconds(row.get("duration_seconds", Integer.class));
+        entity.setDistanceKm(row.get("distance_km", Double.class));
+        entity.setAveragePower(row.get("average_power", Double.class));
+        entity.setAverageHeartRate(row.get("average_heart_rate", Double.class));
+        entity.setTrainingStressScore(row.get("training_stress_score", Double.class));
+        entity.setIntensityFactor(row.get("intensity_factor", Double.class));
+        entity.setNormalizedPower(row.get("normalized_power", Double.class));
+        return ActivityRepositoryAdapter.toDomain(entity);
+    }
+}
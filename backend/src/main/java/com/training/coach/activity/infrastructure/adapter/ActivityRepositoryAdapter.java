@@ -1,6 +1,7 @@
 package com.training.coach.activity.infrastructure.adapter;
 
 import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.activity.application.port.out.ReactiveActivityRepository;
 import com.training.coach.activity.domain.model.ActivityLight;
 import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
 import com.training.coach.activity.infrastructure.persistence.entity.ActivityLightEntity;
@@ -8,17 +9,30 @@ import com.training.coach.shared.domain.unit.BeatsPerMinute;
 import com.training.coach.shared.domain.unit.Kilometers;
 import com.training.coach.shared.domain.unit.Seconds;
 import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.shared.persistence.KeysetPagination;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * JPA adapter of the activity store. Reactive callers are served by running the blocking queries on the bounded
+ * elastic scheduler, a page at a time. The {@code r2dbc} profile replaces this adapter with
+ * {@link ActivityR2dbcRepositoryAdapter}.
+ */
 @Component
-@Profile("!test")
-public class ActivityRepositoryAdapter implements ActivityRepository {
+@Profile("!test & !r2dbc")
+public class ActivityRepositoryAdapter implements ActivityRepository, ReactiveActivityRepository {
+
+    private static final int STREAM_PAGE_SIZE = 500;
 
     private final ActivityJpaRepository jpaRepository;
 
@@ -36,27 +50,27 @@ public class ActivityRepositoryAdapter implements ActivityRepository {
     @Override
     public List<ActivityLight> saveAll(List<ActivityLight> activities) {
         List<ActivityLightEntity> entities =
-                activities.stream().map(this::toEntity).collect(Collectors.toList());
+                activities.stream().map(ActivityRepositoryAdapter::toEntity).collect(Collectors.toList());
         List<ActivityLightEntity> saved = jpaRepository.saveAll(entities);
-        return saved.stream().map(this::toDomain).collect(Collectors.toList());
+        return saved.stream().map(ActivityRepositoryAdapter::toDomain).collect(Collectors.toList());
     }
 
     @Override
     public Optional<ActivityLight> findByAthleteIdAndExternalActivityId(String athleteId, String externalActivityId) {
         return Optional.ofNullable(jpaRepository.findByAthleteIdAndExternalActivityId(athleteId, externalActivityId))
-                .map(this::toDomain);
+                .map(ActivityRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<ActivityLight> findByAthleteIdAndDate(String athleteId, LocalDate date) {
         return Optional.ofNullable(jpaRepository.findByAthleteIdAndDate(athleteId, date))
-                .map(this::toDomain);
+                .map(ActivityRepositoryAdapter::toDomain);
     }
 
     @Override
     public List<ActivityLight> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
         return jpaRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
-                .map(this::toDomain)
+                .map(ActivityRepositoryAdapter::toDomain)
                 .collect(Collectors.toList());
     }
 
@@ -65,7 +79,28 @@ public class ActivityRepositoryAdapter implements ActivityRepository {
         jpaRepository.deleteByAthleteId(athleteId);
     }
 
-    private ActivityLightEntity toEntity(ActivityLight activity) {
+    @Override
+    public Flux<ActivityLight> streamByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        Limit limit = Limit.of(STREAM_PAGE_SIZE);
+        return KeysetPagination.stream(
+                STREAM_PAGE_SIZE,
+                page(() -> jpaRepository.findByAthleteIdAndDateBetweenOrderByDateAscIdAsc(
+                        athleteId, startDate, endDate, limit)),
+                last -> page(() -> jpaRepository.findByAthleteIdAfterUntil(
+                        athleteId, last.date(), last.id(), endDate, limit)));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<ActivityLight> activities) {
+        return Mono.fromCallable(() -> (long) saveAll(activities).size()).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<List<ActivityLight>> page(Supplier<List<ActivityLightEntity>> query) {
+        return Mono.fromCallable(() -> query.get().stream().map(ActivityRepositoryAdapter::toDomain).toList())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static ActivityLightEntity toEntity(ActivityLight activity) {
         ActivityLightEntity entity = new ActivityLightEntity();
         entity.setId(activity.id());
         entity.setAthleteId(activity.athleteId());
@@ -91,7 +126,7 @@ public class ActivityRepositoryAdapter implements ActivityRepository {
         return entity;
     }
 
-    private ActivityLight toDomain(ActivityLightEntity entity) {
+    static ActivityLight toDomain(ActivityLightEntity entity) {
         return new ActivityLight(
                 entity.getId(),
                 entity.getAthleteId(),
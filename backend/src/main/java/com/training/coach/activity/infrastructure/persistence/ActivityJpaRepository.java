@@ -1,9 +1,13 @@
 package com.training.coach.activity.infrastructure.persistence;
 
 import com.training.coach.activity.infrastructure.persistence.entity.ActivityLightEntity;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,5 +27,54 @@ public interface ActivityJpaRepository extends JpaRepository<ActivityLightEntity
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT new com.training.coach.activity.infrastructure.persistence.ActivityLoadRow("
+            + "a.athleteId, a.date, a.trainingStressScore, a.intensityFactor) "
+            + "FROM ActivityLightEntity a WHERE a.athleteId IN :athleteIds "
+            + "AND a.date >= :startDate "
+            + "AND a.date <= :endDate")
+    List<ActivityLoadRow> findLoadByAthleteIdsAndDateRange(
+            @Param("athleteIds") Collection<String> athleteIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MAX(a.updatedAt) FROM ActivityLightEntity a WHERE a.athleteId = :athleteId "
+            + "AND a.date >= :startDate "
+            + "AND a.date <= :endDate")
+    Instant findLastUpdatedAt(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    List<ActivityLightEntity> findByAthleteIdOrderByDateAscIdAsc(String athleteId, Limit limit);
+
+    @Query("SELECT a FROM ActivityLightEntity a WHERE a.athleteId = :athleteId "
+            + "AND (a.date > :date OR (a.date = :date AND a.id > :id)) "
+            + "ORDER BY a.date ASC, a.id ASC")
+    List<ActivityLightEntity> findByAthleteIdAfter(
+            @Param("athleteId") String athleteId,
+            @Param("date") LocalDate date,
+            @Param("id") String id,
+            Limit limit);
+
+    List<ActivityLightEntity> findByAthleteIdAndDateBetweenOrderByDateAscIdAsc(
+            String athleteId, LocalDate startDate, LocalDate endDate, Limit limit);
+
+    @Query("SELECT a FROM ActivityLightEntity a WHERE a.athleteId = :athleteId "
+            + "AND (a.date > :date OR (a.date = :date AND a.id > :id)) "
+            + "AND a.date <= :endDate "
+            + "ORDER BY a.date ASC, a.id ASC")
+    List<ActivityLightEntity> findByAthleteIdAfterUntil(
+            @Param("athleteId") String athleteId,
+            @Param("date") LocalDate date,
+            @Param("id") String id,
+            @Param("endDate") LocalDate endDate,
+            Limit limit);
+
     void deleteByAthleteId(String athleteId);
+
+    long countByAthleteId(String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM ActivityLightEntity a WHERE a.athleteId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
 }
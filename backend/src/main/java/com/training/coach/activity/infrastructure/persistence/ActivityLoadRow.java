@@ -0,0 +1,8 @@
+package com.training.coach.activity.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the training stress and intensity factor of one activity.
+ */
+public record ActivityLoadRow(String athleteId, LocalDate date, Double trainingStressScore, Double intensityFactor) {}
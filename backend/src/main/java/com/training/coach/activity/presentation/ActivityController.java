@@ -4,12 +4,14 @@ import com.training.coach.activity.application.service.ActivityReadService;
 import com.training.coach.activity.domain.model.ActivityLight;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/activities")
@@ -31,6 +33,22 @@ public class ActivityController {
         }
     }
 
+    /**
+     * Streams the activities of a range of any length as newline-delimited JSON or server-sent events, written as
+     * the client reads them rather than buffered into one array.
+     */
+    @GetMapping(
+            value = "/athletes/{athleteId}/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<ActivityLight>> streamActivities(
+            @PathVariable String athleteId, @RequestParam LocalDate startDate, @RequestParam LocalDate endDate) {
+        try {
+            return ResponseEntity.ok(activityReadService.streamActivities(athleteId, startDate, endDate));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/athletes/{athleteId}/date/{date}")
     public ResponseEntity<ActivityLight> getActivityByDate(
             @PathVariable String athleteId, @PathVariable LocalDate date) {
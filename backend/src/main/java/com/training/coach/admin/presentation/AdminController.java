@@ -4,6 +4,8 @@ import com.training.coach.athlete.application.service.AthleteService;
 import com.training.coach.activity.application.port.out.ActivityRepository;
 import com.training.coach.athlete.domain.model.Athlete;
 import com.training.coach.integration.application.service.IntegrationService;
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.jobs.domain.model.ReportJob;
 import com.training.coach.reporting.application.service.OrganizationReportService;
 import com.training.coach.reporting.domain.model.OrganizationReport;
 import com.training.coach.shared.functional.Result;
@@ -13,7 +15,9 @@ import com.training.coach.user.domain.model.UserRole;
 import com.training.coach.user.domain.model.UserPreferences;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +35,7 @@ public class AdminController {
     private final WellnessRepository wellnessRepository;
     private final IntegrationService integrationService;
     private final OrganizationReportService organizationReportService;
+    private final ReportJobService reportJobService;
 
     public AdminController(
             SystemUserService userService,
@@ -38,13 +43,15 @@ public class AdminController {
             ActivityRepository activityRepository,
             WellnessRepository wellnessRepository,
             IntegrationService integrationService,
-            OrganizationReportService organizationReportService) {
+            OrganizationReportService organizationReportService,
+            ReportJobService reportJobService) {
         this.userService = userService;
         this.athleteService = athleteService;
         this.activityRepository = activityRepository;
         this.wellnessRepository = wellnessRepository;
         this.integrationService = integrationService;
         this.organizationReportService = organizationReportService;
+        this.reportJobService = reportJobService;
     }
 
     /**
@@ -171,6 +178,31 @@ public class AdminController {
         }
     }
 
+    /**
+     * Queue the organization summary report as a background job.
+     * Poll {@code /api/jobs/{jobId}} and download the JSON from {@code /api/jobs/{jobId}/result}.
+     */
+    @PostMapping("/reports/organization/jobs")
+    public ResponseEntity<ReportJob> submitOrganizationReport(
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        try {
+            ReportJob job = reportJobService.submit(
+                    ReportJob.JobType.ORGANIZATION_REPORT,
+                    Map.of("startDate", startDate, "endDate", endDate),
+                    ReportJob.JobPriority.NORMAL);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/api/jobs/" + job.id())
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+    }
+
     // Request/Response DTOs
     public record AdminCreateUserRequest(
             String name,
@@ -197,6 +229,6 @@ public class AdminController {
             int totalAthletes,
             int activeAthletes,
             double averageReadiness,
-            double averageCompliance,
+            Double averageCompliance,
             int recentActivities) {}
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.training.coach.analysis.application.port.out;
+
+import com.training.coach.analysis.domain.model.AdjustmentProposal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for adjustment proposal persistence.
+ */
+public interface AdjustmentProposalRepository {
+
+    AdjustmentProposal save(AdjustmentProposal proposal);
+
+    /**
+     * Save many proposals in one batch.
+     */
+    List<AdjustmentProposal> saveAll(List<AdjustmentProposal> proposals);
+
+    Optional<AdjustmentProposal> findById(String proposalId);
+
+    List<AdjustmentProposal> findByPlanId(String planId);
+
+    List<AdjustmentProposal> findByAthleteId(String athleteId);
+
+    List<AdjustmentProposal> findPendingByPlanId(String planId);
+}
@@ -0,0 +1,34 @@
+package com.training.coach.analysis.application.port.out;
+
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Port for the append-only log of guardrail decisions.
+ */
+public interface GuardrailAuditLog {
+
+    /**
+     * Append an entry. Implementations may persist it asynchronously, but every query must see it once
+     * this call returns.
+     */
+    void append(GuardrailAuditEntry entry);
+
+    /**
+     * Entries of one athlete with {@code from <= timestamp < to}, oldest first. Null bounds are open.
+     */
+    List<GuardrailAuditEntry> findByAthleteId(String athleteId, Instant from, Instant to);
+
+    /**
+     * Entries of every athlete with {@code from <= timestamp < to}, oldest first.
+     */
+    List<GuardrailAuditEntry> findByTimeRange(Instant from, Instant to);
+
+    long countByAthleteId(String athleteId);
+
+    /**
+     * Remove every entry of the athlete, returning how many were removed.
+     */
+    long eraseByAthleteId(String athleteId);
+}
@@ -0,0 +1,25 @@
+package com.training.coach.analysis.application.port.out;
+
+import com.training.coach.analysis.domain.model.ActivityLoadSample;
+import com.training.coach.analysis.domain.model.WellnessScoreSample;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port for reading what the guardrails need about a whole roster without loading full snapshots or activities.
+ */
+public interface GuardrailInputRepository {
+
+    /**
+     * Fatigue, soreness and readiness scores of the athletes reported on days within the range, in one query.
+     */
+    List<WellnessScoreSample> findWellnessByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Training stress and intensity of the athletes' activities on days within the range, in one query.
+     */
+    List<ActivityLoadSample> findActivityLoadByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,19 @@
+package com.training.coach.analysis.application.port.out;
+
+import com.training.coach.analysis.domain.model.ReadinessSample;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port for reading readiness scores of a whole roster without loading full wellness snapshots.
+ */
+public interface ReadinessSampleRepository {
+
+    /**
+     * Readiness scores of the athletes recorded on days within the range, in one query.
+     * Days without a readiness score are left out.
+     */
+    List<ReadinessSample> findByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,35 @@
+package com.training.coach.analysis.application.port.out;
+
+import com.training.coach.analysis.domain.model.DailyZoneDistribution;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port for the pre-aggregated zone distribution cube (athlete x day x source).
+ */
+public interface ZoneDistributionRepository {
+
+    /**
+     * Replace every cell of the athlete and source dated within the range with {@code days}.
+     * Days in the range without an entry in {@code days} end up empty.
+     */
+    void replaceDays(
+            String athleteId,
+            DistributionSource source,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DailyZoneDistribution> days);
+
+    List<DailyZoneDistribution> findDaily(
+            String athleteId, DistributionSource source, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Weekly totals for each of the athletes whose ISO week starts within the range.
+     * Weeks without any minutes are omitted. Results are ordered by athlete, then week.
+     */
+    List<WeeklyZoneDistribution> findWeekly(
+            Collection<String> athleteIds, DistributionSource source, LocalDate fromWeekStart, LocalDate toWeekStart);
+}
@@ -1,20 +1,24 @@
 package com.training.coach.analysis.application.service;
 
 import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.wellness.application.port.out.WellnessChangeRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.athlete.domain.model.Athlete;
 import com.training.coach.analysis.domain.model.AdjustmentProposal;
 import com.training.coach.analysis.domain.model.AdjustmentProposal.AdjustmentType;
-import com.training.coach.integration.application.service.ClaudeApiClient;
-import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.analysis.domain.model.ReadinessSample;
+import com.training.coach.analysis.domain.model.ReadinessWindow;
+import com.training.coach.integration.application.service.AIService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for generating AI-powered adjustment suggestions using Claude API.
@@ -24,62 +28,76 @@ public class AIAdjustmentService {
 
     private static final Logger logger = LoggerFactory.getLogger(AIAdjustmentService.class);
 
+    /** Days of wellness, today included, whose readiness decides an adjustment. */
+    static final int READINESS_WINDOW_DAYS = 7;
+
     private final AthleteRepository athleteRepository;
     private final WellnessRepository wellnessRepository;
+    private final WellnessChangeRepository wellnessChangeRepository;
     private final SafetyGuardrailService safetyGuardrailService;
-    private final ClaudeApiClient aiClient;
+    private final AIService aiService;
 
     public AIAdjustmentService(
             AthleteRepository athleteRepository,
             WellnessRepository wellnessRepository,
+            WellnessChangeRepository wellnessChangeRepository,
             SafetyGuardrailService safetyGuardrailService,
-            ClaudeApiClient aiClient) {
+            AIService aiService) {
         this.athleteRepository = athleteRepository;
         this.wellnessRepository = wellnessRepository;
+        this.wellnessChangeRepository = wellnessChangeRepository;
         this.safetyGuardrailService = safetyGuardrailService;
-        this.aiClient = aiClient;
+        this.aiService = aiService;
     }
 
     /**
      * Generate adjustment suggestions based on athlete's recent wellness data.
      */
     public List<AdjustmentProposal> generateSuggestions(String athleteId, String planId) {
-        Athlete athlete = athleteRepository.findById(athleteId)
+        athleteRepository.findById(athleteId)
                 .orElseThrow(() -> new IllegalArgumentException("Athlete not found: " + athleteId));
 
-        // Get recent wellness data
-        List<WellnessSnapshot> recentWellness = wellnessRepository.findByAthleteId(athleteId).stream()
-                .filter(w -> w.date().isAfter(LocalDate.now().minusDays(7)))
+        // Read only the readiness window instead of the athlete's full history
+        LocalDate today = LocalDate.now();
+        List<ReadinessSample> samples = wellnessRepository
+                .findByAthleteIdAndDateRange(athleteId, today.minusDays(READINESS_WINDOW_DAYS - 1), today)
+                .stream()
+                .map(snapshot -> new ReadinessSample(athleteId, snapshot.date(), snapshot.readinessScore()))
                 .toList();
+        ReadinessWindow window = ReadinessWindow.summarize(samples)
+                .getOrDefault(athleteId, ReadinessWindow.empty(athleteId));
 
-        // Calculate readiness trend
-        double avgReadiness = recentWellness.stream()
-                .mapToDouble(WellnessSnapshot::readinessScore)
-                .average()
-                .orElse(50.0);
+        return proposalsFor(planId, window);
+    }
 
-        // Generate suggestions based on readiness
+    /**
+     * Proposals warranted by an athlete's readiness window, already checked against the guardrails.
+     * Does no I/O, so a roster's windows can be turned into proposals in parallel.
+     */
+    List<AdjustmentProposal> proposalsFor(String planId, ReadinessWindow window) {
+        double avgReadiness = window.averageReadiness();
+        AdjustmentProposal proposal;
         if (avgReadiness < 40.0) {
-            return generateLowReadinessSuggestions(athleteId, planId, avgReadiness);
+            proposal = lowReadinessProposal(window.athleteId(), planId, avgReadiness);
         } else if (avgReadiness < 60.0) {
-            return generateModerateReadinessSuggestions(athleteId, planId, avgReadiness);
+            proposal = moderateReadinessProposal(window.athleteId(), planId, avgReadiness);
         } else {
             return List.of(); // No adjustments needed
         }
+        // Run through guardrails
+        return List.of(proposal.withGuardrailResult(checkGuardrailsForProposal(proposal, window.hasSamples())));
     }
 
     /**
-     * Generate suggestions for low readiness athletes.
+     * Suggestion for low readiness athletes.
      */
-    private List<AdjustmentProposal> generateLowReadinessSuggestions(
-            String athleteId, String planId, double avgReadiness) {
-
+    private AdjustmentProposal lowReadinessProposal(String athleteId, String planId, double avgReadiness) {
         Map<String, Object> params = new HashMap<>();
         params.put("intensityReduction", 1);
         params.put("durationDays", 7);
         params.put("reason", "Low readiness: " + String.format("%.1f", avgReadiness));
 
-        AdjustmentProposal proposal = AdjustmentProposal.create(
+        return AdjustmentProposal.create(
                 planId,
                 athleteId,
                 AdjustmentType.REDUCE_INTENSITY,
@@ -87,40 +105,18 @@ public class AIAdjustmentService {
                 params,
                 "system"
         );
-
-        // Run through guardrails
-        var guardrailResult = checkGuardrailsForProposal(proposal);
-        proposal = new AdjustmentProposal(
-                proposal.id(),
-                proposal.planId(),
-                proposal.athleteId(),
-                proposal.type(),
-                proposal.description(),
-                proposal.parameters(),
-                proposal.status(),
-                proposal.proposedAt(),
-                proposal.proposedBy(),
-                proposal.reviewedAt(),
-                proposal.reviewedBy(),
-                proposal.rejectionReason(),
-                guardrailResult
-        );
-
-        return List.of(proposal);
     }
 
     /**
-     * Generate suggestions for moderate readiness athletes.
+     * Suggestion for moderate readiness athletes.
      */
-    private List<AdjustmentProposal> generateModerateReadinessSuggestions(
-            String athleteId, String planId, double avgReadiness) {
-
+    private AdjustmentProposal moderateReadinessProposal(String athleteId, String planId, double avgReadiness) {
         Map<String, Object> params = new HashMap<>();
         params.put("volumeReductionPercent", 15);
         params.put("durationDays", 3);
         params.put("reason", "Moderate readiness: " + String.format("%.1f", avgReadiness));
 
-        AdjustmentProposal proposal = AdjustmentProposal.create(
+        return AdjustmentProposal.create(
                 planId,
                 athleteId,
                 AdjustmentType.REDUCE_VOLUME,
@@ -128,32 +124,15 @@ public class AIAdjustmentService {
                 params,
                 "system"
         );
-
-        // Run through guardrails
-        var guardrailResult = checkGuardrailsForProposal(proposal);
-        proposal = new AdjustmentProposal(
-                proposal.id(),
-                proposal.planId(),
-                proposal.athleteId(),
-                proposal.type(),
-                proposal.description(),
-                proposal.parameters(),
-                proposal.status(),
-                proposal.proposedAt(),
-                proposal.proposedBy(),
-                proposal.reviewedAt(),
-                proposal.reviewedBy(),
-                proposal.rejectionReason(),
-                guardrailResult
-        );
-
-        return List.of(proposal);
     }
 
     /**
      * Use AI to generate a custom adjustment suggestion.
+     *
+     * <p>Completes once the AI gateway answers; fails with {@link IllegalStateException} or
+     * {@link java.util.concurrent.TimeoutException} when the model is unavailable or too slow.</p>
      */
-    public AdjustmentProposal generateAISuggestion(
+    public CompletableFuture<AdjustmentProposal> generateAISuggestion(
             String athleteId,
             String planId,
             String context,
@@ -165,29 +144,31 @@ public class AIAdjustmentService {
         // Build prompt for AI
         String prompt = buildAdjustmentPrompt(athlete, context);
 
-        // Call AI for suggestion
-        String aiResponse = aiClient.generateText(prompt);
-
-        // Parse AI response into proposal
-        return parseAIResponseToProposal(athleteId, planId, aiResponse, proposedBy);
+        // The latest wellness entry and the last edit of the readiness window mark the data the answer was built from
+        String dataVersion = wellnessRepository.findLatestByAthleteId(athleteId)
+                .map(snapshot -> snapshot.date() + "/" + wellnessChangeRepository
+                        .findLastUpdatedAt(
+                                athleteId, snapshot.date().minusDays(READINESS_WINDOW_DAYS - 1), snapshot.date())
+                        .map(Instant::toString)
+                        .orElse(""))
+                .orElse(null);
+
+        // Call AI for suggestion and parse the response into a proposal
+        return aiService.suggest(athleteId, dataVersion, prompt)
+                .thenApply(aiResponse -> parseAIResponseToProposal(athleteId, planId, aiResponse, proposedBy));
     }
 
     /**
      * Check proposal against safety guardrails.
      */
-    private AdjustmentProposal.GuardrailCheckResult checkGuardrailsForProposal(AdjustmentProposal proposal) {
-        // Get current wellness data
-        List<WellnessSnapshot> wellness = wellnessRepository.findByAthleteId(proposal.athleteId());
-        if (wellness.isEmpty()) {
+    private AdjustmentProposal.GuardrailCheckResult checkGuardrailsForProposal(
+            AdjustmentProposal proposal, boolean hasRecentWellness) {
+        if (!hasRecentWellness) {
             return AdjustmentProposal.GuardrailCheckResult.warning(
                     "No wellness data available for guardrail check"
             );
         }
 
-        WellnessSnapshot latest = wellness.stream()
-                .max((w1, w2) -> w1.date().compareTo(w2.date()))
-                .orElseThrow();
-
         // Check against guardrails based on adjustment type
         return switch (proposal.type()) {
             case REDUCE_INTENSITY, REDUCE_VOLUME -> {
@@ -0,0 +1,80 @@
+package com.training.coach.analysis.application.service;
+
+import com.training.coach.analysis.application.port.out.AdjustmentProposalRepository;
+import com.training.coach.analysis.application.port.out.ReadinessSampleRepository;
+import com.training.coach.analysis.domain.model.AdjustmentProposal;
+import com.training.coach.analysis.domain.model.ReadinessWindow;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Readiness-based adjustment sweep over a coach's whole roster.
+ *
+ * <p>The roster's readiness window is read with one range query and summarized in a single pass. Proposals are
+ * then generated and guardrail-checked per athlete in parallel, and all of them are saved in one batch, so a
+ * squad-wide scan costs two queries however many athletes it covers. Athletes without readiness in the window
+ * get no proposal.</p>
+ */
+@Service
+public class AdjustmentSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdjustmentSweepService.class);
+
+    static final int MAX_ROSTER_SIZE = 500;
+
+    private final ReadinessSampleRepository readinessRepository;
+    private final AIAdjustmentService adjustmentService;
+    private final AdjustmentProposalRepository proposalRepository;
+
+    public AdjustmentSweepService(
+            ReadinessSampleRepository readinessRepository,
+            AIAdjustmentService adjustmentService,
+            AdjustmentProposalRepository proposalRepository) {
+        this.readinessRepository = readinessRepository;
+        this.adjustmentService = adjustmentService;
+        this.proposalRepository = proposalRepository;
+    }
+
+    /**
+     * Propose and persist adjustments for every athlete whose readiness over the window ending today warrants one.
+     *
+     * @param planIdsByAthlete plan to adjust, keyed by athlete
+     * @return the saved proposals, ordered by athlete
+     */
+    public Mono<List<AdjustmentProposal>> sweep(Map<String, String> planIdsByAthlete, LocalDate today) {
+        if (planIdsByAthlete == null || planIdsByAthlete.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("At least one athlete is required"));
+        }
+        if (planIdsByAthlete.size() > MAX_ROSTER_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "Adjustment sweeps are limited to " + MAX_ROSTER_SIZE + " athletes per request"));
+        }
+        if (planIdsByAthlete.values().stream().anyMatch(planId -> planId == null || planId.isBlank())) {
+            return Mono.error(new IllegalArgumentException("Every athlete needs a plan to adjust"));
+        }
+        LocalDate startDate = today.minusDays(AIAdjustmentService.READINESS_WINDOW_DAYS - 1);
+
+        return Mono.fromCallable(() -> ReadinessWindow.summarize(
+                        readinessRepository.findByAthleteIdsAndDateRange(planIdsByAthlete.keySet(), startDate, today)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(windows -> Flux.fromIterable(windows.values())
+                        .parallel()
+                        .runOn(Schedulers.parallel())
+                        .flatMap(window -> Flux.fromIterable(
+                                adjustmentService.proposalsFor(planIdsByAthlete.get(window.athleteId()), window)))
+                        .sequential())
+                .collectSortedList(Comparator.comparing(AdjustmentProposal::athleteId))
+                .publishOn(Schedulers.boundedElastic())
+                .map(proposals -> proposals.isEmpty() ? proposals : proposalRepository.saveAll(proposals))
+                .doOnNext(saved -> logger.info(
+                        "Adjustment sweep proposed {} adjustments for {} athletes", saved.size(), planIdsByAthlete.size()));
+    }
+}
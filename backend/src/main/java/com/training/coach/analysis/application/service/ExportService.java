@@ -1,9 +1,12 @@
 package com.training.coach.analysis.application.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.training.coach.analysis.domain.model.ComplianceSummary;
-import com.training.coach.analysis.domain.model.ProgressSummary;
+import com.training.coach.shared.util.CsvWriter;
+import com.training.coach.shared.util.ReportFormat;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -12,6 +15,8 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service for exporting reports in various formats.
+ * The {@code write*} methods stream to the caller's output stream; the {@code byte[]}
+ * variants are conveniences for small single-week exports.
  */
 @Service
 public class ExportService {
@@ -30,49 +35,40 @@ public class ExportService {
             List<String> completedActivities) throws IOException {
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        StringBuilder csv = new StringBuilder();
-
-        // Header
-        csv.append("Training Coach - Weekly Report\n");
-        csv.append("Athlete:,").append(athleteName).append("\n");
-        csv.append("Period:,").append(weekStart).append(" to ").append(weekEnd).append("\n\n");
-
-        // Compliance Section
-        csv.append("COMPLIANCE SUMMARY\n");
-        csv.append("Completion Rate,").append(String.format("%.1f%%", compliance.completionPercent())).append("\n");
-        csv.append("Key Session Completion,").append(String.format("%.1f%%", compliance.keySessionCompletionPercent())).append("\n");
-        csv.append("Zone Distribution Adherence,").append(String.format("%.1f%%", compliance.zoneDistributionAdherencePercent())).append("\n");
-        csv.append("Unplanned Load (min),").append(String.format("%.0f", compliance.unplannedLoadMinutes())).append("\n\n");
-
-        // Flags
-        if (!compliance.flags().isEmpty()) {
-            csv.append("FLAGS\n");
-            for (String flag : compliance.flags()) {
-                csv.append("- ").append(flag).append("\n");
-            }
-            csv.append("\n");
-        }
+        writeWeeklyReport(
+                outputStream, athleteName, weekStart, weekEnd, compliance, readinessTrends, completedActivities);
+        return outputStream.toByteArray();
+    }
 
-        // Readiness Trends
-        csv.append("READINESS TRENDS\n");
-        csv.append("Date,Readiness Score\n");
-        for (Map.Entry<LocalDate, Double> entry : readinessTrends.entrySet()) {
-            csv.append(entry.getKey().format(DATE_FORMAT)).append(",");
-            csv.append(String.format("%.1f", entry.getValue())).append("\n");
-        }
-        csv.append("\n");
-
-        // Completed Activities
-        if (!completedActivities.isEmpty()) {
-            csv.append("COMPLETED ACTIVITIES\n");
-            csv.append("Activity Details\n");
-            for (String activity : completedActivities) {
-                csv.append(activity).append("\n");
-            }
-        }
+    /**
+     * Stream a weekly report as CSV.
+     */
+    public void writeWeeklyReport(
+            OutputStream outputStream,
+            String athleteName,
+            LocalDate weekStart,
+            LocalDate weekEnd,
+            ComplianceSummary compliance,
+            Map<LocalDate, Double> readinessTrends,
+            Iterable<String> completedActivities) {
 
-        outputStream.write(csv.toString().getBytes());
-        return outputStream.toByteArray();
+        CsvWriter csv = new CsvWriter(outputStream);
+
+        ReportFormat.csvHeader(csv, athleteName, weekStart, weekEnd);
+        ReportFormat.csvCompliance(
+                csv,
+                compliance.completionPercent(),
+                compliance.keySessionCompletionPercent(),
+                compliance.zoneDistributionAdherencePercent(),
+                compliance.unplannedLoadMinutes(),
+                compliance.flags());
+
+        csv.row("READINESS TRENDS");
+        ReportFormat.csvDailyScores(csv, readinessTrends);
+
+        ReportFormat.csvActivities(csv, completedActivities);
+
+        csv.flush();
     }
 
     /**
@@ -102,55 +98,47 @@ public class ExportService {
             Map<LocalDate, Double> readinessTrends,
             List<String> completedActivities) throws IOException {
 
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append("  \"report\": {\n");
-        json.append("    \"type\": \"weekly\",\n");
-        json.append("    \"athlete\": \"").append(athleteName).append("\",\n");
-        json.append("    \"period\": {\n");
-        json.append("      \"start\": \"").append(weekStart).append("\",\n");
-        json.append("      \"end\": \"").append(weekEnd).append("\"\n");
-        json.append("    },\n");
-        
-        // Compliance section
-        json.append("    \"compliance\": {\n");
-        json.append("      \"completionRate\": ").append(String.format("%.2f", compliance.completionPercent())).append(",\n");
-        json.append("      \"keySessionCompletion\": ").append(String.format("%.2f", compliance.keySessionCompletionPercent())).append(",\n");
-        json.append("      \"zoneDistributionAdherence\": ").append(String.format("%.2f", compliance.zoneDistributionAdherencePercent())).append(",\n");
-        json.append("      \"unplannedLoadMinutes\": ").append(compliance.unplannedLoadMinutes()).append(",\n");
-        json.append("      \"flags\": [");
-        if (!compliance.flags().isEmpty()) {
-            for (int i = 0; i < compliance.flags().size(); i++) {
-                json.append("\"").append(compliance.flags().get(i)).append("\"");
-                if (i < compliance.flags().size() - 1) json.append(",");
-            }
-        }
-        json.append("]\n");
-        json.append("  },\n");
-        
-        // Readiness trends
-        json.append("  \"readinessTrends\": {");
-        int trendCount = 0;
-        for (Map.Entry<LocalDate, Double> entry : readinessTrends.entrySet()) {
-            if (trendCount > 0) json.append(",");
-            json.append("\"").append(entry.getKey()).append("\": ").append(String.format("%.2f", entry.getValue()));
-            trendCount++;
-        }
-        json.append("},\n");
-        
-        // Completed activities
-        json.append("  \"completedActivities\": [");
-        if (!completedActivities.isEmpty()) {
-            for (int i = 0; i < completedActivities.size(); i++) {
-                json.append("\"").append(completedActivities.get(i).replace("\"", "\\\"")).append("\"");
-                if (i < completedActivities.size() - 1) json.append(",");
-            }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeWeeklyReportAsJson(
+                outputStream, athleteName, weekStart, weekEnd, compliance, readinessTrends, completedActivities);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Stream a weekly report as JSON. Values are written one by one through the Jackson
+     * generator, which escapes strings and flushes its buffer to the stream as it fills.
+     */
+    public void writeWeeklyReportAsJson(
+            OutputStream outputStream,
+            String athleteName,
+            LocalDate weekStart,
+            LocalDate weekEnd,
+            ComplianceSummary compliance,
+            Map<LocalDate, Double> readinessTrends,
+            Iterable<String> completedActivities) throws IOException {
+
+        try (JsonGenerator json = ReportFormat.jsonGenerator(outputStream)) {
+            json.writeStartObject();
+            json.writeObjectFieldStart("report");
+            json.writeStringField("type", "weekly");
+            json.writeStringField("athlete", athleteName);
+            json.writeObjectFieldStart("period");
+            json.writeStringField("start", weekStart.format(DATE_FORMAT));
+            json.writeStringField("end", weekEnd.format(DATE_FORMAT));
+            json.writeEndObject();
+
+            ReportFormat.jsonCompliance(
+                    json,
+                    compliance.completionPercent(),
+                    compliance.keySessionCompletionPercent(),
+                    compliance.zoneDistributionAdherencePercent(),
+                    compliance.unplannedLoadMinutes(),
+                    compliance.flags());
+            ReportFormat.jsonDailyScores(json, "readinessTrends", readinessTrends);
+            ReportFormat.jsonStrings(json, "completedActivities", completedActivities);
+
+            json.writeEndObject();
+            json.writeEndObject();
         }
-        json.append("]\n");
-        
-        json.append("  }\n");
-        json.append("}\n");
-        
-        return json.toString().getBytes();
     }
 }
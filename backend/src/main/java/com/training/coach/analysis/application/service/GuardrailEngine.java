@@ -0,0 +1,174 @@
+package com.training.coach.analysis.application.service;
+
+import com.training.coach.analysis.application.service.SafetyGuardrailService.GuardrailResult;
+import com.training.coach.analysis.domain.model.GuardrailCheck;
+import com.training.coach.analysis.domain.model.GuardrailContext;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The workout guardrail rules compiled into one predicate pipeline.
+ *
+ * <p>Each rule is a predicate over an evaluation, checked in priority order; the first violated rule decides the
+ * result. A rule's message is only formatted when it is violated, and every approval is the same shared
+ * instance, so checking a whole plan or squad costs a few comparisons per workout.</p>
+ */
+final class GuardrailEngine {
+
+    static final int HIGH_FATIGUE_THRESHOLD = 8;
+    static final int HIGH_SORENESS_THRESHOLD = 8;
+    static final double LOAD_RAMP_THRESHOLD = 15.0;
+    static final int MIN_RECOVERY_DAYS = 2;
+    /** Fatigue and soreness only speak for the days right after they were reported. */
+    static final int WELLNESS_HORIZON_DAYS = 2;
+
+    static final GuardrailResult APPROVED = GuardrailResult.approved();
+
+    private static final GuardrailEngine STANDARD = new GuardrailEngine(List.of(
+            new Rule("SG-FATIGUE-001", GuardrailEngine::isFatigued, GuardrailEngine::fatigueViolation),
+            new Rule("SG-LOAD-001", GuardrailEngine::exceedsLoadRamp, GuardrailEngine::loadRampViolation),
+            new Rule("SG-RECOVERY-001", GuardrailEngine::lacksRecovery, GuardrailEngine::recoveryViolation)));
+
+    private final List<Rule> rules;
+
+    private GuardrailEngine(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    static GuardrailEngine standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Evaluate a single proposed workout.
+     */
+    GuardrailResult evaluate(GuardrailCheck check, GuardrailContext context) {
+        return evaluate(new Evaluation(check, context, isHighIntensityWorkout(check.workoutType()),
+                context.lastHighIntensityDate()));
+    }
+
+    /**
+     * Evaluate a batch of proposed workouts, returning one result per check in the same order.
+     *
+     * <p>Each athlete's checks are evaluated in date order, so an approved high-intensity workout counts as the last
+     * hard day for that athlete's later workouts in the batch. Athletes without a context are checked against
+     * {@link GuardrailContext#empty(String)}.</p>
+     */
+    List<GuardrailResult> evaluateAll(List<GuardrailCheck> checks, Map<String, GuardrailContext> contexts) {
+        List<Integer> order = new ArrayList<>(checks.size());
+        for (int i = 0; i < checks.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.<Integer, String>comparing(i -> checks.get(i).athleteId())
+                .thenComparing(i -> checks.get(i).date()));
+
+        GuardrailResult[] results = new GuardrailResult[checks.size()];
+        Map<String, LocalDate> lastHard = new HashMap<>();
+        for (int i : order) {
+            GuardrailCheck check = checks.get(i);
+            GuardrailContext context = contexts.get(check.athleteId());
+            if (context == null) {
+                context = GuardrailContext.empty(check.athleteId());
+            }
+            boolean highIntensity = isHighIntensityWorkout(check.workoutType());
+            LocalDate lastHardDay = lastHard.getOrDefault(check.athleteId(), context.lastHighIntensityDate());
+
+            GuardrailResult result = evaluate(new Evaluation(check, context, highIntensity, lastHardDay));
+            if (highIntensity && !result.blocked()) {
+                lastHard.put(check.athleteId(), check.date());
+            }
+            results[i] = result;
+        }
+        return List.of(results);
+    }
+
+    static boolean isHighIntensityWorkout(String workoutType) {
+        if (workoutType == null) return false;
+        return switch (workoutType.toUpperCase()) {
+            case "INTERVALS", "VO2_MAX", "THRESHOLD", "SPRINT" -> true;
+            default -> false;
+        };
+    }
+
+    private GuardrailResult evaluate(Evaluation evaluation) {
+        for (Rule rule : rules) {
+            if (rule.violated().test(evaluation)) {
+                return rule.violation().apply(evaluation);
+            }
+        }
+        return APPROVED;
+    }
+
+    private static boolean isFatigued(Evaluation e) {
+        GuardrailContext context = e.context();
+        return e.highIntensity()
+                && context.fatigueScore() != null
+                && context.sorenessScore() != null
+                && context.fatigueScore() >= HIGH_FATIGUE_THRESHOLD
+                && context.sorenessScore() >= HIGH_SORENESS_THRESHOLD
+                && (context.wellnessDate() == null
+                        || !e.check().date().isAfter(context.wellnessDate().plusDays(WELLNESS_HORIZON_DAYS)));
+    }
+
+    private static GuardrailResult fatigueViolation(Evaluation e) {
+        return GuardrailResult.blocked(
+                "SG-FATIGUE-001",
+                "High fatigue (" + e.context().fatigueScore() + ") and soreness (" + e.context().sorenessScore()
+                        + ") detected. High-intensity workouts are blocked.",
+                "Schedule a recovery ride (Zone 1), active recovery, or rest day");
+    }
+
+    private static boolean exceedsLoadRamp(Evaluation e) {
+        Double proposed = e.check().proposedWeeklyLoad();
+        double current = e.context().currentWeeklyLoad();
+        return proposed != null && current > 0 && rampPercent(current, proposed) > LOAD_RAMP_THRESHOLD;
+    }
+
+    private static GuardrailResult loadRampViolation(Evaluation e) {
+        double current = e.context().currentWeeklyLoad();
+        double maxSafeLoad = current * (1.0 + LOAD_RAMP_THRESHOLD / 100.0);
+        String rationale = String.format(
+                "Load increase of %.1f%% exceeds the %.1f%% ramp cap to prevent non-functional overreaching. " +
+                "Gradual progression allows physiological adaptation while minimizing injury risk.",
+                rampPercent(current, e.check().proposedWeeklyLoad()), LOAD_RAMP_THRESHOLD);
+        return GuardrailResult.blocked(
+                "SG-LOAD-001", rationale, String.format("Maximum safe load: %.0f TSS", maxSafeLoad));
+    }
+
+    private static boolean lacksRecovery(Evaluation e) {
+        if (!e.highIntensity() || e.lastHighIntensityDate() == null) {
+            return false;
+        }
+        long daysSince = daysSinceLastHighIntensity(e);
+        return daysSince >= 0 && daysSince < MIN_RECOVERY_DAYS;
+    }
+
+    private static GuardrailResult recoveryViolation(Evaluation e) {
+        return GuardrailResult.blocked(
+                "SG-RECOVERY-001",
+                "Only " + daysSinceLastHighIntensity(e) + " day(s) since last high-intensity session. Minimum "
+                        + MIN_RECOVERY_DAYS + " recovery days required for physiological adaptation.",
+                "Schedule active recovery (Zone 1), rest day, or endurance ride (Zone 2)");
+    }
+
+    private static double rampPercent(double current, double proposed) {
+        return ((proposed - current) / current) * 100.0;
+    }
+
+    private static long daysSinceLastHighIntensity(Evaluation e) {
+        return ChronoUnit.DAYS.between(e.lastHighIntensityDate(), e.check().date());
+    }
+
+    private record Evaluation(
+            GuardrailCheck check, GuardrailContext context, boolean highIntensity, LocalDate lastHighIntensityDate) {}
+
+    private record Rule(
+            String ruleId, Predicate<Evaluation> violated, Function<Evaluation, GuardrailResult> violation) {}
+}
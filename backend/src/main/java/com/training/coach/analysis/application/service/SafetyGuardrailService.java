@@ -1,10 +1,25 @@
 package com.training.coach.analysis.application.service;
 
+import com.training.coach.analysis.application.port.out.GuardrailAuditLog;
+import com.training.coach.analysis.application.port.out.GuardrailInputRepository;
+import com.training.coach.analysis.domain.model.ActivityLoadSample;
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import com.training.coach.analysis.domain.model.GuardrailCheck;
+import com.training.coach.analysis.domain.model.GuardrailContext;
+import com.training.coach.analysis.domain.model.WellnessScoreSample;
+import com.training.coach.analysis.domain.model.Zone;
+import com.training.coach.athlete.domain.model.Workout;
+import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
@@ -12,6 +27,9 @@ import org.springframework.stereotype.Service;
  * Service for evaluating safety guardrails on training adjustments.
  * Implements comprehensive guardrail rules for athlete protection.
  *
+ * The workout rules are compiled once into {@link GuardrailEngine}, which can also check whole plans and
+ * rosters in one batch against athlete context loaded up front.
+ *
  * Guardrail Rules:
  * - SG-FATIGUE-001: Block high-intensity when fatigue >= 8 AND soreness >= 8
  * - SG-LOAD-001: Cap weekly load progression at 15%
@@ -22,15 +40,26 @@ import org.springframework.stereotype.Service;
 @Service
 public class SafetyGuardrailService {
 
-    // Thresholds
-    private static final int HIGH_FATIGUE_THRESHOLD = 8;
-    private static final int HIGH_SORENESS_THRESHOLD = 8;
+    // Thresholds; the workout rules and their thresholds live in GuardrailEngine
     private static final double LOW_READINESS_THRESHOLD = 40.0;
-    private static final double LOAD_RAMP_THRESHOLD = 15.0;
-    private static final int MIN_RECOVERY_DAYS = 2;
+    private static final int LOAD_WINDOW_DAYS = 7;
+    private static final int HIGH_INTENSITY_LOOKBACK_DAYS = 14;
+
+    // Typical intensity factor of time spent in each zone, used to estimate the TSS of planned workouts
+    private static final double[] ZONE_INTENSITY_FACTORS = {0.55, 0.75, 0.90, 1.00, 1.15};
+
+    private static final GuardrailResult APPROVED_ADJUSTMENT =
+            GuardrailResult.approved("Consider maintaining current training load");
 
-    // In-memory audit log for guardrail decisions
-    private final List<AuditEntry> auditLog = new ArrayList<>();
+    private final GuardrailInputRepository inputRepository;
+    private final GuardrailEngine engine = GuardrailEngine.standard();
+
+    private final GuardrailAuditLog auditLog;
+
+    public SafetyGuardrailService(GuardrailInputRepository inputRepository, GuardrailAuditLog auditLog) {
+        this.inputRepository = inputRepository;
+        this.auditLog = auditLog;
+    }
 
     /**
      * Guardrail result record.
@@ -74,32 +103,9 @@ public class SafetyGuardrailService {
     }
 
     /**
-     * Audit entry for guardrail decisions.
+     * A planned workout blocked by a guardrail.
      */
-    public record AuditEntry(
-            String id,
-            String ruleId,
-            String athleteId,
-            String decision,
-            String reason,
-            Instant timestamp,
-            String performedBy,
-            String justification
-    ) {
-        public static AuditEntry create(String ruleId, String athleteId, String decision, String reason, String performedBy) {
-            return new AuditEntry(
-                    "AUDIT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
-                    ruleId, athleteId, decision, reason, Instant.now(), performedBy, null
-            );
-        }
-
-        public static AuditEntry override(String ruleId, String athleteId, String reason, String adminUser, String justification) {
-            return new AuditEntry(
-                    "AUDIT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
-                    ruleId, athleteId, "OVERRIDE", reason, Instant.now(), adminUser, justification
-            );
-        }
-    }
+    public record GuardrailViolation(String athleteId, String workoutId, LocalDate date, GuardrailResult result) {}
 
     /**
      * Check if an adjustment is blocked by safety guardrails.
@@ -126,31 +132,16 @@ public class SafetyGuardrailService {
             String workoutType,
             String overrideUser) {
 
-        // SG-FATIGUE-001: Block high-intensity when fatigue >= 8 AND soreness >= 8
-        if (isHighIntensityWorkout(workoutType)) {
-            if (fatigueScore >= HIGH_FATIGUE_THRESHOLD && sorenessScore >= HIGH_SORENESS_THRESHOLD) {
-                logAudit(GuardrailResult.blocked(
-                        "SG-FATIGUE-001",
-                        "High fatigue (" + fatigueScore + ") and soreness (" + sorenessScore + ") detected. High-intensity workouts are blocked.",
-                        "Schedule a recovery ride (Zone 1), active recovery, or rest day"
-                ), athleteId, overrideUser);
-                return GuardrailResult.blocked(
-                        "SG-FATIGUE-001",
-                        "High fatigue (" + fatigueScore + ") and soreness (" + sorenessScore + ") detected. High-intensity workouts are blocked.",
-                        "Schedule a recovery ride (Zone 1), active recovery, or rest day"
-                );
-            }
+        LocalDate today = LocalDate.now();
+        GuardrailResult result = engine.evaluate(
+                new GuardrailCheck(athleteId, today, workoutType, null),
+                GuardrailContext.empty(athleteId).withWellness(today, fatigueScore, sorenessScore, readinessScore));
+        if (result.blocked()) {
+            logAudit(result, athleteId, overrideUser);
+            return result;
         }
-
-        // SG-LOAD-001: Check load ramp (placeholder - would need weeklyLoad and proposedWeeklyLoad)
-        // This would be checked with additional parameters in a full implementation
-
-        // SG-RECOVERY-001: Check recovery days (placeholder - would need lastHighIntensityDate)
-        // This would be checked with additional parameters in a full implementation
-
-        // If no rules block, return approved
-        logAudit(GuardrailResult.approved("Consider maintaining current training load"), athleteId, overrideUser);
-        return GuardrailResult.approved("Consider maintaining current training load");
+        logApproval(athleteId, overrideUser, "Adjustment approved: " + workoutType);
+        return APPROVED_ADJUSTMENT;
     }
 
     /**
@@ -162,31 +153,15 @@ public class SafetyGuardrailService {
             double proposedWeeklyLoad,
             String overrideUser) {
 
-        if (currentWeeklyLoad > 0) {
-            double rampPercent = ((proposedWeeklyLoad - currentWeeklyLoad) / currentWeeklyLoad) * 100.0;
-            if (rampPercent > LOAD_RAMP_THRESHOLD) {
-                double maxSafeLoad = currentWeeklyLoad * (1.0 + LOAD_RAMP_THRESHOLD / 100.0);
-                String rationale = String.format(
-                        "Load increase of %.1f%% exceeds the %%%.1f ramp cap to prevent non-functional overreaching. " +
-                        "Gradual progression allows physiological adaptation while minimizing injury risk.",
-                        rampPercent, LOAD_RAMP_THRESHOLD
-                );
-
-                logAudit(GuardrailResult.blocked(
-                        "SG-LOAD-001",
-                        rationale,
-                        String.format("Maximum safe load: %.0f TSS", maxSafeLoad)
-                ), athleteId, overrideUser);
-
-                return GuardrailResult.blocked(
-                        "SG-LOAD-001",
-                        rationale,
-                        String.format("Maximum safe load: %.0f TSS", maxSafeLoad)
-                );
-            }
+        GuardrailResult result = engine.evaluate(
+                new GuardrailCheck(athleteId, LocalDate.now(), null, proposedWeeklyLoad),
+                GuardrailContext.empty(athleteId).withWeeklyLoad(Math.max(0.0, currentWeeklyLoad)));
+        if (result.blocked()) {
+            logAudit(result, athleteId, overrideUser);
+        } else {
+            logApproval(athleteId, overrideUser, String.format("Weekly load approved: %.0f TSS", proposedWeeklyLoad));
         }
-
-        return GuardrailResult.approved();
+        return result;
     }
 
     /**
@@ -198,24 +173,123 @@ public class SafetyGuardrailService {
             String workoutType,
             String overrideUser) {
 
-        if (isHighIntensityWorkout(workoutType) && lastHighIntensityDate != null) {
-            long daysSince = java.time.temporal.ChronoUnit.DAYS.between(lastHighIntensityDate, LocalDate.now());
-            if (daysSince < MIN_RECOVERY_DAYS) {
-                logAudit(GuardrailResult.blocked(
-                        "SG-RECOVERY-001",
-                        "Only " + daysSince + " day(s) since last high-intensity session. Minimum " + MIN_RECOVERY_DAYS + " recovery days required for physiological adaptation.",
-                        "Schedule active recovery (Zone 1), rest day, or endurance ride (Zone 2)"
-                ), athleteId, overrideUser);
-
-                return GuardrailResult.blocked(
-                        "SG-RECOVERY-001",
-                        "Only " + daysSince + " day(s) since last high-intensity session. Minimum " + MIN_RECOVERY_DAYS + " recovery days required for physiological adaptation.",
-                        "Schedule active recovery (Zone 1), rest day, or endurance ride (Zone 2)"
-                );
+        GuardrailResult result = engine.evaluate(
+                new GuardrailCheck(athleteId, LocalDate.now(), workoutType, null),
+                GuardrailContext.empty(athleteId).withLastHighIntensityDate(lastHighIntensityDate));
+        if (result.blocked()) {
+            logAudit(result, athleteId, overrideUser);
+        } else {
+            logApproval(athleteId, overrideUser, "Recovery spacing approved: " + workoutType);
+        }
+        return result;
+    }
+
+    /**
+     * Check a batch of proposed workouts against precomputed athlete contexts.
+     * Returns one result per check, in the same order; approvals carry no message.
+     */
+    public List<GuardrailResult> checkBatch(List<GuardrailCheck> checks, Map<String, GuardrailContext> contexts) {
+        return engine.evaluateAll(checks, contexts);
+    }
+
+    /**
+     * Check the upcoming workouts of a plan. Returns only the workouts a guardrail would block.
+     */
+    public List<GuardrailViolation> checkPlan(String athleteId, List<Workout> workouts, LocalDate today) {
+        return checkRoster(Map.of(athleteId, workouts), today);
+    }
+
+    /**
+     * Check the upcoming workouts of several athletes in one pass, loading the whole roster's context up front.
+     *
+     * <p>Each workout is checked against the load its plan week would reach with it: the estimated TSS of the
+     * week's workouts up to and including it, so SG-LOAD-001 flags the workouts that push the week past the
+     * ramp cap.</p>
+     */
+    public List<GuardrailViolation> checkRoster(Map<String, List<Workout>> workoutsByAthlete, LocalDate today) {
+        List<GuardrailCheck> checks = new ArrayList<>();
+        List<Workout> checked = new ArrayList<>();
+        workoutsByAthlete.forEach((athleteId, workouts) -> {
+            List<Workout> dated = workouts.stream()
+                    .filter(workout -> workout.date() != null)
+                    .sorted(Comparator.comparing(Workout::date))
+                    .toList();
+            Map<LocalDate, Double> weekLoad = new HashMap<>();
+            for (Workout workout : dated) {
+                double proposedWeeklyLoad = weekLoad.merge(weekOf(workout.date()), plannedLoad(workout), Double::sum);
+                if (!workout.date().isBefore(today)) {
+                    checks.add(new GuardrailCheck(
+                            athleteId, workout.date(), workout.type().name(), proposedWeeklyLoad));
+                    checked.add(workout);
+                }
+            }
+        });
+        if (checks.isEmpty()) {
+            return List.of();
+        }
+
+        List<GuardrailResult> results = engine.evaluateAll(checks, loadContexts(workoutsByAthlete.keySet(), today));
+        List<GuardrailViolation> violations = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).blocked()) {
+                GuardrailCheck check = checks.get(i);
+                violations.add(new GuardrailViolation(
+                        check.athleteId(), checked.get(i).id(), check.date(), results.get(i)));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Build the guardrail context of each athlete from their latest recent wellness and recent activities.
+     *
+     * <p>The roster is read with one range query for wellness and one for activities. Only wellness reported
+     * within the engine's horizon of {@code today} is read, since older fatigue and soreness no longer apply to
+     * workouts from today on.</p>
+     */
+    public Map<String, GuardrailContext> loadContexts(Collection<String> athleteIds, LocalDate today) {
+        Map<String, GuardrailContext> contexts = new HashMap<>();
+        if (athleteIds.isEmpty()) {
+            return contexts;
+        }
+
+        Map<String, WellnessScoreSample> latestWellness = new HashMap<>();
+        for (WellnessScoreSample sample : inputRepository.findWellnessByAthleteIdsAndDateRange(
+                athleteIds, today.minusDays(GuardrailEngine.WELLNESS_HORIZON_DAYS), today)) {
+            if (sample.fatigueScore() != null || sample.sorenessScore() != null) {
+                latestWellness.merge(sample.athleteId(), sample,
+                        (a, b) -> b.date().isAfter(a.date()) ? b : a);
+            }
+        }
+
+        Map<String, Double> weeklyLoad = new HashMap<>();
+        Map<String, LocalDate> lastHard = new HashMap<>();
+        LocalDate loadWindowStart = today.minusDays(LOAD_WINDOW_DAYS - 1);
+        for (ActivityLoadSample activity : inputRepository.findActivityLoadByAthleteIdsAndDateRange(
+                athleteIds, today.minusDays(HIGH_INTENSITY_LOOKBACK_DAYS), today)) {
+            if (activity.trainingStressScore() != null && !activity.date().isBefore(loadWindowStart)) {
+                weeklyLoad.merge(activity.athleteId(), activity.trainingStressScore(), Double::sum);
+            }
+            if (ZoneDistributionService.zoneForIntensityFactor(activity.intensityFactor()) == Zone.Z3) {
+                lastHard.merge(activity.athleteId(), activity.date(), (a, b) -> b.isAfter(a) ? b : a);
             }
         }
 
-        return GuardrailResult.approved();
+        for (String athleteId : athleteIds) {
+            GuardrailContext context = GuardrailContext.empty(athleteId);
+            WellnessScoreSample wellness = latestWellness.get(athleteId);
+            if (wellness != null) {
+                context = context.withWellness(
+                        wellness.date(),
+                        wellness.fatigueScore() != null ? wellness.fatigueScore() : 0,
+                        wellness.sorenessScore() != null ? wellness.sorenessScore() : 0,
+                        wellness.readinessScore() != null ? wellness.readinessScore() : 0.0);
+            }
+            contexts.put(athleteId, context
+                    .withWeeklyLoad(weeklyLoad.getOrDefault(athleteId, 0.0))
+                    .withLastHighIntensityDate(lastHard.get(athleteId)));
+        }
+        return contexts;
     }
 
     /**
@@ -261,14 +335,14 @@ public class SafetyGuardrailService {
         }
 
         // Log the override
-        AuditEntry overrideEntry = AuditEntry.override(
+        GuardrailAuditEntry overrideEntry = GuardrailAuditEntry.override(
                 currentResult.ruleId(),
                 athleteId,
                 currentResult.blockingRule(),
                 adminUser,
                 justification
         );
-        auditLog.add(overrideEntry);
+        auditLog.append(overrideEntry);
 
         return new GuardrailResult(
                 false,
@@ -282,25 +356,15 @@ public class SafetyGuardrailService {
     /**
      * Get all audit entries for an athlete.
      */
-    public List<AuditEntry> getAuditEntries(String athleteId) {
-        return auditLog.stream()
-                .filter(e -> e.athleteId().equals(athleteId))
-                .toList();
+    public List<GuardrailAuditEntry> getAuditEntries(String athleteId) {
+        return auditLog.findByAthleteId(athleteId, null, null);
     }
 
     /**
-     * Clear audit log (for testing).
+     * Get an athlete's audit entries with {@code from <= timestamp < to}; null bounds are open.
      */
-    public void clearAuditLog() {
-        auditLog.clear();
-    }
-
-    private boolean isHighIntensityWorkout(String workoutType) {
-        if (workoutType == null) return false;
-        return switch (workoutType.toUpperCase()) {
-            case "INTERVALS", "VO2_MAX", "THRESHOLD", "SPRINT" -> true;
-            default -> false;
-        };
+    public List<GuardrailAuditEntry> getAuditEntries(String athleteId, Instant from, Instant to) {
+        return auditLog.findByAthleteId(athleteId, from, to);
     }
 
     private boolean isUnsafeAiSuggestion(String suggestion) {
@@ -311,16 +375,53 @@ public class SafetyGuardrailService {
                 (lower.contains("hard") && lower.contains("workout"));
     }
 
+    /**
+     * Estimated TSS of a planned workout: its hours times the squared intensity factor of its zone mix, or of a
+     * steady ride for its type when it has no intensity profile.
+     */
+    static double plannedLoad(Workout workout) {
+        double hours = workout.durationMinutes().value() / 60.0;
+        Workout.IntensityProfile profile = workout.intensityProfile();
+        double[] shares = profile == null ? new double[0] : new double[] {
+                profile.zone1Percent().value(), profile.zone2Percent().value(), profile.zone3Percent().value(),
+                profile.zone4Percent().value(), profile.zone5Percent().value()};
+        double total = Arrays.stream(shares).sum();
+        if (total <= 0) {
+            double intensityFactor = GuardrailEngine.isHighIntensityWorkout(workout.type().name())
+                    ? ZONE_INTENSITY_FACTORS[3]
+                    : ZONE_INTENSITY_FACTORS[1];
+            return hours * intensityFactor * intensityFactor * 100.0;
+        }
+        double squaredIntensity = 0.0;
+        for (int zone = 0; zone < shares.length; zone++) {
+            squaredIntensity += shares[zone] / total * ZONE_INTENSITY_FACTORS[zone] * ZONE_INTENSITY_FACTORS[zone];
+        }
+        return hours * squaredIntensity * 100.0;
+    }
+
+    private static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Record a check a coach ran and the guardrails approved, so their sign-off is in the audit trail.
+     */
+    private void logApproval(String athleteId, String reviewer, String reason) {
+        if (reviewer != null) {
+            auditLog.append(GuardrailAuditEntry.create(null, athleteId, "APPROVED", reason, reviewer));
+        }
+    }
+
     private void logAudit(GuardrailResult result, String athleteId, String overrideUser) {
         if (result.blocked() || result.ruleId() != null) {
-            AuditEntry entry = AuditEntry.create(
+            GuardrailAuditEntry entry = GuardrailAuditEntry.create(
                     result.ruleId(),
                     athleteId,
                     overrideUser != null ? "OVERRIDE" : "BLOCKED",
                     result.blockingRule(),
                     overrideUser != null ? overrideUser : "system"
             );
-            auditLog.add(entry);
+            auditLog.append(entry);
         }
     }
 }
@@ -0,0 +1,237 @@
+package com.training.coach.analysis.application.service;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.analysis.application.port.out.ZoneDistributionRepository;
+import com.training.coach.analysis.domain.model.DailyZoneDistribution;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.PolarizedDistribution;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import com.training.coach.analysis.domain.model.Zone;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
+import com.training.coach.athlete.domain.model.Workout;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the zone distribution cube and answers distribution queries from it.
+ *
+ * <p>Actual minutes are written when activities are synced, planned minutes when a plan is
+ * published. Each update replaces only the days it covers, so analysis reads never have to
+ * reclassify activities or re-derive planned zones from workouts.</p>
+ *
+ * <p>Zones follow the FTP ratios of {@link IntensityZoneService}: below 75% FTP is Z1, up to
+ * 90% is Z2, above that Z3. A synced activity is classified as a whole by its intensity
+ * factor until per-sample time in zone is available; activities without one count as Z1.
+ * A planned workout's five-zone profile folds into Seiler zones as Z1+Z2, Z3 and Z4+Z5.</p>
+ */
+@Service
+public class ZoneDistributionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZoneDistributionService.class);
+
+    static final double LT1_INTENSITY_FACTOR = 0.75;
+    static final double LT2_INTENSITY_FACTOR = 0.90;
+
+    private final ZoneDistributionRepository repository;
+    private final DistributionAnalyzer distributionAnalyzer;
+
+    public ZoneDistributionService(ZoneDistributionRepository repository, DistributionAnalyzer distributionAnalyzer) {
+        this.repository = repository;
+        this.distributionAnalyzer = distributionAnalyzer;
+    }
+
+    /**
+     * Replace the actual minutes of the synced range with the activities fetched for it.
+     */
+    public void recordActivities(String athleteId, LocalDate startDate, LocalDate endDate, List<ActivityLight> activities) {
+        Map<LocalDate, ZoneMinutes> byDay = new HashMap<>();
+        for (ActivityLight activity : activities) {
+            if (activity.date().isBefore(startDate) || activity.date().isAfter(endDate)) {
+                continue;
+            }
+            byDay.merge(activity.date(), actualMinutes(activity), ZoneMinutes::plus);
+        }
+        repository.replaceDays(athleteId, DistributionSource.ACTUAL, startDate, endDate,
+                cells(athleteId, DistributionSource.ACTUAL, byDay));
+        logger.debug("Recorded actual zone minutes for athlete {} on {} days", athleteId, byDay.size());
+    }
+
+    /**
+     * Replace the planned minutes of the days covered by a newly published plan.
+     */
+    public void recordPlannedWorkouts(String athleteId, List<Workout> workouts) {
+        if (workouts.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, ZoneMinutes> byDay = new HashMap<>();
+        for (Workout workout : workouts) {
+            byDay.merge(workout.date(), plannedMinutes(workout), ZoneMinutes::plus);
+        }
+        repository.replaceDays(athleteId, DistributionSource.PLANNED, firstDate(workouts), lastDate(workouts),
+                cells(athleteId, DistributionSource.PLANNED, byDay));
+        logger.debug("Recorded planned zone minutes for athlete {} on {} days", athleteId, byDay.size());
+    }
+
+    /**
+     * Drop the planned minutes of the days covered by a plan that is no longer published.
+     */
+    public void clearPlannedWorkouts(String athleteId, List<Workout> workouts) {
+        if (workouts.isEmpty()) {
+            return;
+        }
+        repository.replaceDays(
+                athleteId, DistributionSource.PLANNED, firstDate(workouts), lastDate(workouts), List.of());
+    }
+
+    /**
+     * The last {@code weeks} ISO weeks up to and including the week of {@code today}, oldest first.
+     * Weeks without data are returned empty.
+     */
+    public List<WeeklyZoneDistribution> weeklyDistribution(
+            String athleteId, DistributionSource source, int weeks, LocalDate today) {
+        if (weeks < 1) {
+            throw new IllegalArgumentException("weeks must be at least 1");
+        }
+        LocalDate toWeek = DailyZoneDistribution.weekStartOf(today);
+        LocalDate fromWeek = toWeek.minusWeeks(weeks - 1L);
+        Map<LocalDate, WeeklyZoneDistribution> stored = repository
+                .findWeekly(List.of(athleteId), source, fromWeek, toWeek).stream()
+                .collect(Collectors.toMap(WeeklyZoneDistribution::weekStart, week -> week));
+
+        List<WeeklyZoneDistribution> result = new ArrayList<>(weeks);
+        for (LocalDate week = fromWeek; !week.isAfter(toWeek); week = week.plusWeeks(1)) {
+            result.add(stored.getOrDefault(week, WeeklyZoneDistribution.empty(athleteId, week, source)));
+        }
+        return result;
+    }
+
+    /**
+     * Zone minutes of the athlete summed over an arbitrary date range.
+     */
+    public ZoneMinutes totalMinutes(String athleteId, DistributionSource source, LocalDate startDate, LocalDate endDate) {
+        return repository.findDaily(athleteId, source, startDate, endDate).stream()
+                .map(DailyZoneDistribution::minutes)
+                .reduce(ZoneMinutes.ZERO, ZoneMinutes::plus);
+    }
+
+    /**
+     * Analyze one stored week with {@link DistributionAnalyzer}.
+     */
+    public DistributionAnalyzer.AnalysisResult analyzeWeek(
+            String athleteId, DistributionSource source, LocalDate weekStart) {
+        LocalDate week = DailyZoneDistribution.weekStartOf(weekStart);
+        ZoneMinutes minutes = repository.findWeekly(List.of(athleteId), source, week, week).stream()
+                .findFirst()
+                .map(WeeklyZoneDistribution::minutes)
+                .orElse(ZoneMinutes.ZERO);
+        return distributionAnalyzer.analyzeWeeklyDistribution(minutes.asMap());
+    }
+
+    /**
+     * Which of the last {@code weeks} weeks of actual training show Z2 creep.
+     */
+    public Z2CreepReport z2Creep(String athleteId, int weeks, LocalDate today) {
+        List<WeekDistribution> history = weeklyDistribution(athleteId, DistributionSource.ACTUAL, weeks, today).stream()
+                .map(week -> new WeekDistribution(week.weekStart(), week.minutes(), week.distribution()))
+                .toList();
+        List<LocalDate> creepWeeks = history.stream()
+                .filter(week -> !week.minutes().isEmpty() && week.distribution().hasZ2Creep())
+                .map(WeekDistribution::weekStart)
+                .toList();
+        return new Z2CreepReport(athleteId, history, creepWeeks);
+    }
+
+    /**
+     * Polarized-target check of one ISO week for every athlete of a squad. Athletes without any
+     * minutes in that week are reported as not meeting the targets.
+     */
+    public List<PolarizedCheck> checkPolarizedTargets(
+            Collection<String> athleteIds, DistributionSource source, LocalDate weekStart) {
+        LocalDate week = DailyZoneDistribution.weekStartOf(weekStart);
+        Map<String, ZoneMinutes> stored = repository.findWeekly(athleteIds, source, week, week).stream()
+                .collect(Collectors.toMap(WeeklyZoneDistribution::athleteId, WeeklyZoneDistribution::minutes));
+        return athleteIds.stream()
+                .distinct()
+                .map(athleteId -> {
+                    ZoneMinutes minutes = stored.getOrDefault(athleteId, ZoneMinutes.ZERO);
+                    PolarizedDistribution distribution = minutes.distribution();
+                    boolean meetsTargets = !minutes.isEmpty() && distributionAnalyzer.meetsPolarizedTargets(distribution);
+                    return new PolarizedCheck(athleteId, week, minutes, distribution, meetsTargets);
+                })
+                .toList();
+    }
+
+    /**
+     * Zone minutes of a synced activity, classified as a whole by its intensity factor.
+     */
+    public static ZoneMinutes actualMinutes(ActivityLight activity) {
+        double minutes = activity.durationSeconds() == null ? 0.0 : activity.durationSeconds().value() / 60.0;
+        return ZoneMinutes.of(zoneForIntensityFactor(activity.intensityFactor()), minutes);
+    }
+
+    public static Zone zoneForIntensityFactor(Double intensityFactor) {
+        if (intensityFactor == null || intensityFactor < LT1_INTENSITY_FACTOR) {
+            return Zone.Z1;
+        }
+        if (intensityFactor <= LT2_INTENSITY_FACTOR) {
+            return Zone.Z2;
+        }
+        return Zone.Z3;
+    }
+
+    static ZoneMinutes plannedMinutes(Workout workout) {
+        double minutes = workout.durationMinutes().value();
+        Workout.IntensityProfile profile = workout.intensityProfile();
+        if (profile == null) {
+            return ZoneMinutes.of(Zone.Z1, minutes);
+        }
+        double z1 = profile.zone1Percent().value() + profile.zone2Percent().value();
+        double z2 = profile.zone3Percent().value();
+        double z3 = profile.zone4Percent().value() + profile.zone5Percent().value();
+        double total = z1 + z2 + z3;
+        if (total == 0.0) {
+            return ZoneMinutes.of(Zone.Z1, minutes);
+        }
+        return new ZoneMinutes(minutes * z1 / total, minutes * z2 / total, minutes * z3 / total);
+    }
+
+    private static List<DailyZoneDistribution> cells(
+            String athleteId, DistributionSource source, Map<LocalDate, ZoneMinutes> byDay) {
+        return new TreeMap<>(byDay).entrySet().stream()
+                .map(entry -> new DailyZoneDistribution(athleteId, entry.getKey(), source, entry.getValue()))
+                .toList();
+    }
+
+    private static LocalDate firstDate(List<Workout> workouts) {
+        return workouts.stream().map(Workout::date).min(Comparator.naturalOrder()).orElseThrow();
+    }
+
+    private static LocalDate lastDate(List<Workout> workouts) {
+        return workouts.stream().map(Workout::date).max(Comparator.naturalOrder()).orElseThrow();
+    }
+
+    public record WeekDistribution(LocalDate weekStart, ZoneMinutes minutes, PolarizedDistribution distribution) {}
+
+    public record Z2CreepReport(String athleteId, List<WeekDistribution> weeks, List<LocalDate> creepWeeks) {
+        public boolean hasZ2Creep() {
+            return !creepWeeks.isEmpty();
+        }
+    }
+
+    public record PolarizedCheck(
+            String athleteId,
+            LocalDate weekStart,
+            ZoneMinutes minutes,
+            PolarizedDistribution distribution,
+            boolean meetsPolarizedTargets) {}
+}
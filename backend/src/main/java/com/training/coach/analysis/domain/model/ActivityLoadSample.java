@@ -0,0 +1,9 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Training stress and intensity factor of one activity; either is null when the platform did not report it.
+ */
+public record ActivityLoadSample(
+        String athleteId, LocalDate date, Double trainingStressScore, Double intensityFactor) {}
@@ -135,6 +135,27 @@ public record AdjustmentProposal(
         );
     }
 
+    /**
+     * Attach the result of the guardrail check.
+     */
+    public AdjustmentProposal withGuardrailResult(GuardrailCheckResult result) {
+        return new AdjustmentProposal(
+                id,
+                planId,
+                athleteId,
+                type,
+                description,
+                parameters,
+                status,
+                proposedAt,
+                proposedBy,
+                reviewedAt,
+                reviewedBy,
+                rejectionReason,
+                result
+        );
+    }
+
     /**
      * Check if the proposal is pending review.
      */
@@ -0,0 +1,31 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * One cell of the zone distribution cube: an athlete's zone minutes on one day from one source.
+ */
+public record DailyZoneDistribution(String athleteId, LocalDate date, DistributionSource source, ZoneMinutes minutes) {
+
+    public DailyZoneDistribution {
+        if (athleteId == null || athleteId.isBlank()) {
+            throw new IllegalArgumentException("Athlete ID cannot be null or blank");
+        }
+        if (date == null || source == null || minutes == null) {
+            throw new IllegalArgumentException("Date, source and minutes are required");
+        }
+    }
+
+    /**
+     * Monday of the ISO week this day belongs to.
+     */
+    public LocalDate weekStart() {
+        return weekStartOf(date);
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
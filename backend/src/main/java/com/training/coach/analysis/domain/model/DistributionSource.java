@@ -0,0 +1,9 @@
+package com.training.coach.analysis.domain.model;
+
+/**
+ * Whether zone minutes come from the published plan or from synced activities.
+ */
+public enum DistributionSource {
+    PLANNED,
+    ACTUAL
+}
@@ -0,0 +1,49 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Audit entry for a guardrail decision.
+ */
+public record GuardrailAuditEntry(
+        String id,
+        String ruleId,
+        String athleteId,
+        String decision,
+        String reason,
+        Instant timestamp,
+        String performedBy,
+        String justification
+) {
+    public GuardrailAuditEntry {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Audit entry ID cannot be null or blank");
+        }
+        if (athleteId == null || athleteId.isBlank()) {
+            throw new IllegalArgumentException("Athlete ID cannot be null or blank");
+        }
+        if (decision == null || decision.isBlank()) {
+            throw new IllegalArgumentException("Decision cannot be null or blank");
+        }
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Timestamp cannot be null");
+        }
+    }
+
+    public static GuardrailAuditEntry create(
+            String ruleId, String athleteId, String decision, String reason, String performedBy) {
+        return new GuardrailAuditEntry(
+                newId(), ruleId, athleteId, decision, reason, Instant.now(), performedBy, null);
+    }
+
+    public static GuardrailAuditEntry override(
+            String ruleId, String athleteId, String reason, String adminUser, String justification) {
+        return new GuardrailAuditEntry(
+                newId(), ruleId, athleteId, "OVERRIDE", reason, Instant.now(), adminUser, justification);
+    }
+
+    private static String newId() {
+        return "AUDIT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
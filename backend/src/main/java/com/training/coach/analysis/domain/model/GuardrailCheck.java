@@ -0,0 +1,20 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * A proposed workout to check against the safety guardrails.
+ *
+ * @param proposedWeeklyLoad the weekly TSS the workout's week would reach, or null when not known
+ */
+public record GuardrailCheck(String athleteId, LocalDate date, String workoutType, Double proposedWeeklyLoad) {
+
+    public GuardrailCheck {
+        if (athleteId == null || athleteId.isBlank()) {
+            throw new IllegalArgumentException("Athlete ID cannot be null or blank");
+        }
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * What the guardrails need to know about an athlete, computed once and shared by every check for that athlete.
+ *
+ * @param wellnessDate day the fatigue, soreness and readiness scores were reported, or null when there are none
+ * @param currentWeeklyLoad TSS of the last seven days
+ * @param lastHighIntensityDate day of the last high-intensity session, or null when there was none
+ */
+public record GuardrailContext(
+        String athleteId,
+        LocalDate wellnessDate,
+        Double fatigueScore,
+        Double sorenessScore,
+        Double readinessScore,
+        double currentWeeklyLoad,
+        LocalDate lastHighIntensityDate) {
+
+    public GuardrailContext {
+        if (athleteId == null || athleteId.isBlank()) {
+            throw new IllegalArgumentException("Athlete ID cannot be null or blank");
+        }
+        if (currentWeeklyLoad < 0) {
+            throw new IllegalArgumentException("Current weekly load must be non-negative");
+        }
+    }
+
+    public static GuardrailContext empty(String athleteId) {
+        return new GuardrailContext(athleteId, null, null, null, null, 0.0, null);
+    }
+
+    public GuardrailContext withWellness(LocalDate date, double fatigue, double soreness, double readiness) {
+        return new GuardrailContext(athleteId, date, fatigue, soreness, readiness, currentWeeklyLoad, lastHighIntensityDate);
+    }
+
+    public GuardrailContext withWeeklyLoad(double weeklyLoad) {
+        return new GuardrailContext(
+                athleteId, wellnessDate, fatigueScore, sorenessScore, readinessScore, weeklyLoad, lastHighIntensityDate);
+    }
+
+    public GuardrailContext withLastHighIntensityDate(LocalDate date) {
+        return new GuardrailContext(
+                athleteId, wellnessDate, fatigueScore, sorenessScore, readinessScore, currentWeeklyLoad, date);
+    }
+}
@@ -0,0 +1,8 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Readiness score of one athlete on one day, as recorded in their wellness snapshot.
+ */
+public record ReadinessSample(String athleteId, LocalDate date, double readinessScore) {}
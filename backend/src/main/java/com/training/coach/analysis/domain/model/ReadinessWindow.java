@@ -0,0 +1,54 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Readiness of one athlete summarized over a window of days.
+ *
+ * @param samples days in the window with a readiness score
+ * @param averageReadiness mean readiness of those days, or {@link #DEFAULT_READINESS} without any
+ * @param latestDate most recent day with a score, or {@code null} without any
+ */
+public record ReadinessWindow(String athleteId, int samples, double averageReadiness, LocalDate latestDate) {
+
+    /** Readiness assumed for an athlete who reported nothing in the window. */
+    public static final double DEFAULT_READINESS = 50.0;
+
+    public static ReadinessWindow empty(String athleteId) {
+        return new ReadinessWindow(athleteId, 0, DEFAULT_READINESS, null);
+    }
+
+    public boolean hasSamples() {
+        return samples > 0;
+    }
+
+    /**
+     * Summarize samples of any number of athletes in a single pass, keyed by athlete.
+     */
+    public static Map<String, ReadinessWindow> summarize(Iterable<ReadinessSample> samples) {
+        Map<String, Accumulator> accumulators = new HashMap<>();
+        for (ReadinessSample sample : samples) {
+            accumulators.computeIfAbsent(sample.athleteId(), id -> new Accumulator()).add(sample);
+        }
+        Map<String, ReadinessWindow> windows = new HashMap<>(accumulators.size() * 2);
+        accumulators.forEach((athleteId, accumulator) -> windows.put(athleteId, new ReadinessWindow(
+                athleteId, accumulator.count, accumulator.sum / accumulator.count, accumulator.latest)));
+        return windows;
+    }
+
+    private static final class Accumulator {
+        private int count;
+        private double sum;
+        private LocalDate latest;
+
+        void add(ReadinessSample sample) {
+            count++;
+            sum += sample.readinessScore();
+            if (latest == null || sample.date().isAfter(latest)) {
+                latest = sample.date();
+            }
+        }
+    }
+}
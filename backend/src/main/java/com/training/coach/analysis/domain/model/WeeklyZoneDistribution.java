@@ -0,0 +1,18 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * An athlete's zone minutes over one ISO week (Monday to Sunday) from one source.
+ */
+public record WeeklyZoneDistribution(
+        String athleteId, LocalDate weekStart, DistributionSource source, ZoneMinutes minutes) {
+
+    public static WeeklyZoneDistribution empty(String athleteId, LocalDate weekStart, DistributionSource source) {
+        return new WeeklyZoneDistribution(athleteId, weekStart, source, ZoneMinutes.ZERO);
+    }
+
+    public PolarizedDistribution distribution() {
+        return minutes.distribution();
+    }
+}
@@ -0,0 +1,9 @@
+package com.training.coach.analysis.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Subjective scores of one athlete on one day, as recorded in their wellness snapshot; unreported scores are null.
+ */
+public record WellnessScoreSample(
+        String athleteId, LocalDate date, Integer fatigueScore, Integer sorenessScore, Double readinessScore) {}
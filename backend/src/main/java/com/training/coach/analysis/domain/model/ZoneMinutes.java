@@ -0,0 +1,54 @@
+package com.training.coach.analysis.domain.model;
+
+import com.training.coach.shared.domain.unit.Minutes;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Minutes spent in each Seiler zone.
+ */
+public record ZoneMinutes(double z1, double z2, double z3) {
+
+    public static final ZoneMinutes ZERO = new ZoneMinutes(0.0, 0.0, 0.0);
+
+    public ZoneMinutes {
+        if (z1 < 0 || z2 < 0 || z3 < 0) {
+            throw new IllegalArgumentException("Zone minutes must be non-negative");
+        }
+    }
+
+    public static ZoneMinutes of(Zone zone, double minutes) {
+        return switch (zone) {
+            case Z1 -> new ZoneMinutes(minutes, 0.0, 0.0);
+            case Z2 -> new ZoneMinutes(0.0, minutes, 0.0);
+            case Z3 -> new ZoneMinutes(0.0, 0.0, minutes);
+        };
+    }
+
+    public ZoneMinutes plus(ZoneMinutes other) {
+        return new ZoneMinutes(z1 + other.z1, z2 + other.z2, z3 + other.z3);
+    }
+
+    public double total() {
+        return z1 + z2 + z3;
+    }
+
+    public boolean isEmpty() {
+        return total() == 0.0;
+    }
+
+    public PolarizedDistribution distribution() {
+        return PolarizedDistribution.fromMinutes(z1, z2, z3);
+    }
+
+    /**
+     * Whole minutes per zone, in the shape {@code DistributionAnalyzer} expects.
+     */
+    public Map<Zone, Minutes> asMap() {
+        Map<Zone, Minutes> minutes = new EnumMap<>(Zone.class);
+        minutes.put(Zone.Z1, Minutes.of((int) Math.round(z1)));
+        minutes.put(Zone.Z2, Minutes.of((int) Math.round(z2)));
+        minutes.put(Zone.Z3, Minutes.of((int) Math.round(z3)));
+        return minutes;
+    }
+}
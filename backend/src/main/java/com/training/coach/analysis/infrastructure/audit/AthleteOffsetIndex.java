@@ -0,0 +1,108 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import java.util.Arrays;
+
+/**
+ * Positions of one athlete's records, ordered by record timestamp, as two parallel primitive arrays.
+ *
+ * <p>A position packs the segment id into the high 32 bits and the byte offset into the low 32 bits, so
+ * positions sort in log order. Each record keeps its own timestamp; a record appended out of time order is
+ * inserted at its place, which is near the end since appends are close to time order. Time-range queries then
+ * binary search instead of reading records.</p>
+ */
+final class AthleteOffsetIndex {
+
+    private long[] positions = new long[8];
+    private long[] timestamps = new long[8];
+    private int size;
+
+    static long position(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    static int segmentId(long position) {
+        return (int) (position >>> 32);
+    }
+
+    static int offset(long position) {
+        return (int) position;
+    }
+
+    synchronized void add(long position, long timestampMillis) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+        }
+        // Equal timestamps stay in log order
+        int at = size;
+        while (at > 0 && (timestamps[at - 1] > timestampMillis
+                || timestamps[at - 1] == timestampMillis && positions[at - 1] > position)) {
+            at--;
+        }
+        System.arraycopy(positions, at, positions, at + 1, size - at);
+        System.arraycopy(timestamps, at, timestamps, at + 1, size - at);
+        positions[at] = position;
+        timestamps[at] = timestampMillis;
+        size++;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Positions of the records with {@code fromMillis <= timestamp < toMillis}.
+     */
+    synchronized long[] positionsBetween(long fromMillis, long toMillis) {
+        int start = lowerBound(fromMillis);
+        int end = lowerBound(toMillis);
+        return start >= end ? new long[0] : Arrays.copyOfRange(positions, start, end);
+    }
+
+    synchronized int[] segmentIds() {
+        return Arrays.stream(positions, 0, size).mapToInt(AthleteOffsetIndex::segmentId).distinct().toArray();
+    }
+
+    /**
+     * Drop the positions in segments up to and including {@code segmentId}, returning how many were dropped.
+     */
+    synchronized int removeThroughSegment(int segmentId) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (segmentId(positions[i]) > segmentId) {
+                positions[kept] = positions[i];
+                timestamps[kept] = timestamps[i];
+                kept++;
+            }
+        }
+        int dropped = size - kept;
+        size = kept;
+        return dropped;
+    }
+
+    /**
+     * Point the record with the given timestamp at its new offset after its segment was rewritten.
+     */
+    synchronized void move(long from, long to, long timestampMillis) {
+        for (int i = lowerBound(timestampMillis); i < size && timestamps[i] == timestampMillis; i++) {
+            if (positions[i] == from) {
+                positions[i] = to;
+                return;
+            }
+        }
+    }
+
+    private int lowerBound(long timestampMillis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestampMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
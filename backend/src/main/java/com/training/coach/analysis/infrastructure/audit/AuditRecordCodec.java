@@ -0,0 +1,108 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+/**
+ * Binary layout of one audit record: {@code [int bodyLength][int crc32(body)][body]}.
+ *
+ * <p>The body holds the timestamp as seconds and nanos followed by the string fields, each as a length and
+ * UTF-8 bytes with -1 for null. The checksum lets recovery tell a torn write at the end of a segment from a
+ * complete record.</p>
+ */
+final class AuditRecordCodec {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private AuditRecordCodec() {}
+
+    static ByteBuffer encode(GuardrailAuditEntry entry) {
+        byte[][] fields = {
+                bytes(entry.id()),
+                bytes(entry.ruleId()),
+                bytes(entry.athleteId()),
+                bytes(entry.decision()),
+                bytes(entry.reason()),
+                bytes(entry.performedBy()),
+                bytes(entry.justification())
+        };
+        int bodyLength = Long.BYTES + Integer.BYTES;
+        for (byte[] field : fields) {
+            bodyLength += Integer.BYTES + (field == null ? 0 : field.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength).putInt(0);
+        buffer.putLong(entry.timestamp().getEpochSecond()).putInt(entry.timestamp().getNano());
+        for (byte[] field : fields) {
+            if (field == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(field.length).put(field);
+            }
+        }
+        buffer.putInt(Integer.BYTES, checksum(buffer.array(), HEADER_BYTES, bodyLength));
+        return buffer.flip();
+    }
+
+    /**
+     * Decode a body whose checksum has been verified.
+     */
+    static GuardrailAuditEntry decode(ByteBuffer body) {
+        Instant timestamp = Instant.ofEpochSecond(body.getLong(), body.getInt());
+        String id = string(body);
+        String ruleId = string(body);
+        String athleteId = string(body);
+        String decision = string(body);
+        String reason = string(body);
+        String performedBy = string(body);
+        String justification = string(body);
+        return new GuardrailAuditEntry(id, ruleId, athleteId, decision, reason, timestamp, performedBy, justification);
+    }
+
+    /**
+     * The athlete and timestamp of a body, without decoding the other fields.
+     */
+    static String athleteId(ByteBuffer body) {
+        ByteBuffer view = body.duplicate();
+        view.position(view.position() + Long.BYTES + Integer.BYTES);
+        skip(view);
+        skip(view);
+        return string(view);
+    }
+
+    static long timestampMillis(ByteBuffer body) {
+        ByteBuffer view = body.duplicate();
+        return Instant.ofEpochSecond(view.getLong(), view.getInt()).toEpochMilli();
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void skip(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length > 0) {
+            buffer.position(buffer.position() + length);
+        }
+    }
+}
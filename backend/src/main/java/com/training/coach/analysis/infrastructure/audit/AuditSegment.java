@@ -0,0 +1,146 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One segment file of the audit log. Only the log's writer appends; any thread may read by position.
+ */
+final class AuditSegment implements AutoCloseable {
+
+    private static final String PREFIX = "guardrail-audit-";
+    private static final String SUFFIX = ".log";
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile long size;
+    private volatile long firstTimestampMillis = Long.MAX_VALUE;
+    private volatile long lastTimestampMillis = Long.MIN_VALUE;
+
+    private AuditSegment(int id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static AuditSegment open(Path directory, int id) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new AuditSegment(id, path, channel, channel.size());
+    }
+
+    static String fileName(int id) {
+        return String.format("%s%010d%s", PREFIX, id, SUFFIX);
+    }
+
+    /**
+     * Segment id of a segment file name, or -1 for any other file.
+     */
+    static int idOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    int id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long firstTimestampMillis() {
+        return firstTimestampMillis;
+    }
+
+    long lastTimestampMillis() {
+        return lastTimestampMillis;
+    }
+
+    boolean overlaps(long fromMillis, long toMillis) {
+        return size > 0 && firstTimestampMillis < toMillis && lastTimestampMillis >= fromMillis;
+    }
+
+    /**
+     * Append an encoded record at the end of the segment, returning its offset. Not forced to disk.
+     */
+    int append(ByteBuffer record) throws IOException {
+        long offset = size;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        // Readers only see the record once it is complete
+        size = offset + record.position();
+        return (int) offset;
+    }
+
+    void recordTimestamp(long timestampMillis) {
+        firstTimestampMillis = Math.min(firstTimestampMillis, timestampMillis);
+        lastTimestampMillis = Math.max(lastTimestampMillis, timestampMillis);
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void truncate(long newSize) throws IOException {
+        channel.truncate(newSize);
+        size = newSize;
+    }
+
+    /**
+     * Read the verified body of the record at {@code offset}, or null when it is incomplete or corrupt.
+     */
+    ByteBuffer readBody(long offset) throws IOException {
+        if (offset + AuditRecordCodec.HEADER_BYTES > size) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(AuditRecordCodec.HEADER_BYTES);
+        readFully(header, offset);
+        int length = header.getInt(0);
+        int checksum = header.getInt(Integer.BYTES);
+        if (length <= 0 || offset + AuditRecordCodec.HEADER_BYTES + length > size) {
+            return null;
+        }
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(body, offset + AuditRecordCodec.HEADER_BYTES);
+        if (AuditRecordCodec.checksum(body.array(), 0, length) != checksum) {
+            return null;
+        }
+        return body.flip();
+    }
+
+    static long recordLength(ByteBuffer body) {
+        return AuditRecordCodec.HEADER_BYTES + (long) body.limit();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of audit segment " + path);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the file-backed guardrail audit log.
+ *
+ * @param directory where segment files are written; defaults to a folder under java.io.tmpdir
+ * @param segmentSize a segment is sealed and a new one started once it would grow past this size
+ * @param retention sealed segments whose newest entry is older than this are deleted
+ * @param queueCapacity appends beyond this many unwritten entries wait for the writer
+ * @param maxBatchSize entries written and fsynced together at most
+ */
+@ConfigurationProperties(prefix = "training.guardrail-audit")
+public record GuardrailAuditProperties(
+        String directory,
+        @DefaultValue("16MB") DataSize segmentSize,
+        @DefaultValue("P400D") Duration retention,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("512") int maxBatchSize) {
+    public GuardrailAuditProperties {
+        if (directory == null || directory.isBlank()) {
+            directory = System.getProperty("java.io.tmpdir") + "/training-coach-guardrail-audit";
+        }
+        if (segmentSize == null) {
+            segmentSize = DataSize.ofMegabytes(16);
+        }
+        if (retention == null) {
+            retention = Duration.ofDays(400);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import com.training.coach.analysis.application.port.out.GuardrailAuditLog;
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guardrail audit log kept as append-only segment files with an in-memory per-athlete offset index.
+ *
+ * <p>{@link #append} only enqueues the entry; a single writer thread drains the queue, writes whatever has
+ * accumulated as one batch and forces it to disk once, so guardrail checks never wait on the disk and concurrent
+ * checks share fsyncs. Queries first wait for the entries appended before them to be written.</p>
+ *
+ * <p>Athlete queries binary search the athlete's index by time and read only the matching records; time-range
+ * queries only scan the segments whose time span overlaps the range. The index is rebuilt from the segments on
+ * startup, truncating a torn record at the end of the active segment; a batch that fails to write is cut off
+ * again right away, so torn bytes never end up inside a sealed segment. Sealed segments past the retention period
+ * are deleted whole, and erasing an athlete rewrites only the segments holding their records.</p>
+ */
+@Component
+@Profile("!test")
+public class SegmentedGuardrailAuditLog implements GuardrailAuditLog, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentedGuardrailAuditLog.class);
+
+    private static final long POLL_MILLIS = 100;
+    private static final long READ_WAIT_MILLIS = 5_000;
+    private static final long CLOSE_WAIT_MILLIS = 10_000;
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Duration retention;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Pending> queue;
+    private final Object appendLock = new Object();
+    private long appended;
+    private final Object durableLock = new Object();
+    private long durable;
+
+    /** Writes and queries share the store; retention and erasure replace segments exclusively. */
+    private final ReentrantReadWriteLock storeLock = new ReentrantReadWriteLock();
+    private final ConcurrentSkipListMap<Integer, AuditSegment> segments = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, AthleteOffsetIndex> athleteIndex = new ConcurrentHashMap<>();
+    private volatile AuditSegment active;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SegmentedGuardrailAuditLog(GuardrailAuditProperties properties) {
+        this.directory = Paths.get(properties.directory());
+        this.segmentBytes = Math.min(Integer.MAX_VALUE, properties.segmentSize().toBytes());
+        this.retention = properties.retention();
+        this.maxBatchSize = Math.max(1, properties.maxBatchSize());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open guardrail audit log in " + directory, e);
+        }
+        this.writer = new Thread(this::writeLoop, "guardrail-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void append(GuardrailAuditEntry entry) {
+        if (!running) {
+            throw new IllegalStateException("Guardrail audit log is closed");
+        }
+        // Sequence and queue order must agree so the writer can report durability by sequence
+        synchronized (appendLock) {
+            try {
+                queue.put(new Pending(++appended, entry));
+            } catch (InterruptedException e) {
+                appended--;
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while appending guardrail audit entry", e);
+            }
+        }
+    }
+
+    @Override
+    public List<GuardrailAuditEntry> findByAthleteId(String athleteId, Instant from, Instant to) {
+        awaitWritten();
+        AthleteOffsetIndex index = athleteIndex.get(athleteId);
+        if (index == null) {
+            return List.of();
+        }
+        storeLock.readLock().lock();
+        try {
+            List<GuardrailAuditEntry> entries = new ArrayList<>();
+            for (long position : index.positionsBetween(fromMillis(from), toMillis(to))) {
+                AuditSegment segment = segments.get(AthleteOffsetIndex.segmentId(position));
+                ByteBuffer body = segment == null ? null : segment.readBody(AthleteOffsetIndex.offset(position));
+                if (body != null) {
+                    GuardrailAuditEntry entry = AuditRecordCodec.decode(body);
+                    if (inRange(entry, from, to)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read guardrail audit entries of athlete " + athleteId, e);
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GuardrailAuditEntry> findByTimeRange(Instant from, Instant to) {
+        awaitWritten();
+        long fromMillis = fromMillis(from);
+        long toMillis = toMillis(to);
+        storeLock.readLock().lock();
+        try {
+            List<GuardrailAuditEntry> entries = new ArrayList<>();
+            for (AuditSegment segment : segments.values()) {
+                if (!segment.overlaps(fromMillis, toMillis)) {
+                    continue;
+                }
+                long offset = 0;
+                ByteBuffer body;
+                while ((body = segment.readBody(offset)) != null) {
+                    offset += AuditSegment.recordLength(body);
+                    long timestamp = AuditRecordCodec.timestampMillis(body);
+                    if (timestamp >= fromMillis && timestamp < toMillis) {
+                        GuardrailAuditEntry entry = AuditRecordCodec.decode(body);
+                        if (inRange(entry, from, to)) {
+                            entries.add(entry);
+                        }
+                    }
+                }
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read guardrail audit entries", e);
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByAthleteId(String athleteId) {
+        awaitWritten();
+        AthleteOffsetIndex index = athleteIndex.get(athleteId);
+        return index == null ? 0 : index.size();
+    }
+
+    @Override
+    public long eraseByAthleteId(String athleteId) {
+        awaitWritten();
+        storeLock.writeLock().lock();
+        try {
+            AthleteOffsetIndex index = athleteIndex.remove(athleteId);
+            if (index == null) {
+                return 0;
+            }
+            int[] segmentIds = index.segmentIds();
+            if (Arrays.stream(segmentIds).anyMatch(id -> id == active.id())) {
+                roll();
+            }
+            for (int segmentId : segmentIds) {
+                rewriteWithout(segmentId, athleteId);
+            }
+            logger.info("Erased {} guardrail audit entries of athlete {} from {} segments",
+                    index.size(), athleteId, segmentIds.length);
+            return index.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to erase guardrail audit entries of athlete " + athleteId, e);
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Delete the sealed segments past the retention period. Runs daily at 3:30 AM.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void applyRetention() {
+        int deleted = deleteSegmentsOlderThan(Instant.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Deleted {} guardrail audit segments past the {} retention", deleted, retention);
+        }
+    }
+
+    /**
+     * Delete the oldest sealed segments whose newest entry is before the cutoff, returning how many were deleted.
+     * Stops at the first segment still in retention so the remaining log stays contiguous.
+     */
+    public int deleteSegmentsOlderThan(Instant cutoff) {
+        long cutoffMillis = cutoff.toEpochMilli();
+        storeLock.writeLock().lock();
+        try {
+            int deleted = 0;
+            int lastDeletedId = -1;
+            for (AuditSegment segment : segments.values()) {
+                if (segment == active || segment.lastTimestampMillis() >= cutoffMillis) {
+                    break;
+                }
+                segment.close();
+                Files.deleteIfExists(segment.path());
+                segments.remove(segment.id());
+                lastDeletedId = segment.id();
+                deleted++;
+            }
+            if (lastDeletedId >= 0) {
+                int throughId = lastDeletedId;
+                athleteIndex.values().forEach(index -> index.removeThroughSegment(throughId));
+                athleteIndex.values().removeIf(index -> index.size() == 0);
+            }
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to apply guardrail audit retention", e);
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop accepting entries, write what is queued and close the segments.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            writer.join(CLOSE_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storeLock.writeLock().lock();
+        try {
+            active.force();
+            for (AuditSegment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Closing lets the loop drain the queue; interrupts are not used to stop it
+                Thread.interrupted();
+            } catch (RuntimeException e) {
+                logger.error("Guardrail audit writer failed on a batch of {} entries", batch.size(), e);
+                markWritten(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<Pending> batch) {
+        List<AuditSegment> written = new ArrayList<>(1);
+        long sizeBefore = 0;
+        IOException failure = null;
+        storeLock.readLock().lock();
+        try {
+            written.add(active);
+            sizeBefore = active.size();
+            long[] positions = new long[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                ByteBuffer record = AuditRecordCodec.encode(batch.get(i).entry());
+                if (active.size() > 0 && active.size() + record.remaining() > segmentBytes) {
+                    roll();
+                    written.add(active);
+                }
+                positions[i] = AthleteOffsetIndex.position(active.id(), active.append(record));
+            }
+            active.force();
+
+            // Only index entries once they are on disk
+            for (int i = 0; i < batch.size(); i++) {
+                GuardrailAuditEntry entry = batch.get(i).entry();
+                long timestamp = entry.timestamp().toEpochMilli();
+                segments.get(AthleteOffsetIndex.segmentId(positions[i])).recordTimestamp(timestamp);
+                athleteIndex.computeIfAbsent(entry.athleteId(), id -> new AthleteOffsetIndex())
+                        .add(positions[i], timestamp);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            storeLock.readLock().unlock();
+        }
+        try {
+            if (failure != null) {
+                logger.error("Failed to write {} guardrail audit entries", batch.size(), failure);
+                discardBatch(written, sizeBefore);
+            }
+        } finally {
+            markWritten(batch);
+        }
+    }
+
+    /**
+     * Cut a failed batch off the segments it was written to, back to the size the first one had before it, so no
+     * torn record is left for later records to be appended behind. Starts a new segment if truncating fails.
+     */
+    private void discardBatch(List<AuditSegment> written, long sizeBefore) {
+        storeLock.writeLock().lock();
+        try {
+            for (int i = 0; i < written.size(); i++) {
+                AuditSegment segment = written.get(i);
+                // Retention or erasure may have replaced the segment in the meantime
+                if (segments.get(segment.id()) == segment) {
+                    segment.truncate(i == 0 ? sizeBefore : 0);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to truncate guardrail audit segment {}, starting a new one", active.path(), e);
+            try {
+                roll();
+            } catch (IOException rollFailure) {
+                logger.error("Failed to start a new guardrail audit segment", rollFailure);
+            }
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private void markWritten(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (durableLock) {
+            durable = Math.max(durable, batch.get(batch.size() - 1).sequence());
+            durableLock.notifyAll();
+        }
+    }
+
+    /**
+     * Wait until the entries appended so far have been written, so queries read their own writes.
+     */
+    private void awaitWritten() {
+        long target;
+        synchronized (appendLock) {
+            target = appended;
+        }
+        long deadline = System.currentTimeMillis() + READ_WAIT_MILLIS;
+        synchronized (durableLock) {
+            while (durable < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warn("Reading guardrail audit log with {} entries not yet written", target - durable);
+                    return;
+                }
+                try {
+                    durableLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Seal the active segment and start the next one. Called by the writer, or under the exclusive lock.
+     */
+    private void roll() throws IOException {
+        active.force();
+        AuditSegment next = AuditSegment.open(directory, active.id() + 1);
+        segments.put(next.id(), next);
+        active = next;
+    }
+
+    private void rewriteWithout(int segmentId, String athleteId) throws IOException {
+        AuditSegment segment = segments.get(segmentId);
+        if (segment == null) {
+            return;
+        }
+        Path compacted = directory.resolve(AuditSegment.fileName(segmentId) + COMPACT_SUFFIX);
+        Files.deleteIfExists(compacted);
+
+        long firstTimestamp = Long.MAX_VALUE;
+        long lastTimestamp = Long.MIN_VALUE;
+        long writeOffset = 0;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long readOffset = 0;
+            ByteBuffer body;
+            while ((body = segment.readBody(readOffset)) != null) {
+                long length = AuditSegment.recordLength(body);
+                String owner = AuditRecordCodec.athleteId(body);
+                if (!owner.equals(athleteId)) {
+                    long timestamp = AuditRecordCodec.timestampMillis(body);
+                    ByteBuffer record = ByteBuffer.allocate((int) length)
+                            .putInt(body.limit())
+                            .putInt(AuditRecordCodec.checksum(body.array(), 0, body.limit()))
+                            .put(body.duplicate())
+                            .flip();
+                    while (record.hasRemaining()) {
+                        out.write(record, writeOffset + record.position());
+                    }
+                    if (writeOffset != readOffset) {
+                        AthleteOffsetIndex index = athleteIndex.get(owner);
+                        if (index != null) {
+                            index.move(AthleteOffsetIndex.position(segmentId, (int) readOffset),
+                                    AthleteOffsetIndex.position(segmentId, (int) writeOffset), timestamp);
+                        }
+                    }
+                    firstTimestamp = Math.min(firstTimestamp, timestamp);
+                    lastTimestamp = Math.max(lastTimestamp, timestamp);
+                    writeOffset += length;
+                }
+                readOffset += length;
+            }
+            out.force(true);
+        }
+
+        segment.close();
+        segments.remove(segmentId);
+        if (writeOffset == 0) {
+            Files.delete(compacted);
+            Files.deleteIfExists(segment.path());
+            return;
+        }
+        Files.move(compacted, segment.path(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        AuditSegment rewritten = AuditSegment.open(directory, segmentId);
+        rewritten.recordTimestamp(firstTimestamp);
+        rewritten.recordTimestamp(lastTimestamp);
+        segments.put(segmentId, rewritten);
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Integer> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (file.getFileName().toString().endsWith(COMPACT_SUFFIX)) {
+                    // Left over from an erasure interrupted before its atomic move; the original is intact
+                    Files.delete(file);
+                } else if (AuditSegment.idOf(file) >= 0) {
+                    ids.add(AuditSegment.idOf(file));
+                }
+            }
+        }
+        ids.sort(null);
+
+        long recovered = 0;
+        for (int id : ids) {
+            AuditSegment segment = AuditSegment.open(directory, id);
+            long offset = 0;
+            ByteBuffer body;
+            while ((body = segment.readBody(offset)) != null) {
+                long timestamp = AuditRecordCodec.timestampMillis(body);
+                segment.recordTimestamp(timestamp);
+                athleteIndex.computeIfAbsent(AuditRecordCodec.athleteId(body), athlete -> new AthleteOffsetIndex())
+                        .add(AthleteOffsetIndex.position(id, (int) offset), timestamp);
+                offset += AuditSegment.recordLength(body);
+                recovered++;
+            }
+            if (offset < segment.size() && id == ids.getLast()) {
+                // Only the segment that was being written when the process stopped can end in a torn record
+                logger.warn("Truncating {} unreadable bytes at the end of guardrail audit segment {}",
+                        segment.size() - offset, segment.path());
+                segment.truncate(offset);
+            } else if (offset < segment.size()) {
+                logger.error("Guardrail audit segment {} is unreadable after offset {}; keeping its {} remaining bytes",
+                        segment.path(), offset, segment.size() - offset);
+            }
+            segments.put(id, segment);
+        }
+
+        AuditSegment last = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (last != null && last.size() < segmentBytes) {
+            active = last;
+        } else {
+            active = AuditSegment.open(directory, last == null ? 0 : last.id() + 1);
+            segments.put(active.id(), active);
+        }
+        logger.info("Opened guardrail audit log in {}: {} entries in {} segments", directory, recovered, segments.size());
+    }
+
+    private static long fromMillis(Instant from) {
+        return from == null ? Long.MIN_VALUE : from.toEpochMilli();
+    }
+
+    private static long toMillis(Instant to) {
+        // Rounded up; entries in the last millisecond are filtered exactly afterwards
+        return to == null ? Long.MAX_VALUE : to.toEpochMilli() + 1;
+    }
+
+    private static boolean inRange(GuardrailAuditEntry entry, Instant from, Instant to) {
+        return (from == null || !entry.timestamp().isBefore(from)) && (to == null || entry.timestamp().isBefore(to));
+    }
+
+    private record Pending(long sequence, GuardrailAuditEntry entry) {}
+}
@@ -0,0 +1,53 @@
+package com.training.coach.analysis.infrastructure.persistence;
+
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.analysis.application.port.out.GuardrailInputRepository;
+import com.training.coach.analysis.domain.model.ActivityLoadSample;
+import com.training.coach.analysis.domain.model.WellnessScoreSample;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads a roster's guardrail inputs with one range query per table on the (athlete_id, date) indexes, selecting
+ * only the scored columns.
+ */
+@Repository
+@Profile("!test")
+public class GuardrailInputRepositoryAdapter implements GuardrailInputRepository {
+
+    private final WellnessJpaRepository wellnessRepo;
+    private final ActivityJpaRepository activityRepo;
+
+    public GuardrailInputRepositoryAdapter(WellnessJpaRepository wellnessRepo, ActivityJpaRepository activityRepo) {
+        this.wellnessRepo = wellnessRepo;
+        this.activityRepo = activityRepo;
+    }
+
+    @Override
+    public List<WellnessScoreSample> findWellnessByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        if (athleteIds.isEmpty()) {
+            return List.of();
+        }
+        return wellnessRepo.findScoresByAthleteIdsAndDateRange(athleteIds, startDate, endDate).stream()
+                .map(row -> new WellnessScoreSample(
+                        row.athleteId(), row.date(), row.fatigue(), row.soreness(), row.readinessScore()))
+                .toList();
+    }
+
+    @Override
+    public List<ActivityLoadSample> findActivityLoadByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        if (athleteIds.isEmpty()) {
+            return List.of();
+        }
+        return activityRepo.findLoadByAthleteIdsAndDateRange(athleteIds, startDate, endDate).stream()
+                .map(row -> new ActivityLoadSample(
+                        row.athleteId(), row.date(), row.trainingStressScore(), row.intensityFactor()))
+                .toList();
+    }
+}
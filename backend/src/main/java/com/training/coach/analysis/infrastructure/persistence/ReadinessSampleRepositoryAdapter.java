@@ -0,0 +1,36 @@
+package com.training.coach.analysis.infrastructure.persistence;
+
+import com.training.coach.analysis.application.port.out.ReadinessSampleRepository;
+import com.training.coach.analysis.domain.model.ReadinessSample;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads a roster's readiness with one range query on the (athlete_id, date) index, selecting only
+ * the readiness column instead of whole wellness snapshots.
+ */
+@Repository
+@Profile("!test")
+public class ReadinessSampleRepositoryAdapter implements ReadinessSampleRepository {
+
+    private final WellnessJpaRepository wellnessRepo;
+
+    public ReadinessSampleRepositoryAdapter(WellnessJpaRepository wellnessRepo) {
+        this.wellnessRepo = wellnessRepo;
+    }
+
+    @Override
+    public List<ReadinessSample> findByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        if (athleteIds.isEmpty()) {
+            return List.of();
+        }
+        return wellnessRepo.findReadinessByAthleteIdsAndDateRange(athleteIds, startDate, endDate).stream()
+                .map(row -> new ReadinessSample(row.athleteId(), row.date(), row.readinessScore()))
+                .toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.training.coach.analysis.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the zone minutes of one athlete summed over one ISO week.
+ */
+public record WeeklyZoneRow(String athleteId, LocalDate weekStart, Double z1Minutes, Double z2Minutes, Double z3Minutes) {}
@@ -0,0 +1,65 @@
+package com.training.coach.analysis.infrastructure.persistence;
+
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.infrastructure.persistence.entity.ZoneDistributionEntity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ZoneDistributionJpaRepository extends JpaRepository<ZoneDistributionEntity, String> {
+
+    @Query("SELECT z FROM ZoneDistributionEntity z WHERE z.athleteId = :athleteId "
+            + "AND z.source = :source "
+            + "AND z.day >= :startDate "
+            + "AND z.day <= :endDate ORDER BY z.day ASC")
+    List<ZoneDistributionEntity> findByAthleteIdAndSourceAndDateRange(
+            @Param("athleteId") String athleteId,
+            @Param("source") DistributionSource source,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.training.coach.analysis.infrastructure.persistence.WeeklyZoneRow("
+            + "z.athleteId, z.weekStart, SUM(z.z1Minutes), SUM(z.z2Minutes), SUM(z.z3Minutes)) "
+            + "FROM ZoneDistributionEntity z WHERE z.source = :source "
+            + "AND z.weekStart >= :fromWeekStart "
+            + "AND z.weekStart <= :toWeekStart "
+            + "AND z.athleteId IN :athleteIds "
+            + "GROUP BY z.athleteId, z.weekStart ORDER BY z.athleteId ASC, z.weekStart ASC")
+    List<WeeklyZoneRow> sumByWeek(
+            @Param("athleteIds") Collection<String> athleteIds,
+            @Param("source") DistributionSource source,
+            @Param("fromWeekStart") LocalDate fromWeekStart,
+            @Param("toWeekStart") LocalDate toWeekStart);
+
+    @Query("SELECT MAX(z.updatedAt) FROM ZoneDistributionEntity z WHERE z.athleteId = :athleteId "
+            + "AND z.day >= :startDate "
+            + "AND z.day <= :endDate")
+    Instant findLastUpdatedAt(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM ZoneDistributionEntity z WHERE z.athleteId = :athleteId "
+            + "AND z.source = :source "
+            + "AND z.day >= :startDate "
+            + "AND z.day <= :endDate")
+    int deleteByAthleteIdAndSourceAndDateRange(
+            @Param("athleteId") String athleteId,
+            @Param("source") DistributionSource source,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    long countByAthleteId(String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM ZoneDistributionEntity z WHERE z.athleteId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
+}
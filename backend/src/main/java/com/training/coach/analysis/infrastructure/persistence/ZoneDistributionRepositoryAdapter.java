@@ -0,0 +1,90 @@
+package com.training.coach.analysis.infrastructure.persistence;
+
+import com.training.coach.analysis.application.port.out.ZoneDistributionRepository;
+import com.training.coach.analysis.domain.model.DailyZoneDistribution;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
+import com.training.coach.analysis.infrastructure.persistence.entity.ZoneDistributionEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter for the zone distribution cube. A range update deletes the covered cells and inserts
+ * the new ones in one transaction; weekly totals are summed in the database.
+ */
+@Repository
+@Profile("!test")
+public class ZoneDistributionRepositoryAdapter implements ZoneDistributionRepository {
+
+    private final ZoneDistributionJpaRepository zoneDistributionRepo;
+
+    public ZoneDistributionRepositoryAdapter(ZoneDistributionJpaRepository zoneDistributionRepo) {
+        this.zoneDistributionRepo = zoneDistributionRepo;
+    }
+
+    @Override
+    @Transactional
+    public void replaceDays(
+            String athleteId,
+            DistributionSource source,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DailyZoneDistribution> days) {
+        zoneDistributionRepo.deleteByAthleteIdAndSourceAndDateRange(athleteId, source, startDate, endDate);
+        zoneDistributionRepo.saveAll(days.stream().map(this::toEntity).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyZoneDistribution> findDaily(
+            String athleteId, DistributionSource source, LocalDate startDate, LocalDate endDate) {
+        return zoneDistributionRepo.findByAthleteIdAndSourceAndDateRange(athleteId, source, startDate, endDate).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WeeklyZoneDistribution> findWeekly(
+            Collection<String> athleteIds, DistributionSource source, LocalDate fromWeekStart, LocalDate toWeekStart) {
+        if (athleteIds.isEmpty()) {
+            return List.of();
+        }
+        return zoneDistributionRepo.sumByWeek(athleteIds, source, fromWeekStart, toWeekStart).stream()
+                .map(row -> new WeeklyZoneDistribution(
+                        row.athleteId(),
+                        row.weekStart(),
+                        source,
+                        new ZoneMinutes(valueOf(row.z1Minutes()), valueOf(row.z2Minutes()), valueOf(row.z3Minutes()))))
+                .toList();
+    }
+
+    private ZoneDistributionEntity toEntity(DailyZoneDistribution day) {
+        ZoneDistributionEntity entity = new ZoneDistributionEntity();
+        entity.setAthleteId(day.athleteId());
+        entity.setSource(day.source());
+        entity.setDay(day.date());
+        entity.setWeekStart(day.weekStart());
+        entity.setZ1Minutes(day.minutes().z1());
+        entity.setZ2Minutes(day.minutes().z2());
+        entity.setZ3Minutes(day.minutes().z3());
+        return entity;
+    }
+
+    private DailyZoneDistribution toDomain(ZoneDistributionEntity entity) {
+        return new DailyZoneDistribution(
+                entity.getAthleteId(),
+                entity.getDay(),
+                entity.getSource(),
+                new ZoneMinutes(entity.getZ1Minutes(), entity.getZ2Minutes(), entity.getZ3Minutes()));
+    }
+
+    private static double valueOf(Double minutes) {
+        return minutes == null ? 0.0 : minutes;
+    }
+}
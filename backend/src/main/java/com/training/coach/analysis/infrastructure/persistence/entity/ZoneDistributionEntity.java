@@ -0,0 +1,133 @@
+package com.training.coach.analysis.infrastructure.persistence.entity;
+
+import com.training.coach.analysis.domain.model.DistributionSource;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One cell of the zone distribution cube: zone minutes of an athlete on one day from one source.
+ * The ISO week start is stored alongside the day so weekly rollups group on an index range.
+ */
+@Entity
+@Table(
+        name = "zone_distribution_daily",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_zone_distribution_athlete_source_day",
+                    columnNames = {"athlete_id", "source", "day"})
+        },
+        indexes = {@Index(name = "idx_zone_distribution_week", columnList = "source, week_start, athlete_id")})
+public class ZoneDistributionEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "athlete_id", nullable = false, length = 255)
+    private String athleteId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private DistributionSource source;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "z1_minutes", nullable = false)
+    private double z1Minutes;
+
+    @Column(name = "z2_minutes", nullable = false)
+    private double z2Minutes;
+
+    @Column(name = "z3_minutes", nullable = false)
+    private double z3Minutes;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+        updatedAt = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAthleteId() {
+        return athleteId;
+    }
+
+    public void setAthleteId(String athleteId) {
+        this.athleteId = athleteId;
+    }
+
+    public DistributionSource getSource() {
+        return source;
+    }
+
+    public void setSource(DistributionSource source) {
+        this.source = source;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public double getZ1Minutes() {
+        return z1Minutes;
+    }
+
+    public void setZ1Minutes(double z1Minutes) {
+        this.z1Minutes = z1Minutes;
+    }
+
+    public double getZ2Minutes() {
+        return z2Minutes;
+    }
+
+    public void setZ2Minutes(double z2Minutes) {
+        this.z2Minutes = z2Minutes;
+    }
+
+    public double getZ3Minutes() {
+        return z3Minutes;
+    }
+
+    public void setZ3Minutes(double z3Minutes) {
+        this.z3Minutes = z3Minutes;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -2,14 +2,17 @@ package com.training.coach.analysis.presentation;
 
 import com.training.coach.analysis.application.service.AIAdjustmentService;
 import com.training.coach.analysis.application.service.AdjustmentService;
+import com.training.coach.analysis.application.service.AdjustmentSweepService;
 import com.training.coach.analysis.application.port.out.AdjustmentProposalRepository;
 import com.training.coach.analysis.domain.model.AdjustmentProposal;
 import com.training.coach.athlete.domain.model.TrainingPlan;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import reactor.core.publisher.Mono;
 
 /**
  * REST controller for plan adjustment operations.
@@ -20,14 +23,17 @@ public class AdjustmentController {
 
     private final AdjustmentService adjustmentService;
     private final AIAdjustmentService aiAdjustmentService;
+    private final AdjustmentSweepService adjustmentSweepService;
     private final AdjustmentProposalRepository proposalRepository;
 
     public AdjustmentController(
             AdjustmentService adjustmentService,
             AIAdjustmentService aiAdjustmentService,
+            AdjustmentSweepService adjustmentSweepService,
             AdjustmentProposalRepository proposalRepository) {
         this.adjustmentService = adjustmentService;
         this.aiAdjustmentService = aiAdjustmentService;
+        this.adjustmentSweepService = adjustmentSweepService;
         this.proposalRepository = proposalRepository;
     }
 
@@ -41,10 +47,20 @@ public class AdjustmentController {
     ) {
         List<AdjustmentProposal> suggestions = aiAdjustmentService.generateSuggestions(athleteId, planId);
         // Save all suggestions
-        suggestions.forEach(proposalRepository::save);
+        proposalRepository.saveAll(suggestions);
         return ResponseEntity.ok(suggestions);
     }
 
+    /**
+     * Generate and save adjustment proposals for every athlete of a roster whose readiness needs one today.
+     */
+    @PostMapping("/proposals/sweep")
+    public Mono<ResponseEntity<List<AdjustmentProposal>>> sweepRoster(@RequestBody SweepRequest request) {
+        return adjustmentSweepService.sweep(request.planIdsByAthlete(), LocalDate.now())
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     /**
      * Propose a manual adjustment.
      */
@@ -151,4 +167,9 @@ public class AdjustmentController {
         String suggestion = adjustmentService.suggestAdjustment(readinessScore, compliance);
         return ResponseEntity.ok(suggestion);
     }
-}
\ No newline at end of file
+
+    /**
+     * @param planIdsByAthlete plan to adjust, keyed by athlete
+     */
+    public record SweepRequest(Map<String, String> planIdsByAthlete) {}
+}
@@ -0,0 +1,74 @@
+package com.training.coach.analysis.presentation;
+
+import com.training.coach.analysis.application.service.DistributionAnalyzer;
+import com.training.coach.analysis.application.service.ZoneDistributionService;
+import com.training.coach.analysis.application.service.ZoneDistributionService.PolarizedCheck;
+import com.training.coach.analysis.application.service.ZoneDistributionService.Z2CreepReport;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read endpoints over the pre-aggregated zone distribution cube.
+ */
+@RestController
+@RequestMapping("/api/analysis/zones")
+public class ZoneDistributionController {
+
+    private final ZoneDistributionService zoneDistributionService;
+
+    public ZoneDistributionController(ZoneDistributionService zoneDistributionService) {
+        this.zoneDistributionService = zoneDistributionService;
+    }
+
+    /**
+     * Weekly zone minutes of the last {@code weeks} ISO weeks, oldest first.
+     */
+    @GetMapping("/athletes/{athleteId}/weekly")
+    public ResponseEntity<List<WeeklyZoneDistribution>> getWeeklyDistribution(
+            @PathVariable String athleteId,
+            @RequestParam(defaultValue = "ACTUAL") DistributionSource source,
+            @RequestParam(defaultValue = "12") int weeks) {
+        return ResponseEntity.ok(
+                zoneDistributionService.weeklyDistribution(athleteId, source, weeks, LocalDate.now()));
+    }
+
+    /**
+     * Distribution analysis of one stored week.
+     */
+    @GetMapping("/athletes/{athleteId}/weeks/{weekStart}")
+    public ResponseEntity<DistributionAnalyzer.AnalysisResult> analyzeWeek(
+            @PathVariable String athleteId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+            @RequestParam(defaultValue = "ACTUAL") DistributionSource source) {
+        return ResponseEntity.ok(zoneDistributionService.analyzeWeek(athleteId, source, weekStart));
+    }
+
+    /**
+     * Weeks of actual training with Z2 creep over the last {@code weeks} ISO weeks.
+     */
+    @GetMapping("/athletes/{athleteId}/z2-creep")
+    public ResponseEntity<Z2CreepReport> getZ2Creep(
+            @PathVariable String athleteId, @RequestParam(defaultValue = "12") int weeks) {
+        return ResponseEntity.ok(zoneDistributionService.z2Creep(athleteId, weeks, LocalDate.now()));
+    }
+
+    /**
+     * Polarized-target check of one ISO week for each athlete of a squad.
+     */
+    @GetMapping("/squad/polarized")
+    public ResponseEntity<List<PolarizedCheck>> checkSquadPolarized(
+            @RequestParam List<String> athleteIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+            @RequestParam(defaultValue = "ACTUAL") DistributionSource source) {
+        return ResponseEntity.ok(zoneDistributionService.checkPolarizedTargets(athleteIds, source, weekStart));
+    }
+}
@@ -0,0 +1,22 @@
+package com.training.coach.athlete.application.port.out;
+
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteName;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads across many athletes that do not need each athlete's full profile.
+ */
+public interface AthleteDirectory {
+
+    /**
+     * Id and name of every athlete, ordered by id.
+     */
+    List<AthleteName> findAllNames();
+
+    /**
+     * The athletes with the given ids, in one query; unknown ids are left out.
+     */
+    List<Athlete> findAllById(Collection<String> athleteIds);
+}
@@ -0,0 +1,26 @@
+package com.training.coach.athlete.application.port.out;
+
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.util.List;
+
+/**
+ * A way of delivering notifications to their recipients, such as the in-app feed or email.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Name used to enable the channel in {@code training.notifications.channels}.
+     */
+    String name();
+
+    default boolean supports(OutboxNotification notification) {
+        return true;
+    }
+
+    /**
+     * Deliver a batch of notifications.
+     *
+     * @throws RuntimeException if the batch could not be delivered; every notification in it is retried
+     */
+    void deliver(List<OutboxNotification> notifications);
+}
@@ -0,0 +1,46 @@
+package com.training.coach.athlete.application.port.out;
+
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Notifications waiting for delivery.
+ *
+ * <p>Implementations enqueue in a transaction of their own, so a duplicate never fails the caller's transaction.
+ * A notification enqueued by a change that later rolls back is still delivered.</p>
+ */
+public interface NotificationOutbox {
+
+    /**
+     * Add a notification unless one with the same de-duplication key was already enqueued.
+     *
+     * @return false if the notification was a duplicate and was dropped
+     */
+    boolean enqueue(OutboxNotification notification);
+
+    /**
+     * Pending notifications whose next attempt is due, oldest first.
+     */
+    List<OutboxNotification> findDue(Instant now, int limit);
+
+    List<OutboxNotification> findPendingByRecipientId(String recipientId);
+
+    void markDelivered(Collection<String> ids, Instant deliveredAt);
+
+    /**
+     * Store the outcome of failed attempts, see {@link OutboxNotification#retryAt} and
+     * {@link OutboxNotification#failed}.
+     */
+    void saveAll(List<OutboxNotification> notifications);
+
+    long countByStatus(OutboxNotification.DeliveryStatus status);
+
+    /**
+     * Delete delivered and failed notifications created before {@code cutoff}; pending ones are kept.
+     *
+     * @return the number of notifications deleted
+     */
+    int deleteFinishedBefore(Instant cutoff);
+}
@@ -0,0 +1,204 @@
+package com.training.coach.athlete.application.service;
+
+import com.training.coach.athlete.domain.model.AthleteAlertState;
+import com.training.coach.athlete.domain.model.NotificationType;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.model.AthleteId;
+import com.training.coach.trainingplan.application.port.out.ScheduledWorkoutRepository;
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
+import com.training.coach.wellness.application.port.out.WellnessRepository;
+import com.training.coach.wellness.domain.model.WellnessRecordedEvent;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.workout.application.port.out.WorkoutExecutionRepository;
+import com.training.coach.workout.domain.ExecutionStatus;
+import com.training.coach.workout.domain.WorkoutExecution;
+import com.training.coach.workout.domain.WorkoutExecutionRecordedEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fires fatigue and missed key session alerts as the triggering data arrives.
+ *
+ * <p>Each athlete has a small {@link AthleteAlertState}, updated by wellness and workout execution events in
+ * constant time. A fatigue warning goes out on the wellness report that completes a streak of
+ * {@value AthleteAlertState#FATIGUE_STREAK_DAYS} low-readiness days. Once a training day's activities have been
+ * synced, {@link #closeDay(LocalDate)} reads the week's published workouts for the whole roster, one query per day,
+ * and alerts the coach about every key session of that day without a completed workout.</p>
+ *
+ * <p>State lives in memory. The first event for an athlete after a restart loads the few days of wellness and the
+ * week's executions the state needs, so alerts do not depend on the process having seen every event. Closing a day
+ * recounts each affected athlete's week from the stored executions and published workouts, so the alert does not
+ * depend on which node closes the day or on completions recorded by bulk activity matching.</p>
+ */
+@Service
+public class AthleteAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AthleteAlertService.class);
+
+    /** Planned workouts longer than this are key sessions. */
+    static final int KEY_SESSION_MIN_MINUTES = 60;
+
+    private final WellnessRepository wellnessRepository;
+    private final WorkoutExecutionRepository workoutExecutionRepository;
+    private final ScheduledWorkoutRepository scheduledWorkoutRepository;
+    private final NotificationService notificationService;
+    private final ConcurrentHashMap<String, AthleteAlertState> states = new ConcurrentHashMap<>();
+
+    public AthleteAlertService(
+            WellnessRepository wellnessRepository,
+            WorkoutExecutionRepository workoutExecutionRepository,
+            ScheduledWorkoutRepository scheduledWorkoutRepository,
+            NotificationService notificationService) {
+        this.wellnessRepository = wellnessRepository;
+        this.workoutExecutionRepository = workoutExecutionRepository;
+        this.scheduledWorkoutRepository = scheduledWorkoutRepository;
+        this.notificationService = notificationService;
+    }
+
+    @EventListener
+    public void onWellnessRecorded(WellnessRecordedEvent event) {
+        boolean[] streakCompleted = new boolean[1];
+        states.compute(event.athleteId(), (athleteId, state) -> {
+            AthleteAlertState current = state != null ? state : load(athleteId, event.date());
+            streakCompleted[0] = current.recordReadiness(event.date(), event.readinessScore());
+            return current;
+        });
+        if (streakCompleted[0]) {
+            sendFatigueWarning(event.athleteId());
+        }
+    }
+
+    @EventListener
+    public void onWorkoutExecutionRecorded(WorkoutExecutionRecordedEvent event) {
+        if (event.status() != ExecutionStatus.COMPLETED || event.date() == null) {
+            return;
+        }
+        states.compute(event.athleteId(), (athleteId, state) -> {
+            AthleteAlertState current = state != null ? state : load(athleteId, event.date());
+            current.recordCompletion(event.date());
+            return current;
+        });
+    }
+
+    /**
+     * Settle the key sessions of a day that has ended.
+     *
+     * @return the number of missed key session alerts sent
+     */
+    public int closeDay(LocalDate day) {
+        Map<String, List<Workout>> keySessions = keySessionsOn(day);
+        Map<String, List<LocalDate>> earlierKeySessions = new HashMap<>();
+        // The week's earlier key sessions are recounted too, whichever node closed those days
+        LocalDate weekStart = AthleteAlertState.weekStartOf(day);
+        for (LocalDate earlier = weekStart; earlier.isBefore(day); earlier = earlier.plusDays(1)) {
+            for (Map.Entry<String, List<Workout>> entry : keySessionsOn(earlier).entrySet()) {
+                if (keySessions.containsKey(entry.getKey())) {
+                    List<LocalDate> days = earlierKeySessions.computeIfAbsent(entry.getKey(), id -> new ArrayList<>());
+                    entry.getValue().forEach(workout -> days.add(workout.date()));
+                }
+            }
+        }
+        int alerts = 0;
+        for (Map.Entry<String, List<Workout>> entry : keySessions.entrySet()) {
+            int[] counts = new int[2];
+            int[] missed = new int[1];
+            states.compute(entry.getKey(), (athleteId, state) -> {
+                AthleteAlertState current = state != null ? state : loadReadiness(athleteId, day);
+                current.resetWeek(day);
+                loadCompletions(current, athleteId, day);
+                for (LocalDate earlier : earlierKeySessions.getOrDefault(athleteId, List.of())) {
+                    current.recordKeySessionDue(earlier);
+                }
+                for (int i = 0; i < entry.getValue().size(); i++) {
+                    if (current.recordKeySessionDue(day)) {
+                        missed[0]++;
+                    }
+                }
+                counts[0] = current.keySessionsMissed();
+                counts[1] = current.keySessionsDue();
+                return current;
+            });
+            if (missed[0] > 0) {
+                sendMissedSessionAlert(entry.getKey(), counts[0], counts[1]);
+                alerts++;
+            }
+        }
+        logger.info("Closed {}: {} athletes had key sessions, {} missed session alerts", day, keySessions.size(), alerts);
+        return alerts;
+    }
+
+    /**
+     * Key sessions of the latest published plan version per athlete, keyed by athlete.
+     */
+    private Map<String, List<Workout>> keySessionsOn(LocalDate day) {
+        // Rows are ordered by athlete and latest plan version first; older versions of a plan are superseded
+        Map<String, String> versionByAthlete = new HashMap<>();
+        Map<String, List<Workout>> keySessions = new HashMap<>();
+        for (ScheduledWorkout scheduled : scheduledWorkoutRepository.findPublishedWorkoutsOn(day)) {
+            String version = scheduled.planId() + "#" + scheduled.planVersion();
+            if (!versionByAthlete.computeIfAbsent(scheduled.athleteId(), id -> version).equals(version)) {
+                continue;
+            }
+            if (scheduled.workout().durationMinutes().value() > KEY_SESSION_MIN_MINUTES) {
+                keySessions.computeIfAbsent(scheduled.athleteId(), id -> new ArrayList<>()).add(scheduled.workout());
+            }
+        }
+        return keySessions;
+    }
+
+    /**
+     * Rebuild an athlete's state from the few records it covers: the readiness of the streak window before
+     * {@code date} and the completions of its week before {@code date}.
+     */
+    private AthleteAlertState load(String athleteId, LocalDate date) {
+        AthleteAlertState state = loadReadiness(athleteId, date);
+        loadCompletions(state, athleteId, date);
+        return state;
+    }
+
+    private AthleteAlertState loadReadiness(String athleteId, LocalDate date) {
+        AthleteAlertState state = new AthleteAlertState(athleteId);
+        for (WellnessSnapshot snapshot : wellnessRepository.findByAthleteIdAndDateRange(
+                athleteId, date.minusDays(AthleteAlertState.FATIGUE_STREAK_DAYS - 1), date.minusDays(1))) {
+            state.recordReadiness(snapshot.date(), snapshot.readinessScore());
+        }
+        return state;
+    }
+
+    /**
+     * Record the completed executions of the week of {@code date}, up to and including {@code date}.
+     */
+    private void loadCompletions(AthleteAlertState state, String athleteId, LocalDate date) {
+        LocalDate weekStart = AthleteAlertState.weekStartOf(date);
+        for (WorkoutExecution execution : workoutExecutionRepository.findByAthleteIdAndDateRange(
+                new AthleteId(athleteId), weekStart.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            if (execution.status() == ExecutionStatus.COMPLETED) {
+                state.recordCompletion(execution.date());
+            }
+        }
+    }
+
+    private void sendFatigueWarning(String athleteId) {
+        notificationService.notifyAthlete(athleteId, NotificationType.FATIGUE_WARNING,
+                "⚠️ Fatigue Warning: Your readiness has been below 40 for 3+ consecutive days. Consider reducing training load and focusing on recovery.");
+        notificationService.notifyCoach("system", athleteId, NotificationType.FATIGUE_WARNING, String.format(
+                "⚠️ Fatigue Warning: Athlete %s shows signs of fatigue (readiness below 40 for 3+ days). Recommend monitoring and load adjustment.",
+                athleteId));
+        logger.info("Queued fatigue warning for athlete {}", athleteId);
+    }
+
+    private void sendMissedSessionAlert(String athleteId, int missed, int due) {
+        notificationService.notifyCoach("system", athleteId, NotificationType.KEY_SESSION_ALERT, String.format(
+                "Athlete %s missed %d/%d key sessions this week. Consider adjusting their plan or checking for recovery issues.",
+                athleteId, missed, due));
+        logger.info("Queued missed session alert for athlete {}", athleteId);
+    }
+}
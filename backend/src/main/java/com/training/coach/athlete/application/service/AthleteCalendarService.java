@@ -0,0 +1,170 @@
+package com.training.coach.athlete.application.service;
+
+import com.training.coach.athlete.application.port.out.AvailabilityTemplateRepository;
+import com.training.coach.athlete.application.port.out.EventRepository;
+import com.training.coach.athlete.application.port.out.TravelExceptionRepository;
+import com.training.coach.athlete.domain.model.AthleteCalendar;
+import com.training.coach.athlete.domain.model.AvailabilityTemplate;
+import com.training.coach.athlete.domain.model.CalendarEntry;
+import com.training.coach.athlete.domain.model.Event;
+import com.training.coach.athlete.domain.model.TaperPeriod;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.trainingplan.application.service.PlanService;
+import com.training.coach.trainingplan.domain.model.PlanRebase.WorkoutAdjustment;
+import com.training.coach.trainingplan.domain.model.PlanRebase.WorkoutAdjustment.AdjustmentType;
+import com.training.coach.trainingplan.domain.model.PlanSummary;
+import com.training.coach.trainingplan.domain.model.PlanVersion;
+import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service that builds an athlete's calendar index and answers conflict,
+ * free-slot and bulk rescheduling questions against it.
+ */
+@Service
+public class AthleteCalendarService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AthleteCalendarService.class);
+
+    static final int MAX_SLOT_SEARCH_DAYS = 90;
+
+    private final TravelExceptionRepository exceptionRepository;
+    private final EventRepository eventRepository;
+    private final AvailabilityTemplateRepository templateRepository;
+    private final PlanService planService;
+
+    public AthleteCalendarService(
+            TravelExceptionRepository exceptionRepository,
+            EventRepository eventRepository,
+            AvailabilityTemplateRepository templateRepository,
+            PlanService planService) {
+        this.exceptionRepository = exceptionRepository;
+        this.eventRepository = eventRepository;
+        this.templateRepository = templateRepository;
+        this.planService = planService;
+    }
+
+    /**
+     * Build the calendar from active exceptions, events with their taper periods and the
+     * workouts of the athlete's published plans. Draft and archived versions are left out.
+     */
+    public AthleteCalendar buildCalendar(String athleteId) {
+        List<CalendarEntry> entries = new ArrayList<>();
+        exceptionRepository.findActiveByAthleteId(athleteId).forEach(exception -> entries.add(CalendarEntry.travel(exception)));
+        for (Event event : eventRepository.findByAthleteId(athleteId)) {
+            entries.add(CalendarEntry.event(event));
+            entries.add(CalendarEntry.taper(TaperPeriod.createForEvent(event)));
+        }
+        for (PlanSummary plan : planService.getPlansForAthlete(athleteId)) {
+            if (plan.status() != PlanVersionStatus.PUBLISHED) {
+                continue;
+            }
+            planService.getPlanVersion(plan.id(), plan.currentVersion())
+                    .workouts()
+                    .forEach(workout -> entries.add(CalendarEntry.workout(workout)));
+        }
+        return AthleteCalendar.of(entries);
+    }
+
+    /**
+     * Weekdays the athlete can train on; every day when no template is active.
+     */
+    public Set<DayOfWeek> availableDays(String athleteId) {
+        return templateRepository.findActiveByAthleteId(athleteId)
+                .map(AvailabilityTemplate::availableDays)
+                .orElse(EnumSet.allOf(DayOfWeek.class));
+    }
+
+    /**
+     * Entries overlapping a date range.
+     */
+    public List<CalendarEntry> findOverlapping(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return buildCalendar(athleteId).overlapping(startDate, endDate);
+    }
+
+    /**
+     * Next date on or after {@code from} with no travel, event or planned workout.
+     */
+    public Optional<LocalDate> findNextFreeDate(String athleteId, LocalDate from) {
+        return buildCalendar(athleteId)
+                .nextFreeDate(from, from.plusDays(MAX_SLOT_SEARCH_DAYS), availableDays(athleteId), Set.of());
+    }
+
+    /**
+     * Move every upcoming workout of a published plan off blocked or unavailable days in one
+     * pass, keeping each workout in its own week. Workouts with no free day left in their week
+     * are removed. The result is saved as a new draft version.
+     */
+    public PlanRescheduleResult reschedulePlan(String planId, LocalDate today) {
+        PlanSummary plan = planService.getPlan(planId);
+        PlanVersion version = planService.getPlanVersion(plan.id(), plan.currentVersion());
+        AthleteCalendar calendar = buildCalendar(plan.athleteId());
+        Set<DayOfWeek> availableDays = availableDays(plan.athleteId());
+
+        List<Workout> ordered = version.workouts().stream()
+                .sorted(Comparator.comparing(Workout::date))
+                .toList();
+        List<Workout> rescheduled = new ArrayList<>(ordered.size());
+        List<WorkoutAdjustment> adjustments = new ArrayList<>();
+        Set<LocalDate> taken = new HashSet<>();
+        int conflicts = 0;
+
+        for (Workout workout : ordered) {
+            LocalDate date = workout.date();
+            boolean conflicting = !date.isBefore(today)
+                    && (calendar.isBlocked(date) || !availableDays.contains(date.getDayOfWeek()));
+            if (!conflicting) {
+                rescheduled.add(workout);
+                continue;
+            }
+            conflicts++;
+            LocalDate weekStart = date.minusDays(date.getDayOfWeek().getValue() - 1L);
+            LocalDate earliest = weekStart.isBefore(today) ? today : weekStart;
+            LocalDate weekEnd = weekStart.plusDays(6);
+            // Prefer later in the same week, then earlier in the same week
+            Optional<LocalDate> target = calendar.nextFreeDate(date, weekEnd, availableDays, taken)
+                    .or(() -> calendar.nextFreeDate(earliest, date, availableDays, taken));
+            if (target.isPresent()) {
+                taken.add(target.get());
+                rescheduled.add(new Workout(
+                        workout.id(),
+                        target.get(),
+                        workout.type(),
+                        workout.durationMinutes(),
+                        workout.intensityProfile(),
+                        workout.intervals()));
+                adjustments.add(new WorkoutAdjustment(workout.id(), date, target.get(), AdjustmentType.SHIFTED.name()));
+            } else {
+                adjustments.add(new WorkoutAdjustment(workout.id(), date, null, AdjustmentType.REMOVED.name()));
+            }
+        }
+
+        if (conflicts == 0) {
+            return new PlanRescheduleResult(plan, 0, 0, List.of());
+        }
+        rescheduled.sort(Comparator.comparing(Workout::date));
+        PlanSummary updated = planService.saveRescheduledVersion(plan.id(), rescheduled);
+        int moved = (int) adjustments.stream()
+                .filter(adjustment -> AdjustmentType.SHIFTED.name().equals(adjustment.adjustmentType()))
+                .count();
+        logger.info("Rescheduled plan {}: {} conflicts, {} workouts moved", planId, conflicts, moved);
+        return new PlanRescheduleResult(updated, conflicts, moved, adjustments);
+    }
+
+    public record PlanRescheduleResult(
+            PlanSummary plan,
+            int conflictsFound,
+            int workoutsRescheduled,
+            List<WorkoutAdjustment> adjustments) {}
+}
@@ -3,7 +3,9 @@ package com.training.coach.athlete.application.service;
 import com.training.coach.athlete.application.port.out.AvailabilityTemplateRepository;
 import com.training.coach.athlete.application.port.out.TravelExceptionRepository;
 import com.training.coach.athlete.application.port.out.PlanRepository;
+import com.training.coach.athlete.domain.model.AthleteCalendar;
 import com.training.coach.athlete.domain.model.AvailabilityTemplate;
+import com.training.coach.athlete.domain.model.CalendarEntry;
 import com.training.coach.athlete.domain.model.TravelException;
 import com.training.coach.shared.domain.unit.Hours;
 import org.slf4j.Logger;
@@ -12,9 +14,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -118,22 +118,14 @@ public class AvailabilityService {
 
     /**
      * Find conflicting workouts for a date range.
+     * Loads the overlapping exceptions once and reads the blocked dates from a calendar index.
      */
     public List<LocalDate> findConflictingWorkouts(
             String athleteId,
             LocalDate startDate,
             LocalDate endDate
     ) {
-        List<LocalDate> conflicts = new ArrayList<>();
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            List<TravelException> exceptions = exceptionRepository.findCoveringDate(athleteId, current);
-            if (!exceptions.isEmpty()) {
-                conflicts.add(current);
-            }
-            current = current.plusDays(1);
-        }
-        return conflicts;
+        return exceptionCalendar(athleteId, startDate, endDate).blockedDates(startDate, endDate);
     }
 
     /**
@@ -147,9 +139,10 @@ public class AvailabilityService {
         // Find the week containing the exception period
         LocalDate weekStart = exceptionStart.minusDays(exceptionStart.getDayOfWeek().getValue() - 1);
         LocalDate weekEnd = weekStart.plusDays(6);
+        LocalDate rangeEnd = exceptionEnd.isAfter(weekEnd) ? exceptionEnd : weekEnd;
 
-        List<LocalDate> conflictingDates = findConflictingWorkouts(athleteId, exceptionStart, exceptionEnd);
-        Set<LocalDate> exceptionDates = new HashSet<>(conflictingDates);
+        AthleteCalendar calendar = exceptionCalendar(athleteId, weekStart, rangeEnd);
+        List<LocalDate> conflictingDates = calendar.blockedDates(exceptionStart, exceptionEnd);
 
         // Get athlete's availability
         AvailabilityTemplate template = getActiveTemplate(athleteId);
@@ -159,7 +152,7 @@ public class AvailabilityService {
         List<LocalDate> availableDates = new ArrayList<>();
         LocalDate current = weekStart;
         while (!current.isAfter(weekEnd)) {
-            if (!exceptionDates.contains(current) && availableDays.contains(current.getDayOfWeek())) {
+            if (!calendar.isBlocked(current) && availableDays.contains(current.getDayOfWeek())) {
                 availableDates.add(current);
             }
             current = current.plusDays(1);
@@ -184,6 +177,12 @@ public class AvailabilityService {
         );
     }
 
+    private AthleteCalendar exceptionCalendar(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return AthleteCalendar.of(exceptionRepository.findOverlapping(athleteId, startDate, endDate).stream()
+                .map(CalendarEntry::travel)
+                .toList());
+    }
+
     /**
      * Resolve a travel exception.
      */
@@ -0,0 +1,163 @@
+package com.training.coach.athlete.application.service;
+
+import com.training.coach.athlete.application.port.out.NotificationChannel;
+import com.training.coach.athlete.application.port.out.NotificationOutbox;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Drains the notification outbox in the background.
+ *
+ * <p>Every run takes due notifications in batches of {@code batchSize}, hands each enabled channel the part of the
+ * batch it supports in one call, then records the outcome with one bulk update for the delivered notifications.
+ * A notification whose delivery failed on any channel is retried with exponential backoff until
+ * {@code maxAttempts} is reached, and then marked failed. Delivery is at least once: a retry goes to every
+ * channel again.</p>
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationOutbox outbox;
+    private final List<NotificationChannel> channels;
+    private final NotificationOutboxProperties properties;
+    private final NotificationMetrics metrics;
+
+    public NotificationDispatcher(
+            NotificationOutbox outbox,
+            List<NotificationChannel> channels,
+            NotificationOutboxProperties properties,
+            NotificationMetrics metrics) {
+        this.outbox = outbox;
+        this.channels = channels.stream()
+                .filter(channel -> properties.channels().contains(channel.name()))
+                .toList();
+        this.properties = properties;
+        this.metrics = metrics;
+        if (this.channels.isEmpty()) {
+            logger.warn("No notification channels enabled out of {}, notifications will not be delivered",
+                    channels.stream().map(NotificationChannel::name).toList());
+        }
+    }
+
+    /**
+     * Deliver the notifications due now. Scheduled by ScheduledService on one node at a time.
+     *
+     * @return the number of notifications delivered
+     */
+    public int dispatchPending() {
+        return dispatchPending(Instant.now());
+    }
+
+    /**
+     * Deliver the notifications due at {@code now}.
+     *
+     * @return the number of notifications delivered
+     */
+    public int dispatchPending(Instant now) {
+        return dispatchPending(now, () -> true);
+    }
+
+    /**
+     * Deliver the notifications due at {@code now}, calling {@code renewLease} before every batch after the first
+     * and stopping once it returns false.
+     *
+     * @return the number of notifications delivered
+     */
+    public int dispatchPending(Instant now, BooleanSupplier renewLease) {
+        if (channels.isEmpty()) {
+            return 0;
+        }
+        int delivered = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            if (batch > 0 && !renewLease.getAsBoolean()) {
+                break;
+            }
+            List<OutboxNotification> due = outbox.findDue(now, properties.batchSize());
+            if (due.isEmpty()) {
+                break;
+            }
+            delivered += dispatchBatch(due, now);
+            if (due.size() < properties.batchSize()) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Delete delivered and failed notifications older than the retention period. Scheduled by ScheduledService on
+     * one node a day.
+     *
+     * @return the number of notifications deleted
+     */
+    public int purgeFinished(Instant now) {
+        int purged = outbox.deleteFinishedBefore(now.minus(properties.retention()));
+        if (purged > 0) {
+            logger.info("Purged {} delivered and failed notifications older than {}", purged, properties.retention());
+        }
+        return purged;
+    }
+
+    public NotificationMetrics.Snapshot metrics() {
+        return metrics.snapshot(outbox.countByStatus(OutboxNotification.DeliveryStatus.PENDING));
+    }
+
+    private int dispatchBatch(List<OutboxNotification> batch, Instant now) {
+        long started = System.nanoTime();
+        Set<String> failedIds = new HashSet<>();
+        String lastError = null;
+        for (NotificationChannel channel : channels) {
+            List<OutboxNotification> supported = batch.stream().filter(channel::supports).toList();
+            if (supported.isEmpty()) {
+                continue;
+            }
+            try {
+                channel.deliver(supported);
+                metrics.recordChannelDelivery(channel.name(), supported.size());
+            } catch (RuntimeException e) {
+                lastError = channel.name() + ": " + e.getMessage();
+                logger.warn("Channel {} failed to deliver {} notifications: {}",
+                        channel.name(), supported.size(), e.getMessage());
+                supported.forEach(notification -> failedIds.add(notification.id()));
+            }
+        }
+
+        List<String> deliveredIds = new ArrayList<>(batch.size());
+        List<OutboxNotification> failures = new ArrayList<>();
+        int retried = 0;
+        for (OutboxNotification notification : batch) {
+            if (!failedIds.contains(notification.id())) {
+                deliveredIds.add(notification.id());
+            } else if (notification.attempts() + 1 >= properties.maxAttempts()) {
+                failures.add(notification.failed(lastError));
+            } else {
+                failures.add(notification.retryAt(
+                        now.plus(properties.backoffAfter(notification.attempts() + 1)), lastError));
+                retried++;
+            }
+        }
+        if (!deliveredIds.isEmpty()) {
+            outbox.markDelivered(deliveredIds, now);
+        }
+        if (!failures.isEmpty()) {
+            outbox.saveAll(failures);
+        }
+
+        int failed = failures.size() - retried;
+        metrics.recordBatch(deliveredIds.size(), retried, failed, System.nanoTime() - started);
+        if (failed > 0) {
+            logger.error("{} notifications failed after {} attempts", failed, properties.maxAttempts());
+        }
+        return deliveredIds.size();
+    }
+}
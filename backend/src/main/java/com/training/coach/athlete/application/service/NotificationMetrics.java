@@ -0,0 +1,74 @@
+package com.training.coach.athlete.application.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counters for notifications flowing through the outbox since startup.
+ */
+@Component
+public class NotificationMetrics {
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> deliveredByChannel = new ConcurrentHashMap<>();
+
+    void recordEnqueued() {
+        enqueued.increment();
+    }
+
+    void recordDeduplicated() {
+        deduplicated.increment();
+    }
+
+    void recordChannelDelivery(String channel, int count) {
+        deliveredByChannel.computeIfAbsent(channel, name -> new LongAdder()).add(count);
+    }
+
+    void recordBatch(int delivered, int retried, int failed, long elapsedNanos) {
+        this.delivered.add(delivered);
+        this.retried.add(retried);
+        this.failed.add(failed);
+        batches.increment();
+        batchNanos.add(elapsedNanos);
+    }
+
+    /**
+     * Current counters, with the outbox's pending count supplied by the caller.
+     */
+    public Snapshot snapshot(long pending) {
+        long batchCount = batches.sum();
+        Map<String, Long> byChannel = new TreeMap<>();
+        deliveredByChannel.forEach((channel, count) -> byChannel.put(channel, count.sum()));
+        return new Snapshot(
+                enqueued.sum(),
+                deduplicated.sum(),
+                delivered.sum(),
+                retried.sum(),
+                failed.sum(),
+                pending,
+                batchCount,
+                batchCount == 0 ? 0.0 : batchNanos.sum() / 1_000_000.0 / batchCount,
+                Collections.unmodifiableMap(byChannel));
+    }
+
+    public record Snapshot(
+            long enqueued,
+            long deduplicated,
+            long delivered,
+            long retried,
+            long failed,
+            long pending,
+            long batches,
+            double averageBatchMillis,
+            Map<String, Long> deliveredByChannel) {}
+}
@@ -0,0 +1,52 @@
+package com.training.coach.athlete.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Delivery settings for the notification outbox.
+ *
+ * @param batchSize notifications taken from the outbox and handed to each channel at once
+ * @param maxBatchesPerRun batches delivered per dispatcher run before yielding to the next run
+ * @param maxAttempts attempts before a notification is marked failed
+ * @param initialBackoff delay before the first retry, doubled on every further failure
+ * @param maxBackoff upper bound on the retry delay
+ * @param channels names of the enabled delivery channels
+ * @param logFile file the log channel appends to; when blank it writes to the application log
+ * @param retention how long delivered and failed notifications stay in the outbox before they are purged; at least
+ *     a day, so a purge never lets a notification already raised today through again
+ */
+@ConfigurationProperties(prefix = "training.notifications")
+public record NotificationOutboxProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("50") int maxBatchesPerRun,
+        @DefaultValue("6") int maxAttempts,
+        @DefaultValue("PT30S") Duration initialBackoff,
+        @DefaultValue("PT30M") Duration maxBackoff,
+        @DefaultValue("in-app") List<String> channels,
+        String logFile,
+        @DefaultValue("P30D") Duration retention) {
+    public NotificationOutboxProperties {
+        if (retention == null) retention = Duration.ofDays(30);
+        if (retention.compareTo(Duration.ofDays(1)) < 0) {
+            throw new IllegalArgumentException("Notification retention must be at least one day");
+        }
+    }
+
+    public static NotificationOutboxProperties defaults() {
+        return new NotificationOutboxProperties(
+                100, 50, 6, Duration.ofSeconds(30), Duration.ofMinutes(30), List.of("in-app"), null,
+                Duration.ofDays(30));
+    }
+
+    /**
+     * Delay before the attempt following {@code failedAttempts} failures.
+     */
+    public Duration backoffAfter(int failedAttempts) {
+        int doublings = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -1,80 +1,110 @@
 package com.training.coach.athlete.application.service;
 
+import com.training.coach.athlete.application.port.out.NotificationOutbox;
 import com.training.coach.athlete.application.port.out.NotificationRepository;
 import com.training.coach.athlete.domain.model.Notification;
 import com.training.coach.athlete.domain.model.NotificationType;
 import com.training.coach.athlete.domain.model.NotificationPriority;
-import com.training.coach.athlete.domain.model.NotificationStatus;
-import java.time.LocalDateTime;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 /**
  * Service for managing athlete notifications.
+ *
+ * <p>Notifications are written to the {@link NotificationOutbox} in their own transaction and delivered later in
+ * batches by {@link NotificationDispatcher}, so raising one costs a single insert. A typed notification to the same
+ * recipient, about the same athlete and of the same type is only enqueued once per day. The untyped overloads only
+ * drop repeats of the same message on the same day.</p>
  */
 @Service
 public class NotificationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
     private final NotificationRepository repository;
+    private final NotificationOutbox outbox;
+    private final NotificationMetrics metrics;
 
-    public NotificationService(NotificationRepository repository) {
+    public NotificationService(NotificationRepository repository, NotificationOutbox outbox, NotificationMetrics metrics) {
         this.repository = repository;
+        this.outbox = outbox;
+        this.metrics = metrics;
     }
 
     public void notifyCoach(String athleteId, String message) {
-        String id = UUID.randomUUID().toString();
-        Notification notification = new Notification(
-            id,
-            athleteId,
-            "coach",
-            NotificationType.WORKOUT_REMINDER,
-            NotificationPriority.NORMAL,
-            message,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            NotificationStatus.DELIVERED,
-            Map.of()
-        );
-        repository.save(notification);
+        enqueue(athleteId, "coach", null, NotificationType.WORKOUT_REMINDER, NotificationPriority.NORMAL, message,
+                OutboxNotification.contentKey(message));
+    }
+
+    /**
+     * Notify a coach about one of their athletes.
+     *
+     * @return false if the same notification was already raised today
+     */
+    public boolean notifyCoach(String coachId, String athleteId, NotificationType type, String message) {
+        return enqueue(coachId, "coach", athleteId, type, NotificationPriority.NORMAL, message, null);
     }
 
     public void notifyAthlete(String athleteId, String message) {
-        String id = UUID.randomUUID().toString();
-        Notification notification = new Notification(
-            id,
-            athleteId,
-            "athlete",
-            NotificationType.WORKOUT_REMINDER,
-            NotificationPriority.NORMAL,
-            message,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            NotificationStatus.DELIVERED,
-            Map.of()
-        );
-        repository.save(notification);
+        enqueue(athleteId, "athlete", athleteId, NotificationType.WORKOUT_REMINDER, NotificationPriority.NORMAL,
+                message, OutboxNotification.contentKey(message));
+    }
+
+    /**
+     * Notify an athlete.
+     *
+     * @return false if the same notification was already raised today
+     */
+    public boolean notifyAthlete(String athleteId, NotificationType type, String message) {
+        return enqueue(athleteId, "athlete", athleteId, type, NotificationPriority.NORMAL, message, null);
     }
 
     public void notifyAdmin(String message) {
-        String id = UUID.randomUUID().toString();
-        Notification notification = new Notification(
-            id,
-            "system",
-            "admin",
-            NotificationType.WELCOME_MESSAGE,
-            NotificationPriority.HIGH,
-            message,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            NotificationStatus.DELIVERED,
-            Map.of()
-        );
-        repository.save(notification);
+        enqueue("system", "admin", null, NotificationType.WELCOME_MESSAGE, NotificationPriority.HIGH, message,
+                OutboxNotification.contentKey(message));
     }
 
+    /**
+     * Notify the administrators.
+     *
+     * @return false if the same notification was already raised today
+     */
+    public boolean notifyAdmin(NotificationType type, String message) {
+        return enqueue("system", "admin", null, type, NotificationPriority.HIGH, message, null);
+    }
+
+    /**
+     * Delivered notifications followed by the ones still waiting in the outbox.
+     */
     public List<Notification> getNotifications(String athleteId) {
-        return repository.findByAthleteId(athleteId);
+        List<Notification> notifications = new ArrayList<>(repository.findByAthleteId(athleteId));
+        for (OutboxNotification pending : outbox.findPendingByRecipientId(athleteId)) {
+            notifications.add(pending.toNotification());
+        }
+        return notifications;
+    }
+
+    private boolean enqueue(
+            String recipientId,
+            String recipientType,
+            String athleteId,
+            NotificationType type,
+            NotificationPriority priority,
+            String message,
+            String subject) {
+        OutboxNotification notification = OutboxNotification.create(
+                recipientId, recipientType, athleteId, type, priority, message, subject, LocalDate.now());
+        if (!outbox.enqueue(notification)) {
+            metrics.recordDeduplicated();
+            logger.debug("Dropped duplicate notification {}", notification.dedupKey());
+            return false;
+        }
+        metrics.recordEnqueued();
+        return true;
     }
 }
@@ -0,0 +1,84 @@
+package com.training.coach.athlete.application.service;
+
+import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.Event;
+import com.training.coach.athlete.domain.model.TaperOption;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.wellness.application.service.TrainingLoadCalculator;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service that ranks taper options for an athlete's goal event,
+ * starting from the athlete's current training load.
+ */
+@Service
+public class TaperOptimizationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaperOptimizationService.class);
+
+    static final int DEFAULT_OPTION_COUNT = 5;
+    static final int MAX_OPTION_COUNT = 50;
+
+    // Average training stress per hour of normal training (intensity factor ~0.77)
+    private static final double TSS_PER_HOUR = 60.0;
+    private static final Hours DEFAULT_WEEKLY_HOURS = Hours.of(8.0);
+
+    private final AthleteRepository athleteRepository;
+    private final TrainingLoadCalculator trainingLoadCalculator;
+    private final TaperOptimizer optimizer;
+
+    public TaperOptimizationService(
+            AthleteRepository athleteRepository,
+            TrainingLoadCalculator trainingLoadCalculator,
+            @Qualifier("taperOptimizerPool") ForkJoinPool taperOptimizerPool) {
+        this.athleteRepository = athleteRepository;
+        this.trainingLoadCalculator = trainingLoadCalculator;
+        this.optimizer = new TaperOptimizer(taperOptimizerPool);
+    }
+
+    /**
+     * Rank taper options for an event.
+     *
+     * @param weeklyHours normal training volume; defaults to the athlete's preferred weekly volume
+     * @param limit number of options to return; defaults to {@value #DEFAULT_OPTION_COUNT}
+     */
+    public List<TaperOption> optimizeTaper(Event event, LocalDate today, Hours weeklyHours, Integer limit) {
+        Athlete athlete = athleteRepository.findById(event.athleteId())
+                .orElseThrow(() -> new IllegalArgumentException("Athlete not found"));
+        Hours volume = weeklyHours != null ? weeklyHours : preferredWeeklyHours(athlete);
+        int optionCount = Math.min(MAX_OPTION_COUNT, limit != null ? limit : DEFAULT_OPTION_COUNT);
+        double dailyTss = volume.value() * TSS_PER_HOUR / 7.0;
+
+        TrainingLoadSummary load = trainingLoadCalculator.calculateTrainingLoadSummary(athlete.id(), today);
+        double startCtl = load.ctl();
+        double startAtl = load.atl();
+        if (startCtl == 0.0 && startAtl == 0.0) {
+            // No load history: assume the athlete is settled at their normal volume
+            startCtl = dailyTss;
+            startAtl = dailyTss;
+        }
+
+        long started = System.nanoTime();
+        List<TaperOption> options = optimizer.optimize(today, event.date(), startCtl, startAtl, dailyTss, optionCount);
+        logger.debug(
+                "Ranked taper options for event {} in {} ms",
+                event.id(),
+                (System.nanoTime() - started) / 1_000_000);
+        return options;
+    }
+
+    private Hours preferredWeeklyHours(Athlete athlete) {
+        if (athlete.preferences() != null && athlete.preferences().targetWeeklyVolumeHours() != null) {
+            return athlete.preferences().targetWeeklyVolumeHours();
+        }
+        return DEFAULT_WEEKLY_HOURS;
+    }
+}
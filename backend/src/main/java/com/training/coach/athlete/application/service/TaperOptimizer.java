@@ -0,0 +1,190 @@
+package com.training.coach.athlete.application.service;
+
+import com.training.coach.athlete.domain.model.TaperOption;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Searches taper length, volume reduction and intensity retention for the taper that
+ * maximizes race-day fitness while arriving fresh.
+ *
+ * <p>Each candidate is simulated day by day with the exponentially weighted load model
+ * (CTL over 42 days, ATL over 7 days, TSB = CTL - ATL). Training before the taper is
+ * identical for every candidate, so the pre-taper trajectory is computed once and each
+ * candidate only simulates its own taper days. Candidates are split across a fork-join
+ * pool and every leaf keeps its own top list, which are merged on the way back up.</p>
+ */
+public class TaperOptimizer {
+
+    static final int CTL_DAYS = 42;
+    static final int ATL_DAYS = 7;
+
+    static final int MIN_TAPER_DAYS = 4;
+    static final int MAX_TAPER_DAYS = 21;
+    static final int MIN_VOLUME_REDUCTION = 20;
+    static final int MAX_VOLUME_REDUCTION = 70;
+    static final int MIN_INTENSITY_RETENTION = 50;
+    static final int MAX_INTENSITY_RETENTION = 100;
+    static final int INTENSITY_RETENTION_STEP = 5;
+
+    // Race-day TSB window considered fresh but not detrained
+    static final double TARGET_TSB_MIN = 10.0;
+    static final double TARGET_TSB_MAX = 25.0;
+    private static final double TSB_PENALTY = 2.0;
+
+    // Share of daily load that comes from intensity, and the extra CTL lost per taper day
+    // when that intensity is dropped
+    private static final double INTENSITY_LOAD_SHARE = 0.4;
+    private static final double DETRAINING_RATE = 0.01;
+
+    private static final int LEAF_SIZE = 512;
+
+    private static final int REDUCTION_STEPS = MAX_VOLUME_REDUCTION - MIN_VOLUME_REDUCTION + 1;
+    private static final int RETENTION_STEPS =
+            (MAX_INTENSITY_RETENTION - MIN_INTENSITY_RETENTION) / INTENSITY_RETENTION_STEP + 1;
+
+    private static final Comparator<TaperOption> RANKING = Comparator.comparingDouble(TaperOption::score)
+            .reversed()
+            .thenComparingInt(TaperOption::taperDays)
+            .thenComparingDouble(TaperOption::volumeReductionPercent)
+            .thenComparing(Comparator.comparingDouble(TaperOption::intensityRetentionPercent).reversed());
+
+    private final ForkJoinPool pool;
+
+    public TaperOptimizer(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Find the best tapers for a race.
+     *
+     * @param today date of the known training load
+     * @param raceDate event date; form is projected for the morning of this day
+     * @param startCtl chronic training load on {@code today}
+     * @param startAtl acute training load on {@code today}
+     * @param dailyTss daily training stress of normal (pre-taper) training
+     * @param limit maximum number of options returned
+     * @return best options first
+     */
+    public List<TaperOption> optimize(
+            LocalDate today, LocalDate raceDate, double startCtl, double startAtl, double dailyTss, int limit) {
+        int daysToRace = (int) ChronoUnit.DAYS.between(today, raceDate);
+        if (daysToRace < MIN_TAPER_DAYS) {
+            throw new IllegalArgumentException(
+                    "Event must be at least " + MIN_TAPER_DAYS + " days away to plan a taper");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        // State at the start of each day when training continues unchanged
+        double[] ctlBefore = new double[daysToRace + 1];
+        double[] atlBefore = new double[daysToRace + 1];
+        ctlBefore[0] = startCtl;
+        atlBefore[0] = startAtl;
+        for (int day = 0; day < daysToRace; day++) {
+            ctlBefore[day + 1] = ctlBefore[day] + (dailyTss - ctlBefore[day]) / CTL_DAYS;
+            atlBefore[day + 1] = atlBefore[day] + (dailyTss - atlBefore[day]) / ATL_DAYS;
+        }
+
+        int maxTaperDays = Math.min(MAX_TAPER_DAYS, daysToRace);
+        int candidates = (maxTaperDays - MIN_TAPER_DAYS + 1) * REDUCTION_STEPS * RETENTION_STEPS;
+        SearchContext context = new SearchContext(today, daysToRace, ctlBefore, atlBefore, dailyTss, limit);
+        return pool.invoke(new SearchTask(context, 0, candidates));
+    }
+
+    private record SearchContext(
+            LocalDate today, int daysToRace, double[] ctlBefore, double[] atlBefore, double dailyTss, int limit) {}
+
+    private static final class SearchTask extends RecursiveTask<List<TaperOption>> {
+
+        private final SearchContext context;
+        private final int from;
+        private final int to;
+
+        SearchTask(SearchContext context, int from, int to) {
+            this.context = context;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<TaperOption> compute() {
+            if (to - from <= LEAF_SIZE) {
+                return evaluateRange();
+            }
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(context, from, middle);
+            left.fork();
+            List<TaperOption> right = new SearchTask(context, middle, to).compute();
+            return merge(left.join(), right, context.limit());
+        }
+
+        private List<TaperOption> evaluateRange() {
+            // Min-heap on ranking so the worst kept option is evicted first
+            PriorityQueue<TaperOption> best = new PriorityQueue<>(context.limit() + 1, RANKING.reversed());
+            for (int index = from; index < to; index++) {
+                int retentionIndex = index % RETENTION_STEPS;
+                int reductionIndex = index / RETENTION_STEPS % REDUCTION_STEPS;
+                int taperDays = MIN_TAPER_DAYS + index / (RETENTION_STEPS * REDUCTION_STEPS);
+                best.add(simulate(
+                        taperDays,
+                        MIN_VOLUME_REDUCTION + reductionIndex,
+                        MIN_INTENSITY_RETENTION + retentionIndex * INTENSITY_RETENTION_STEP));
+                if (best.size() > context.limit()) {
+                    best.poll();
+                }
+            }
+            List<TaperOption> result = new ArrayList<>(best);
+            result.sort(RANKING);
+            return result;
+        }
+
+        private TaperOption simulate(int taperDays, int volumeReduction, int intensityRetention) {
+            int taperStart = context.daysToRace() - taperDays;
+            double ctl = context.ctlBefore()[taperStart];
+            double atl = context.atlBefore()[taperStart];
+            double reduction = volumeReduction / 100.0;
+            double retention = intensityRetention / 100.0;
+            double intensityFactor = 1.0 - INTENSITY_LOAD_SHARE * (1.0 - retention);
+            double detraining = DETRAINING_RATE * (1.0 - retention);
+
+            for (int day = 0; day < taperDays; day++) {
+                // Volume steps down linearly to the full reduction on the last taper day
+                double volumeFactor = 1.0 - reduction * (day + 1) / taperDays;
+                double tss = context.dailyTss() * volumeFactor * intensityFactor;
+                ctl += (tss - ctl) / CTL_DAYS;
+                ctl -= ctl * detraining;
+                atl += (tss - atl) / ATL_DAYS;
+            }
+
+            double tsb = ctl - atl;
+            double score = ctl
+                    - TSB_PENALTY * Math.max(0.0, TARGET_TSB_MIN - tsb)
+                    - TSB_PENALTY * Math.max(0.0, tsb - TARGET_TSB_MAX);
+            return new TaperOption(
+                    taperDays,
+                    volumeReduction,
+                    intensityRetention,
+                    context.today().plusDays(taperStart),
+                    ctl,
+                    atl,
+                    tsb,
+                    score);
+        }
+    }
+
+    private static List<TaperOption> merge(List<TaperOption> left, List<TaperOption> right, int limit) {
+        List<TaperOption> merged = new ArrayList<>(left.size() + right.size());
+        merged.addAll(left);
+        merged.addAll(right);
+        merged.sort(RANKING);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+}
@@ -1,12 +1,14 @@
 package com.training.coach.athlete.application.service;
 
+import com.training.coach.athlete.domain.model.AthleteCalendar;
+import com.training.coach.athlete.domain.model.CalendarEntry;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,30 +17,33 @@ import org.springframework.stereotype.Service;
 @Service
 public class TravelAvailabilityService {
 
-    private final Map<String, Set<TravelException>> travelExceptions = new HashMap<>();
+    // Exceptions and their calendar are replaced together so date checks stay logarithmic
+    private final Map<String, AthleteExceptions> travelExceptions = new ConcurrentHashMap<>();
 
     /**
      * Add a travel exception for an athlete.
      */
     public void addTravelException(String athleteId, LocalDate startDate, LocalDate endDate) {
-        travelExceptions.computeIfAbsent(athleteId, k -> new HashSet<>())
-            .add(new TravelException(startDate, endDate));
+        travelExceptions.compute(athleteId, (id, existing) -> {
+            Set<TravelException> updated = existing != null ? new HashSet<>(existing.exceptions()) : new HashSet<>();
+            updated.add(new TravelException(startDate, endDate));
+            return AthleteExceptions.of(updated);
+        });
     }
 
     /**
      * Get all travel exceptions for an athlete.
      */
     public List<TravelException> getTravelExceptions(String athleteId) {
-        return new ArrayList<>(travelExceptions.getOrDefault(athleteId, Set.of()));
+        AthleteExceptions exceptions = travelExceptions.get(athleteId);
+        return exceptions != null ? new ArrayList<>(exceptions.exceptions()) : new ArrayList<>();
     }
 
     /**
      * Check if a date falls within any travel exception.
      */
     public boolean isTravelException(String athleteId, LocalDate date) {
-        return travelExceptions.getOrDefault(athleteId, Set.of())
-            .stream()
-            .anyMatch(e -> !date.isBefore(e.startDate()) && !date.isAfter(e.endDate()));
+        return calendar(athleteId).isBlocked(date);
     }
 
     /**
@@ -46,15 +51,7 @@ public class TravelAvailabilityService {
      * Returns list of dates that have planned workouts during travel.
      */
     public List<LocalDate> findConflictingWorkouts(String athleteId, LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> conflicts = new ArrayList<>();
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            if (isTravelException(athleteId, current)) {
-                conflicts.add(current);
-            }
-            current = current.plusDays(1);
-        }
-        return conflicts;
+        return calendar(athleteId).blockedDates(startDate, endDate);
     }
 
     /**
@@ -66,14 +63,16 @@ public class TravelAvailabilityService {
         LocalDate weekStart = travelStart.minusDays(travelStart.getDayOfWeek().getValue() - 1);
         LocalDate weekEnd = weekStart.plusDays(6);
 
-        List<LocalDate> conflictingDates = findConflictingWorkouts(athleteId, travelStart, travelEnd);
+        AthleteCalendar calendar = calendar(athleteId);
+        List<LocalDate> conflictingDates = calendar.blockedDates(travelStart, travelEnd);
+        Set<LocalDate> conflicting = new HashSet<>(conflictingDates);
         List<LocalDate> availableDates = new ArrayList<>();
         List<LocalDate> rescheduledDates = new ArrayList<>();
 
         // Find available dates in the same week (excluding travel dates)
         LocalDate current = weekStart;
         while (!current.isAfter(weekEnd)) {
-            if (!isTravelException(athleteId, current) && !conflictingDates.contains(current)) {
+            if (!calendar.isBlocked(current) && !conflicting.contains(current)) {
                 // This is an available date for rescheduling
                 availableDates.add(current);
             }
@@ -89,6 +88,21 @@ public class TravelAvailabilityService {
         return new RescheduleResult(conflictingDates.size(), rescheduledDates.size(), true, rescheduledDates, true);
     }
 
+    private AthleteCalendar calendar(String athleteId) {
+        AthleteExceptions exceptions = travelExceptions.get(athleteId);
+        return exceptions != null ? exceptions.calendar() : AthleteCalendar.empty();
+    }
+
+    private record AthleteExceptions(Set<TravelException> exceptions, AthleteCalendar calendar) {
+
+        static AthleteExceptions of(Set<TravelException> exceptions) {
+            return new AthleteExceptions(Set.copyOf(exceptions), AthleteCalendar.of(exceptions.stream()
+                .map(exception -> new CalendarEntry(
+                    exception.startDate(), exception.endDate(), CalendarEntry.EntryKind.TRAVEL, null))
+                .toList()));
+        }
+    }
+
     public record TravelException(LocalDate startDate, LocalDate endDate) {}
 
     public record RescheduleResult(
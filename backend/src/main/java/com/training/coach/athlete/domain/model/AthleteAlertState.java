@@ -0,0 +1,128 @@
+package com.training.coach.athlete.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-athlete state of the alert rules, updated one event at a time.
+ *
+ * <p>Tracks whether each of the last {@link #FATIGUE_STREAK_DAYS} reported days had low readiness, and the key
+ * sessions due and missed in the current ISO week together with the days a workout was completed. Every update
+ * touches a bounded amount of state and reports whether it made an alert condition true. Not thread-safe; callers
+ * serialize updates per athlete.</p>
+ */
+public final class AthleteAlertState {
+
+    public static final double LOW_READINESS_THRESHOLD = 40.0;
+    public static final int FATIGUE_STREAK_DAYS = 3;
+
+    private final String athleteId;
+    private final TreeMap<LocalDate, Boolean> recentLowReadiness = new TreeMap<>();
+    private boolean fatigueAlerted;
+    private LocalDate weekStart;
+    private final Set<LocalDate> completedDays = new HashSet<>();
+    private int keySessionsDue;
+    private int keySessionsMissed;
+
+    public AthleteAlertState(String athleteId) {
+        this.athleteId = athleteId;
+    }
+
+    public String athleteId() {
+        return athleteId;
+    }
+
+    /**
+     * Record the readiness reported for a day. Days older than the streak window are ignored and a day reported
+     * again replaces its earlier score.
+     *
+     * @return {@code true} when this report completes a low-readiness streak that has not been alerted yet
+     */
+    public boolean recordReadiness(LocalDate date, double readinessScore) {
+        if (!recentLowReadiness.isEmpty()
+                && date.isBefore(recentLowReadiness.lastKey().minusDays(FATIGUE_STREAK_DAYS - 1))) {
+            return false;
+        }
+        recentLowReadiness.put(date, readinessScore < LOW_READINESS_THRESHOLD);
+        LocalDate latest = recentLowReadiness.lastKey();
+        recentLowReadiness.headMap(latest.minusDays(FATIGUE_STREAK_DAYS - 1)).clear();
+
+        int streak = 0;
+        for (LocalDate day = latest; Boolean.TRUE.equals(recentLowReadiness.get(day)); day = day.minusDays(1)) {
+            streak++;
+        }
+        if (streak < FATIGUE_STREAK_DAYS) {
+            fatigueAlerted = false;
+            return false;
+        }
+        // Alert once per unbroken streak, however long it lasts
+        boolean alert = !fatigueAlerted;
+        fatigueAlerted = true;
+        return alert;
+    }
+
+    /**
+     * Record a completed workout.
+     */
+    public void recordCompletion(LocalDate date) {
+        rollWeek(date);
+        if (!date.isBefore(weekStart)) {
+            completedDays.add(date);
+        }
+    }
+
+    /**
+     * Record that the day of a key session has ended.
+     *
+     * @return {@code true} when no workout was completed that day, so the session was missed
+     */
+    public boolean recordKeySessionDue(LocalDate date) {
+        rollWeek(date);
+        if (date.isBefore(weekStart)) {
+            return false;
+        }
+        keySessionsDue++;
+        if (completedDays.contains(date)) {
+            return false;
+        }
+        keySessionsMissed++;
+        return true;
+    }
+
+    /**
+     * Forget the completions and key sessions recorded for the week of {@code date}, so they can be counted again
+     * from stored data.
+     */
+    public void resetWeek(LocalDate date) {
+        weekStart = weekStartOf(date);
+        completedDays.clear();
+        keySessionsDue = 0;
+        keySessionsMissed = 0;
+    }
+
+    public int keySessionsDue() {
+        return keySessionsDue;
+    }
+
+    public int keySessionsMissed() {
+        return keySessionsMissed;
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private void rollWeek(LocalDate date) {
+        LocalDate start = weekStartOf(date);
+        if (weekStart == null || start.isAfter(weekStart)) {
+            weekStart = start;
+            completedDays.clear();
+            keySessionsDue = 0;
+            keySessionsMissed = 0;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.training.coach.athlete.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable index over an athlete's travel exceptions, taper periods, events and planned workouts.
+ *
+ * <p>Entries are kept in a static interval tree: sorted by start date, with the tree laid out
+ * implicitly over the sorted array and each node storing the latest end date in its subtree.
+ * Overlap queries visit only subtrees that can intersect the range, O(log n + k).</p>
+ *
+ * <p>For availability questions the blocking entries are also merged into disjoint ranges, so
+ * "is this date blocked" is a binary search and "next free date" jumps over whole ranges.</p>
+ */
+public final class AthleteCalendar {
+
+    private static final Set<CalendarEntry.EntryKind> BLOCKING =
+            EnumSet.of(CalendarEntry.EntryKind.TRAVEL, CalendarEntry.EntryKind.EVENT);
+    private static final Set<CalendarEntry.EntryKind> OCCUPYING = EnumSet.of(
+            CalendarEntry.EntryKind.TRAVEL, CalendarEntry.EntryKind.EVENT, CalendarEntry.EntryKind.WORKOUT);
+
+    private final CalendarEntry[] entries;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Ranges blocked;
+    private final Ranges occupied;
+
+    private AthleteCalendar(List<CalendarEntry> entries) {
+        this.entries = entries.stream()
+                .sorted(Comparator.comparing(CalendarEntry::startDate).thenComparing(CalendarEntry::endDate))
+                .toArray(CalendarEntry[]::new);
+        int size = this.entries.length;
+        this.starts = new long[size];
+        this.ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = this.entries[i].startDate().toEpochDay();
+            ends[i] = this.entries[i].endDate().toEpochDay();
+        }
+        this.maxEnds = new long[size];
+        buildMaxEnds(0, size);
+        this.blocked = Ranges.merge(this.entries, BLOCKING);
+        this.occupied = Ranges.merge(this.entries, OCCUPYING);
+    }
+
+    public static AthleteCalendar of(List<CalendarEntry> entries) {
+        return new AthleteCalendar(entries);
+    }
+
+    public static AthleteCalendar empty() {
+        return new AthleteCalendar(List.of());
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * All entries overlapping the inclusive range, ordered by start date.
+     */
+    public List<CalendarEntry> overlapping(LocalDate start, LocalDate end) {
+        List<CalendarEntry> result = new ArrayList<>();
+        collect(0, entries.length, start.toEpochDay(), end.toEpochDay(), result);
+        return result;
+    }
+
+    /**
+     * Entries of the given kind overlapping the inclusive range.
+     */
+    public List<CalendarEntry> overlapping(LocalDate start, LocalDate end, CalendarEntry.EntryKind kind) {
+        return overlapping(start, end).stream().filter(entry -> entry.kind() == kind).toList();
+    }
+
+    /**
+     * Check whether travel or an event rules out training on a date.
+     */
+    public boolean isBlocked(LocalDate date) {
+        return blocked.contains(date.toEpochDay());
+    }
+
+    /**
+     * Dates in the inclusive range on which training is blocked, in order.
+     */
+    public List<LocalDate> blockedDates(LocalDate start, LocalDate end) {
+        return blocked.datesWithin(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * First date in {@code [from, until]} on an available weekday that is neither blocked
+     * nor already holding a workout or one of the {@code taken} dates.
+     */
+    public Optional<LocalDate> nextFreeDate(
+            LocalDate from, LocalDate until, Set<DayOfWeek> availableDays, Set<LocalDate> taken) {
+        if (availableDays.isEmpty()) {
+            return Optional.empty();
+        }
+        long day = from.toEpochDay();
+        long last = until.toEpochDay();
+        while (day <= last) {
+            long coveredUntil = occupied.endOfRangeContaining(day);
+            if (coveredUntil >= day) {
+                day = coveredUntil + 1;
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(day);
+            if (availableDays.contains(date.getDayOfWeek()) && !taken.contains(date)) {
+                return Optional.of(date);
+            }
+            day++;
+        }
+        return Optional.empty();
+    }
+
+    private long buildMaxEnds(int from, int to) {
+        if (from >= to) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (from + to) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnds(from, mid), buildMaxEnds(mid + 1, to)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int from, int to, long queryStart, long queryEnd, List<CalendarEntry> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxEnds[mid] < queryStart) {
+            // Nothing in this subtree ends late enough to overlap
+            return;
+        }
+        collect(from, mid, queryStart, queryEnd, result);
+        if (starts[mid] > queryEnd) {
+            // This entry and everything to its right start after the range
+            return;
+        }
+        if (ends[mid] >= queryStart) {
+            result.add(entries[mid]);
+        }
+        collect(mid + 1, to, queryStart, queryEnd, result);
+    }
+
+    /**
+     * Disjoint, sorted day ranges covered by entries of some kinds.
+     */
+    private record Ranges(long[] starts, long[] ends) {
+
+        static Ranges merge(CalendarEntry[] sortedEntries, Set<CalendarEntry.EntryKind> kinds) {
+            long[] mergedStarts = new long[sortedEntries.length];
+            long[] mergedEnds = new long[sortedEntries.length];
+            int count = 0;
+            for (CalendarEntry entry : sortedEntries) {
+                if (!kinds.contains(entry.kind())) {
+                    continue;
+                }
+                long start = entry.startDate().toEpochDay();
+                long end = entry.endDate().toEpochDay();
+                if (count > 0 && start <= mergedEnds[count - 1] + 1) {
+                    mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], end);
+                } else {
+                    mergedStarts[count] = start;
+                    mergedEnds[count] = end;
+                    count++;
+                }
+            }
+            return new Ranges(Arrays.copyOf(mergedStarts, count), Arrays.copyOf(mergedEnds, count));
+        }
+
+        boolean contains(long day) {
+            return endOfRangeContaining(day) >= day;
+        }
+
+        /**
+         * End of the range containing {@code day}, or a value before {@code day} if none does.
+         */
+        long endOfRangeContaining(long day) {
+            int index = lastStartingAtOrBefore(day);
+            return index >= 0 && ends[index] >= day ? ends[index] : Long.MIN_VALUE;
+        }
+
+        List<LocalDate> datesWithin(long from, long to) {
+            List<LocalDate> dates = new ArrayList<>();
+            int index = Math.max(0, lastStartingAtOrBefore(from));
+            for (; index < starts.length && starts[index] <= to; index++) {
+                for (long day = Math.max(from, starts[index]); day <= Math.min(to, ends[index]); day++) {
+                    dates.add(LocalDate.ofEpochDay(day));
+                }
+            }
+            return dates;
+        }
+
+        private int lastStartingAtOrBefore(long day) {
+            int index = Arrays.binarySearch(starts, day);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
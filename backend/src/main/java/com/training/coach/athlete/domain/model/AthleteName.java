@@ -0,0 +1,6 @@
+package com.training.coach.athlete.domain.model;
+
+/**
+ * An athlete's id and display name, for listings that need nothing else of the athlete.
+ */
+public record AthleteName(String id, String name) {}
@@ -0,0 +1,55 @@
+package com.training.coach.athlete.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * A dated range on an athlete's calendar. Single-day entries have equal start and end dates.
+ */
+public record CalendarEntry(
+        LocalDate startDate,
+        LocalDate endDate,
+        EntryKind kind,
+        String sourceId
+) {
+    public CalendarEntry {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Calendar entry dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+        if (kind == null) {
+            throw new IllegalArgumentException("Calendar entry kind cannot be null");
+        }
+    }
+
+    public static CalendarEntry travel(TravelException exception) {
+        return new CalendarEntry(exception.startDate(), exception.endDate(), EntryKind.TRAVEL, exception.id());
+    }
+
+    public static CalendarEntry taper(TaperPeriod taper) {
+        return new CalendarEntry(taper.startDate(), taper.endDate(), EntryKind.TAPER, taper.eventId());
+    }
+
+    public static CalendarEntry event(Event event) {
+        return new CalendarEntry(event.date(), event.date(), EntryKind.EVENT, event.id());
+    }
+
+    public static CalendarEntry workout(Workout workout) {
+        return new CalendarEntry(workout.date(), workout.date(), EntryKind.WORKOUT, workout.id());
+    }
+
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return !startDate.isAfter(end) && !endDate.isBefore(start);
+    }
+
+    /**
+     * Kinds of calendar entries.
+     */
+    public enum EntryKind {
+        TRAVEL,   // Travel or other availability exception; no training possible
+        TAPER,    // Taper window before an event; training allowed at reduced volume
+        EVENT,    // Goal event day
+        WORKOUT   // Planned workout
+    }
+}
@@ -0,0 +1,149 @@
+package com.training.coach.athlete.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A notification waiting in the outbox for delivery, with its delivery attempts.
+ *
+ * <p>The de-duplication key names the recipient, the athlete the notification is about, its type, an optional
+ * subject and the day it was raised, so the same alert is only delivered once per day however many times it is
+ * triggered. Without a subject every notification of a type counts as the same alert; notifications that are not
+ * alerts use a {@link #contentKey} of their message as subject, so only repeats of the same text are dropped.</p>
+ */
+public record OutboxNotification(
+        String id,
+        String dedupKey,
+        String recipientId,
+        String recipientType,
+        String athleteId,
+        NotificationType type,
+        NotificationPriority priority,
+        String message,
+        DeliveryStatus status,
+        int attempts,
+        String lastError,
+        Instant createdAt,
+        Instant nextAttemptAt,
+        Instant deliveredAt
+) {
+    public OutboxNotification {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Notification ID cannot be null or blank");
+        }
+        if (recipientId == null || recipientId.isBlank()) {
+            throw new IllegalArgumentException("Recipient ID cannot be null or blank");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Notification type cannot be null");
+        }
+        if (priority == null) priority = NotificationPriority.NORMAL;
+        if (status == null) status = DeliveryStatus.PENDING;
+        if (createdAt == null) createdAt = Instant.now();
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+    }
+
+    public static OutboxNotification create(
+            String recipientId,
+            String recipientType,
+            String athleteId,
+            NotificationType type,
+            NotificationPriority priority,
+            String message,
+            String subject,
+            LocalDate day) {
+        return new OutboxNotification(
+                UUID.randomUUID().toString(),
+                dedupKey(recipientType, recipientId, athleteId, type, subject, day),
+                recipientId,
+                recipientType,
+                athleteId,
+                type,
+                priority,
+                message,
+                DeliveryStatus.PENDING,
+                0,
+                null,
+                Instant.now(),
+                null,
+                null
+        );
+    }
+
+    public static String dedupKey(
+            String recipientType,
+            String recipientId,
+            String athleteId,
+            NotificationType type,
+            String subject,
+            LocalDate day) {
+        return recipientType + ":" + recipientId + ":" + (athleteId == null ? "-" : athleteId) + ":" + type
+                + (subject == null ? "" : ":" + subject) + ":" + day;
+    }
+
+    /**
+     * Short digest of a message, used as the subject of notifications de-duplicated by their text.
+     */
+    public static String contentKey(String message) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(message).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public OutboxNotification delivered(Instant at) {
+        return new OutboxNotification(id, dedupKey, recipientId, recipientType, athleteId, type, priority, message,
+                DeliveryStatus.DELIVERED, attempts + 1, lastError, createdAt, nextAttemptAt, at);
+    }
+
+    /**
+     * Record a failed attempt, to be retried at {@code nextAttempt}.
+     */
+    public OutboxNotification retryAt(Instant nextAttempt, String error) {
+        return new OutboxNotification(id, dedupKey, recipientId, recipientType, athleteId, type, priority, message,
+                DeliveryStatus.PENDING, attempts + 1, error, createdAt, nextAttempt, null);
+    }
+
+    /**
+     * Record a failed last attempt; the notification is not retried again.
+     */
+    public OutboxNotification failed(String error) {
+        return new OutboxNotification(id, dedupKey, recipientId, recipientType, athleteId, type, priority, message,
+                DeliveryStatus.FAILED, attempts + 1, error, createdAt, nextAttemptAt, null);
+    }
+
+    /**
+     * The notification as shown in the recipient's feed.
+     */
+    public Notification toNotification() {
+        return new Notification(
+                id,
+                recipientId,
+                recipientType,
+                type,
+                priority,
+                message,
+                LocalDateTime.ofInstant(createdAt, ZoneId.systemDefault()),
+                deliveredAt == null ? null : LocalDateTime.ofInstant(deliveredAt, ZoneId.systemDefault()),
+                status == DeliveryStatus.DELIVERED ? NotificationStatus.DELIVERED : NotificationStatus.PENDING,
+                athleteId == null ? Map.of() : Map.of("athleteId", athleteId)
+        );
+    }
+
+    public enum DeliveryStatus {
+        PENDING,
+        DELIVERED,
+        FAILED
+    }
+}
@@ -0,0 +1,34 @@
+package com.training.coach.athlete.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * A candidate taper for a goal event together with its projected race-day form.
+ *
+ * @param taperDays number of days the taper lasts, ending the day before the event
+ * @param volumeReductionPercent volume reduction reached on the final taper day
+ * @param intensityRetentionPercent share of high-intensity work kept during the taper
+ * @param score ranking score; higher is better
+ */
+public record TaperOption(
+        int taperDays,
+        double volumeReductionPercent,
+        double intensityRetentionPercent,
+        LocalDate taperStartDate,
+        double raceDayCtl,
+        double raceDayAtl,
+        double raceDayTsb,
+        double score
+) {
+    public TaperOption {
+        if (taperDays <= 0) {
+            throw new IllegalArgumentException("Taper duration must be positive");
+        }
+        if (volumeReductionPercent < 0 || volumeReductionPercent > 100) {
+            throw new IllegalArgumentException("Volume reduction must be between 0 and 100");
+        }
+        if (intensityRetentionPercent < 0 || intensityRetentionPercent > 100) {
+            throw new IllegalArgumentException("Intensity retention must be between 0 and 100");
+        }
+    }
+}
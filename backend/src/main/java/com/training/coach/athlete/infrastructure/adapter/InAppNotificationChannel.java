@@ -0,0 +1,34 @@
+package com.training.coach.athlete.infrastructure.adapter;
+
+import com.training.coach.athlete.application.port.out.NotificationChannel;
+import com.training.coach.athlete.application.port.out.NotificationRepository;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers notifications to the recipient's in-app feed.
+ */
+@Component
+public class InAppNotificationChannel implements NotificationChannel {
+
+    private final NotificationRepository notificationRepository;
+
+    public InAppNotificationChannel(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    @Override
+    public String name() {
+        return "in-app";
+    }
+
+    @Override
+    public void deliver(List<OutboxNotification> notifications) {
+        Instant now = Instant.now();
+        for (OutboxNotification notification : notifications) {
+            notificationRepository.save(notification.delivered(now).toNotification());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.training.coach.athlete.infrastructure.adapter;
+
+import com.training.coach.athlete.application.port.out.NotificationChannel;
+import com.training.coach.athlete.application.service.NotificationOutboxProperties;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local delivery channel for development and tests.
+ * Appends one tab-separated line per notification to {@code training.notifications.log-file}, or logs it when no
+ * file is configured.
+ */
+@Component
+public class LogNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogNotificationChannel.class);
+
+    private final Path logFile;
+
+    public LogNotificationChannel(NotificationOutboxProperties properties) {
+        this.logFile = properties.logFile() == null || properties.logFile().isBlank()
+                ? null
+                : Path.of(properties.logFile());
+    }
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<OutboxNotification> notifications) {
+        if (logFile == null) {
+            notifications.forEach(notification -> logger.info("Notification {}", line(notification)));
+            return;
+        }
+        try {
+            if (logFile.getParent() != null) {
+                Files.createDirectories(logFile.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxNotification notification : notifications) {
+                    writer.write(line(notification));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write notifications to " + logFile, e);
+        }
+    }
+
+    private static String line(OutboxNotification notification) {
+        return String.join("\t",
+                notification.createdAt().toString(),
+                notification.recipientType() + ":" + notification.recipientId(),
+                notification.type().name(),
+                notification.dedupKey(),
+                String.valueOf(notification.message()).replace('\n', ' ').replace('\t', ' '));
+    }
+}
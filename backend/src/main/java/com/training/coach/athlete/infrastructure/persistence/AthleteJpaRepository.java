@@ -1,9 +1,23 @@
 package com.training.coach.athlete.infrastructure.persistence;
 
+import com.training.coach.athlete.domain.model.AthleteName;
 import com.training.coach.athlete.infrastructure.persistence.entity.AthleteEntity;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Spring Data JPA repository for AthleteEntity.
  */
-public interface AthleteJpaRepository extends JpaRepository<AthleteEntity, String> {}
+public interface AthleteJpaRepository extends JpaRepository<AthleteEntity, String> {
+
+    @Query("SELECT new com.training.coach.athlete.domain.model.AthleteName(a.id, a.name) "
+            + "FROM AthleteEntity a ORDER BY a.id ASC")
+    List<AthleteName> findAllNames();
+
+    @Modifying
+    @Query("DELETE FROM AthleteEntity a WHERE a.id = :athleteId")
+    int bulkDeleteById(@Param("athleteId") String athleteId);
+}
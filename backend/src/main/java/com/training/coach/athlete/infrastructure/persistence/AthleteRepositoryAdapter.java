@@ -1,11 +1,15 @@
 package com.training.coach.athlete.infrastructure.persistence;
 
+import com.training.coach.athlete.application.port.out.AthleteDirectory;
 import com.training.coach.athlete.application.port.out.AthleteRepository;
 import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteName;
 import com.training.coach.athlete.domain.model.AthleteProfile;
 import com.training.coach.athlete.domain.model.TrainingMetrics;
 import com.training.coach.athlete.domain.model.TrainingPreferences;
 import com.training.coach.athlete.infrastructure.persistence.entity.AthleteEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,11 +17,11 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
- * JPA adapter for AthleteRepository.
+ * JPA adapter for AthleteRepository and AthleteDirectory. Directory reads select only what they return.
  */
 @Component
 @Profile("!test")
-public class AthleteRepositoryAdapter implements AthleteRepository {
+public class AthleteRepositoryAdapter implements AthleteRepository, AthleteDirectory {
 
     private final AthleteJpaRepository jpaRepository;
 
@@ -47,6 +51,16 @@ public class AthleteRepositoryAdapter implements AthleteRepository {
         return jpaRepository.findAll().stream().map(this::toDomain).collect(java.util.stream.Collectors.toList());
     }
 
+    @Override
+    public List<AthleteName> findAllNames() {
+        return jpaRepository.findAllNames();
+    }
+
+    @Override
+    public List<Athlete> findAllById(Collection<String> athleteIds) {
+        return jpaRepository.findAllById(athleteIds).stream().map(this::toDomain).toList();
+    }
+
     @Override
     public void deleteAllAthleteData(String athleteId) {
         // First delete the athlete
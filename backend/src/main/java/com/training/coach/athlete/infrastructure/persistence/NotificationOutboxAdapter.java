@@ -0,0 +1,135 @@
+package com.training.coach.athlete.infrastructure.persistence;
+
+import com.training.coach.athlete.application.port.out.NotificationOutbox;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import com.training.coach.athlete.infrastructure.persistence.entity.NotificationOutboxEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adapter for the notification outbox table.
+ *
+ * <p>Enqueueing inserts in its own transaction. Two writers racing on the same de-duplication key then only fail
+ * that insert, which counts as already enqueued, instead of marking the caller's transaction rollback-only.</p>
+ */
+@Repository
+@Profile("!test")
+public class NotificationOutboxAdapter implements NotificationOutbox {
+
+    private final NotificationOutboxJpaRepository outboxRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationOutboxAdapter(
+            NotificationOutboxJpaRepository outboxRepo, PlatformTransactionManager transactionManager) {
+        this.outboxRepo = outboxRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean enqueue(OutboxNotification notification) {
+        if (outboxRepo.existsByDedupKey(notification.dedupKey())) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepo.saveAndFlush(toEntity(notification)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another writer enqueued the same key since the check
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxNotification> findDue(Instant now, int limit) {
+        return outboxRepo.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        OutboxNotification.DeliveryStatus.PENDING, now, Limit.of(limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxNotification> findPendingByRecipientId(String recipientId) {
+        return outboxRepo.findByRecipientIdAndStatusOrderByCreatedAtAsc(
+                        recipientId, OutboxNotification.DeliveryStatus.PENDING)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markDelivered(Collection<String> ids, Instant deliveredAt) {
+        outboxRepo.updateDelivered(ids, OutboxNotification.DeliveryStatus.DELIVERED, deliveredAt);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<OutboxNotification> notifications) {
+        outboxRepo.saveAll(notifications.stream().map(this::toEntity).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByStatus(OutboxNotification.DeliveryStatus status) {
+        return outboxRepo.countByStatus(status);
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(Instant cutoff) {
+        return outboxRepo.deleteByStatusInAndCreatedAtBefore(
+                EnumSet.of(OutboxNotification.DeliveryStatus.DELIVERED, OutboxNotification.DeliveryStatus.FAILED),
+                cutoff);
+    }
+
+    private NotificationOutboxEntity toEntity(OutboxNotification notification) {
+        NotificationOutboxEntity entity = new NotificationOutboxEntity();
+        entity.setId(notification.id());
+        entity.setDedupKey(notification.dedupKey());
+        entity.setRecipientId(notification.recipientId());
+        entity.setRecipientType(notification.recipientType());
+        entity.setAthleteId(notification.athleteId());
+        entity.setType(notification.type());
+        entity.setPriority(notification.priority());
+        entity.setMessage(notification.message());
+        entity.setStatus(notification.status());
+        entity.setAttempts(notification.attempts());
+        entity.setLastError(notification.lastError());
+        entity.setCreatedAt(notification.createdAt());
+        entity.setNextAttemptAt(notification.nextAttemptAt());
+        entity.setDeliveredAt(notification.deliveredAt());
+        return entity;
+    }
+
+    private OutboxNotification toDomain(NotificationOutboxEntity entity) {
+        return new OutboxNotification(
+                entity.getId(),
+                entity.getDedupKey(),
+                entity.getRecipientId(),
+                entity.getRecipientType(),
+                entity.getAthleteId(),
+                entity.getType(),
+                entity.getPriority(),
+                entity.getMessage(),
+                entity.getStatus(),
+                entity.getAttempts(),
+                entity.getLastError(),
+                entity.getCreatedAt(),
+                entity.getNextAttemptAt(),
+                entity.getDeliveredAt());
+    }
+}
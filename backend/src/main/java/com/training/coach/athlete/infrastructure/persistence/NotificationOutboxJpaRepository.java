@@ -0,0 +1,49 @@
+package com.training.coach.athlete.infrastructure.persistence;
+
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import com.training.coach.athlete.infrastructure.persistence.entity.NotificationOutboxEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutboxEntity, String> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    List<NotificationOutboxEntity> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            OutboxNotification.DeliveryStatus status, Instant now, Limit limit);
+
+    List<NotificationOutboxEntity> findByRecipientIdAndStatusOrderByCreatedAtAsc(
+            String recipientId, OutboxNotification.DeliveryStatus status);
+
+    long countByStatus(OutboxNotification.DeliveryStatus status);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxEntity n SET n.status = :status, n.attempts = n.attempts + 1, "
+            + "n.deliveredAt = :deliveredAt WHERE n.id IN :ids")
+    int updateDelivered(
+            @Param("ids") Collection<String> ids,
+            @Param("status") OutboxNotification.DeliveryStatus status,
+            @Param("deliveredAt") Instant deliveredAt);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity n WHERE n.status IN :statuses AND n.createdAt < :cutoff")
+    int deleteByStatusInAndCreatedAtBefore(
+            @Param("statuses") Collection<OutboxNotification.DeliveryStatus> statuses,
+            @Param("cutoff") Instant cutoff);
+
+    @Query("SELECT COUNT(n) FROM NotificationOutboxEntity n "
+            + "WHERE n.athleteId = :athleteId OR n.recipientId = :athleteId")
+    long countByAthleteId(@Param("athleteId") String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity n WHERE n.athleteId = :athleteId OR n.recipientId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
+}
@@ -1,8 +1,10 @@
 package com.training.coach.athlete.presentation;
 
+import com.training.coach.athlete.application.service.AthleteCalendarService;
 import com.training.coach.athlete.application.service.AvailabilityService;
 import com.training.coach.athlete.application.service.TravelAvailabilityService;
 import com.training.coach.athlete.domain.model.AvailabilityTemplate;
+import com.training.coach.athlete.domain.model.CalendarEntry;
 import com.training.coach.athlete.domain.model.TravelException;
 import com.training.coach.shared.domain.unit.Hours;
 import org.springframework.http.ResponseEntity;
@@ -21,9 +23,11 @@ import java.util.Set;
 public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
+    private final AthleteCalendarService calendarService;
 
-    public AvailabilityController(AvailabilityService availabilityService) {
+    public AvailabilityController(AvailabilityService availabilityService, AthleteCalendarService calendarService) {
         this.availabilityService = availabilityService;
+        this.calendarService = calendarService;
     }
 
     /**
@@ -126,6 +130,43 @@ public class AvailabilityController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Move every upcoming workout of a plan off blocked days in one pass.
+     */
+    @PostMapping("/reschedule/plan/{planId}")
+    public ResponseEntity<AthleteCalendarService.PlanRescheduleResult> reschedulePlan(@PathVariable String planId) {
+        try {
+            return ResponseEntity.ok(calendarService.reschedulePlan(planId, LocalDate.now()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get travel, taper, event and workout entries overlapping a date range.
+     */
+    @GetMapping("/calendar/{athleteId}")
+    public ResponseEntity<List<CalendarEntry>> getCalendar(
+            @PathVariable String athleteId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+    ) {
+        return ResponseEntity.ok(calendarService.findOverlapping(athleteId, startDate, endDate));
+    }
+
+    /**
+     * Find the next date with no travel, event or planned workout.
+     */
+    @GetMapping("/next-free/{athleteId}")
+    public ResponseEntity<LocalDate> findNextFreeDate(
+            @PathVariable String athleteId,
+            @RequestParam LocalDate from
+    ) {
+        return calendarService.findNextFreeDate(athleteId, from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
     /**
      * Resolve a travel exception.
      */
@@ -1,8 +1,11 @@
 package com.training.coach.athlete.presentation;
 
 import com.training.coach.athlete.application.service.EventService;
+import com.training.coach.athlete.application.service.TaperOptimizationService;
 import com.training.coach.athlete.domain.model.Event;
+import com.training.coach.athlete.domain.model.TaperOption;
 import com.training.coach.athlete.domain.model.TaperPeriod;
+import com.training.coach.shared.domain.unit.Hours;
 import com.training.coach.shared.functional.Result;
 import java.time.LocalDate;
 import java.util.List;
@@ -17,9 +20,11 @@ import org.springframework.web.bind.annotation.*;
 public class EventController {
 
     private final EventService eventService;
+    private final TaperOptimizationService taperOptimizationService;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, TaperOptimizationService taperOptimizationService) {
         this.eventService = eventService;
+        this.taperOptimizationService = taperOptimizationService;
     }
 
     /**
@@ -86,6 +91,28 @@ public class EventController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Rank taper options for an event by projected race-day form.
+     */
+    @GetMapping("/{eventId}/taper/options")
+    public ResponseEntity<List<TaperOption>> optimizeTaper(
+            @PathVariable String eventId,
+            @RequestParam(required = false) Double weeklyHours,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return eventService.getEvent(eventId)
+            .map(event -> {
+                try {
+                    List<TaperOption> options = taperOptimizationService.optimizeTaper(
+                        event, LocalDate.now(), weeklyHours != null ? Hours.of(weeklyHours) : null, limit);
+                    return ResponseEntity.ok(options);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().<List<TaperOption>>build();
+                }
+            })
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Get A-priority events requiring taper.
      */
@@ -1,5 +1,7 @@
 package com.training.coach.athlete.presentation;
 
+import com.training.coach.athlete.application.service.NotificationDispatcher;
+import com.training.coach.athlete.application.service.NotificationMetrics;
 import com.training.coach.athlete.application.service.NotificationService;
 import com.training.coach.athlete.domain.model.Notification;
 import java.util.List;
@@ -14,9 +16,20 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(
+            NotificationService notificationService, NotificationDispatcher notificationDispatcher) {
         this.notificationService = notificationService;
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    /**
+     * Delivery counters of the notification outbox.
+     */
+    @GetMapping("/outbox/metrics")
+    public ResponseEntity<NotificationMetrics.Snapshot> getOutboxMetrics() {
+        return ResponseEntity.ok(notificationDispatcher.metrics());
     }
 
     /**
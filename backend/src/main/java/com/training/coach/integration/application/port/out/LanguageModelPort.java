@@ -0,0 +1,25 @@
+package com.training.coach.integration.application.port.out;
+
+import java.util.List;
+
+/**
+ * Port for the language model behind AI suggestions.
+ *
+ * <p>Implementations may send the prompts of a batch in one request or one by one, but must answer every prompt
+ * and keep the order. A failure fails the whole batch.</p>
+ */
+public interface LanguageModelPort {
+
+    /**
+     * Complete independent prompts, returning one response per prompt in the same order.
+     */
+    List<String> completeAll(List<String> prompts);
+
+    /**
+     * Whether {@link #completeAll(List)} answers a batch in one request. The gateway hands a model that does not
+     * one prompt per call, so prompts run side by side on its workers rather than one after another.
+     */
+    default boolean batchesPrompts() {
+        return true;
+    }
+}
@@ -1,5 +1,8 @@
 package com.training.coach.integration.application.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -8,13 +11,40 @@ import org.springframework.stereotype.Service;
 @Service
 public class AIService {
 
-    private final ClaudeApiClient claudeApiClient;
+    private final AiGateway aiGateway;
 
-    public AIService(ClaudeApiClient claudeApiClient) {
-        this.claudeApiClient = claudeApiClient;
+    public AIService(AiGateway aiGateway) {
+        this.aiGateway = aiGateway;
+    }
+
+    /**
+     * Ask for a suggestion without blocking; see {@link AiGateway#submit(String, String, String)}.
+     */
+    public CompletableFuture<String> suggest(String athleteId, String dataVersion, String prompt) {
+        return aiGateway.submit(athleteId, dataVersion, prompt);
     }
 
     public String getSuggestion(String prompt) {
-        return claudeApiClient.call(prompt);
+        return getSuggestion(null, null, prompt);
+    }
+
+    /**
+     * Ask for a suggestion and wait for it, at most the gateway's call timeout.
+     *
+     * @throws IllegalStateException if the gateway rejected the prompt, the model failed or the call timed out
+     */
+    public String getSuggestion(String athleteId, String dataVersion, String prompt) {
+        try {
+            return suggest(athleteId, dataVersion, prompt).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException("AI suggestion timed out", cause);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,255 @@
+package com.training.coach.integration.application.service;
+
+import com.training.coach.integration.application.port.out.LanguageModelPort;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single entry point for language model calls.
+ *
+ * <p>Prompts are answered asynchronously. Each prompt is keyed by a SHA-256 hash of the athlete, the version of the
+ * athlete's data it was built from and the whitespace-normalized prompt; a prompt matching a cached or in-flight one
+ * shares its answer instead of calling the model again. New prompts wait in a bounded queue for one of
+ * {@code maxConcurrentCalls} workers, which takes up to {@code maxBatchSize} queued prompts, waiting at most
+ * {@code batchWindow} for the batch to fill, and answers them in one model call. A model that cannot batch is
+ * handed one prompt per call.</p>
+ *
+ * <p>Callers stop waiting after {@code callTimeout}, queue time included; a late answer is still cached. A model
+ * call itself is abandoned after {@code callTimeout}, so a hung model does not hold a worker. Failed and timed out
+ * calls count towards a circuit breaker which, while open, rejects prompts immediately so callers can fall back
+ * without piling onto a model that is down. Rejections fail with {@link IllegalStateException} and timeouts with
+ * {@link java.util.concurrent.TimeoutException}.</p>
+ */
+@Service
+public class AiGateway implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiGateway.class);
+
+    private static final Pattern HORIZONTAL_WHITESPACE = Pattern.compile("[ \\t\\x0B\\f]+");
+    private static final Pattern LINE_BREAKS = Pattern.compile(" ?(\\r?\\n ?)+");
+
+    private final LanguageModelPort model;
+    private final AiGatewayProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final BlockingQueue<PendingPrompt> queue;
+    private final Map<String, CachedResponse> cache;
+    private final int maxBatchSize;
+    private final ExecutorService modelCalls =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-model-", 0).factory());
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public AiGateway(LanguageModelPort model, AiGatewayProperties properties) {
+        this.model = model;
+        this.properties = properties;
+        this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.maxQueued()));
+        this.maxBatchSize = model.batchesPrompts() ? Math.max(1, properties.maxBatchSize()) : 1;
+        int cacheSize = Math.max(1, properties.cacheSize());
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        for (int i = 0; i < Math.max(1, properties.maxConcurrentCalls()); i++) {
+            Thread worker = new Thread(this::work, "ai-gateway-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Answer a prompt.
+     *
+     * @param athleteId athlete the prompt is about, or {@code null} for prompts not tied to an athlete
+     * @param dataVersion token that changes whenever the athlete data the prompt was built from changes, or
+     *     {@code null} when the prompt carries all of its data
+     */
+    public CompletableFuture<String> submit(String athleteId, String dataVersion, String prompt) {
+        if (prompt == null || prompt.isBlank()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Prompt must not be blank"));
+        }
+        String key = cacheKey(athleteId, dataVersion, normalize(prompt));
+        long now = System.nanoTime();
+
+        CachedResponse entry;
+        boolean created = false;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry == null || entry.isExpired(now)) {
+                if (!running) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("AI gateway is shut down"));
+                }
+                if (!circuitBreaker.isAccepting()) {
+                    return CompletableFuture.failedFuture(
+                            new IllegalStateException("AI model unavailable, circuit open"));
+                }
+                PendingPrompt pending = new PendingPrompt(prompt, new CompletableFuture<>());
+                if (!queue.offer(pending)) {
+                    return CompletableFuture.failedFuture(
+                            new IllegalStateException("AI request queue is full, retry later"));
+                }
+                entry = new CachedResponse(pending.response(), now + properties.cacheTtl().toNanos());
+                cache.put(key, entry);
+                created = true;
+            }
+        }
+        if (created) {
+            CachedResponse added = entry;
+            added.response().whenComplete((response, error) -> {
+                if (error != null) {
+                    cache.remove(key, added);
+                }
+            });
+        }
+        return entry.response().copy().orTimeout(properties.callTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Prompts waiting for a model call.
+     */
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        modelCalls.shutdownNow();
+        List<PendingPrompt> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        failAll(abandoned, new IllegalStateException("AI gateway is shut down"));
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private void work() {
+        List<PendingPrompt> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long deadline = System.nanoTime() + properties.batchWindow().toNanos();
+                while (batch.size() < maxBatchSize) {
+                    PendingPrompt next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                call(batch);
+            } catch (InterruptedException e) {
+                failAll(batch, new IllegalStateException("AI gateway is shut down"));
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void call(List<PendingPrompt> batch) throws InterruptedException {
+        if (!circuitBreaker.tryAcquire()) {
+            failAll(batch, new IllegalStateException("AI model unavailable, circuit open"));
+            return;
+        }
+        List<String> prompts = batch.stream().map(PendingPrompt::prompt).toList();
+        Future<List<String>> call = modelCalls.submit(() -> model.completeAll(prompts));
+        try {
+            List<String> responses = call.get(properties.callTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (responses == null || responses.size() != batch.size()) {
+                throw new IllegalStateException("Model answered " + (responses == null ? 0 : responses.size())
+                        + " of " + batch.size() + " prompts");
+            }
+            circuitBreaker.onSuccess();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).response().complete(responses.get(i));
+            }
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            circuitBreaker.onFailure();
+            logger.warn("AI model call for {} prompts timed out after {}", batch.size(), properties.callTimeout());
+            failAll(batch, new IllegalStateException("AI model call timed out"));
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            logger.warn("AI model call for {} prompts failed: {}", batch.size(), e.getCause().getMessage());
+            failAll(batch, e.getCause() instanceof RuntimeException cause
+                    ? cause
+                    : new IllegalStateException(e.getCause()));
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            logger.warn("AI model call for {} prompts failed: {}", batch.size(), e.getMessage());
+            failAll(batch, e);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        }
+    }
+
+    private static void failAll(List<PendingPrompt> prompts, RuntimeException error) {
+        prompts.forEach(pending -> pending.response().completeExceptionally(error));
+    }
+
+    static String normalize(String prompt) {
+        String collapsed = HORIZONTAL_WHITESPACE.matcher(prompt.strip()).replaceAll(" ");
+        return LINE_BREAKS.matcher(collapsed).replaceAll("\n");
+    }
+
+    private static String cacheKey(String athleteId, String dataVersion, String normalizedPrompt) {
+        MessageDigest digest = sha256();
+        digest.update(String.valueOf(athleteId).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(String.valueOf(dataVersion).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return HexFormat.of().formatHex(digest.digest(normalizedPrompt.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record PendingPrompt(String prompt, CompletableFuture<String> response) {}
+
+    private record CachedResponse(CompletableFuture<String> response, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.training.coach.integration.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for the AI gateway.
+ *
+ * @param model which language model answers prompts: {@code claude}, or {@code local} for the deterministic stand-in
+ * @param maxConcurrentCalls model calls in flight at once
+ * @param maxQueued prompts waiting for a model call; further prompts are rejected
+ * @param maxBatchSize prompts sent to the model in one call
+ * @param batchWindow how long a call waits for more prompts to join its batch
+ * @param callTimeout how long a caller waits for an answer, including time spent queued
+ * @param failureThreshold consecutive failed calls that open the circuit
+ * @param openDuration how long an open circuit rejects prompts before letting a trial call through
+ * @param cacheSize responses kept, least recently used first out
+ * @param cacheTtl how long a response is served to identical prompts
+ * @param localLatency simulated latency of the local model per call
+ */
+@ConfigurationProperties(prefix = "training.ai")
+public record AiGatewayProperties(
+        @DefaultValue("claude") String model,
+        @DefaultValue("4") int maxConcurrentCalls,
+        @DefaultValue("200") int maxQueued,
+        @DefaultValue("8") int maxBatchSize,
+        @DefaultValue("PT0.02S") Duration batchWindow,
+        @DefaultValue("PT20S") Duration callTimeout,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("PT30S") Duration openDuration,
+        @DefaultValue("1000") int cacheSize,
+        @DefaultValue("PT10M") Duration cacheTtl,
+        @DefaultValue("PT0S") Duration localLatency) {
+
+    public static AiGatewayProperties defaults() {
+        return new AiGatewayProperties(
+                "claude", 4, 200, 8, Duration.ofMillis(20), Duration.ofSeconds(20), 5, Duration.ofSeconds(30),
+                1000, Duration.ofMinutes(10), Duration.ZERO);
+    }
+}
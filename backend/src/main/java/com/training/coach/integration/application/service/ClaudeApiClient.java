@@ -1,14 +1,31 @@
 package com.training.coach.integration.application.service;
 
+import com.training.coach.integration.application.port.out.LanguageModelPort;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 /**
  * Stub for Claude API client.
  */
 @Service
-public class ClaudeApiClient {
+@ConditionalOnProperty(prefix = "training.ai", name = "model", havingValue = "claude", matchIfMissing = true)
+public class ClaudeApiClient implements LanguageModelPort {
     public String call(String prompt) {
         // Stub: return canned response
         return "Based on data, maintain current plan.";
     }
+
+    @Override
+    public List<String> completeAll(List<String> prompts) {
+        return prompts.stream().map(this::call).toList();
+    }
+
+    /**
+     * The messages API takes one prompt per request.
+     */
+    @Override
+    public boolean batchesPrompts() {
+        return false;
+    }
 }
@@ -0,0 +1,74 @@
+package com.training.coach.integration.infrastructure.adapter;
+
+import com.training.coach.integration.application.port.out.LanguageModelPort;
+import com.training.coach.integration.application.service.AiGatewayProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deterministic stand-in for the language model, for tests, local runs and load benchmarks.
+ *
+ * <p>Answers from keywords in the prompt, so the same prompt always gets the same answer, and sleeps for the
+ * configured latency once per call to mimic a remote model without paying for one. Enabled with
+ * {@code training.ai.model=local}.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "training.ai", name = "model", havingValue = "local")
+public class LocalLanguageModel implements LanguageModelPort {
+
+    private final Duration latency;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong prompts = new AtomicLong();
+
+    public LocalLanguageModel(AiGatewayProperties properties) {
+        this(properties.localLatency());
+    }
+
+    public LocalLanguageModel(Duration latency) {
+        this.latency = latency == null ? Duration.ZERO : latency;
+    }
+
+    @Override
+    public List<String> completeAll(List<String> batch) {
+        calls.incrementAndGet();
+        prompts.addAndGet(batch.size());
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Local model call interrupted", e);
+            }
+        }
+        return batch.stream().map(LocalLanguageModel::answer).toList();
+    }
+
+    /**
+     * Model calls made so far.
+     */
+    public long callCount() {
+        return calls.get();
+    }
+
+    /**
+     * Prompts answered so far, across all calls.
+     */
+    public long promptCount() {
+        return prompts.get();
+    }
+
+    private static String answer(String prompt) {
+        String text = prompt == null ? "" : prompt.toLowerCase(Locale.ROOT);
+        if (text.contains("recovery") || text.contains("fatigue")) {
+            return "Prioritize recovery: keep the next two days in Zone 1 and protect sleep.";
+        }
+        if (text.contains("adjustment")) {
+            return "TYPE: REDUCE_VOLUME\nDESCRIPTION: Reduce weekly volume by 10%\nPARAMS: volumeReductionPercent=10";
+        }
+        return "Based on data, maintain current plan.";
+    }
+}
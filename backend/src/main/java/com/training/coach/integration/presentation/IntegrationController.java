@@ -2,8 +2,12 @@ package com.training.coach.integration.presentation;
 
 import com.training.coach.integration.application.service.AIService;
 import com.training.coach.integration.application.service.IntegrationService;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/integrations")
@@ -28,10 +32,21 @@ public class IntegrationController {
         return ResponseEntity.ok(integrationService.getIntervalsIcuApiKey());
     }
 
+    /**
+     * Ask the AI gateway for a suggestion without holding a thread while it is answered. A full queue or an open
+     * circuit answers 503, a call that outlives the gateway timeout answers 504 and a blank prompt answers 400.
+     */
     @PostMapping("/ai/suggestions")
-    public ResponseEntity<String> getAISuggestion(@RequestBody AIPrompt request) {
-        String suggestion = aiService.getSuggestion(request.prompt());
-        return ResponseEntity.ok(suggestion);
+    public Mono<ResponseEntity<String>> getAISuggestion(@RequestBody AIPrompt request) {
+        return Mono.fromFuture(() -> aiService.suggest(null, null, request.prompt()))
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalStateException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "5")
+                                .<String>build()))
+                .onErrorResume(TimeoutException.class, e -> Mono.just(
+                        ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).<String>build()))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     public record ConfigRequest(String apiKey) {}
@@ -0,0 +1,48 @@
+package com.training.coach.jobs.application.port.out;
+
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence for background report jobs, their progress and result locations.
+ */
+public interface ReportJobRepository {
+
+    ReportJob save(ReportJob job);
+
+    Optional<ReportJob> findById(String jobId);
+
+    /**
+     * Most recently submitted job with the given spec key.
+     */
+    Optional<ReportJob> findLatestBySpecKey(String specKey);
+
+    List<ReportJob> findByStatus(ReportJob.JobStatus status);
+
+    /**
+     * Record a queued job as started by its owner, unless it is no longer queued. The check and the update are
+     * one statement, so of several nodes taking the same job exactly one gets it.
+     *
+     * @return whether this call started the job
+     */
+    boolean claim(ReportJob started);
+
+    List<ReportJob> findByStatusAndOwner(ReportJob.JobStatus status, String owner);
+
+    List<ReportJob> findByType(ReportJob.JobType type);
+
+    /**
+     * Jobs of the type whose serialized parameters contain the text. This only narrows the candidates;
+     * callers match the parameters themselves.
+     */
+    List<ReportJob> findByTypeAndParametersContaining(ReportJob.JobType type, String text);
+
+    /**
+     * Succeeded and failed jobs that completed before the cutoff.
+     */
+    List<ReportJob> findFinishedBefore(Instant cutoff);
+
+    void deleteById(String jobId);
+}
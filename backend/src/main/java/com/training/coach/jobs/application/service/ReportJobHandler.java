@@ -0,0 +1,58 @@
+package com.training.coach.jobs.application.service;
+
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Produces the result file of one job type. Implementations are Spring beans and are
+ * picked up by {@link ReportJobService} by their {@link #type()}.
+ */
+public interface ReportJobHandler {
+
+    ReportJob.JobType type();
+
+    String contentType(Map<String, String> parameters);
+
+    String fileExtension(Map<String, String> parameters);
+
+    /**
+     * Reject invalid parameters at submission time, before a job is queued.
+     */
+    default void validate(Map<String, String> parameters) {}
+
+    /**
+     * Write the job result to {@code outputStream}, reporting progress along the way.
+     */
+    void run(Map<String, String> parameters, OutputStream outputStream, JobProgress progress) throws IOException;
+
+    /**
+     * Called once the result file is in place and the job is recorded as succeeded.
+     */
+    default void onSuccess(Map<String, String> parameters, ReportJob job) {}
+
+    /**
+     * Called once the job is recorded as failed, including jobs interrupted by a restart.
+     */
+    default void onFailure(Map<String, String> parameters, ReportJob job) {}
+
+    /**
+     * Whether a caller may download the result of a job with these parameters. Reports are covered by the
+     * endpoint's role checks; handlers producing personal data restrict results to their subject.
+     *
+     * @param callerId subject of the caller's token, or {@code null} when unauthenticated
+     * @param admin whether the caller has the admin role
+     */
+    default boolean canReadResult(Map<String, String> parameters, String callerId, boolean admin) {
+        return true;
+    }
+
+    /**
+     * Progress callback for a running job.
+     */
+    @FunctionalInterface
+    interface JobProgress {
+        void update(int percent, String message);
+    }
+}
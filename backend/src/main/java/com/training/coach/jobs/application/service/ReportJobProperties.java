@@ -0,0 +1,35 @@
+package com.training.coach.jobs.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for the background report job subsystem.
+ *
+ * @param workers jobs run concurrently, bounding the load expensive reports put on the database
+ * @param maxQueued submissions beyond this many waiting jobs are rejected
+ * @param resultTtl how long a finished result is served to identical submissions
+ * @param retention how long finished jobs and their result files are kept before the expiry sweep deletes them
+ * @param outputDirectory where result files are written; defaults to a folder under java.io.tmpdir
+ */
+@ConfigurationProperties(prefix = "training.jobs")
+public record ReportJobProperties(
+        @DefaultValue("2") int workers,
+        @DefaultValue("100") int maxQueued,
+        @DefaultValue("PT1H") Duration resultTtl,
+        @DefaultValue("P7D") Duration retention,
+        String outputDirectory) {
+    public ReportJobProperties {
+        if (retention == null || retention.compareTo(resultTtl) < 0) {
+            throw new IllegalArgumentException("training.jobs.retention must be at least the result TTL");
+        }
+        if (outputDirectory == null || outputDirectory.isBlank()) {
+            outputDirectory = System.getProperty("java.io.tmpdir") + "/training-coach-jobs";
+        }
+    }
+
+    public static ReportJobProperties defaults() {
+        return new ReportJobProperties(2, 100, Duration.ofHours(1), Duration.ofDays(7), null);
+    }
+}
@@ -0,0 +1,322 @@
+package com.training.coach.jobs.application.service;
+
+import com.training.coach.jobs.application.port.out.ReportJobRepository;
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.scheduler.application.service.SchedulerProperties;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs expensive reports and exports in the background.
+ *
+ * <p>Submissions return a persisted job immediately. Jobs run on a fixed pool of workers
+ * taking queued jobs by priority, then by submission order, so at most {@code workers}
+ * expensive jobs hit the database at once. A submission matching a queued, running or
+ * recently completed job with the same spec returns that job instead of running again, and
+ * submissions are refused once {@code maxQueued} jobs are waiting.</p>
+ *
+ * <p>Every node re-queues the waiting jobs when it starts, and a worker only runs a job after
+ * claiming it from {@code QUEUED} to {@code RUNNING} under the node's id, so each job runs on
+ * one node. A restarting node fails the jobs it was running itself; set a node id that is stable
+ * across restarts for this to find them.</p>
+ *
+ * <p>Results are written to files in the output directory; the job records progress, the
+ * result location, its size and its SHA-256 checksum. Finished jobs past the retention period
+ * are deleted together with their result files.</p>
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final Comparator<QueuedJob> QUEUE_ORDER =
+            Comparator.comparing((QueuedJob queued) -> queued.priority).thenComparingLong(queued -> queued.sequence);
+
+    private final ReportJobRepository jobRepository;
+    private final Map<ReportJob.JobType, ReportJobHandler> handlers;
+    private final ThreadPoolExecutor executor;
+    private final ReportJobProperties properties;
+    private final Path outputDirectory;
+    private final String nodeId;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Object submitLock = new Object();
+
+    public ReportJobService(
+            ReportJobRepository jobRepository,
+            List<ReportJobHandler> handlers,
+            @Qualifier("reportJobExecutor") ThreadPoolExecutor executor,
+            ReportJobProperties properties,
+            SchedulerProperties schedulerProperties) {
+        this.jobRepository = jobRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(ReportJobHandler::type, Function.identity()));
+        this.executor = executor;
+        this.properties = properties;
+        this.outputDirectory = Path.of(properties.outputDirectory());
+        this.nodeId = schedulerProperties.nodeId();
+    }
+
+    /**
+     * Submit a job, or return the matching job that is already queued, running or
+     * completed within the result TTL.
+     *
+     * @throws IllegalArgumentException if the type is unsupported or the parameters are invalid
+     * @throws IllegalStateException if the queue is full
+     */
+    public ReportJob submit(ReportJob.JobType type, Map<String, String> parameters, ReportJob.JobPriority priority) {
+        ReportJobHandler handler = handler(type);
+        Map<String, String> jobParameters = parameters == null ? Map.of() : parameters;
+        handler.validate(jobParameters);
+        String specKey = ReportJob.specKey(type, jobParameters);
+
+        synchronized (submitLock) {
+            Optional<ReportJob> existing = jobRepository.findLatestBySpecKey(specKey)
+                    .filter(job -> job.isActive() || isReusable(job));
+            if (existing.isPresent()) {
+                logger.debug("Reusing report job {} for identical {} submission", existing.get().id(), type);
+                return existing.get();
+            }
+            if (executor.getQueue().size() >= properties.maxQueued()) {
+                throw new IllegalStateException("Report job queue is full, retry later");
+            }
+            ReportJob job = jobRepository.save(ReportJob.create(type, jobParameters, priority));
+            enqueue(job);
+            logger.info("Queued report job {} ({}, {} priority)", job.id(), type, job.priority());
+            return job;
+        }
+    }
+
+    /**
+     * Get a job with its current progress.
+     */
+    public ReportJob getJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Report job not found: " + jobId));
+    }
+
+    /**
+     * Location of a completed job's result file.
+     *
+     * @throws IllegalStateException if the job has not succeeded or its result is gone
+     */
+    public Path getResult(String jobId) {
+        ReportJob job = getJob(jobId);
+        if (job.status() != ReportJob.JobStatus.SUCCEEDED) {
+            throw new IllegalStateException("Report job has not completed: " + jobId);
+        }
+        Path result = Path.of(job.resultPath());
+        if (!Files.exists(result)) {
+            throw new IllegalStateException("Report job result is no longer available: " + jobId);
+        }
+        return result;
+    }
+
+    /**
+     * Whether a caller may download a job's result, as decided by the handler of its type.
+     *
+     * @param callerId subject of the caller's token, or {@code null} when unauthenticated
+     */
+    public boolean canReadResult(ReportJob job, String callerId, boolean admin) {
+        return handler(job.type()).canReadResult(job.parameters(), callerId, admin);
+    }
+
+    /**
+     * Fail the jobs this node was running when it stopped and queue the waiting jobs. Other nodes may queue the
+     * same jobs; whichever claims a job first runs it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        for (ReportJob job : jobRepository.findByStatusAndOwner(ReportJob.JobStatus.RUNNING, nodeId)) {
+            ReportJob failed = jobRepository.save(job.fail("Interrupted by application restart"));
+            notifyFailure(failed);
+        }
+        List<ReportJob> queued = jobRepository.findByStatus(ReportJob.JobStatus.QUEUED);
+        queued.stream().sorted(Comparator.comparing(ReportJob::submittedAt)).forEach(this::enqueue);
+        if (!queued.isEmpty()) {
+            logger.info("Resumed {} queued report jobs", queued.size());
+        }
+    }
+
+    /**
+     * Delete the finished jobs that completed more than the retention period before {@code now}, and their
+     * result files, returning how many jobs were deleted.
+     */
+    public int deleteExpired(Instant now) {
+        List<ReportJob> expired = jobRepository.findFinishedBefore(now.minus(properties.retention()));
+        for (ReportJob job : expired) {
+            if (job.resultPath() != null) {
+                deleteQuietly(Path.of(job.resultPath()));
+            }
+            jobRepository.deleteById(job.id());
+        }
+        if (!expired.isEmpty()) {
+            logger.info("Deleted {} report jobs past the {} retention", expired.size(), properties.retention());
+        }
+        return expired.size();
+    }
+
+    private void enqueue(ReportJob job) {
+        executor.execute(new QueuedJob(job.id(), job.priority(), sequence.incrementAndGet()));
+    }
+
+    private void run(String jobId) {
+        ReportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.status() != ReportJob.JobStatus.QUEUED) {
+            return;
+        }
+        ReportJob started = job.start(nodeId);
+        if (!jobRepository.claim(started)) {
+            logger.debug("Report job {} was claimed by another node", jobId);
+            return;
+        }
+        ReportJobHandler handler = handler(job.type());
+        AtomicReference<ReportJob> current = new AtomicReference<>(started);
+        Path result = outputDirectory.resolve(job.id() + "." + handler.fileExtension(job.parameters()));
+        Path partial = outputDirectory.resolve(job.id() + ".part");
+
+        ReportJob succeeded;
+        try {
+            Files.createDirectories(outputDirectory);
+            MessageDigest digest = sha256();
+            try (OutputStream out = new BufferedOutputStream(
+                    new DigestOutputStream(Files.newOutputStream(partial), digest))) {
+                handler.run(job.parameters(), out, (percent, message) -> {
+                    if (percent != current.get().progressPercent()) {
+                        current.set(jobRepository.save(current.get().progress(percent, message)));
+                    }
+                });
+            }
+            Files.move(partial, result, StandardCopyOption.REPLACE_EXISTING);
+            if (wasDeleted(jobId)) {
+                deleteQuietly(result);
+                return;
+            }
+            succeeded = jobRepository.save(current.get().succeed(
+                    result.toString(),
+                    handler.contentType(job.parameters()),
+                    Files.size(result),
+                    HexFormat.of().formatHex(digest.digest())));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(partial);
+            deleteQuietly(result);
+            if (wasDeleted(jobId)) {
+                return;
+            }
+            ReportJob failed = jobRepository.save(current.get().fail(e.getMessage()));
+            logger.error("Report job {} failed: {}", jobId, e.getMessage(), e);
+            notifyFailure(failed);
+            return;
+        }
+        logger.info("Report job {} completed ({} bytes)", jobId, succeeded.resultSizeBytes());
+        notifySuccess(succeeded);
+    }
+
+    /**
+     * A job deleted while it ran, by an athlete's erasure, must not be saved back with its result.
+     */
+    private boolean wasDeleted(String jobId) {
+        if (jobRepository.findById(jobId).isPresent()) {
+            return false;
+        }
+        logger.info("Report job {} was deleted while running, discarding its output", jobId);
+        return true;
+    }
+
+    /**
+     * The job has already succeeded and its result is kept, so a failing callback must not fail it.
+     */
+    private void notifySuccess(ReportJob job) {
+        try {
+            handler(job.type()).onSuccess(job.parameters(), job);
+        } catch (RuntimeException e) {
+            logger.error("Success callback for report job {} failed: {}", job.id(), e.getMessage(), e);
+        }
+    }
+
+    private void notifyFailure(ReportJob job) {
+        try {
+            handler(job.type()).onFailure(job.parameters(), job);
+        } catch (RuntimeException e) {
+            logger.error("Failure callback for report job {} failed: {}", job.id(), e.getMessage(), e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private boolean isReusable(ReportJob job) {
+        return job.isReusableAt(Instant.now(), properties.resultTtl())
+                && job.resultPath() != null
+                && Files.exists(Path.of(job.resultPath()));
+    }
+
+    private ReportJobHandler handler(ReportJob.JobType type) {
+        ReportJobHandler handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalArgumentException("Unsupported report job type: " + type);
+        }
+        return handler;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete job output {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Queue entry ordered by priority, then submission order.
+     */
+    private final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+
+        private final String jobId;
+        private final ReportJob.JobPriority priority;
+        private final long sequence;
+
+        private QueuedJob(String jobId, ReportJob.JobPriority priority, long sequence) {
+            this.jobId = jobId;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            ReportJobService.this.run(jobId);
+        }
+
+        @Override
+        public int compareTo(QueuedJob other) {
+            return QUEUE_ORDER.compare(this, other);
+        }
+    }
+}
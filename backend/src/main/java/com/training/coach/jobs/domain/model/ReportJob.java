@@ -0,0 +1,168 @@
+package com.training.coach.jobs.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Background job producing a report or export file.
+ * Jobs with the same type and parameters share a spec key, which is used to de-duplicate submissions.
+ * A started job records the node running it as its owner.
+ */
+public record ReportJob(
+        String id,
+        JobType type,
+        Map<String, String> parameters,
+        String specKey,
+        JobPriority priority,
+        JobStatus status,
+        int progressPercent,
+        String progressMessage,
+        String resultPath,
+        String resultContentType,
+        Long resultSizeBytes,
+        String resultChecksum,
+        String errorMessage,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant completedAt,
+        String owner
+) {
+    public ReportJob {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Job ID cannot be null or blank");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Job type cannot be null");
+        }
+        parameters = parameters == null ? Map.of() : Map.copyOf(parameters);
+        if (specKey == null) specKey = specKey(type, parameters);
+        if (priority == null) priority = JobPriority.NORMAL;
+        if (status == null) status = JobStatus.QUEUED;
+        if (submittedAt == null) submittedAt = Instant.now();
+    }
+
+    public static ReportJob create(JobType type, Map<String, String> parameters, JobPriority priority) {
+        return new ReportJob(
+                UUID.randomUUID().toString(),
+                type,
+                parameters,
+                null,
+                priority,
+                JobStatus.QUEUED,
+                0,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                Instant.now(),
+                null,
+                null,
+                null
+        );
+    }
+
+    public ReportJob start(String owner) {
+        if (status != JobStatus.QUEUED) {
+            throw new IllegalStateException("Can only start queued jobs");
+        }
+        return new ReportJob(id, type, parameters, specKey, priority, JobStatus.RUNNING, 0, "Started",
+                null, null, null, null, null, submittedAt, Instant.now(), null, owner);
+    }
+
+    public ReportJob progress(int percent, String message) {
+        if (status != JobStatus.RUNNING) {
+            throw new IllegalStateException("Can only report progress of running jobs");
+        }
+        int clamped = Math.max(0, Math.min(100, percent));
+        return new ReportJob(id, type, parameters, specKey, priority, status, clamped, message,
+                null, null, null, null, null, submittedAt, startedAt, null, owner);
+    }
+
+    public ReportJob succeed(
+            String resultPath, String resultContentType, long resultSizeBytes, String resultChecksum) {
+        if (status != JobStatus.RUNNING) {
+            throw new IllegalStateException("Can only complete running jobs");
+        }
+        return new ReportJob(id, type, parameters, specKey, priority, JobStatus.SUCCEEDED, 100, "Completed",
+                resultPath, resultContentType, resultSizeBytes, resultChecksum, null,
+                submittedAt, startedAt, Instant.now(), owner);
+    }
+
+    public ReportJob fail(String errorMessage) {
+        if (isFinished()) {
+            throw new IllegalStateException("Job has already finished");
+        }
+        return new ReportJob(id, type, parameters, specKey, priority, JobStatus.FAILED, progressPercent,
+                progressMessage, null, null, null, null, errorMessage, submittedAt, startedAt, Instant.now(), owner);
+    }
+
+    public boolean isActive() {
+        return status == JobStatus.QUEUED || status == JobStatus.RUNNING;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.SUCCEEDED || status == JobStatus.FAILED;
+    }
+
+    /**
+     * Whether this job's result can be served instead of running an identical job again.
+     */
+    public boolean isReusableAt(Instant now, Duration resultTtl) {
+        return status == JobStatus.SUCCEEDED && completedAt != null && completedAt.plus(resultTtl).isAfter(now);
+    }
+
+    /**
+     * Stable key for a job type and its parameters, independent of parameter order.
+     */
+    public static String specKey(JobType type, Map<String, String> parameters) {
+        StringBuilder canonical = new StringBuilder(type.name());
+        new TreeMap<>(parameters).forEach((key, value) ->
+                canonical.append('\n').append(key).append('=').append(value));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Kind of result a job produces. Report types may be submitted by any client; the others are only created by
+     * the workflow that owns them, such as an approved privacy request for {@code DATA_EXPORT}.
+     */
+    public enum JobType {
+        ORGANIZATION_REPORT(true),
+        WEEKLY_REPORT_EXPORT(true),
+        DATA_EXPORT(false);
+
+        private final boolean report;
+
+        JobType(boolean report) {
+            this.report = report;
+        }
+
+        public boolean isReport() {
+            return report;
+        }
+    }
+
+    /**
+     * Scheduling priority; queued jobs are taken in this order, then by submission.
+     */
+    public enum JobPriority {
+        HIGH, NORMAL, LOW
+    }
+
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -0,0 +1,43 @@
+package com.training.coach.jobs.infrastructure.persistence;
+
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.jobs.infrastructure.persistence.entity.ReportJobEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReportJobJpaRepository extends JpaRepository<ReportJobEntity, String> {
+
+    Optional<ReportJobEntity> findFirstBySpecKeyOrderBySubmittedAtDesc(String specKey);
+
+    List<ReportJobEntity> findByStatus(ReportJob.JobStatus status);
+
+    List<ReportJobEntity> findByStatusAndOwner(ReportJob.JobStatus status, String owner);
+
+    @Modifying
+    @Query("UPDATE ReportJobEntity j SET j.status = :running, j.owner = :owner, j.startedAt = :startedAt, "
+            + "j.progressPercent = :progressPercent, j.progressMessage = :progressMessage "
+            + "WHERE j.id = :id AND j.status = :queued")
+    int claim(
+            @Param("id") String id,
+            @Param("owner") String owner,
+            @Param("startedAt") Instant startedAt,
+            @Param("progressPercent") int progressPercent,
+            @Param("progressMessage") String progressMessage,
+            @Param("queued") ReportJob.JobStatus queued,
+            @Param("running") ReportJob.JobStatus running);
+
+    List<ReportJobEntity> findByType(ReportJob.JobType type);
+
+    List<ReportJobEntity> findByTypeAndParametersJsonContaining(ReportJob.JobType type, String text);
+
+    List<ReportJobEntity> findByStatusInAndCompletedAtBefore(
+            Collection<ReportJob.JobStatus> statuses, Instant completedBefore);
+}
@@ -0,0 +1,159 @@
+package com.training.coach.jobs.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.training.coach.jobs.application.port.out.ReportJobRepository;
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.jobs.infrastructure.persistence.entity.ReportJobEntity;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adapter for report job persistence. Claims run in their own transaction, so a claim is visible to the other
+ * nodes before the job starts.
+ */
+@Repository
+@Profile("!test")
+public class ReportJobRepositoryAdapter implements ReportJobRepository {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ReportJobJpaRepository jobRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReportJobRepositoryAdapter(ReportJobJpaRepository jobRepo, PlatformTransactionManager transactionManager) {
+        this.jobRepo = jobRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public ReportJob save(ReportJob job) {
+        ReportJobEntity entity = new ReportJobEntity();
+        entity.setId(job.id());
+        entity.setType(job.type());
+        entity.setParametersJson(writeParameters(job.parameters()));
+        entity.setSpecKey(job.specKey());
+        entity.setPriority(job.priority());
+        entity.setStatus(job.status());
+        entity.setProgressPercent(job.progressPercent());
+        entity.setProgressMessage(job.progressMessage());
+        entity.setResultPath(job.resultPath());
+        entity.setResultContentType(job.resultContentType());
+        entity.setResultSizeBytes(job.resultSizeBytes());
+        entity.setResultChecksum(job.resultChecksum());
+        entity.setErrorMessage(job.errorMessage());
+        entity.setSubmittedAt(job.submittedAt());
+        entity.setStartedAt(job.startedAt());
+        entity.setCompletedAt(job.completedAt());
+        entity.setOwner(job.owner());
+        jobRepo.save(entity);
+        return job;
+    }
+
+    @Override
+    public Optional<ReportJob> findById(String jobId) {
+        return jobRepo.findById(jobId).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<ReportJob> findLatestBySpecKey(String specKey) {
+        return jobRepo.findFirstBySpecKeyOrderBySubmittedAtDesc(specKey).map(this::toDomain);
+    }
+
+    @Override
+    public List<ReportJob> findByStatus(ReportJob.JobStatus status) {
+        return jobRepo.findByStatus(status).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public boolean claim(ReportJob started) {
+        Integer claimed = transactionTemplate.execute(status -> jobRepo.claim(
+                started.id(),
+                started.owner(),
+                started.startedAt(),
+                started.progressPercent(),
+                started.progressMessage(),
+                ReportJob.JobStatus.QUEUED,
+                ReportJob.JobStatus.RUNNING));
+        return claimed != null && claimed > 0;
+    }
+
+    @Override
+    public List<ReportJob> findByStatusAndOwner(ReportJob.JobStatus status, String owner) {
+        return jobRepo.findByStatusAndOwner(status, owner).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<ReportJob> findByType(ReportJob.JobType type) {
+        return jobRepo.findByType(type).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<ReportJob> findByTypeAndParametersContaining(ReportJob.JobType type, String text) {
+        return jobRepo.findByTypeAndParametersJsonContaining(type, text).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<ReportJob> findFinishedBefore(Instant cutoff) {
+        return jobRepo.findByStatusInAndCompletedAtBefore(
+                        EnumSet.of(ReportJob.JobStatus.SUCCEEDED, ReportJob.JobStatus.FAILED), cutoff)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(String jobId) {
+        jobRepo.deleteById(jobId);
+    }
+
+    private ReportJob toDomain(ReportJobEntity entity) {
+        return new ReportJob(
+                entity.getId(),
+                entity.getType(),
+                readParameters(entity.getParametersJson()),
+                entity.getSpecKey(),
+                entity.getPriority(),
+                entity.getStatus(),
+                entity.getProgressPercent() != null ? entity.getProgressPercent() : 0,
+                entity.getProgressMessage(),
+                entity.getResultPath(),
+                entity.getResultContentType(),
+                entity.getResultSizeBytes(),
+                entity.getResultChecksum(),
+                entity.getErrorMessage(),
+                entity.getSubmittedAt(),
+                entity.getStartedAt(),
+                entity.getCompletedAt(),
+                entity.getOwner());
+    }
+
+    private String writeParameters(Map<String, String> parameters) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(parameters);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize job parameters", ex);
+        }
+    }
+
+    private Map<String, String> readParameters(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, new TypeReference<>() {});
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize job parameters", ex);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.training.coach.jobs.infrastructure.persistence.entity;
+
+import com.training.coach.jobs.domain.model.ReportJob;
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "report_jobs",
+        indexes = {
+            @Index(name = "idx_report_jobs_spec_submitted", columnList = "spec_key, submitted_at"),
+            @Index(name = "idx_report_jobs_status", columnList = "status, owner")
+        })
+public class ReportJobEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 40)
+    private ReportJob.JobType type;
+
+    @Column(name = "parameters_json", columnDefinition = "TEXT")
+    private String parametersJson;
+
+    @Column(name = "spec_key", nullable = false, length = 64)
+    private String specKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10)
+    private ReportJob.JobPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReportJob.JobStatus status;
+
+    @Column(name = "progress_percent")
+    private Integer progressPercent;
+
+    @Column(name = "progress_message", length = 255)
+    private String progressMessage;
+
+    @Column(name = "result_path", length = 1024)
+    private String resultPath;
+
+    @Column(name = "result_content_type", length = 100)
+    private String resultContentType;
+
+    @Column(name = "result_size_bytes")
+    private Long resultSizeBytes;
+
+    @Column(name = "result_checksum", length = 64)
+    private String resultChecksum;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "owner", length = 255)
+    private String owner;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ReportJob.JobType getType() {
+        return type;
+    }
+
+    public void setType(ReportJob.JobType type) {
+        this.type = type;
+    }
+
+    public String getParametersJson() {
+        return parametersJson;
+    }
+
+    public void setParametersJson(String parametersJson) {
+        this.parametersJson = parametersJson;
+    }
+
+    public String getSpecKey() {
+        return specKey;
+    }
+
+    public void setSpecKey(String specKey) {
+        this.specKey = specKey;
+    }
+
+    public ReportJob.JobPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ReportJob.JobPriority priority) {
+        this.priority = priority;
+    }
+
+    public ReportJob.JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReportJob.JobStatus status) {
+        this.status = status;
+    }
+
+    public Integer getProgressPercent() {
+        return progressPercent;
+    }
+
+    public void setProgressPercent(Integer progressPercent) {
+        this.progressPercent = progressPercent;
+    }
+
+    public String getProgressMessage() {
+        return progressMessage;
+    }
+
+    public void setProgressMessage(String progressMessage) {
+        this.progressMessage = progressMessage;
+    }
+
+    public String getResultPath() {
+        return resultPath;
+    }
+
+    public void setResultPath(String resultPath) {
+        this.resultPath = resultPath;
+    }
+
+    public String getResultContentType() {
+        return resultContentType;
+    }
+
+    public void setResultContentType(String resultContentType) {
+        this.resultContentType = resultContentType;
+    }
+
+    public Long getResultSizeBytes() {
+        return resultSizeBytes;
+    }
+
+    public void setResultSizeBytes(Long resultSizeBytes) {
+        this.resultSizeBytes = resultSizeBytes;
+    }
+
+    public String getResultChecksum() {
+        return resultChecksum;
+    }
+
+    public void setResultChecksum(String resultChecksum) {
+        this.resultChecksum = resultChecksum;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+}
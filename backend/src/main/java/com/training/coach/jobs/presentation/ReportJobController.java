@@ -0,0 +1,106 @@
+package com.training.coach.jobs.presentation;
+
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.nio.file.Path;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * REST controller for background report jobs: submit, poll progress, download the result.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class ReportJobController {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final ReportJobService jobService;
+
+    public ReportJobController(ReportJobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * Submit a report job. Identical submissions return the existing job. Other job types, such as personal data
+     * exports, are only created by their own workflow and are rejected here.
+     */
+    @PostMapping
+    public ResponseEntity<ReportJob> submitJob(@RequestBody SubmitJobRequest request) {
+        if (request.type() == null || !request.type().isReport()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            ReportJob job = jobService.submit(request.type(), request.parameters(), request.priority());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/api/jobs/" + job.id())
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+    }
+
+    /**
+     * Get a job's status and progress.
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJob> getJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(jobService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Download a completed job's result. Results holding personal data are only served to their subject or an admin.
+     */
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<Flux<DataBuffer>> getResult(@PathVariable String jobId, Authentication authentication) {
+        try {
+            ReportJob job = jobService.getJob(jobId);
+            if (!jobService.canReadResult(job, callerId(authentication), isAdmin(authentication))) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            Path result = jobService.getResult(jobId);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + result.getFileName() + "\"")
+                    .contentType(MediaType.parseMediaType(job.resultContentType()))
+                    .contentLength(job.resultSizeBytes())
+                    .body(DataBufferUtils.read(result, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    private static String callerId(Authentication authentication) {
+        return authentication == null ? null : authentication.getName();
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    public record SubmitJobRequest(
+            ReportJob.JobType type,
+            Map<String, String> parameters,
+            ReportJob.JobPriority priority) {}
+}
@@ -0,0 +1,28 @@
+package com.training.coach.privacy.application.port.out;
+
+import com.training.coach.privacy.domain.model.ErasureCount;
+
+/**
+ * Erases an athlete's personal data held by one bounded context.
+ *
+ * <p>Every context storing athlete data contributes one eraser bean. Erasers run in parallel,
+ * each in its own transaction, so an implementation must not depend on another context's rows.
+ * Erasing twice is safe: the second run finds nothing left.</p>
+ */
+public interface PersonalDataEraser {
+
+    /**
+     * Name of the bounded context, used in counts and audit logs.
+     */
+    String context();
+
+    /**
+     * Count what {@link #erase(String)} would delete and anonymize, without changing anything.
+     */
+    ErasureCount count(String athleteId);
+
+    /**
+     * Delete or anonymize the athlete's data with set-based statements.
+     */
+    ErasureCount erase(String athleteId);
+}
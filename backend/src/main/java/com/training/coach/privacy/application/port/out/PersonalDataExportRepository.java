@@ -0,0 +1,15 @@
+package com.training.coach.privacy.application.port.out;
+
+import com.training.coach.privacy.domain.model.PersonalDataCategory;
+import com.training.coach.privacy.domain.model.PersonalDataPage;
+
+/**
+ * Keyset-paged reads of an athlete's bulk personal data for GDPR exports.
+ */
+public interface PersonalDataExportRepository {
+
+    /**
+     * Read up to {@code limit} rows following {@code cursor}, or from the start when the cursor is null.
+     */
+    PersonalDataPage findPage(PersonalDataCategory category, String athleteId, String cursor, int limit);
+}
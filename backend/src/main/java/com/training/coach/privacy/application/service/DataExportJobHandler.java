@@ -0,0 +1,121 @@
+package com.training.coach.privacy.application.service;
+
+import com.training.coach.jobs.application.service.ReportJobHandler;
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.privacy.application.port.out.ConsentLogRepository;
+import com.training.coach.privacy.application.port.out.DataExportRequestRepository;
+import com.training.coach.privacy.domain.model.ConsentLog;
+import com.training.coach.privacy.domain.model.DataExportRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates the GDPR export archive for a data export request and records the outcome on the request.
+ *
+ * <p>Parameters: {@code requestId}. Jobs are only accepted for requests that {@link PrivacyService#processExport}
+ * has moved to {@code PROCESSING}, and their result is only served to the athlete or an admin.</p>
+ */
+@Component
+public class DataExportJobHandler implements ReportJobHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataExportJobHandler.class);
+
+    static final String REQUEST_ID = "requestId";
+
+    private final DataExportRequestRepository exportRequestRepository;
+    private final ConsentLogRepository consentLogRepository;
+    private final PersonalDataExportService exportService;
+
+    public DataExportJobHandler(
+            DataExportRequestRepository exportRequestRepository,
+            ConsentLogRepository consentLogRepository,
+            PersonalDataExportService exportService) {
+        this.exportRequestRepository = exportRequestRepository;
+        this.consentLogRepository = consentLogRepository;
+        this.exportService = exportService;
+    }
+
+    @Override
+    public ReportJob.JobType type() {
+        return ReportJob.JobType.DATA_EXPORT;
+    }
+
+    @Override
+    public String contentType(Map<String, String> parameters) {
+        return "application/zip";
+    }
+
+    @Override
+    public String fileExtension(Map<String, String> parameters) {
+        return "zip";
+    }
+
+    @Override
+    public void validate(Map<String, String> parameters) {
+        if (!request(parameters).isProcessing()) {
+            throw new IllegalArgumentException("Export request is not being processed: " + parameters.get(REQUEST_ID));
+        }
+    }
+
+    @Override
+    public boolean canReadResult(Map<String, String> parameters, String callerId, boolean admin) {
+        return admin || (callerId != null && callerId.equals(request(parameters).athleteId()));
+    }
+
+    @Override
+    public void run(Map<String, String> parameters, OutputStream outputStream, JobProgress progress)
+            throws IOException {
+        DataExportRequest request = request(parameters);
+        exportService.writeArchive(request.athleteId(), outputStream,
+                percent -> progress.update(percent, "Exporting personal data"));
+    }
+
+    @Override
+    public void onSuccess(Map<String, String> parameters, ReportJob job) {
+        DataExportRequest request = request(parameters);
+        exportRequestRepository.save(
+                request.complete(job.resultPath(), job.resultSizeBytes(), job.resultChecksum()));
+
+        consentLogRepository.save(ConsentLog.create(
+                request.athleteId(),
+                ConsentLog.ConsentAction.DATA_EXPORT_COMPLETED,
+                "EXPORT_COMPLETED",
+                "system",
+                request.id(),
+                String.format("Export file generated: %s (%d bytes, sha256 %s)",
+                        job.resultPath(), job.resultSizeBytes(), job.resultChecksum())
+        ));
+
+        logger.info("Data export request {} completed. File: {}", request.id(), job.resultPath());
+    }
+
+    @Override
+    public void onFailure(Map<String, String> parameters, ReportJob job) {
+        DataExportRequest request = request(parameters);
+        exportRequestRepository.save(request.fail(job.errorMessage()));
+
+        consentLogRepository.save(ConsentLog.create(
+                request.athleteId(),
+                ConsentLog.ConsentAction.DATA_EXPORT_FAILED,
+                "EXPORT_FAILED",
+                "system",
+                request.id(),
+                String.format("Export failed: %s", job.errorMessage())
+        ));
+
+        logger.warn("Data export request {} failed: {}", request.id(), job.errorMessage());
+    }
+
+    private DataExportRequest request(Map<String, String> parameters) {
+        String requestId = parameters.get(REQUEST_ID);
+        if (requestId == null || requestId.isBlank()) {
+            throw new IllegalArgumentException("requestId is required");
+        }
+        return exportRequestRepository.findById(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Export request not found: " + requestId));
+    }
+}
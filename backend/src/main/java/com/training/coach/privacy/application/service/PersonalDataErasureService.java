@@ -0,0 +1,78 @@
+package com.training.coach.privacy.application.service;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.privacy.domain.model.ErasureResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Erases an athlete's personal data across every bounded context.
+ *
+ * <p>Each registered {@link PersonalDataEraser} runs in parallel on the erasure executor, in its own
+ * transaction, with set-based statements, and reports exact row counts. A dry run asks every
+ * eraser for its counts instead and changes nothing. Consent logs are not erased; they are kept as
+ * the legal record of the request.</p>
+ */
+@Service
+public class PersonalDataErasureService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersonalDataErasureService.class);
+
+    private final List<PersonalDataEraser> erasers;
+    private final Executor executor;
+
+    public PersonalDataErasureService(
+            List<PersonalDataEraser> erasers, @Qualifier("erasureExecutor") Executor executor) {
+        this.erasers = erasers.stream().sorted(Comparator.comparing(PersonalDataEraser::context)).toList();
+        this.executor = executor;
+    }
+
+    /**
+     * Erase, or with {@code dryRun} only count, the athlete's data in all contexts.
+     *
+     * @throws IllegalStateException if any context failed; the other contexts may have been erased
+     *     and running the erasure again is safe
+     */
+    public ErasureResult erase(String athleteId, boolean dryRun) {
+        long started = System.nanoTime();
+        List<CompletableFuture<ErasureCount>> futures = erasers.stream()
+                .map(eraser -> CompletableFuture.supplyAsync(
+                        () -> dryRun ? eraser.count(athleteId) : eraser.erase(athleteId), executor))
+                .toList();
+
+        List<ErasureCount> counts = new ArrayList<>();
+        List<String> failedContexts = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                counts.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                String context = erasers.get(i).context();
+                failedContexts.add(context);
+                logger.error("Erasure of {} for athlete {} failed: {}",
+                        context, athleteId, e.getCause().getMessage(), e.getCause());
+            }
+        }
+        if (!failedContexts.isEmpty()) {
+            throw new IllegalStateException("Erasure failed for contexts " + failedContexts + " of athlete " + athleteId);
+        }
+
+        ErasureResult result = new ErasureResult(athleteId, dryRun, counts);
+        logger.info("{} athlete {} in {} ms: {} deleted, {} anonymized across {} contexts",
+                dryRun ? "Counted erasure of" : "Erased",
+                athleteId,
+                (System.nanoTime() - started) / 1_000_000,
+                result.totalDeleted(),
+                result.totalAnonymized(),
+                counts.size());
+        return result;
+    }
+}
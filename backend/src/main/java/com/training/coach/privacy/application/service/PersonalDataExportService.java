@@ -0,0 +1,182 @@
+package com.training.coach.privacy.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.feedback.application.service.NoteService;
+import com.training.coach.privacy.application.port.out.ConsentLogRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataExportRepository;
+import com.training.coach.privacy.domain.model.PersonalDataCategory;
+import com.training.coach.privacy.domain.model.PersonalDataPage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes everything held about an athlete as a ZIP archive with one NDJSON entry per bounded context.
+ *
+ * <p>Bulk data (wellness, activities, plan versions and workouts) is read in keyset pages of
+ * {@link #PAGE_SIZE} rows and written straight into the archive, so memory stays flat no matter
+ * how many years of history an athlete has. The archive ends with a {@code manifest.json}
+ * listing the row count of every entry.</p>
+ */
+@Service
+public class PersonalDataExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersonalDataExportService.class);
+
+    static final int PAGE_SIZE = 500;
+    static final String PROFILE_ENTRY = "athlete-profile.ndjson";
+    static final String NOTES_ENTRY = "notes.ndjson";
+    static final String CONSENT_LOGS_ENTRY = "consent-logs.ndjson";
+    static final String MANIFEST_ENTRY = "manifest.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    private static final int SECTION_COUNT = PersonalDataCategory.values().length + 3;
+
+    private final AthleteRepository athleteRepository;
+    private final PersonalDataExportRepository exportRepository;
+    private final ConsentLogRepository consentLogRepository;
+    private final NoteService noteService;
+
+    public PersonalDataExportService(
+            AthleteRepository athleteRepository,
+            PersonalDataExportRepository exportRepository,
+            ConsentLogRepository consentLogRepository,
+            NoteService noteService) {
+        this.athleteRepository = athleteRepository;
+        this.exportRepository = exportRepository;
+        this.consentLogRepository = consentLogRepository;
+        this.noteService = noteService;
+    }
+
+    /**
+     * Write the athlete's export archive to {@code outputStream}, which is left open.
+     *
+     * @param percentDone receives the completed percentage after each entry
+     * @return the row count of each archive entry
+     */
+    public Map<String, Long> writeArchive(String athleteId, OutputStream outputStream, IntConsumer percentDone)
+            throws IOException {
+        Athlete athlete = athleteRepository.findById(athleteId)
+                .orElseThrow(() -> new IllegalArgumentException("Athlete not found: " + athleteId));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (ZipOutputStream zip = new ZipOutputStream(StreamUtils.nonClosing(outputStream))) {
+            counts.put(PROFILE_ENTRY, writeEntry(zip, PROFILE_ENTRY, List.of(athlete)));
+            percentDone.accept(percent(counts.size()));
+
+            for (PersonalDataCategory category : PersonalDataCategory.values()) {
+                counts.put(category.entryName(), writePagedEntry(zip, category, athleteId));
+                percentDone.accept(percent(counts.size()));
+            }
+
+            counts.put(NOTES_ENTRY, writeEntry(zip, NOTES_ENTRY, notes(athleteId)));
+            percentDone.accept(percent(counts.size()));
+
+            counts.put(CONSENT_LOGS_ENTRY,
+                    writeEntry(zip, CONSENT_LOGS_ENTRY, consentLogRepository.findByAthleteId(athleteId)));
+            percentDone.accept(percent(counts.size()));
+
+            zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+            Map<String, Object> manifest = new LinkedHashMap<>();
+            manifest.put("athleteId", athleteId);
+            manifest.put("generatedAt", Instant.now());
+            manifest.put("entries", counts);
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(zip, manifest);
+            zip.closeEntry();
+        }
+
+        logger.info("Wrote data export archive for athlete {}: {}", athleteId, counts);
+        return counts;
+    }
+
+    private long writePagedEntry(ZipOutputStream zip, PersonalDataCategory category, String athleteId)
+            throws IOException {
+        zip.putNextEntry(new ZipEntry(category.entryName()));
+        long rows = 0;
+        try (JsonGenerator generator = ndjsonGenerator(zip)) {
+            String cursor = null;
+            PersonalDataPage page;
+            do {
+                page = exportRepository.findPage(category, athleteId, cursor, PAGE_SIZE);
+                for (Map<String, Object> row : page.rows()) {
+                    generator.writeObject(row);
+                }
+                rows += page.rows().size();
+                cursor = page.nextCursor();
+                generator.flush();
+            } while (page.hasNext());
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        zip.closeEntry();
+        return rows;
+    }
+
+    private long writeEntry(ZipOutputStream zip, String entryName, List<?> rows) throws IOException {
+        zip.putNextEntry(new ZipEntry(entryName));
+        try (JsonGenerator generator = ndjsonGenerator(zip)) {
+            for (Object row : rows) {
+                generator.writeObject(row);
+            }
+            if (!rows.isEmpty()) {
+                generator.writeRaw('\n');
+            }
+        }
+        zip.closeEntry();
+        return rows.size();
+    }
+
+    private List<Map<String, Object>> notes(String athleteId) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String note : noteService.getNotes(athleteId)) {
+            rows.add(noteRow(null, note));
+        }
+        Map<LocalDate, List<String>> datedNotes = new TreeMap<>(noteService.getAllNotesForAthlete(athleteId));
+        for (Map.Entry<LocalDate, List<String>> entry : datedNotes.entrySet()) {
+            for (String note : entry.getValue()) {
+                rows.add(noteRow(entry.getKey(), note));
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> noteRow(LocalDate date, String note) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("date", date);
+        row.put("note", note);
+        return row;
+    }
+
+    private static JsonGenerator ndjsonGenerator(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return generator;
+    }
+
+    private static int percent(int sectionsDone) {
+        return sectionsDone * 100 / SECTION_COUNT;
+    }
+}
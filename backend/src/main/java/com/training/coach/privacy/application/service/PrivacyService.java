@@ -1,19 +1,25 @@
 package com.training.coach.privacy.application.service;
 
 import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.jobs.domain.model.ReportJob;
 import com.training.coach.privacy.application.port.out.ConsentLogRepository;
 import com.training.coach.privacy.application.port.out.DataDeletionRequestRepository;
 import com.training.coach.privacy.application.port.out.DataExportRequestRepository;
 import com.training.coach.privacy.domain.model.ConsentLog;
 import com.training.coach.privacy.domain.model.DataDeletionRequest;
 import com.training.coach.privacy.domain.model.DataExportRequest;
+import com.training.coach.privacy.domain.model.ErasureResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Service for handling GDPR data export and deletion requests.
@@ -27,16 +33,22 @@ public class PrivacyService {
     private final DataDeletionRequestRepository deletionRequestRepository;
     private final ConsentLogRepository consentLogRepository;
     private final AthleteRepository athleteRepository;
+    private final ReportJobService reportJobService;
+    private final PersonalDataErasureService erasureService;
 
     public PrivacyService(
             DataExportRequestRepository exportRequestRepository,
             DataDeletionRequestRepository deletionRequestRepository,
             ConsentLogRepository consentLogRepository,
-            AthleteRepository athleteRepository) {
+            AthleteRepository athleteRepository,
+            ReportJobService reportJobService,
+            PersonalDataErasureService erasureService) {
         this.exportRequestRepository = exportRequestRepository;
         this.deletionRequestRepository = deletionRequestRepository;
         this.consentLogRepository = consentLogRepository;
         this.athleteRepository = athleteRepository;
+        this.reportJobService = reportJobService;
+        this.erasureService = erasureService;
     }
 
     // === Data Export Operations ===
@@ -117,41 +129,55 @@ public class PrivacyService {
     }
 
     /**
-     * Process an approved export request and generate the export file.
+     * Start generating the export archive for an approved request.
+     *
+     * <p>The request moves to {@code PROCESSING} and a low-priority background job writes the
+     * archive; the job completes the request with the file location, size and checksum, or marks
+     * it failed.</p>
+     *
+     * @throws IllegalStateException if the request is not approved or the job queue is full
      */
     public DataExportRequest processExport(String requestId) {
         DataExportRequest request = exportRequestRepository.findById(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("Export request not found: " + requestId));
 
+        if (request.isProcessing()) {
+            return request;
+        }
         if (!request.isApproved()) {
             throw new IllegalStateException("Export request must be approved before processing");
         }
 
-        // In a real implementation, this would:
-        // 1. Gather all athlete data (profile, wellness, activities, plans, etc.)
-        // 2. Create a ZIP archive with JSON files for each data type
-        // 3. Upload to secure storage
-        // 4. Return the file path
-
-        String exportFilePath = String.format("/exports/athlete_%s_%s.zip",
-                request.athleteId(), UUID.randomUUID());
-
-        DataExportRequest completed = request.complete(exportFilePath);
-        DataExportRequest saved = exportRequestRepository.save(completed);
+        DataExportRequest processing = exportRequestRepository.save(request.startProcessing());
+        try {
+            reportJobService.submit(
+                    ReportJob.JobType.DATA_EXPORT,
+                    Map.of(DataExportJobHandler.REQUEST_ID, requestId),
+                    ReportJob.JobPriority.LOW);
+        } catch (RuntimeException e) {
+            exportRequestRepository.save(request);
+            throw e;
+        }
 
-        // Log the completion
-        ConsentLog log = ConsentLog.create(
-                request.athleteId(),
-                ConsentLog.ConsentAction.DATA_EXPORT_COMPLETED,
-                "EXPORT_COMPLETED",
-                "system",
-                requestId,
-                String.format("Export file generated: %s", exportFilePath)
-        );
-        consentLogRepository.save(log);
+        logger.info("Data export request {} queued for processing", requestId);
+        return processing;
+    }
 
-        logger.info("Data export request {} completed. File: {}", requestId, exportFilePath);
-        return saved;
+    /**
+     * Location of a completed export archive.
+     *
+     * @throws IllegalStateException if the export has not completed or the file is gone
+     */
+    public Path getExportFile(String requestId) {
+        DataExportRequest request = getExportRequest(requestId);
+        if (!request.isCompleted() || request.exportFilePath() == null) {
+            throw new IllegalStateException("Export request has not completed: " + requestId);
+        }
+        Path file = Path.of(request.exportFilePath());
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("Export file is no longer available: " + requestId);
+        }
+        return file;
     }
 
     /**
@@ -254,7 +280,9 @@ public class PrivacyService {
     }
 
     /**
-     * Process an approved deletion request.
+     * Process an approved deletion request: erase the athlete's data in every bounded context
+     * and record the exact number of deleted and anonymized rows. Consent logs are kept for
+     * legal compliance.
      */
     public DataDeletionRequest processDeletion(String requestId) {
         DataDeletionRequest request = deletionRequestRepository.findById(requestId)
@@ -264,14 +292,9 @@ public class PrivacyService {
             throw new IllegalStateException("Deletion request must be approved before processing");
         }
 
-        // In a real implementation, this would:
-        // 1. Identify all data for the athlete across all bounded contexts
-        // 2. Delete or anonymize records based on retention requirements
-        // 3. Keep audit logs (consent logs) for legal compliance
-        // 4. Return counts of deleted and anonymized records
-
-        int recordsDeleted = 0;  // Placeholder
-        int recordsAnonymized = 0;  // Placeholder
+        ErasureResult result = erasureService.erase(request.athleteId(), false);
+        int recordsDeleted = Math.toIntExact(result.totalDeleted());
+        int recordsAnonymized = Math.toIntExact(result.totalAnonymized());
 
         DataDeletionRequest completed = request.complete(recordsDeleted, recordsAnonymized);
         DataDeletionRequest saved = deletionRequestRepository.save(completed);
@@ -283,8 +306,8 @@ public class PrivacyService {
                 "DELETION_COMPLETED",
                 "system",
                 requestId,
-                String.format("Deletion completed. Deleted: %d, Anonymized: %d",
-                        recordsDeleted, recordsAnonymized)
+                String.format("Deletion completed. Deleted: %d, Anonymized: %d. By context: %s",
+                        recordsDeleted, recordsAnonymized, describe(result))
         );
         consentLogRepository.save(log);
 
@@ -293,6 +316,15 @@ public class PrivacyService {
         return saved;
     }
 
+    /**
+     * Count what processing a deletion request would delete and anonymize, without changing anything.
+     */
+    public ErasureResult previewDeletion(String requestId) {
+        DataDeletionRequest request = deletionRequestRepository.findById(requestId)
+                .orElseThrow(() -> new IllegalArgumentException("Deletion request not found: " + requestId));
+        return erasureService.erase(request.athleteId(), true);
+    }
+
     /**
      * Get a data deletion request by ID.
      */
@@ -345,4 +377,10 @@ public class PrivacyService {
     public List<ConsentLog> getLogsForRequest(String requestId) {
         return consentLogRepository.findByRequestId(requestId);
     }
+
+    private static String describe(ErasureResult result) {
+        return result.contexts().stream()
+                .map(count -> String.format("%s=%d/%d", count.context(), count.deleted(), count.anonymized()))
+                .collect(Collectors.joining(", "));
+    }
 }
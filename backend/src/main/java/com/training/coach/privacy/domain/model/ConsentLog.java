@@ -62,6 +62,7 @@ public record ConsentLog(
         DATA_EXPORT_APPROVED,
         DATA_EXPORT_COMPLETED,
         DATA_EXPORT_REJECTED,
+        DATA_EXPORT_FAILED,
         DATA_DELETION_REQUESTED,
         DATA_DELETION_APPROVED,
         DATA_DELETION_COMPLETED,
@@ -16,6 +16,9 @@ public record DataExportRequest(
         Instant completedAt,
         String exportFilePath,
         String rejectionReason,
+        Long exportSizeBytes,
+        String exportChecksum,
+        String failureReason,
         RequestMetadata metadata
 ) {
     public DataExportRequest {
@@ -40,6 +43,9 @@ public record DataExportRequest(
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
                 RequestMetadata.now()
         );
     }
@@ -58,12 +64,46 @@ public record DataExportRequest(
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
                 metadata
         );
     }
 
-    public DataExportRequest complete(String exportFilePath) {
+    /**
+     * Mark the export as being generated in the background.
+     */
+    public DataExportRequest startProcessing() {
         if (this.status != RequestStatus.APPROVED) {
+            throw new IllegalStateException("Can only process approved requests");
+        }
+        return new DataExportRequest(
+                id,
+                athleteId,
+                RequestStatus.PROCESSING,
+                requestedAt,
+                approvedAt,
+                approvedBy,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                metadata
+        );
+    }
+
+    public DataExportRequest complete(String exportFilePath) {
+        return complete(exportFilePath, null, null);
+    }
+
+    /**
+     * Record the generated archive with its size and SHA-256 checksum.
+     */
+    public DataExportRequest complete(String exportFilePath, Long exportSizeBytes, String exportChecksum) {
+        if (this.status != RequestStatus.APPROVED && this.status != RequestStatus.PROCESSING) {
             throw new IllegalStateException("Can only complete approved requests");
         }
         return new DataExportRequest(
@@ -76,6 +116,30 @@ public record DataExportRequest(
                 Instant.now(),
                 exportFilePath,
                 null,
+                exportSizeBytes,
+                exportChecksum,
+                null,
+                metadata
+        );
+    }
+
+    public DataExportRequest fail(String failureReason) {
+        if (this.status != RequestStatus.APPROVED && this.status != RequestStatus.PROCESSING) {
+            throw new IllegalStateException("Can only fail requests that are being processed");
+        }
+        return new DataExportRequest(
+                id,
+                athleteId,
+                RequestStatus.FAILED,
+                requestedAt,
+                approvedAt,
+                approvedBy,
+                Instant.now(),
+                null,
+                null,
+                null,
+                null,
+                failureReason,
                 metadata
         );
     }
@@ -94,6 +158,9 @@ public record DataExportRequest(
                 null,
                 null,
                 reason,
+                null,
+                null,
+                null,
                 metadata
         );
     }
@@ -106,12 +173,16 @@ public record DataExportRequest(
         return status == RequestStatus.APPROVED;
     }
 
+    public boolean isProcessing() {
+        return status == RequestStatus.PROCESSING;
+    }
+
     public boolean isCompleted() {
         return status == RequestStatus.COMPLETED;
     }
 
     public enum RequestStatus {
-        PENDING, APPROVED, REJECTED, COMPLETED, FAILED
+        PENDING, APPROVED, PROCESSING, REJECTED, COMPLETED, FAILED
     }
 
     public record RequestMetadata(
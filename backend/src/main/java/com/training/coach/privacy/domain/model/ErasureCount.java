@@ -0,0 +1,24 @@
+package com.training.coach.privacy.domain.model;
+
+/**
+ * Rows deleted and anonymized for one athlete in one bounded context.
+ */
+public record ErasureCount(String context, long deleted, long anonymized) {
+
+    public ErasureCount {
+        if (context == null || context.isBlank()) {
+            throw new IllegalArgumentException("Context cannot be null or blank");
+        }
+        if (deleted < 0 || anonymized < 0) {
+            throw new IllegalArgumentException("Counts cannot be negative");
+        }
+    }
+
+    public static ErasureCount deleted(String context, long deleted) {
+        return new ErasureCount(context, deleted, 0);
+    }
+
+    public static ErasureCount anonymized(String context, long anonymized) {
+        return new ErasureCount(context, 0, anonymized);
+    }
+}
@@ -0,0 +1,22 @@
+package com.training.coach.privacy.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of erasing an athlete's personal data across all bounded contexts.
+ * In a dry run the counts are what would be deleted or anonymized and nothing is changed.
+ */
+public record ErasureResult(String athleteId, boolean dryRun, List<ErasureCount> contexts) {
+
+    public ErasureResult {
+        contexts = contexts == null ? List.of() : List.copyOf(contexts);
+    }
+
+    public long totalDeleted() {
+        return contexts.stream().mapToLong(ErasureCount::deleted).sum();
+    }
+
+    public long totalAnonymized() {
+        return contexts.stream().mapToLong(ErasureCount::anonymized).sum();
+    }
+}
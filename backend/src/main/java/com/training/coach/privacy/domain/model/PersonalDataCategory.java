@@ -0,0 +1,21 @@
+package com.training.coach.privacy.domain.model;
+
+/**
+ * Bulk personal data read page by page during a GDPR export, with the archive entry it is written to.
+ */
+public enum PersonalDataCategory {
+    WELLNESS("wellness.ndjson"),
+    ACTIVITIES("activities.ndjson"),
+    PLAN_VERSIONS("plan-versions.ndjson"),
+    PLAN_WORKOUTS("plan-workouts.ndjson");
+
+    private final String entryName;
+
+    PersonalDataCategory(String entryName) {
+        this.entryName = entryName;
+    }
+
+    public String entryName() {
+        return entryName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.training.coach.privacy.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of personal data rows in export order.
+ *
+ * @param rows the rows of this page, as field name to value
+ * @param nextCursor keyset cursor of the last row, to pass when reading the next page; null on the last page
+ */
+public record PersonalDataPage(List<Map<String, Object>> rows, String nextCursor) {
+
+    public PersonalDataPage {
+        rows = rows == null ? List.of() : List.copyOf(rows);
+    }
+
+    public static PersonalDataPage last(List<Map<String, Object>> rows) {
+        return new PersonalDataPage(rows, null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes an athlete's synced activities with one statement on the (athlete_id, date) index.
+ */
+@Component
+@Profile("!test")
+public class ActivityDataEraser implements PersonalDataEraser {
+
+    private final ActivityJpaRepository activityRepository;
+
+    public ActivityDataEraser(ActivityJpaRepository activityRepository) {
+        this.activityRepository = activityRepository;
+    }
+
+    @Override
+    public String context() {
+        return "activities";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), activityRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), activityRepository.bulkDeleteByAthleteId(athleteId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.athlete.infrastructure.persistence.AthleteJpaRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes the athlete profile row.
+ */
+@Component
+@Profile("!test")
+public class AthleteProfileEraser implements PersonalDataEraser {
+
+    private final AthleteJpaRepository athleteRepository;
+
+    public AthleteProfileEraser(AthleteJpaRepository athleteRepository) {
+        this.athleteRepository = athleteRepository;
+    }
+
+    @Override
+    public String context() {
+        return "athlete-profile";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), athleteRepository.existsById(athleteId) ? 1 : 0);
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), athleteRepository.bulkDeleteById(athleteId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.feedback.application.service.NoteService;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes coach notes about the athlete, including date-linked ones.
+ */
+@Component
+public class CoachNoteEraser implements PersonalDataEraser {
+
+    private final NoteService noteService;
+
+    public CoachNoteEraser(NoteService noteService) {
+        this.noteService = noteService;
+    }
+
+    @Override
+    public String context() {
+        return "notes";
+    }
+
+    @Override
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), noteCount(athleteId));
+    }
+
+    @Override
+    public ErasureCount erase(String athleteId) {
+        long notes = noteCount(athleteId);
+        noteService.deleteNotesForAthlete(athleteId);
+        return ErasureCount.deleted(context(), notes);
+    }
+
+    private long noteCount(String athleteId) {
+        long dated = noteService.getAllNotesForAthlete(athleteId).values().stream()
+                .mapToLong(List::size)
+                .sum();
+        return noteService.getNotes(athleteId).size() + dated;
+    }
+}
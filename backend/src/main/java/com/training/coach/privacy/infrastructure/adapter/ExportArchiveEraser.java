@@ -0,0 +1,60 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.privacy.application.port.out.DataExportRequestRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.DataExportRequest;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes generated GDPR export archives of the athlete. The export requests themselves are
+ * kept as part of the audit trail.
+ */
+@Component
+public class ExportArchiveEraser implements PersonalDataEraser {
+
+    private final DataExportRequestRepository exportRequestRepository;
+
+    public ExportArchiveEraser(DataExportRequestRepository exportRequestRepository) {
+        this.exportRequestRepository = exportRequestRepository;
+    }
+
+    @Override
+    public String context() {
+        return "export-archives";
+    }
+
+    @Override
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), archives(athleteId).size());
+    }
+
+    @Override
+    public ErasureCount erase(String athleteId) {
+        long deleted = 0;
+        for (Path archive : archives(athleteId)) {
+            try {
+                if (Files.deleteIfExists(archive)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not delete export archive " + archive, e);
+            }
+        }
+        return ErasureCount.deleted(context(), deleted);
+    }
+
+    private List<Path> archives(String athleteId) {
+        return exportRequestRepository.findByAthleteId(athleteId).stream()
+                .map(DataExportRequest::exportFilePath)
+                .filter(path -> path != null && !path.isBlank())
+                .map(Path::of)
+                .filter(Files::exists)
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.analysis.application.port.out.GuardrailAuditLog;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes an athlete's guardrail decisions by compacting the audit log segments that hold them.
+ */
+@Component
+@Profile("!test")
+public class GuardrailAuditDataEraser implements PersonalDataEraser {
+
+    private final GuardrailAuditLog auditLog;
+
+    public GuardrailAuditDataEraser(GuardrailAuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public String context() {
+        return "guardrail-audit";
+    }
+
+    @Override
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), auditLog.countByAthleteId(athleteId));
+    }
+
+    @Override
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), auditLog.eraseByAthleteId(athleteId));
+    }
+}
@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.athlete.infrastructure.persistence.NotificationOutboxJpaRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes the outbox notifications sent to an athlete or raised about them, pending or not.
+ */
+@Component
+@Profile("!test")
+public class NotificationOutboxEraser implements PersonalDataEraser {
+
+    private final NotificationOutboxJpaRepository outboxRepository;
+
+    public NotificationOutboxEraser(NotificationOutboxJpaRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public String context() {
+        return "notification-outbox";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), outboxRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), outboxRepository.bulkDeleteByAthleteId(athleteId));
+    }
+}
@@ -0,0 +1,103 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.activity.infrastructure.persistence.entity.ActivityLightEntity;
+import com.training.coach.privacy.application.port.out.PersonalDataExportRepository;
+import com.training.coach.privacy.domain.model.PersonalDataCategory;
+import com.training.coach.privacy.domain.model.PersonalDataPage;
+import com.training.coach.trainingplan.infrastructure.persistence.PlanVersionJpaRepository;
+import com.training.coach.trainingplan.infrastructure.persistence.PlanWorkoutJpaRepository;
+import com.training.coach.trainingplan.infrastructure.persistence.ScheduledWorkoutRow;
+import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionEntity;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import com.training.coach.wellness.infrastructure.persistence.entity.WellnessSnapshotEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads export pages straight from the stored rows with keyset queries, so each page costs one
+ * index range scan regardless of how deep into an athlete's history the export is.
+ *
+ * <p>Wellness and activities are keyed by (date, id), since an athlete may have several rows on
+ * one day, and plan rows by id. Rows are exported as stored.</p>
+ */
+@Component
+@Profile("!test")
+public class PersonalDataExportAdapter implements PersonalDataExportRepository {
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final WellnessJpaRepository wellnessRepository;
+    private final ActivityJpaRepository activityRepository;
+    private final PlanVersionJpaRepository planVersionRepository;
+    private final PlanWorkoutJpaRepository planWorkoutRepository;
+
+    public PersonalDataExportAdapter(
+            WellnessJpaRepository wellnessRepository,
+            ActivityJpaRepository activityRepository,
+            PlanVersionJpaRepository planVersionRepository,
+            PlanWorkoutJpaRepository planWorkoutRepository) {
+        this.wellnessRepository = wellnessRepository;
+        this.activityRepository = activityRepository;
+        this.planVersionRepository = planVersionRepository;
+        this.planWorkoutRepository = planWorkoutRepository;
+    }
+
+    @Override
+    public PersonalDataPage findPage(PersonalDataCategory category, String athleteId, String cursor, int limit) {
+        Limit pageLimit = Limit.of(limit);
+        return switch (category) {
+            case WELLNESS -> page(wellnessPage(athleteId, cursor, pageLimit), limit,
+                    (WellnessSnapshotEntity entity) -> entity.getDate() + CURSOR_SEPARATOR + entity.getId());
+            case ACTIVITIES -> page(activityPage(athleteId, cursor, pageLimit), limit,
+                    (ActivityLightEntity entity) -> entity.getDate() + CURSOR_SEPARATOR + entity.getId());
+            case PLAN_VERSIONS -> page(
+                    planVersionRepository.findByAthleteIdAfter(athleteId, cursor == null ? "" : cursor, pageLimit),
+                    limit,
+                    PlanVersionEntity::getId);
+            case PLAN_WORKOUTS -> page(
+                    planWorkoutRepository.findByAthleteIdAfter(athleteId, cursor == null ? "" : cursor, pageLimit),
+                    limit,
+                    (ScheduledWorkoutRow row) -> row.workout().getId());
+        };
+    }
+
+    private List<WellnessSnapshotEntity> wellnessPage(String athleteId, String cursor, Limit limit) {
+        if (cursor == null) {
+            return wellnessRepository.findByAthleteIdOrderByDateAscIdAsc(athleteId, limit);
+        }
+        int separator = cursor.indexOf(CURSOR_SEPARATOR);
+        return wellnessRepository.findByAthleteIdAfter(
+                athleteId, LocalDate.parse(cursor.substring(0, separator)), cursor.substring(separator + 1), limit);
+    }
+
+    private List<ActivityLightEntity> activityPage(String athleteId, String cursor, Limit limit) {
+        if (cursor == null) {
+            return activityRepository.findByAthleteIdOrderByDateAscIdAsc(athleteId, limit);
+        }
+        int separator = cursor.indexOf(CURSOR_SEPARATOR);
+        return activityRepository.findByAthleteIdAfter(
+                athleteId, LocalDate.parse(cursor.substring(0, separator)), cursor.substring(separator + 1), limit);
+    }
+
+    private static <T> PersonalDataPage page(List<T> rows, int limit, Function<T, String> cursorOf) {
+        List<Map<String, Object>> converted =
+                rows.stream().map(row -> OBJECT_MAPPER.convertValue(row, ROW_TYPE)).toList();
+        if (rows.size() < limit) {
+            return PersonalDataPage.last(converted);
+        }
+        return new PersonalDataPage(converted, cursorOf.apply(rows.get(rows.size() - 1)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.jobs.application.port.out.ReportJobRepository;
+import com.training.coach.jobs.application.service.ReportJobProperties;
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.reporting.application.service.WeeklyReportExportJobHandler;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the background report jobs holding the athlete's data, with their result and partial files.
+ *
+ * <p>These are the weekly report exports listing the athlete, and every organization report, since
+ * each one covers all athletes of the organization. Both are regenerated on the next submission.</p>
+ */
+@Component
+public class ReportJobEraser implements PersonalDataEraser {
+
+    private final ReportJobRepository jobRepository;
+    private final Path outputDirectory;
+
+    public ReportJobEraser(ReportJobRepository jobRepository, ReportJobProperties properties) {
+        this.jobRepository = jobRepository;
+        this.outputDirectory = Path.of(properties.outputDirectory());
+    }
+
+    @Override
+    public String context() {
+        return "report-jobs";
+    }
+
+    @Override
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), jobs(athleteId).size());
+    }
+
+    @Override
+    public ErasureCount erase(String athleteId) {
+        List<ReportJob> jobs = jobs(athleteId);
+        for (ReportJob job : jobs) {
+            if (job.resultPath() != null) {
+                delete(Path.of(job.resultPath()));
+            }
+            delete(outputDirectory.resolve(job.id() + ".part"));
+            jobRepository.deleteById(job.id());
+        }
+        return ErasureCount.deleted(context(), jobs.size());
+    }
+
+    private List<ReportJob> jobs(String athleteId) {
+        Stream<ReportJob> exports = jobRepository
+                .findByTypeAndParametersContaining(ReportJob.JobType.WEEKLY_REPORT_EXPORT, athleteId)
+                .stream()
+                .filter(job -> WeeklyReportExportJobHandler.athleteIds(job.parameters()).contains(athleteId));
+        return Stream.concat(exports, jobRepository.findByType(ReportJob.JobType.ORGANIZATION_REPORT).stream())
+                .toList();
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete report job file " + file, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.trainingplan.infrastructure.persistence.PlanVersionJpaRepository;
+import com.training.coach.trainingplan.infrastructure.persistence.PlanWorkoutJpaRepository;
+import com.training.coach.trainingplan.infrastructure.persistence.TrainingPlanJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes an athlete's plans with their versions and workouts, children first, in one transaction.
+ */
+@Component
+@Profile("!test")
+public class TrainingPlanDataEraser implements PersonalDataEraser {
+
+    private final TrainingPlanJpaRepository trainingPlanRepository;
+    private final PlanVersionJpaRepository planVersionRepository;
+    private final PlanWorkoutJpaRepository planWorkoutRepository;
+
+    public TrainingPlanDataEraser(
+            TrainingPlanJpaRepository trainingPlanRepository,
+            PlanVersionJpaRepository planVersionRepository,
+            PlanWorkoutJpaRepository planWorkoutRepository) {
+        this.trainingPlanRepository = trainingPlanRepository;
+        this.planVersionRepository = planVersionRepository;
+        this.planWorkoutRepository = planWorkoutRepository;
+    }
+
+    @Override
+    public String context() {
+        return "training-plans";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        long rows = planWorkoutRepository.countByAthleteId(athleteId)
+                + planVersionRepository.countByAthleteId(athleteId)
+                + trainingPlanRepository.countByAthleteId(athleteId);
+        return ErasureCount.deleted(context(), rows);
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        long rows = planWorkoutRepository.bulkDeleteByAthleteId(athleteId);
+        rows += planVersionRepository.bulkDeleteByAthleteId(athleteId);
+        rows += trainingPlanRepository.bulkDeleteByAthleteId(athleteId);
+        return ErasureCount.deleted(context(), rows);
+    }
+}
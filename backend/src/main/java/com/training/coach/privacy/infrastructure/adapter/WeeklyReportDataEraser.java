@@ -0,0 +1,54 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.reporting.infrastructure.persistence.WeeklyReportJpaRepository;
+import com.training.coach.reporting.infrastructure.persistence.WeeklyReportRepositoryAdapter;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Anonymizes an athlete's stored weekly reports. The numeric rollups are kept under a random
+ * pseudonym for historical cohort statistics; names and free-text parts are replaced with empty
+ * JSON, so the reports still load and export.
+ */
+@Component
+@Profile("!test")
+public class WeeklyReportDataEraser implements PersonalDataEraser {
+
+    private static final String PSEUDONYM_PREFIX = "erased-";
+
+    private final WeeklyReportJpaRepository weeklyReportRepository;
+
+    public WeeklyReportDataEraser(WeeklyReportJpaRepository weeklyReportRepository) {
+        this.weeklyReportRepository = weeklyReportRepository;
+    }
+
+    @Override
+    public String context() {
+        return "weekly-reports";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.anonymized(context(), weeklyReportRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        String pseudonym = PSEUDONYM_PREFIX + UUID.randomUUID();
+        int anonymized = weeklyReportRepository.anonymizeByAthleteId(
+                athleteId,
+                pseudonym,
+                WeeklyReportRepositoryAdapter.EMPTY_READINESS_TREND_JSON,
+                WeeklyReportRepositoryAdapter.EMPTY_COMPLIANCE_JSON,
+                WeeklyReportRepositoryAdapter.EMPTY_LIST_JSON,
+                Instant.now());
+        return ErasureCount.anonymized(context(), anonymized);
+    }
+}
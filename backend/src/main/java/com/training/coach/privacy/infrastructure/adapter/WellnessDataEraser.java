@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes an athlete's wellness snapshots with one statement on the athlete_id index.
+ */
+@Component
+@Profile("!test")
+public class WellnessDataEraser implements PersonalDataEraser {
+
+    private final WellnessJpaRepository wellnessRepository;
+
+    public WellnessDataEraser(WellnessJpaRepository wellnessRepository) {
+        this.wellnessRepository = wellnessRepository;
+    }
+
+    @Override
+    public String context() {
+        return "wellness";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), wellnessRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), wellnessRepository.bulkDeleteByAthleteId(athleteId));
+    }
+}
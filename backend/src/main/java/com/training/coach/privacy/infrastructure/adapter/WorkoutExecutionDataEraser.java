@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.workout.infrastructure.persistence.WorkoutExecutionJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes the workout executions recorded from an athlete's matched activities.
+ */
+@Component
+@Profile("!test")
+public class WorkoutExecutionDataEraser implements PersonalDataEraser {
+
+    private final WorkoutExecutionJpaRepository workoutExecutionRepository;
+
+    public WorkoutExecutionDataEraser(WorkoutExecutionJpaRepository workoutExecutionRepository) {
+        this.workoutExecutionRepository = workoutExecutionRepository;
+    }
+
+    @Override
+    public String context() {
+        return "workout-executions";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), workoutExecutionRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), workoutExecutionRepository.bulkDeleteByAthleteId(athleteId));
+    }
+}
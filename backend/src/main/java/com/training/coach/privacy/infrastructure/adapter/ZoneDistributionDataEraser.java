@@ -0,0 +1,39 @@
+package com.training.coach.privacy.infrastructure.adapter;
+
+import com.training.coach.analysis.infrastructure.persistence.ZoneDistributionJpaRepository;
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes an athlete's planned and actual zone distribution cells.
+ */
+@Component
+@Profile("!test")
+public class ZoneDistributionDataEraser implements PersonalDataEraser {
+
+    private final ZoneDistributionJpaRepository zoneDistributionRepository;
+
+    public ZoneDistributionDataEraser(ZoneDistributionJpaRepository zoneDistributionRepository) {
+        this.zoneDistributionRepository = zoneDistributionRepository;
+    }
+
+    @Override
+    public String context() {
+        return "zone-distribution";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ErasureCount count(String athleteId) {
+        return ErasureCount.deleted(context(), zoneDistributionRepository.countByAthleteId(athleteId));
+    }
+
+    @Override
+    @Transactional
+    public ErasureCount erase(String athleteId) {
+        return ErasureCount.deleted(context(), zoneDistributionRepository.bulkDeleteByAthleteId(athleteId));
+    }
+}
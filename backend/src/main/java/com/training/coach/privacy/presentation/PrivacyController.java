@@ -4,10 +4,19 @@ import com.training.coach.privacy.application.service.PrivacyService;
 import com.training.coach.privacy.domain.model.ConsentLog;
 import com.training.coach.privacy.domain.model.DataDeletionRequest;
 import com.training.coach.privacy.domain.model.DataExportRequest;
+import com.training.coach.privacy.domain.model.ErasureResult;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +28,8 @@ import java.util.Map;
 @RequestMapping("/api/privacy")
 public class PrivacyController {
 
+    private static final int READ_BUFFER_SIZE = 8192;
+
     private final PrivacyService privacyService;
 
     public PrivacyController(PrivacyService privacyService) {
@@ -63,12 +74,35 @@ public class PrivacyController {
     }
 
     /**
-     * Process an approved export request.
+     * Start generating the export archive for an approved request in the background.
      */
     @PostMapping("/export/{requestId}/process")
     public ResponseEntity<DataExportRequest> processExport(@PathVariable String requestId) {
         DataExportRequest request = privacyService.processExport(requestId);
-        return ResponseEntity.ok(request);
+        return ResponseEntity.accepted().body(request);
+    }
+
+    /**
+     * Download a completed export archive.
+     */
+    @GetMapping("/export/{requestId}/download")
+    public ResponseEntity<Flux<DataBuffer>> downloadExport(@PathVariable String requestId) {
+        try {
+            DataExportRequest request = privacyService.getExportRequest(requestId);
+            Path file = privacyService.getExportFile(requestId);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"athlete_" + request.athleteId() + "_export.zip\"")
+                    .contentType(MediaType.parseMediaType("application/zip"));
+            if (request.exportSizeBytes() != null) {
+                response.contentLength(request.exportSizeBytes());
+            }
+            return response.body(DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, READ_BUFFER_SIZE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     /**
@@ -145,6 +179,16 @@ public class PrivacyController {
         return ResponseEntity.ok(request);
     }
 
+    /**
+     * Dry run of processing a deletion request: per-context counts of what would be deleted
+     * and anonymized. Nothing is changed.
+     */
+    @GetMapping("/deletion/{requestId}/dry-run")
+    public ResponseEntity<ErasureResult> previewDeletion(@PathVariable String requestId) {
+        ErasureResult result = privacyService.previewDeletion(requestId);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get a data deletion request by ID.
      */
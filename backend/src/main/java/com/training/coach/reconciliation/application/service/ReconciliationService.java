@@ -2,17 +2,25 @@ package com.training.coach.reconciliation.application.service;
 
 import com.training.coach.reconciliation.application.port.out.DataConflictRepository;
 import com.training.coach.reconciliation.application.port.out.PrecedenceRuleRepository;
+import com.training.coach.reconciliation.domain.model.ActivityFingerprint;
 import com.training.coach.reconciliation.domain.model.DataConflict;
+import com.training.coach.reconciliation.domain.model.DuplicateBlockingIndex;
 import com.training.coach.reconciliation.domain.model.PrecedenceRule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for detecting and reconciling conflicts between multiple fitness platforms.
@@ -52,17 +60,90 @@ public class ReconciliationService {
         );
 
         // Check if we have a precedence rule
-        ruleRepository.findActiveByAthleteId(athleteId).ifPresent(rule -> {
-            String primaryPlatform = rule.getPrimaryPlatform();
-            DataConflict resolved = autoResolve(conflict, rule, primaryPlatform);
-            conflictRepository.save(resolved);
-        });
+        DataConflict outcome = ruleRepository.findActiveByAthleteId(athleteId)
+                .map(rule -> autoResolve(conflict, rule, primaryPlatformAmong(rule, conflict)))
+                .orElse(conflict);
 
-        DataConflict saved = conflictRepository.save(conflict);
+        DataConflict saved = conflictRepository.save(outcome);
         logger.info("Detected duplicate activity for athlete {} on {}", athleteId, activityDate);
         return saved;
     }
 
+    /**
+     * Detect duplicates of newly ingested activities.
+     *
+     * <p>Candidates are blocked by athlete and start-time bucket, so each new activity is only compared with the
+     * activities in its own and the neighbouring buckets. {@code existing} should be limited to the ingested
+     * window; new activities are indexed as they are processed so duplicates within the batch are found too.
+     * Activities already covered by a stored conflict are not reported again.</p>
+     */
+    public ReconciliationResult detectDuplicates(
+            String athleteId,
+            List<ActivityFingerprint> incoming,
+            List<ActivityFingerprint> existing
+    ) {
+        DuplicateBlockingIndex index = new DuplicateBlockingIndex();
+        existing.forEach(index::add);
+
+        Map<String, String> clusterOf = new HashMap<>();
+        Map<String, List<ActivityFingerprint>> clusters = new LinkedHashMap<>();
+        for (ActivityFingerprint fingerprint : incoming) {
+            index.bestMatch(fingerprint).ifPresent(match -> {
+                String anchor = clusterOf.computeIfAbsent(match.key(), k -> k);
+                clusters.computeIfAbsent(anchor, k -> new ArrayList<>(List.of(match))).add(fingerprint);
+                clusterOf.put(fingerprint.key(), anchor);
+            });
+            index.add(fingerprint);
+        }
+
+        Optional<PrecedenceRule> rule = clusters.isEmpty()
+                ? Optional.empty()
+                : ruleRepository.findActiveByAthleteId(athleteId);
+
+        int duplicatesDetected = 0;
+        int autoResolved = 0;
+        int requiresReview = 0;
+        for (List<ActivityFingerprint> cluster : clusters.values()) {
+            LocalDateTime activityDate = cluster.stream()
+                    .map(ActivityFingerprint::startTime)
+                    .min(LocalDateTime::compareTo)
+                    .orElseThrow();
+            if (alreadyRecorded(athleteId, activityDate, cluster)) {
+                continue;
+            }
+
+            DataConflict conflict = DataConflict.create(
+                    athleteId,
+                    activityDate,
+                    DataConflict.ConflictType.DUPLICATE,
+                    conflictRecords(cluster)
+            );
+            DataConflict outcome = rule
+                    .map(r -> autoResolve(conflict, r, primaryPlatformAmong(r, conflict)))
+                    .orElse(conflict);
+            conflictRepository.save(outcome);
+
+            duplicatesDetected++;
+            if (outcome.isResolved()) {
+                autoResolved++;
+            } else if (outcome.requiresManualReview()) {
+                requiresReview++;
+            }
+        }
+
+        if (duplicatesDetected > 0) {
+            logger.info("Detected {} duplicate activities for athlete {} among {} new activities",
+                    duplicatesDetected, athleteId, incoming.size());
+        }
+        return new ReconciliationResult(
+                duplicatesDetected,
+                0,
+                autoResolved,
+                requiresReview,
+                LocalDateTime.now()
+        );
+    }
+
     /**
      * Detect overlapping activities.
      */
@@ -175,6 +256,13 @@ public class ReconciliationService {
                 .orElseThrow(() -> new IllegalArgumentException("No precedence rule found for athlete: " + athleteId));
     }
 
+    /**
+     * Get the conflicts recorded for an athlete on a day.
+     */
+    public List<DataConflict> getConflictsForDate(String athleteId, LocalDate date) {
+        return conflictRepository.findByDate(athleteId, date.atStartOfDay());
+    }
+
     /**
      * Get all unresolved conflicts for an athlete.
      */
@@ -193,57 +281,65 @@ public class ReconciliationService {
      * Run reconciliation for an athlete's activities.
      */
     public ReconciliationResult runReconciliation(String athleteId, List<Map<String, Object>> activities) {
-        // Group activities by date/time
-        Map<LocalDateTime, Map<String, DataConflict.ConflictRecord>> groupedByDate = new HashMap<>();
-
+        List<ActivityFingerprint> fingerprints = new ArrayList<>(activities.size());
         for (Map<String, Object> activity : activities) {
-            String platform = (String) activity.get("platform");
-            String activityId = (String) activity.get("activityId");
-            LocalDateTime startTime = (LocalDateTime) activity.get("startTime");
-            double duration = ((Number) activity.getOrDefault("duration", 0)).doubleValue();
-
-            DataConflict.ConflictRecord record = new DataConflict.ConflictRecord(
-                    platform,
-                    activityId,
-                    duration,
-                    startTime,
-                    activity
-            );
-
-            groupedByDate.computeIfAbsent(startTime, k -> new HashMap<>()).put(platform, record);
+            Object distance = activity.get("distanceKm");
+            fingerprints.add(new ActivityFingerprint(
+                    athleteId,
+                    (String) activity.get("platform"),
+                    (String) activity.get("activityId"),
+                    (LocalDateTime) activity.get("startTime"),
+                    ((Number) activity.getOrDefault("duration", 0)).doubleValue(),
+                    distance instanceof Number number ? number.doubleValue() : null
+            ));
         }
+        return detectDuplicates(athleteId, fingerprints, List.of());
+    }
 
-        // Detect conflicts
-        int duplicatesDetected = 0;
-        int overlapsDetected = 0;
-        int autoResolved = 0;
-        int requiresReview = 0;
+    private boolean alreadyRecorded(String athleteId, LocalDateTime activityDate, List<ActivityFingerprint> cluster) {
+        Set<String> activityIds = cluster.stream().map(ActivityFingerprint::activityId).collect(Collectors.toSet());
+        return conflictRepository.findByDate(athleteId, activityDate).stream()
+                .filter(conflict -> conflict.type() == DataConflict.ConflictType.DUPLICATE)
+                .anyMatch(conflict -> conflict.conflictingRecords().values().stream()
+                        .map(DataConflict.ConflictRecord::activityId)
+                        .collect(Collectors.toSet())
+                        .containsAll(activityIds));
+    }
 
-        for (Map.Entry<LocalDateTime, Map<String, DataConflict.ConflictRecord>> entry : groupedByDate.entrySet()) {
-            if (entry.getValue().size() > 1) {
-                DataConflict conflict = detectDuplicates(
-                        athleteId,
-                        entry.getKey(),
-                        entry.getValue()
-                );
-
-                if (conflict.isResolved()) {
-                    autoResolved++;
-                } else if (conflict.requiresManualReview()) {
-                    requiresReview++;
-                }
-
-                duplicatesDetected++;
-            }
+    /**
+     * Records are keyed by platform. Same-platform activities are never paired directly, but two of them can
+     * both match one activity from another platform; they are then keyed per activity, which leaves the
+     * conflict for manual review since no single platform record can be retained.
+     */
+    private static Map<String, DataConflict.ConflictRecord> conflictRecords(List<ActivityFingerprint> cluster) {
+        Map<String, Long> perPlatform = cluster.stream()
+                .collect(Collectors.groupingBy(ActivityFingerprint::platform, Collectors.counting()));
+        Map<String, DataConflict.ConflictRecord> records = new LinkedHashMap<>();
+        for (ActivityFingerprint fingerprint : cluster) {
+            String key = perPlatform.get(fingerprint.platform()) > 1 ? fingerprint.key() : fingerprint.platform();
+            records.put(key, fingerprint.toConflictRecord());
         }
+        return records;
+    }
 
-        return new ReconciliationResult(
-                duplicatesDetected,
-                overlapsDetected,
-                autoResolved,
-                requiresReview,
-                LocalDateTime.now()
-        );
+    /**
+     * The platform with the highest precedence among those in the conflict, or null when none ranks first.
+     */
+    private static String primaryPlatformAmong(PrecedenceRule rule, DataConflict conflict) {
+        String primary = null;
+        int best = 0;
+        boolean tied = false;
+        for (String platform : conflict.conflictingRecords().keySet()) {
+            int precedence = rule.getPrecedence(platform);
+            if (precedence > best) {
+                primary = platform;
+                best = precedence;
+                tied = false;
+            } else if (precedence == best && precedence > 0) {
+                tied = true;
+            }
+        }
+        return tied ? null : primary;
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.training.coach.reconciliation.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The fields of an activity that duplicate detection compares, independent of the platform it came from.
+ */
+public record ActivityFingerprint(
+        String athleteId,
+        String platform,
+        String activityId,
+        LocalDateTime startTime,
+        double durationMinutes,
+        Double distanceKm
+) {
+    public ActivityFingerprint {
+        if (athleteId == null || athleteId.isBlank()) {
+            throw new IllegalArgumentException("Athlete ID cannot be null or blank");
+        }
+        if (platform == null || platform.isBlank()) {
+            throw new IllegalArgumentException("Platform cannot be null or blank");
+        }
+        if (activityId == null || activityId.isBlank()) {
+            throw new IllegalArgumentException("Activity ID cannot be null or blank");
+        }
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (durationMinutes < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative");
+        }
+    }
+
+    /**
+     * Identity of the activity on its platform; two fingerprints with the same key are the same activity.
+     */
+    public String key() {
+        return platform + ":" + activityId;
+    }
+
+    /**
+     * Convert to the record stored on a {@link DataConflict}.
+     */
+    public DataConflict.ConflictRecord toConflictRecord() {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (distanceKm != null) {
+            metadata.put("distanceKm", distanceKm);
+        }
+        return new DataConflict.ConflictRecord(platform, activityId, durationMinutes, startTime, metadata);
+    }
+}
@@ -0,0 +1,120 @@
+package com.training.coach.reconciliation.domain.model;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Blocks activity fingerprints by athlete and a coarse start-time bucket so duplicate candidates are only
+ * compared within a bucket and its two neighbours, instead of against every other activity.
+ *
+ * <p>Two activities are duplicates when their start times are at most one bucket apart and their duration
+ * and, when both are known, distance agree within tolerance. Because the start-time window equals the
+ * bucket width, any matching pair is guaranteed to sit in the same or an adjacent bucket.</p>
+ *
+ * <p>Only activities from different platforms are paired. A platform identifies each activity by its own id,
+ * so two activities it reports under different ids are two sessions, such as a double day, even when they
+ * look alike.</p>
+ */
+public final class DuplicateBlockingIndex {
+
+    public static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofHours(2);
+
+    static final double DURATION_TOLERANCE = 0.10;
+    static final double MIN_DURATION_TOLERANCE_MINUTES = 5.0;
+    static final double DISTANCE_TOLERANCE = 0.05;
+    static final double MIN_DISTANCE_TOLERANCE_KM = 0.5;
+
+    private final long bucketMinutes;
+    private final Map<BucketKey, List<ActivityFingerprint>> buckets = new HashMap<>();
+
+    public DuplicateBlockingIndex() {
+        this(DEFAULT_BUCKET_WIDTH);
+    }
+
+    public DuplicateBlockingIndex(Duration bucketWidth) {
+        if (bucketWidth == null || bucketWidth.toMinutes() < 1) {
+            throw new IllegalArgumentException("Bucket width must be at least one minute");
+        }
+        this.bucketMinutes = bucketWidth.toMinutes();
+    }
+
+    /**
+     * Add a fingerprint so later probes can match it.
+     */
+    public void add(ActivityFingerprint fingerprint) {
+        buckets.computeIfAbsent(keyOf(fingerprint.athleteId(), bucketOf(fingerprint)), k -> new ArrayList<>())
+                .add(fingerprint);
+    }
+
+    /**
+     * Find the most similar indexed duplicate of the fingerprint, probing its own and the neighbouring buckets.
+     */
+    public Optional<ActivityFingerprint> bestMatch(ActivityFingerprint fingerprint) {
+        long bucket = bucketOf(fingerprint);
+        ActivityFingerprint best = null;
+        double bestScore = 0.0;
+        for (long probe = bucket - 1; probe <= bucket + 1; probe++) {
+            for (ActivityFingerprint candidate : buckets.getOrDefault(keyOf(fingerprint.athleteId(), probe), List.of())) {
+                double score = similarity(fingerprint, candidate);
+                if (score > bestScore) {
+                    best = candidate;
+                    bestScore = score;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Similarity in (0, 1] when the two fingerprints are duplicates of each other, 0 otherwise; fingerprints
+     * from the same platform are never duplicates.
+     */
+    public double similarity(ActivityFingerprint a, ActivityFingerprint b) {
+        if (!a.athleteId().equals(b.athleteId()) || a.platform().equals(b.platform())) {
+            return 0.0;
+        }
+
+        double startGap = Math.abs(Duration.between(a.startTime(), b.startTime()).toMinutes());
+        if (startGap > bucketMinutes) {
+            return 0.0;
+        }
+
+        double durationGap = Math.abs(a.durationMinutes() - b.durationMinutes());
+        double longest = Math.max(a.durationMinutes(), b.durationMinutes());
+        if (durationGap > Math.max(MIN_DURATION_TOLERANCE_MINUTES, longest * DURATION_TOLERANCE)) {
+            return 0.0;
+        }
+
+        double score = (1.0 - startGap / bucketMinutes) + (longest == 0 ? 1.0 : 1.0 - durationGap / longest);
+        int components = 2;
+
+        if (a.distanceKm() != null && b.distanceKm() != null) {
+            double distanceGap = Math.abs(a.distanceKm() - b.distanceKm());
+            double farthest = Math.max(a.distanceKm(), b.distanceKm());
+            if (distanceGap > Math.max(MIN_DISTANCE_TOLERANCE_KM, farthest * DISTANCE_TOLERANCE)) {
+                return 0.0;
+            }
+            score += farthest == 0 ? 1.0 : 1.0 - distanceGap / farthest;
+            components++;
+        }
+
+        // Keep a pair that passed every tolerance above zero so it still counts as a match
+        return Math.max(score / components, Double.MIN_VALUE);
+    }
+
+    private long bucketOf(ActivityFingerprint fingerprint) {
+        long epochMinutes = fingerprint.startTime().toEpochSecond(ZoneOffset.UTC) / 60;
+        return Math.floorDiv(epochMinutes, bucketMinutes);
+    }
+
+    private static BucketKey keyOf(String athleteId, long bucket) {
+        return new BucketKey(athleteId, bucket);
+    }
+
+    private record BucketKey(String athleteId, long bucket) {}
+}
@@ -0,0 +1,18 @@
+package com.training.coach.reporting.application.port.out;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Tells whether the data a weekly report is built from changed after it was materialized.
+ */
+public interface ReportDataChangeRepository {
+
+    /**
+     * Latest modification time of anything the athlete's report for the range is built from: wellness, activities,
+     * workout executions and their matches, zone distribution rows, and the status of plan versions scheduling
+     * workouts within the range.
+     */
+    Optional<Instant> findLastChange(String athleteId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,16 @@
+package com.training.coach.reporting.application.port.out;
+
+import com.training.coach.reporting.domain.model.WeeklyRollup;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only access to pre-aggregated per-athlete rollups.
+ */
+public interface WeeklyRollupRepository {
+
+    /**
+     * Rollups of every stored weekly report overlapping the period, ordered by athlete and week.
+     */
+    List<WeeklyRollup> findRollupsOverlapping(LocalDate startDate, LocalDate endDate);
+}
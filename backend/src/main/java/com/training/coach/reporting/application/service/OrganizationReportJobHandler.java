@@ -0,0 +1,74 @@
+package com.training.coach.reporting.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.training.coach.jobs.application.service.ReportJobHandler;
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.reporting.domain.model.OrganizationReport;
+import com.training.coach.shared.functional.Result;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the organization report as a background job and stores it as JSON.
+ * Parameters: {@code startDate}, {@code endDate} (ISO dates).
+ */
+@Component
+public class OrganizationReportJobHandler implements ReportJobHandler {
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private final OrganizationReportService organizationReportService;
+
+    public OrganizationReportJobHandler(OrganizationReportService organizationReportService) {
+        this.organizationReportService = organizationReportService;
+    }
+
+    @Override
+    public ReportJob.JobType type() {
+        return ReportJob.JobType.ORGANIZATION_REPORT;
+    }
+
+    @Override
+    public String contentType(Map<String, String> parameters) {
+        return "application/json";
+    }
+
+    @Override
+    public String fileExtension(Map<String, String> parameters) {
+        return "json";
+    }
+
+    @Override
+    public void validate(Map<String, String> parameters) {
+        try {
+            LocalDate start = LocalDate.parse(String.valueOf(parameters.get("startDate")));
+            LocalDate end = LocalDate.parse(String.valueOf(parameters.get("endDate")));
+            if (start.isAfter(end)) {
+                throw new IllegalArgumentException("startDate must not be after endDate");
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("startDate and endDate must be ISO dates", e);
+        }
+    }
+
+    @Override
+    public void run(Map<String, String> parameters, OutputStream outputStream, JobProgress progress)
+            throws IOException {
+        progress.update(10, "Aggregating athlete rollups");
+        Result<OrganizationReport> result =
+                organizationReportService.getOrganizationReport(parameters.get("startDate"), parameters.get("endDate"));
+        if (result.isFailure()) {
+            throw new IllegalStateException(result.error()
+                    .map(Throwable::getMessage)
+                    .orElse("Organization report failed"));
+        }
+        progress.update(90, "Writing report");
+        OBJECT_MAPPER.writeValue(outputStream, result.value().get());
+    }
+}
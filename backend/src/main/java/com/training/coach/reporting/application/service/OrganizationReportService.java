@@ -1,31 +1,69 @@
 package com.training.coach.reporting.application.service;
 
-import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.athlete.application.port.out.AthleteDirectory;
+import com.training.coach.athlete.domain.model.AthleteName;
+import com.training.coach.reporting.application.port.out.WeeklyRollupRepository;
 import com.training.coach.reporting.domain.model.OrganizationReport;
+import com.training.coach.reporting.domain.model.WeeklyRollup;
 import com.training.coach.shared.functional.Result;
+import com.training.coach.wellness.application.port.out.WellnessRepository;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service for generating organization-level reports for admin use.
+ *
+ * <p>The report is read-only. Only the athletes' ids and names are loaded, and the stored weekly
+ * reports overlapping the period as rollups in one query. An athlete whose stored weeks exactly
+ * cover the period gets them combined; any other athlete gets a rollup computed from their
+ * wellness and activity data, in chunks on the reporting executor. At most
+ * {@value #MAX_PARALLEL_CHUNKS} chunks are in flight, and a chunk the executor rejects runs on the
+ * calling thread. Nothing is persisted.</p>
+ *
+ * <p>Only athletes with a known compliance, from a stored report of a week with planned workouts, count
+ * towards the average compliance.</p>
  */
 @Service
 public class OrganizationReportService {
 
     private static final Logger logger = LoggerFactory.getLogger(OrganizationReportService.class);
 
-    private final AthleteRepository athleteRepository;
-    private final WeeklyReportService weeklyReportService;
+    static final int ROLLUP_CHUNK_SIZE = 100;
+    static final int MAX_PARALLEL_CHUNKS = 4;
+
+    private final AthleteDirectory athleteDirectory;
+    private final WeeklyRollupRepository rollupRepository;
+    private final WellnessRepository wellnessRepository;
+    private final ActivityRepository activityRepository;
+    private final Executor reportingExecutor;
 
     public OrganizationReportService(
-            AthleteRepository athleteRepository,
-            WeeklyReportService weeklyReportService) {
-        this.athleteRepository = athleteRepository;
-        this.weeklyReportService = weeklyReportService;
+            AthleteDirectory athleteDirectory,
+            WeeklyRollupRepository rollupRepository,
+            WellnessRepository wellnessRepository,
+            ActivityRepository activityRepository,
+            @Qualifier("reportingExecutor") Executor reportingExecutor) {
+        this.athleteDirectory = athleteDirectory;
+        this.rollupRepository = rollupRepository;
+        this.wellnessRepository = wellnessRepository;
+        this.activityRepository = activityRepository;
+        this.reportingExecutor = reportingExecutor;
     }
 
     /**
@@ -36,65 +74,50 @@ public class OrganizationReportService {
             LocalDate start = LocalDate.parse(startDate);
             LocalDate end = LocalDate.parse(endDate);
 
-            var athletes = athleteRepository.findAll();
+            List<AthleteName> athletes = athleteDirectory.findAllNames();
 
             if (athletes.isEmpty()) {
-                return Result.success(new OrganizationReport(0, 0, 0.0, 0.0, List.of()));
+                return Result.success(new OrganizationReport(0, 0, 0.0, null, List.of()));
             }
 
-            int totalAthletes = athletes.size();
+            Map<String, WeeklyRollup> rollups = storedRollups(start, end);
+            List<String> missing = athletes.stream()
+                .map(AthleteName::id)
+                .filter(id -> !rollups.containsKey(id))
+                .toList();
+            rollups.putAll(computeRollups(missing, start, end));
+
             int activeAthletes = 0;
             double totalReadiness = 0.0;
             double totalCompliance = 0.0;
-
-            var athleteSummaries = athletes.stream()
-                .map(athlete -> {
-                    try {
-                        // Get weekly report for this athlete
-                        var report = weeklyReportService.generateWeeklyReport(
-                            athlete.id(),
-                            start,
-                            end
-                        );
-
-                        if (report != null) {
-                            activeAthletes++;
-                            totalReadiness += report.averageReadiness();
-                            totalCompliance += report.compliance().completionPercent();
-
-                            return new OrganizationReport.AthleteSummary(
-                                athlete.id(),
-                                athlete.name(),
-                                report.averageReadiness(),
-                                report.compliance().completionPercent(),
-                                report.completedActivities().size()
-                            );
-                        } else {
-                            return new OrganizationReport.AthleteSummary(
-                                athlete.id(),
-                                athlete.name(),
-                                0.0,
-                                0.0,
-                                0
-                            );
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Failed to generate report for athlete {}", athlete.id(), e);
-                        return new OrganizationReport.AthleteSummary(
-                            athlete.id(),
-                            athlete.name(),
-                            0.0,
-                            0.0,
-                            0
-                        );
+            int athletesWithPlan = 0;
+            List<OrganizationReport.AthleteSummary> athleteSummaries = new ArrayList<>(athletes.size());
+
+            for (AthleteName athlete : athletes) {
+                WeeklyRollup rollup = rollups.getOrDefault(athlete.id(), WeeklyRollup.empty(athlete.id(), start, end));
+                if (rollup.hasData()) {
+                    activeAthletes++;
+                    totalReadiness += rollup.averageReadiness();
+                    if (rollup.compliancePercent() != null) {
+                        athletesWithPlan++;
+                        totalCompliance += rollup.compliancePercent();
                     }
-                })
-                .toList();
+                }
+                athleteSummaries.add(new OrganizationReport.AthleteSummary(
+                    athlete.id(),
+                    athlete.name(),
+                    rollup.averageReadiness(),
+                    rollup.compliancePercent(),
+                    rollup.activityCount()
+                ));
+            }
 
+            int totalAthletes = athletes.size();
             double avgReadiness = activeAthletes > 0 ? totalReadiness / activeAthletes : 0.0;
-            double avgCompliance = activeAthletes > 0 ? totalCompliance / activeAthletes : 0.0;
+            Double avgCompliance = athletesWithPlan > 0 ? totalCompliance / athletesWithPlan : null;
 
-            logger.info("Generated organization report: {} athletes, {} active", totalAthletes, activeAthletes);
+            logger.info("Generated organization report: {} athletes, {} active, {} rollups computed",
+                totalAthletes, activeAthletes, missing.size());
 
             return Result.success(new OrganizationReport(
                 totalAthletes,
@@ -109,4 +132,80 @@ public class OrganizationReportService {
             return Result.failure(e);
         }
     }
+
+    /**
+     * Rollups of the athletes whose stored weeks lie within the period and follow each other from its first
+     * to its last day.
+     */
+    private Map<String, WeeklyRollup> storedRollups(LocalDate start, LocalDate end) {
+        Map<String, List<WeeklyRollup>> weeksByAthlete = rollupRepository.findRollupsOverlapping(start, end).stream()
+            .collect(Collectors.groupingBy(WeeklyRollup::athleteId));
+        Map<String, WeeklyRollup> rollups = new HashMap<>();
+        weeksByAthlete.forEach((athleteId, weeks) -> {
+            if (covers(weeks, start, end)) {
+                rollups.put(athleteId, WeeklyRollup.combine(athleteId, start, end, weeks));
+            }
+        });
+        return rollups;
+    }
+
+    private static boolean covers(List<WeeklyRollup> weeks, LocalDate start, LocalDate end) {
+        LocalDate next = start;
+        for (WeeklyRollup week : weeks) {
+            if (!week.weekStart().equals(next) || week.weekEnd().isAfter(end)) {
+                return false;
+            }
+            next = week.weekEnd().plusDays(1);
+        }
+        return next.equals(end.plusDays(1));
+    }
+
+    /**
+     * Compute rollups for athletes without stored reports, in chunks with a bounded number in flight.
+     */
+    private Map<String, WeeklyRollup> computeRollups(List<String> athleteIds, LocalDate start, LocalDate end) {
+        if (athleteIds.isEmpty()) {
+            return Map.of();
+        }
+        Semaphore inFlight = new Semaphore(MAX_PARALLEL_CHUNKS);
+        List<CompletableFuture<List<WeeklyRollup>>> chunks = new ArrayList<>();
+        for (int from = 0; from < athleteIds.size(); from += ROLLUP_CHUNK_SIZE) {
+            List<String> chunk = athleteIds.subList(from, Math.min(from + ROLLUP_CHUNK_SIZE, athleteIds.size()));
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<List<WeeklyRollup>> computed =
+                submit(() -> chunk.stream().map(athleteId -> computeRollup(athleteId, start, end)).toList());
+            computed.whenComplete((rollups, failure) -> inFlight.release());
+            chunks.add(computed);
+        }
+        Map<String, WeeklyRollup> computed = new HashMap<>();
+        for (CompletableFuture<List<WeeklyRollup>> chunk : chunks) {
+            chunk.join().forEach(rollup -> computed.put(rollup.athleteId(), rollup));
+        }
+        return computed;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, reportingExecutor);
+        } catch (RejectedExecutionException e) {
+            // The shared reporting pool is saturated; run the chunk here rather than fail the report
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private WeeklyRollup computeRollup(String athleteId, LocalDate start, LocalDate end) {
+        try {
+            List<WellnessSnapshot> snapshots = wellnessRepository.findByAthleteIdAndDateRange(athleteId, start, end);
+            double averageReadiness = snapshots.stream()
+                .mapToDouble(WellnessSnapshot::readinessScore)
+                .average()
+                .orElse(0.0);
+            int activityCount = activityRepository.findByAthleteIdAndDateRange(athleteId, start, end).size();
+            // Compliance needs a stored weekly report; none exists for this athlete and period, so it is unknown
+            return new WeeklyRollup(athleteId, start, end, averageReadiness, snapshots.size(), null, activityCount);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to compute rollup for athlete {}", athleteId, e);
+            return WeeklyRollup.empty(athleteId, start, end);
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package com.training.coach.reporting.application.service;
+
+import com.training.coach.jobs.application.service.ReportJobHandler;
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs multi-week, multi-athlete weekly report exports as background jobs.
+ * Parameters: {@code athleteIds} (comma separated), {@code startDate}, {@code endDate}
+ * and {@code format} ({@code csv} or {@code json}, default csv).
+ */
+@Component
+public class WeeklyReportExportJobHandler implements ReportJobHandler {
+
+    public static final String ATHLETE_IDS = "athleteIds";
+
+    private final WeeklyReportExportService exportService;
+
+    public WeeklyReportExportJobHandler(WeeklyReportExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Override
+    public ReportJob.JobType type() {
+        return ReportJob.JobType.WEEKLY_REPORT_EXPORT;
+    }
+
+    @Override
+    public String contentType(Map<String, String> parameters) {
+        return isJson(parameters) ? "application/json" : "text/csv";
+    }
+
+    @Override
+    public String fileExtension(Map<String, String> parameters) {
+        return isJson(parameters) ? "json" : "csv";
+    }
+
+    @Override
+    public void validate(Map<String, String> parameters) {
+        if (athleteIds(parameters).isEmpty()) {
+            throw new IllegalArgumentException("At least one athlete is required");
+        }
+        String format = parameters.getOrDefault("format", "csv");
+        if (!format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+        try {
+            if (LocalDate.parse(String.valueOf(parameters.get("startDate")))
+                    .isAfter(LocalDate.parse(String.valueOf(parameters.get("endDate"))))) {
+                throw new IllegalArgumentException("startDate must not be after endDate");
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("startDate and endDate must be ISO dates", e);
+        }
+    }
+
+    @Override
+    public void run(Map<String, String> parameters, OutputStream outputStream, JobProgress progress)
+            throws IOException {
+        List<String> athleteIds = athleteIds(parameters);
+        LocalDate startDate = LocalDate.parse(parameters.get("startDate"));
+        LocalDate endDate = LocalDate.parse(parameters.get("endDate"));
+        IntConsumer athletesDone = done -> progress.update(
+                done * 100 / athleteIds.size(), String.format("Exported %d of %d athletes", done, athleteIds.size()));
+        if (isJson(parameters)) {
+            exportService.writeJson(athleteIds, startDate, endDate, outputStream, athletesDone);
+        } else {
+            exportService.writeCsv(athleteIds, startDate, endDate, outputStream, athletesDone);
+        }
+    }
+
+    private boolean isJson(Map<String, String> parameters) {
+        return "json".equals(parameters.get("format"));
+    }
+
+    /**
+     * The distinct athletes an export job covers.
+     */
+    public static List<String> athleteIds(Map<String, String> parameters) {
+        String ids = parameters.get(ATHLETE_IDS);
+        if (ids == null) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(String::trim).filter(id -> !id.isEmpty()).distinct().toList();
+    }
+}
@@ -0,0 +1,289 @@
+package com.training.coach.reporting.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.shared.util.CsvWriter;
+import com.training.coach.shared.util.ReportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams weekly reports as CSV or JSON.
+ *
+ * <p>Documents are written row by row to an output stream that is drained into a
+ * {@code Flux<DataBuffer>} in fixed-size chunks. The writer runs on the reporting executor and
+ * blocks while the client is not reading, so at most one chunk is buffered per export. Range
+ * exports load reports one athlete and one quarter at a time, keeping memory use independent
+ * of how many years or athletes are exported.</p>
+ */
+@Service
+public class WeeklyReportExportService {
+
+    static final int CHUNK_SIZE = 8192;
+    static final int WEEKS_PER_LOAD = 13;
+
+    private final WeeklyReportRepository reportRepository;
+    private final Executor executor;
+
+    public WeeklyReportExportService(
+            WeeklyReportRepository reportRepository, @Qualifier("reportingExecutor") Executor executor) {
+        this.reportRepository = reportRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * Stream a single report in the sectioned CSV layout.
+     */
+    public Flux<DataBuffer> streamCsv(WeeklyReport report) {
+        return stream(out -> writeCsv(report, out));
+    }
+
+    /**
+     * Stream a single report as a JSON document.
+     */
+    public Flux<DataBuffer> streamJson(WeeklyReport report) {
+        return stream(out -> writeJson(report, out));
+    }
+
+    /**
+     * Stream one CSV row per stored report of the athletes within the date range.
+     */
+    public Flux<DataBuffer> streamCsv(List<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        return stream(out -> writeCsv(athleteIds, startDate, endDate, out));
+    }
+
+    /**
+     * Stream the stored reports of the athletes within the date range as a JSON array.
+     */
+    public Flux<DataBuffer> streamJson(List<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        return stream(out -> writeJson(athleteIds, startDate, endDate, out));
+    }
+
+    /**
+     * Write a single report in the sectioned CSV layout.
+     */
+    public void writeCsv(WeeklyReport report, OutputStream outputStream) {
+        CsvWriter csv = new CsvWriter(outputStream);
+
+        ReportFormat.csvHeader(csv, report.athleteName(), report.weekStart(), report.weekEnd());
+
+        // Readiness Section
+        csv.row("READINESS TREND");
+        csv.row("Weekly Average", String.format("%.1f", report.averageReadiness()));
+        csv.row("Trend", report.readinessTrend().overallTrend().name()).blankLine();
+
+        csv.row("Daily Readiness");
+        ReportFormat.csvDailyScores(csv, report.readinessTrend().dailyScores());
+
+        WeeklyReport.ComplianceSummary compliance = report.compliance();
+        ReportFormat.csvCompliance(
+                csv,
+                compliance.completionPercent(),
+                compliance.keySessionCompletionPercent(),
+                compliance.zoneDistributionAdherencePercent(),
+                compliance.unplannedLoadMinutes(),
+                compliance.flags());
+
+        // Key Notes
+        if (!report.keyNotes().isEmpty()) {
+            csv.row("KEY NOTES");
+            for (String note : report.keyNotes()) {
+                csv.row("- " + note);
+            }
+            csv.blankLine();
+        }
+
+        ReportFormat.csvActivities(csv, report.completedActivities());
+
+        csv.flush();
+    }
+
+    /**
+     * Write a single report as a JSON document.
+     */
+    public void writeJson(WeeklyReport report, OutputStream outputStream) throws IOException {
+        try (JsonGenerator json = ReportFormat.jsonGenerator(outputStream)) {
+            json.writeStartObject();
+            json.writeFieldName("report");
+            writeReport(json, report);
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Write one CSV row per stored report of the athletes within the date range.
+     */
+    public void writeCsv(List<String> athleteIds, LocalDate startDate, LocalDate endDate, OutputStream outputStream) {
+        writeCsv(athleteIds, startDate, endDate, outputStream, athletesDone -> {});
+    }
+
+    void writeCsv(
+            List<String> athleteIds,
+            LocalDate startDate,
+            LocalDate endDate,
+            OutputStream outputStream,
+            IntConsumer athletesDone) {
+        CsvWriter csv = new CsvWriter(outputStream);
+        csv.row(
+                "Athlete ID",
+                "Athlete Name",
+                "Week Start",
+                "Week End",
+                "Weekly Average",
+                "Trend",
+                "Completion Rate",
+                "Key Session Completion",
+                "Zone Distribution Adherence",
+                "Unplanned Load (min)",
+                "Completed Activities",
+                "Flags",
+                "Key Notes");
+        forEachReport(athleteIds, startDate, endDate, report -> {
+            WeeklyReport.ComplianceSummary compliance = report.compliance();
+            csv.row(
+                    report.athleteId(),
+                    report.athleteName(),
+                    report.weekStart(),
+                    report.weekEnd(),
+                    String.format("%.1f", report.averageReadiness()),
+                    report.readinessTrend().overallTrend().name(),
+                    String.format("%.1f", compliance.completionPercent()),
+                    String.format("%.1f", compliance.keySessionCompletionPercent()),
+                    String.format("%.1f", compliance.zoneDistributionAdherencePercent()),
+                    String.format("%.0f", compliance.unplannedLoadMinutes()),
+                    report.completedActivities().size(),
+                    String.join("; ", compliance.flags()),
+                    String.join("; ", report.keyNotes()));
+        }, athletesDone);
+        csv.flush();
+    }
+
+    /**
+     * Write the stored reports of the athletes within the date range as {@code {"reports": [...]}}.
+     */
+    public void writeJson(List<String> athleteIds, LocalDate startDate, LocalDate endDate, OutputStream outputStream)
+            throws IOException {
+        writeJson(athleteIds, startDate, endDate, outputStream, athletesDone -> {});
+    }
+
+    void writeJson(
+            List<String> athleteIds,
+            LocalDate startDate,
+            LocalDate endDate,
+            OutputStream outputStream,
+            IntConsumer athletesDone) throws IOException {
+        try (JsonGenerator json = ReportFormat.jsonGenerator(outputStream)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("reports");
+            forEachReport(athleteIds, startDate, endDate, report -> {
+                try {
+                    writeReport(json, report);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, athletesDone);
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Visit the stored reports of each athlete in week order, loading one quarter at a time.
+     * Reports are assigned to the load window containing their start date; the query window
+     * extends six days past it so weeks crossing the boundary are not dropped.
+     */
+    private void forEachReport(
+            List<String> athleteIds,
+            LocalDate startDate,
+            LocalDate endDate,
+            Consumer<WeeklyReport> action,
+            IntConsumer athletesDone) {
+        int done = 0;
+        for (String athleteId : athleteIds) {
+            for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusWeeks(WEEKS_PER_LOAD)) {
+                LocalDate lastStart = from.plusWeeks(WEEKS_PER_LOAD).minusDays(1);
+                LocalDate to = lastStart.plusDays(6).isAfter(endDate) ? endDate : lastStart.plusDays(6);
+                reportRepository.findByAthleteIdAndDateRange(athleteId, from, to).stream()
+                        .filter(report -> !report.weekStart().isAfter(lastStart))
+                        .sorted(Comparator.comparing(WeeklyReport::weekStart))
+                        .forEach(action);
+            }
+            athletesDone.accept(++done);
+        }
+    }
+
+    private void writeReport(JsonGenerator json, WeeklyReport report) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", report.id());
+        json.writeStringField("type", "weekly");
+        json.writeObjectFieldStart("athlete");
+        json.writeStringField("id", report.athleteId());
+        json.writeStringField("name", report.athleteName());
+        json.writeEndObject();
+        json.writeObjectFieldStart("period");
+        json.writeStringField("start", report.weekStart().toString());
+        json.writeStringField("end", report.weekEnd().toString());
+        json.writeEndObject();
+
+        // Readiness section
+        json.writeObjectFieldStart("readiness");
+        json.writeNumberField("weeklyAverage", ReportFormat.round2(report.averageReadiness()));
+        json.writeStringField("trend", report.readinessTrend().overallTrend().name());
+        ReportFormat.jsonDailyScores(json, "dailyScores", report.readinessTrend().dailyScores());
+        json.writeEndObject();
+
+        WeeklyReport.ComplianceSummary compliance = report.compliance();
+        ReportFormat.jsonCompliance(
+                json,
+                compliance.completionPercent(),
+                compliance.keySessionCompletionPercent(),
+                compliance.zoneDistributionAdherencePercent(),
+                compliance.unplannedLoadMinutes(),
+                compliance.flags());
+
+        ReportFormat.jsonStrings(json, "keyNotes", report.keyNotes());
+        ReportFormat.jsonStrings(json, "completedActivities", report.completedActivities());
+
+        // Metadata
+        json.writeObjectFieldStart("metadata");
+        json.writeStringField("generatedAt", String.valueOf(report.metadata().generatedAt()));
+        json.writeStringField("version", report.metadata().reportVersion());
+        json.writeStringField("dataSource", report.metadata().dataSource());
+        json.writeEndObject();
+
+        json.writeEndObject();
+    }
+
+    private Flux<DataBuffer> stream(ExportWriter writer) {
+        return Flux.from(DataBufferUtils.outputStreamPublisher(
+                out -> {
+                    try {
+                        writer.write(out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                executor,
+                CHUNK_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface ExportWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
@@ -0,0 +1,145 @@
+package com.training.coach.reporting.application.service;
+
+import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.reporting.application.port.out.ReportDataChangeRepository;
+import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps one stored weekly report per athlete and week so reads never rebuild a report
+ * whose inputs are unchanged.
+ *
+ * <p>After the nightly sync the just-finished week is materialized for every athlete in
+ * batches on a low-priority executor. Reads serve the stored report and only regenerate
+ * it when any of its inputs for the week (wellness, activities, executions, zone rows, plan
+ * publishes) was modified after it was generated.</p>
+ */
+@Service
+public class WeeklyReportMaterializationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeeklyReportMaterializationService.class);
+
+    static final int BATCH_SIZE = 50;
+
+    private final WeeklyReportService weeklyReportService;
+    private final WeeklyReportRepository reportRepository;
+    private final AthleteRepository athleteRepository;
+    private final ReportDataChangeRepository dataChangeRepository;
+    private final Executor executor;
+
+    public WeeklyReportMaterializationService(
+            WeeklyReportService weeklyReportService,
+            WeeklyReportRepository reportRepository,
+            AthleteRepository athleteRepository,
+            ReportDataChangeRepository dataChangeRepository,
+            @Qualifier("reportMaterializationExecutor") Executor executor) {
+        this.weeklyReportService = weeklyReportService;
+        this.reportRepository = reportRepository;
+        this.athleteRepository = athleteRepository;
+        this.dataChangeRepository = dataChangeRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * Materialize the Monday-to-Sunday week that ended before {@code today}'s week.
+     */
+    public MaterializationResult materializePreviousWeek(LocalDate today) {
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        return materializeWeek(weekStart);
+    }
+
+    /**
+     * Generate the report of the week starting at {@code weekStart} for every athlete whose
+     * stored report is missing or stale. Blocks until all batches have finished.
+     */
+    public MaterializationResult materializeWeek(LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        List<Athlete> athletes = athleteRepository.findAll();
+
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < athletes.size(); from += BATCH_SIZE) {
+            List<Athlete> batch = athletes.subList(from, Math.min(from + BATCH_SIZE, athletes.size()));
+            batches.add(CompletableFuture.runAsync(
+                    () -> {
+                        for (Athlete athlete : batch) {
+                            try {
+                                if (findFresh(athlete.id(), weekStart, weekEnd).isPresent()) {
+                                    skipped.incrementAndGet();
+                                } else {
+                                    weeklyReportService.generateWeeklyReport(athlete, weekStart, weekEnd);
+                                    generated.incrementAndGet();
+                                }
+                            } catch (RuntimeException e) {
+                                failed.incrementAndGet();
+                                logger.error(
+                                        "Weekly report materialization failed for athlete {}: {}",
+                                        athlete.id(),
+                                        e.getMessage());
+                            }
+                        }
+                    },
+                    executor));
+        }
+        CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+
+        MaterializationResult result =
+                new MaterializationResult(weekStart, weekEnd, generated.get(), skipped.get(), failed.get());
+        logger.info(
+                "Materialized weekly reports for {} to {}: {} generated, {} up to date, {} failed",
+                weekStart,
+                weekEnd,
+                result.generated(),
+                result.skipped(),
+                result.failed());
+        return result;
+    }
+
+    /**
+     * Serve the stored report for an athlete's week, regenerating it first if it is missing
+     * or its data changed after it was generated.
+     */
+    public WeeklyReport getWeeklyReport(String athleteId, LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        return findFresh(athleteId, weekStart, weekEnd)
+                .orElseGet(() -> weeklyReportService.generateWeeklyReport(athleteId, weekStart, weekEnd));
+    }
+
+    private Optional<WeeklyReport> findFresh(String athleteId, LocalDate weekStart, LocalDate weekEnd) {
+        return reportRepository.findByAthleteIdAndWeek(athleteId, weekStart)
+                .filter(report -> report.weekEnd().equals(weekEnd))
+                .filter(report -> !isStale(report));
+    }
+
+    private boolean isStale(WeeklyReport report) {
+        Instant generatedAt = report.metadata().generatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        return dataChangeRepository.findLastChange(report.athleteId(), report.weekStart(), report.weekEnd())
+                .map(lastChange -> lastChange.isAfter(generatedAt))
+                .orElse(false);
+    }
+
+    /**
+     * Outcome of materializing one week.
+     */
+    public record MaterializationResult(
+            LocalDate weekStart, LocalDate weekEnd, int generated, int skipped, int failed) {}
+}
@@ -1,16 +1,22 @@
 package com.training.coach.reporting.application.service;
 
+import com.training.coach.analysis.application.service.ZoneDistributionService;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.PolarizedDistribution;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
 import com.training.coach.athlete.application.port.out.AthleteRepository;
 import com.training.coach.athlete.domain.model.Athlete;
 import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
 import com.training.coach.reporting.domain.model.WeeklyReport;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.workout.application.service.ActivityMatchingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -27,14 +33,20 @@ public class WeeklyReportService {
     private final WeeklyReportRepository reportRepository;
     private final AthleteRepository athleteRepository;
     private final WellnessRepository wellnessRepository;
+    private final ActivityMatchingService activityMatchingService;
+    private final ZoneDistributionService zoneDistributionService;
 
     public WeeklyReportService(
             WeeklyReportRepository reportRepository,
             AthleteRepository athleteRepository,
-            WellnessRepository wellnessRepository) {
+            WellnessRepository wellnessRepository,
+            ActivityMatchingService activityMatchingService,
+            ZoneDistributionService zoneDistributionService) {
         this.reportRepository = reportRepository;
         this.athleteRepository = athleteRepository;
         this.wellnessRepository = wellnessRepository;
+        this.activityMatchingService = activityMatchingService;
+        this.zoneDistributionService = zoneDistributionService;
     }
 
     /**
@@ -43,6 +55,14 @@ public class WeeklyReportService {
     public WeeklyReport generateWeeklyReport(String athleteId, LocalDate weekStart, LocalDate weekEnd) {
         Athlete athlete = athleteRepository.findById(athleteId)
                 .orElseThrow(() -> new IllegalArgumentException("Athlete not found: " + athleteId));
+        return generateWeeklyReport(athlete, weekStart, weekEnd);
+    }
+
+    /**
+     * Generate a weekly report for an already loaded athlete, replacing any report stored for that week.
+     */
+    public WeeklyReport generateWeeklyReport(Athlete athlete, LocalDate weekStart, LocalDate weekEnd) {
+        String athleteId = athlete.id();
 
         // Get wellness data for the week
         List<WellnessSnapshot> snapshots = wellnessRepository.findByAthleteIdAndDateRange(
@@ -60,8 +80,7 @@ public class WeeklyReportService {
         WeeklyReport.ReadinessTrend readinessTrend =
                 WeeklyReport.ReadinessTrend.fromMap(readinessTrendMap);
 
-        // Create compliance summary (defaults for now - can be enhanced with activity data)
-        WeeklyReport.ComplianceSummary compliance = WeeklyReport.ComplianceSummary.empty();
+        WeeklyReport.ComplianceSummary compliance = summarizeCompliance(athleteId, weekStart, weekEnd);
 
         // Generate key notes based on wellness data
         List<String> keyNotes = generateKeyNotes(snapshots, readinessTrend);
@@ -80,12 +99,49 @@ public class WeeklyReportService {
                 completedActivities
         );
 
-        WeeklyReport saved = reportRepository.save(report);
+        WeeklyReport saved = store(report);
         logger.info("Generated weekly report for athlete {} for week {} to {}",
                 athleteId, weekStart, weekEnd);
         return saved;
     }
 
+    /**
+     * Compliance from the stored workout executions and the planned/actual zone distribution,
+     * both maintained at sync time, so no activity is re-read here.
+     */
+    private WeeklyReport.ComplianceSummary summarizeCompliance(String athleteId, LocalDate weekStart, LocalDate weekEnd) {
+        ActivityMatchingService.ExecutionSummary executions =
+                activityMatchingService.summarizeExecutions(athleteId, weekStart, weekEnd);
+        ZoneMinutes planned =
+                zoneDistributionService.totalMinutes(athleteId, DistributionSource.PLANNED, weekStart, weekEnd);
+        ZoneMinutes actual =
+                zoneDistributionService.totalMinutes(athleteId, DistributionSource.ACTUAL, weekStart, weekEnd);
+
+        double adherence = 100.0;
+        if (!planned.isEmpty() && !actual.isEmpty()) {
+            PolarizedDistribution target = planned.distribution();
+            PolarizedDistribution done = actual.distribution();
+            double deviation = Math.abs(target.z1Percent() - done.z1Percent())
+                    + Math.abs(target.z2Percent() - done.z2Percent())
+                    + Math.abs(target.z3Percent() - done.z3Percent());
+            adherence = Math.max(0.0, 100.0 - deviation);
+        }
+
+        List<String> flags = new ArrayList<>();
+        if (!actual.isEmpty() && actual.distribution().hasZ2Creep()) {
+            flags.add("Z2_CREEP");
+        }
+
+        double unplannedMinutes = Math.max(0.0, actual.total() - executions.executedMinutes());
+        return new WeeklyReport.ComplianceSummary(
+                executions.completionPercent(),
+                executions.keySessionCompletionPercent(),
+                adherence,
+                unplannedMinutes,
+                flags,
+                executions.plannedCount());
+    }
+
     /**
      * Generate a weekly report with custom data.
      */
@@ -113,7 +169,7 @@ public class WeeklyReportService {
                 completedActivities
         );
 
-        return reportRepository.save(report);
+        return store(report);
     }
 
     /**
@@ -154,6 +210,16 @@ public class WeeklyReportService {
         logger.info("Deleted weekly report: {}", reportId);
     }
 
+    /**
+     * Save a report, keeping the ID of the report already stored for the same athlete and week.
+     */
+    private WeeklyReport store(WeeklyReport report) {
+        WeeklyReport toSave = reportRepository.findByAthleteIdAndWeek(report.athleteId(), report.weekStart())
+                .map(existing -> report.withId(existing.id()))
+                .orElse(report);
+        return reportRepository.save(toSave);
+    }
+
     /**
      * Generate key notes based on wellness data and trends.
      */
@@ -5,19 +5,22 @@ import java.util.List;
 /**
  * Organization-level summary report for admin use.
  * Aggregates data across all athletes for a given date range.
+ *
+ * <p>Compliance is averaged over the active athletes that had planned workouts; it is null when none had,
+ * as is the compliance of an athlete without planned workouts.</p>
  */
 public record OrganizationReport(
         int totalAthletes,
         int activeAthletes,
         double averageReadiness,
-        double averageCompliance,
+        Double averageCompliance,
         List<AthleteSummary> athleteSummaries
 ) {
     public record AthleteSummary(
             String athleteId,
             String athleteName,
             double readinessScore,
-            double compliancePercent,
+            Double compliancePercent,
             int recentActivitiesCount
     ) {}
 }
@@ -56,6 +56,23 @@ public record WeeklyReport(
                 .orElse(0.0);
     }
 
+    /**
+     * Copy of this report stored under another ID, used when replacing the report of a week.
+     */
+    public WeeklyReport withId(String reportId) {
+        return new WeeklyReport(
+                reportId,
+                athleteId,
+                athleteName,
+                weekStart,
+                weekEnd,
+                readinessTrend,
+                compliance,
+                keyNotes,
+                completedActivities,
+                metadata);
+    }
+
     public static WeeklyReport create(
             String athleteId,
             String athleteName,
@@ -131,13 +148,16 @@ public record WeeklyReport(
 
     /**
      * Compliance summary data.
+     *
+     * @param plannedWorkouts workouts planned for the week, or null when not recorded
      */
     public record ComplianceSummary(
             double completionPercent,
             double keySessionCompletionPercent,
             double zoneDistributionAdherencePercent,
             double unplannedLoadMinutes,
-            List<String> flags
+            List<String> flags,
+            Integer plannedWorkouts
     ) {
         public ComplianceSummary {
             if (flags == null) flags = List.of();
@@ -155,6 +175,24 @@ public record WeeklyReport(
             }
         }
 
+        public ComplianceSummary(
+                double completionPercent,
+                double keySessionCompletionPercent,
+                double zoneDistributionAdherencePercent,
+                double unplannedLoadMinutes,
+                List<String> flags) {
+            this(completionPercent, keySessionCompletionPercent, zoneDistributionAdherencePercent,
+                    unplannedLoadMinutes, flags, null);
+        }
+
+        /**
+         * Whether the week had workouts to comply with. Weeks without a plan have no meaningful
+         * completion percentage.
+         */
+        public boolean hasPlannedWorkouts() {
+            return plannedWorkouts == null || plannedWorkouts > 0;
+        }
+
         public static ComplianceSummary empty() {
             return new ComplianceSummary(0.0, 0.0, 0.0, 0.0, List.of());
         }
@@ -0,0 +1,70 @@
+package com.training.coach.reporting.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-athlete aggregate for one reporting period, small enough to load for a whole organization.
+ *
+ * @param compliancePercent completion of the planned workouts, or null when the athlete had none or it is unknown
+ */
+public record WeeklyRollup(
+        String athleteId,
+        LocalDate weekStart,
+        LocalDate weekEnd,
+        double averageReadiness,
+        int readinessDays,
+        Double compliancePercent,
+        int activityCount
+) {
+    public static WeeklyRollup fromReport(WeeklyReport report) {
+        return new WeeklyRollup(
+                report.athleteId(),
+                report.weekStart(),
+                report.weekEnd(),
+                report.averageReadiness(),
+                report.readinessTrend().dailyScores().size(),
+                report.compliance().hasPlannedWorkouts() ? report.compliance().completionPercent() : null,
+                report.completedActivities().size());
+    }
+
+    public static WeeklyRollup empty(String athleteId, LocalDate weekStart, LocalDate weekEnd) {
+        return new WeeklyRollup(athleteId, weekStart, weekEnd, 0.0, 0, null, 0);
+    }
+
+    /**
+     * One athlete's rollups of consecutive weeks as a single rollup for {@code start} to {@code end}. Readiness is
+     * averaged over all logged days and compliance over the weeks where it is known.
+     */
+    public static WeeklyRollup combine(String athleteId, LocalDate start, LocalDate end, List<WeeklyRollup> weeks) {
+        double readinessTotal = 0.0;
+        int readinessDays = 0;
+        double complianceTotal = 0.0;
+        int complianceWeeks = 0;
+        int activityCount = 0;
+        for (WeeklyRollup week : weeks) {
+            readinessTotal += week.averageReadiness() * week.readinessDays();
+            readinessDays += week.readinessDays();
+            if (week.compliancePercent() != null) {
+                complianceTotal += week.compliancePercent();
+                complianceWeeks++;
+            }
+            activityCount += week.activityCount();
+        }
+        return new WeeklyRollup(
+                athleteId,
+                start,
+                end,
+                readinessDays > 0 ? readinessTotal / readinessDays : 0.0,
+                readinessDays,
+                complianceWeeks > 0 ? complianceTotal / complianceWeeks : null,
+                activityCount);
+    }
+
+    /**
+     * Whether the athlete logged any wellness or activity data in the period.
+     */
+    public boolean hasData() {
+        return readinessDays > 0 || activityCount > 0;
+    }
+}
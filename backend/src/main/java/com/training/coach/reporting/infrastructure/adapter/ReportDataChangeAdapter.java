@@ -0,0 +1,56 @@
+package com.training.coach.reporting.infrastructure.adapter;
+
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.analysis.infrastructure.persistence.ZoneDistributionJpaRepository;
+import com.training.coach.reporting.application.port.out.ReportDataChangeRepository;
+import com.training.coach.trainingplan.infrastructure.persistence.PlanWorkoutJpaRepository;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import com.training.coach.workout.infrastructure.persistence.WorkoutExecutionJpaRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers staleness checks with one aggregate query per source table, each on its (athlete_id, date) index,
+ * instead of loading the week's rows. Plan publishes are seen through the updated_at of the plan versions
+ * scheduling workouts in the range, which moves when a version is published or archived.
+ */
+@Component
+@Profile("!test")
+public class ReportDataChangeAdapter implements ReportDataChangeRepository {
+
+    private final WellnessJpaRepository wellnessRepository;
+    private final ActivityJpaRepository activityRepository;
+    private final WorkoutExecutionJpaRepository executionRepository;
+    private final ZoneDistributionJpaRepository zoneDistributionRepository;
+    private final PlanWorkoutJpaRepository planWorkoutRepository;
+
+    public ReportDataChangeAdapter(
+            WellnessJpaRepository wellnessRepository,
+            ActivityJpaRepository activityRepository,
+            WorkoutExecutionJpaRepository executionRepository,
+            ZoneDistributionJpaRepository zoneDistributionRepository,
+            PlanWorkoutJpaRepository planWorkoutRepository) {
+        this.wellnessRepository = wellnessRepository;
+        this.activityRepository = activityRepository;
+        this.executionRepository = executionRepository;
+        this.zoneDistributionRepository = zoneDistributionRepository;
+        this.planWorkoutRepository = planWorkoutRepository;
+    }
+
+    @Override
+    public Optional<Instant> findLastChange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return Stream.of(
+                        wellnessRepository.findLastUpdatedAt(athleteId, startDate, endDate),
+                        activityRepository.findLastUpdatedAt(athleteId, startDate, endDate),
+                        executionRepository.findLastUpdatedAt(athleteId, startDate, endDate),
+                        zoneDistributionRepository.findLastUpdatedAt(athleteId, startDate, endDate),
+                        planWorkoutRepository.findLastVersionChange(athleteId, startDate, endDate))
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo);
+    }
+}
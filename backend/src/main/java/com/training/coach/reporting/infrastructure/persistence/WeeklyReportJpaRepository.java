@@ -0,0 +1,57 @@
+package com.training.coach.reporting.infrastructure.persistence;
+
+import com.training.coach.reporting.infrastructure.persistence.entity.WeeklyReportEntity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WeeklyReportJpaRepository extends JpaRepository<WeeklyReportEntity, String> {
+
+    List<WeeklyReportEntity> findByAthleteIdOrderByWeekStartDesc(String athleteId);
+
+    Optional<WeeklyReportEntity> findFirstByAthleteIdOrderByWeekEndDesc(String athleteId);
+
+    Optional<WeeklyReportEntity> findByAthleteIdAndWeekStart(String athleteId, LocalDate weekStart);
+
+    @Query("SELECT r FROM WeeklyReportEntity r WHERE r.athleteId = :athleteId "
+            + "AND r.weekStart >= :startDate "
+            + "AND r.weekEnd <= :endDate ORDER BY r.weekStart ASC")
+    List<WeeklyReportEntity> findByAthleteIdAndDateRange(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.training.coach.reporting.infrastructure.persistence.WeeklyRollupRow("
+            + "r.athleteId, r.weekStart, r.weekEnd, r.averageReadiness, r.readinessDays, "
+            + "r.completionPercent, r.activityCount) "
+            + "FROM WeeklyReportEntity r WHERE r.weekStart <= :endDate AND r.weekEnd >= :startDate "
+            + "ORDER BY r.athleteId ASC, r.weekStart ASC")
+    List<WeeklyRollupRow> findRollupsOverlapping(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    long countByAthleteId(String athleteId);
+
+    /**
+     * Replace the athlete's identity with a pseudonym and the detailed parts with empty JSON, keeping
+     * only the numeric weekly rollups.
+     */
+    @Modifying
+    @Query("UPDATE WeeklyReportEntity r SET r.athleteId = :pseudonym, r.athleteName = :pseudonym, "
+            + "r.readinessTrendJson = :emptyTrend, r.complianceJson = :emptyCompliance, "
+            + "r.keyNotesJson = :emptyList, r.completedActivitiesJson = :emptyList, r.updatedAt = :now "
+            + "WHERE r.athleteId = :athleteId")
+    int anonymizeByAthleteId(
+            @Param("athleteId") String athleteId,
+            @Param("pseudonym") String pseudonym,
+            @Param("emptyTrend") String emptyTrend,
+            @Param("emptyCompliance") String emptyCompliance,
+            @Param("emptyList") String emptyList,
+            @Param("now") Instant now);
+}
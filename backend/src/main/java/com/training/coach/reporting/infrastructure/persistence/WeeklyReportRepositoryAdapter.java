@@ -0,0 +1,154 @@
+package com.training.coach.reporting.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
+import com.training.coach.reporting.application.port.out.WeeklyRollupRepository;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.reporting.domain.model.WeeklyRollup;
+import com.training.coach.reporting.infrastructure.persistence.entity.WeeklyReportEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter for the materialized weekly report store.
+ * Saving a report for an athlete and week that is already stored replaces that row in place.
+ */
+@Repository
+@Profile("!test")
+public class WeeklyReportRepositoryAdapter implements WeeklyReportRepository, WeeklyRollupRepository {
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /** Stored in place of the readiness trend of an anonymized report. */
+    public static final String EMPTY_READINESS_TREND_JSON = writeJson(WeeklyReport.ReadinessTrend.empty());
+    /** Stored in place of the compliance summary of an anonymized report. */
+    public static final String EMPTY_COMPLIANCE_JSON = writeJson(WeeklyReport.ComplianceSummary.empty());
+    /** Stored in place of the key notes and completed activities of an anonymized report. */
+    public static final String EMPTY_LIST_JSON = writeJson(List.of());
+
+    private final WeeklyReportJpaRepository weeklyReportRepo;
+
+    public WeeklyReportRepositoryAdapter(WeeklyReportJpaRepository weeklyReportRepo) {
+        this.weeklyReportRepo = weeklyReportRepo;
+    }
+
+    @Override
+    @Transactional
+    public WeeklyReport save(WeeklyReport report) {
+        WeeklyReportEntity entity = weeklyReportRepo
+                .findByAthleteIdAndWeekStart(report.athleteId(), report.weekStart())
+                .orElseGet(WeeklyReportEntity::new);
+        if (entity.getId() == null) {
+            entity.setId(report.id());
+        }
+        entity.setAthleteId(report.athleteId());
+        entity.setAthleteName(report.athleteName());
+        entity.setWeekStart(report.weekStart());
+        entity.setWeekEnd(report.weekEnd());
+        entity.setAverageReadiness(report.averageReadiness());
+        entity.setReadinessDays(report.readinessTrend().dailyScores().size());
+        // Weeks without planned workouts have no completion to roll up
+        entity.setCompletionPercent(
+                report.compliance().hasPlannedWorkouts() ? report.compliance().completionPercent() : null);
+        entity.setActivityCount(report.completedActivities().size());
+        entity.setReadinessTrendJson(writeJson(report.readinessTrend()));
+        entity.setComplianceJson(writeJson(report.compliance()));
+        entity.setKeyNotesJson(writeJson(report.keyNotes()));
+        entity.setCompletedActivitiesJson(writeJson(report.completedActivities()));
+        entity.setGeneratedAt(report.metadata().generatedAt());
+        entity.setReportVersion(report.metadata().reportVersion());
+        entity.setDataSource(report.metadata().dataSource());
+        return toDomain(weeklyReportRepo.save(entity));
+    }
+
+    @Override
+    public Optional<WeeklyReport> findById(String reportId) {
+        return weeklyReportRepo.findById(reportId).map(this::toDomain);
+    }
+
+    @Override
+    public List<WeeklyReport> findByAthleteId(String athleteId) {
+        return weeklyReportRepo.findByAthleteIdOrderByWeekStartDesc(athleteId).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<WeeklyReport> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return weeklyReportRepo.findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<WeeklyReport> findMostRecentByAthleteId(String athleteId) {
+        return weeklyReportRepo.findFirstByAthleteIdOrderByWeekEndDesc(athleteId).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<WeeklyReport> findByAthleteIdAndWeek(String athleteId, LocalDate weekStart) {
+        return weeklyReportRepo.findByAthleteIdAndWeekStart(athleteId, weekStart).map(this::toDomain);
+    }
+
+    @Override
+    public List<WeeklyRollup> findRollupsOverlapping(LocalDate startDate, LocalDate endDate) {
+        return weeklyReportRepo.findRollupsOverlapping(startDate, endDate).stream()
+                .map(row -> new WeeklyRollup(
+                        row.athleteId(),
+                        row.weekStart(),
+                        row.weekEnd(),
+                        row.averageReadiness() != null ? row.averageReadiness() : 0.0,
+                        row.readinessDays() != null ? row.readinessDays() : 0,
+                        row.completionPercent(),
+                        row.activityCount() != null ? row.activityCount() : 0))
+                .toList();
+    }
+
+    @Override
+    public void delete(String reportId) {
+        weeklyReportRepo.deleteById(reportId);
+    }
+
+    private WeeklyReport toDomain(WeeklyReportEntity entity) {
+        return new WeeklyReport(
+                entity.getId(),
+                entity.getAthleteId(),
+                entity.getAthleteName(),
+                entity.getWeekStart(),
+                entity.getWeekEnd(),
+                readJson(entity.getReadinessTrendJson(), new TypeReference<WeeklyReport.ReadinessTrend>() {}),
+                readJson(entity.getComplianceJson(), new TypeReference<WeeklyReport.ComplianceSummary>() {}),
+                readJson(entity.getKeyNotesJson(), new TypeReference<List<String>>() {}),
+                readJson(entity.getCompletedActivitiesJson(), new TypeReference<List<String>>() {}),
+                new WeeklyReport.ReportMetadata(
+                        entity.getGeneratedAt(), entity.getReportVersion(), entity.getDataSource()));
+    }
+
+    private static String writeJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize weekly report data", ex);
+        }
+    }
+
+    private <T> T readJson(String json, TypeReference<T> type) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize weekly report data", ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.training.coach.reporting.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the rollup columns of a materialized weekly report.
+ */
+public record WeeklyRollupRow(
+        String athleteId,
+        LocalDate weekStart,
+        LocalDate weekEnd,
+        Double averageReadiness,
+        Integer readinessDays,
+        Double completionPercent,
+        Integer activityCount) {}
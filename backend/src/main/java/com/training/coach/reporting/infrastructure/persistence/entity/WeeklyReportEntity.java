@@ -0,0 +1,228 @@
+package com.training.coach.reporting.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized weekly report. One row per athlete and week; the rollup columns duplicate
+ * the JSON payload so organization-wide aggregates can be read without deserializing it.
+ */
+@Entity
+@Table(
+        name = "weekly_reports",
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_weekly_reports_athlete_week", columnNames = {"athlete_id", "week_start"})
+        },
+        indexes = {@Index(name = "idx_weekly_reports_week", columnList = "week_end, week_start")})
+public class WeeklyReportEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "athlete_id", nullable = false, length = 255)
+    private String athleteId;
+
+    @Column(name = "athlete_name", nullable = false, length = 255)
+    private String athleteName;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "week_end", nullable = false)
+    private LocalDate weekEnd;
+
+    @Column(name = "average_readiness")
+    private Double averageReadiness;
+
+    @Column(name = "readiness_days")
+    private Integer readinessDays;
+
+    @Column(name = "completion_percent")
+    private Double completionPercent;
+
+    @Column(name = "activity_count")
+    private Integer activityCount;
+
+    @Column(name = "readiness_trend_json", columnDefinition = "TEXT")
+    private String readinessTrendJson;
+
+    @Column(name = "compliance_json", columnDefinition = "TEXT")
+    private String complianceJson;
+
+    @Column(name = "key_notes_json", columnDefinition = "TEXT")
+    private String keyNotesJson;
+
+    @Column(name = "completed_activities_json", columnDefinition = "TEXT")
+    private String completedActivitiesJson;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Column(name = "report_version", length = 20)
+    private String reportVersion;
+
+    @Column(name = "data_source", length = 50)
+    private String dataSource;
+
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+        updatedAt = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAthleteId() {
+        return athleteId;
+    }
+
+    public void setAthleteId(String athleteId) {
+        this.athleteId = athleteId;
+    }
+
+    public String getAthleteName() {
+        return athleteName;
+    }
+
+    public void setAthleteName(String athleteName) {
+        this.athleteName = athleteName;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public LocalDate getWeekEnd() {
+        return weekEnd;
+    }
+
+    public void setWeekEnd(LocalDate weekEnd) {
+        this.weekEnd = weekEnd;
+    }
+
+    public Double getAverageReadiness() {
+        return averageReadiness;
+    }
+
+    public void setAverageReadiness(Double averageReadiness) {
+        this.averageReadiness = averageReadiness;
+    }
+
+    public Integer getReadinessDays() {
+        return readinessDays;
+    }
+
+    public void setReadinessDays(Integer readinessDays) {
+        this.readinessDays = readinessDays;
+    }
+
+    public Double getCompletionPercent() {
+        return completionPercent;
+    }
+
+    public void setCompletionPercent(Double completionPercent) {
+        this.completionPercent = completionPercent;
+    }
+
+    public Integer getActivityCount() {
+        return activityCount;
+    }
+
+    public void setActivityCount(Integer activityCount) {
+        this.activityCount = activityCount;
+    }
+
+    public String getReadinessTrendJson() {
+        return readinessTrendJson;
+    }
+
+    public void setReadinessTrendJson(String readinessTrendJson) {
+        this.readinessTrendJson = readinessTrendJson;
+    }
+
+    public String getComplianceJson() {
+        return complianceJson;
+    }
+
+    public void setComplianceJson(String complianceJson) {
+        this.complianceJson = complianceJson;
+    }
+
+    public String getKeyNotesJson() {
+        return keyNotesJson;
+    }
+
+    public void setKeyNotesJson(String keyNotesJson) {
+        this.keyNotesJson = keyNotesJson;
+    }
+
+    public String getCompletedActivitiesJson() {
+        return completedActivitiesJson;
+    }
+
+    public void setCompletedActivitiesJson(String completedActivitiesJson) {
+        this.completedActivitiesJson = completedActivitiesJson;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public String getReportVersion() {
+        return reportVersion;
+    }
+
+    public void setReportVersion(String reportVersion) {
+        this.reportVersion = reportVersion;
+    }
+
+    public String getDataSource() {
+        return dataSource;
+    }
+
+    public void setDataSource(String dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
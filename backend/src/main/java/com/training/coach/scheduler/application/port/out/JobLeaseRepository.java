@@ -0,0 +1,43 @@
+package com.training.coach.scheduler.application.port.out;
+
+import com.training.coach.scheduler.domain.model.JobLease;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Leases shared by all nodes, deciding which node runs a scheduled job.
+ * Every operation must be atomic across nodes.
+ */
+public interface JobLeaseRepository {
+
+    /**
+     * Claim an occurrence of a job until {@code lockedUntil}. Succeeds when the lease is free, expired or held by
+     * {@code owner}, and no node has claimed this or a later occurrence yet.
+     */
+    boolean tryAcquireOccurrence(String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil);
+
+    /**
+     * Take over an occurrence of a job whose node stopped before finishing it, until {@code lockedUntil}. Succeeds
+     * only when the lease has expired and {@code occurrence} is the last occurrence claimed.
+     */
+    boolean tryReclaimOccurrence(String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil);
+
+    /**
+     * Extend the lease {@code owner} took on an occurrence of a job until {@code lockedUntil}. Fails once another
+     * node has taken the occurrence over or claimed a later one.
+     */
+    boolean heartbeat(String jobName, String owner, Instant occurrence, Instant lockedUntil);
+
+    /**
+     * Take or renew a lease until {@code lockedUntil}. Succeeds when the lease is free, expired or held by
+     * {@code owner}.
+     */
+    boolean tryAcquire(String jobName, String owner, Instant now, Instant lockedUntil);
+
+    /**
+     * Free a lease held by {@code owner} so that other nodes may take it immediately.
+     */
+    void release(String jobName, String owner, Instant now);
+
+    List<JobLease> findAll();
+}
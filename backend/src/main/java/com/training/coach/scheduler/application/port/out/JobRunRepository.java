@@ -0,0 +1,25 @@
+package com.training.coach.scheduler.application.port.out;
+
+import com.training.coach.scheduler.domain.model.JobRun;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * History of scheduled job runs across all nodes.
+ */
+public interface JobRunRepository {
+
+    JobRun save(JobRun run);
+
+    /**
+     * Mark the job's runs still recorded as running as abandoned.
+     *
+     * @return the number of runs marked
+     */
+    int abandonRunning(String jobName, Instant at);
+
+    /**
+     * Most recent runs first, of one job or of every job when {@code jobName} is null.
+     */
+    List<JobRun> findRecent(String jobName, int limit);
+}
@@ -0,0 +1,261 @@
+package com.training.coach.scheduler.application.service;
+
+import com.training.coach.scheduler.application.port.out.JobLeaseRepository;
+import com.training.coach.scheduler.application.port.out.JobRunRepository;
+import com.training.coach.scheduler.domain.model.JobLease;
+import com.training.coach.scheduler.domain.model.JobRun;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs scheduled jobs on exactly one of the backend nodes.
+ *
+ * <p>Every node fires the same {@code @Scheduled} methods; before doing any work a node must take the job's lease
+ * in the shared lease table. A cron job is claimed per occurrence, the fire time its cron expression names, so a
+ * node whose trigger fires late cannot run an occurrence another node already ran. A continuously running job is
+ * claimed as a renewable leader lease instead. A node that dies stops renewing, and its lease passes to the first
+ * other node that fires once it expires; that node also marks the dead node's unfinished run as abandoned. An
+ * occurrence left unfinished this way is run again by the first node that finds its lease expired, either when its
+ * own trigger fires or when {@link #resumeAbandoned()} sweeps the leases.</p>
+ *
+ * <p>A node running a cron occurrence renews its lease on a heartbeat timer for as long as the run lasts, so only an
+ * occurrence whose node stopped heartbeating is taken over, however long the run takes. A leader renews its lease
+ * between units of work, so a long run does not outlive the lease.</p>
+ *
+ * <p>Every cron job run is recorded with its node, outcome and duration.</p>
+ */
+@Service
+public class ClusterJobRunner implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterJobRunner.class);
+
+    private final JobLeaseRepository leaseRepository;
+    private final JobRunRepository runRepository;
+    private final SchedulerProperties properties;
+    private final ScheduledExecutorService heartbeats;
+    private final Map<String, Runnable> cronTasks = new ConcurrentHashMap<>();
+
+    public ClusterJobRunner(
+            JobLeaseRepository leaseRepository, JobRunRepository runRepository, SchedulerProperties properties) {
+        this(leaseRepository, runRepository, properties, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-heartbeat").daemon().factory()));
+    }
+
+    ClusterJobRunner(
+            JobLeaseRepository leaseRepository,
+            JobRunRepository runRepository,
+            SchedulerProperties properties,
+            ScheduledExecutorService heartbeats) {
+        this.leaseRepository = leaseRepository;
+        this.runRepository = runRepository;
+        this.properties = properties;
+        this.heartbeats = heartbeats;
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+    }
+
+    public String nodeId() {
+        return properties.nodeId();
+    }
+
+    /**
+     * Run the current occurrence of a cron job unless another node has claimed it.
+     *
+     * @param cron the job's {@code @Scheduled} cron expression
+     * @return true if this node ran the job
+     */
+    public boolean runOnce(String jobName, String cron, Runnable task) {
+        return runOnce(jobName, cron, task, ZonedDateTime.now());
+    }
+
+    boolean runOnce(String jobName, String cron, Runnable task, ZonedDateTime now) {
+        cronTasks.put(jobName, task);
+        return runOccurrence(jobName, latestOccurrence(CronExpression.parse(cron), now), task, now.toInstant());
+    }
+
+    /**
+     * Run a job once for an occurrence named by the caller, such as the follow-up work of a batch that several
+     * nodes may see finish. Occurrences of a job must increase over time.
+     *
+     * @return true if this node ran the job
+     */
+    public boolean runOnce(String jobName, Instant occurrence, Runnable task) {
+        return runOccurrence(jobName, occurrence, task, Instant.now());
+    }
+
+    /**
+     * Run again the cron occurrences whose node stopped before finishing them, for the jobs this node has fired.
+     * Jobs run for occurrences named by the caller are taken over when the caller fires them again.
+     *
+     * @return the number of occurrences this node ran
+     */
+    public int resumeAbandoned() {
+        return resumeAbandoned(Instant.now());
+    }
+
+    int resumeAbandoned(Instant now) {
+        int resumed = 0;
+        for (JobLease lease : leaseRepository.findAll()) {
+            Runnable task = cronTasks.get(lease.jobName());
+            if (task == null || lease.lastOccurrence() == null || lease.isHeldAt(now)) {
+                continue;
+            }
+            if (reclaim(lease.jobName(), lease.lastOccurrence(), now)) {
+                execute(lease.jobName(), lease.lastOccurrence(), task, now);
+                resumed++;
+            }
+        }
+        return resumed;
+    }
+
+    private boolean runOccurrence(String jobName, Instant occurrence, Runnable task, Instant start) {
+        if (!leaseRepository.tryAcquireOccurrence(
+                        jobName, nodeId(), occurrence, start, start.plus(properties.jobLease()))
+                && !reclaim(jobName, occurrence, start)) {
+            logger.debug("Skipping {} occurrence {}, claimed by another node", jobName, occurrence);
+            return false;
+        }
+        execute(jobName, occurrence, task, start);
+        return true;
+    }
+
+    /**
+     * Take over an occurrence whose node claimed it and then stopped without recording a finished run.
+     */
+    private boolean reclaim(String jobName, Instant occurrence, Instant now) {
+        List<JobRun> latest = runRepository.findRecent(jobName, 1);
+        boolean unfinished = latest.isEmpty()
+                || !occurrence.equals(latest.getFirst().occurrence())
+                || latest.getFirst().status() == JobRun.RunStatus.RUNNING;
+        if (!unfinished) {
+            return false;
+        }
+        if (!leaseRepository.tryReclaimOccurrence(
+                jobName, nodeId(), occurrence, now, now.plus(properties.jobLease()))) {
+            return false;
+        }
+        logger.warn("Resuming {} occurrence {} left unfinished by another node", jobName, occurrence);
+        return true;
+    }
+
+    private void execute(String jobName, Instant occurrence, Runnable task, Instant start) {
+        int abandoned = runRepository.abandonRunning(jobName, start);
+        if (abandoned > 0) {
+            logger.warn("Took over {} from a node that stopped before finishing {} run(s)", jobName, abandoned);
+        }
+        JobRun run = runRepository.save(JobRun.start(jobName, occurrence, nodeId(), start));
+        long interval = properties.jobHeartbeat().toMillis();
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+                () -> heartbeat(jobName, occurrence), interval, interval, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            run = runRepository.save(run.succeed(Instant.now()));
+            logger.info("Job {} ({}) finished on {} in {} ms", jobName, occurrence, nodeId(), run.durationMillis());
+        } catch (RuntimeException e) {
+            runRepository.save(run.fail(Instant.now(), e.getMessage()));
+            logger.error("Job {} ({}) failed on {}: {}", jobName, occurrence, nodeId(), e.getMessage(), e);
+        } finally {
+            heartbeat.cancel(false);
+            leaseRepository.release(jobName, nodeId(), Instant.now());
+        }
+    }
+
+    private void heartbeat(String jobName, Instant occurrence) {
+        try {
+            Instant now = Instant.now();
+            if (!leaseRepository.heartbeat(jobName, nodeId(), occurrence, now.plus(properties.jobLease()))) {
+                logger.warn("Lost the {} ({}) lease on {} while running it", jobName, occurrence, nodeId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Heartbeat of {} ({}) failed: {}", jobName, occurrence, e.getMessage());
+        }
+    }
+
+    /**
+     * Run a job that fires continuously, such as a queue drain, on the node holding its leader lease.
+     * The lease is renewed on every run and kept in between, so the job stays on one node while that node lives.
+     *
+     * @return true if this node is the leader and ran the job
+     */
+    public boolean runAsLeader(String jobName, Runnable task) {
+        return runAsLeader(jobName, task, Instant.now());
+    }
+
+    /**
+     * Run a continuously firing job on the node holding its leader lease, handing the task a renewal it calls
+     * between units of work. The renewal extends the lease and returns false once this node has lost it, after
+     * which the task must stop.
+     *
+     * @return true if this node is the leader and ran the job
+     */
+    public boolean runAsLeader(String jobName, Consumer<BooleanSupplier> task) {
+        return runAsLeader(jobName, task, Instant.now(), Instant::now);
+    }
+
+    boolean runAsLeader(String jobName, Runnable task, Instant now) {
+        return runAsLeader(jobName, renew -> task.run(), now, Instant::now);
+    }
+
+    boolean runAsLeader(String jobName, Consumer<BooleanSupplier> task, Instant now, Supplier<Instant> clock) {
+        if (!leaseRepository.tryAcquire(jobName, nodeId(), now, now.plus(properties.leaderLease()))) {
+            return false;
+        }
+        BooleanSupplier renew = () -> {
+            Instant at = clock.get();
+            if (leaseRepository.tryAcquire(jobName, nodeId(), at, at.plus(properties.leaderLease()))) {
+                return true;
+            }
+            logger.warn("Lost the {} lease on {}, stopping", jobName, nodeId());
+            return false;
+        };
+        try {
+            task.accept(renew);
+        } catch (RuntimeException e) {
+            logger.error("Job {} failed on {}: {}", jobName, nodeId(), e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * The latest fire time of the cron expression at or before {@code now}.
+     */
+    static Instant latestOccurrence(CronExpression cron, ZonedDateTime now) {
+        ZonedDateTime from = now.minusDays(1);
+        ZonedDateTime next = cron.next(from);
+        for (long lookBack : new long[] {7, 31, 366}) {
+            if (next != null && !next.isAfter(now)) {
+                break;
+            }
+            from = now.minusDays(lookBack);
+            next = cron.next(from);
+        }
+        if (next == null || next.isAfter(now)) {
+            // Never fired within a year: fall back to the current second
+            return now.toInstant().truncatedTo(ChronoUnit.SECONDS);
+        }
+        ZonedDateTime latest = next;
+        while ((next = cron.next(latest)) != null && !next.isAfter(now)) {
+            latest = next;
+        }
+        return latest.toInstant();
+    }
+}
@@ -1,11 +1,19 @@
 package com.training.coach.scheduler.application.service;
 
+import com.training.coach.sync.application.service.ShardedSyncService;
 import com.training.coach.sync.application.service.SyncService;
+import com.training.coach.sync.domain.model.SyncBatchProgress;
 import com.training.coach.wellness.application.service.WellnessReminderService;
+import com.training.coach.athlete.application.service.AthleteAlertService;
+import com.training.coach.athlete.application.service.NotificationDispatcher;
 import com.training.coach.athlete.application.service.NotificationService;
 import com.training.coach.athlete.application.service.NotificationSchedulerService;
 import com.training.coach.athlete.application.port.out.AthleteRepository;
 import com.training.coach.athlete.domain.model.Notification;
+import com.training.coach.athlete.domain.model.NotificationType;
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.reporting.application.service.WeeklyReportMaterializationService;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -16,37 +24,68 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service for scheduled tasks like nightly syncs and wellness reminders.
+ * Every node fires these triggers; {@link ClusterJobRunner} lets exactly one node run each occurrence.
  */
 @Service
 public class ScheduledService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScheduledService.class);
 
+    private static final String NIGHTLY_SYNC_CRON = "0 0 2 * * *";
+    private static final String WELLNESS_REMINDER_CRON = "0 0 9 * * *";
+    private static final String SAFETY_CHECK_CRON = "0 0 10 * * *";
+    private static final String NOTIFICATION_PURGE_CRON = "0 30 3 * * *";
+    private static final String REPORT_JOB_EXPIRY_CRON = "0 45 3 * * *";
+
     private final SyncService syncService;
     private final WellnessReminderService wellnessReminderService;
     private final NotificationService notificationService;
     private final NotificationSchedulerService notificationSchedulerService;
     private final AthleteRepository athleteRepository;
+    private final WeeklyReportMaterializationService weeklyReportMaterializationService;
+    private final AthleteAlertService athleteAlertService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ClusterJobRunner jobRunner;
+    private final ShardedSyncService shardedSyncService;
+    private final ReportJobService reportJobService;
 
     public ScheduledService(
             SyncService syncService,
             WellnessReminderService wellnessReminderService,
             NotificationService notificationService,
             NotificationSchedulerService notificationSchedulerService,
-            AthleteRepository athleteRepository) {
+            AthleteRepository athleteRepository,
+            WeeklyReportMaterializationService weeklyReportMaterializationService,
+            AthleteAlertService athleteAlertService,
+            NotificationDispatcher notificationDispatcher,
+            ClusterJobRunner jobRunner,
+            ShardedSyncService shardedSyncService,
+            ReportJobService reportJobService) {
         this.syncService = syncService;
         this.wellnessReminderService = wellnessReminderService;
         this.notificationService = notificationService;
         this.notificationSchedulerService = notificationSchedulerService;
         this.athleteRepository = athleteRepository;
+        this.weeklyReportMaterializationService = weeklyReportMaterializationService;
+        this.athleteAlertService = athleteAlertService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.jobRunner = jobRunner;
+        this.shardedSyncService = shardedSyncService;
+        this.reportJobService = reportJobService;
     }
 
     /**
      * Scheduled sync that runs nightly at 2 AM.
-     * Synchronizes data for all athletes linked to fitness platforms.
+     * Synchronizes data for all athletes linked to fitness platforms, then pre-generates
+     * last week's reports from the freshly synced data. With sharding enabled this only queues
+     * the batch, and every node syncs its share through {@link #processSyncShards()}.
      */
-    @Scheduled(cron = "0 0 2 * * *")
+    @Scheduled(cron = NIGHTLY_SYNC_CRON)
     public void performNightlySync() {
+        jobRunner.runOnce("nightly-sync", NIGHTLY_SYNC_CRON, this::nightlySync);
+    }
+
+    private void nightlySync() {
         logger.info("Starting nightly sync job");
 
         // Get all athletes
@@ -63,6 +102,11 @@ public class ScheduledService {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(7);
 
+        if (shardedSyncService.isEnabled()) {
+            shardedSyncService.planBatch(endDate.toString(), startDate, endDate);
+            return;
+        }
+
         // Perform sync for each athlete
         var results = syncService.runNightlySync(athleteIds, startDate, endDate);
 
@@ -77,23 +121,85 @@ public class ScheduledService {
                 .filter(result -> "complete_failure".equals(result.status()))
                 .count();
 
+        finishNightlySync(successful, partialFailures, completeFailures, athleteIds.size(), 0, endDate);
+    }
+
+    /**
+     * Sync the shards of the nightly batch this node can claim. Runs on every node; the node that sees
+     * the batch finish first does the follow-up work of the nightly sync.
+     */
+    @Scheduled(fixedDelayString = "${training.sync.sharding.poll-interval:PT10S}")
+    public void processSyncShards() {
+        if (!shardedSyncService.isEnabled()) {
+            return;
+        }
+        for (SyncBatchProgress batch : shardedSyncService.processAvailableShards(jobRunner.nodeId())) {
+            jobRunner.runOnce("nightly-sync-finish", batch.plannedAt(), () -> finishNightlySync(
+                    batch.successes(), batch.partialFailures(), batch.completeFailures(), batch.athletesDone(),
+                    batch.failedShards(), batch.windowEnd()));
+        }
+    }
+
+    private void finishNightlySync(
+            long successful,
+            long partialFailures,
+            long completeFailures,
+            int processed,
+            int failedShards,
+            LocalDate endDate) {
         logger.info("Nightly sync completed: {} successful, {} partial failures, {} complete failures",
                 successful, partialFailures, completeFailures);
 
         // Check for any partial failures and notify admins
-        if (partialFailures > 0) {
+        if (partialFailures > 0 || failedShards > 0) {
             String message = String.format("Nightly sync had %d partial failures out of %d athletes processed",
-                    partialFailures, athleteIds.size());
+                    partialFailures, processed);
+            if (failedShards > 0) {
+                message += String.format(" and gave up on %d shards", failedShards);
+            }
             notifyAdminsSyncIssue(message);
         }
+
+        closeAlertDay(endDate.minusDays(1));
+        materializeWeeklyReports(endDate);
+    }
+
+    /**
+     * Settle yesterday's key sessions once the sync has matched yesterday's activities to their workouts.
+     * Fatigue warnings are raised as wellness arrives, so this only looks at the week's published workouts.
+     * A failure here must not fail the sync job itself.
+     */
+    private void closeAlertDay(LocalDate day) {
+        try {
+            int alerts = athleteAlertService.closeDay(day);
+            logger.info("Alert day close completed: {} missed session alerts sent", alerts);
+        } catch (RuntimeException e) {
+            logger.error("Alert day close failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pre-generate every athlete's report for the week that just finished.
+     * A failure here must not fail the sync job itself.
+     */
+    private void materializeWeeklyReports(LocalDate today) {
+        try {
+            weeklyReportMaterializationService.materializePreviousWeek(today);
+        } catch (RuntimeException e) {
+            logger.error("Weekly report materialization failed: {}", e.getMessage(), e);
+        }
     }
 
     /**
      * Daily wellness reminder job that runs daily at 9 AM.
      * Reminds athletes who haven't submitted wellness data in the last 3 days.
      */
-    @Scheduled(cron = "0 0 9 * * *")
+    @Scheduled(cron = WELLNESS_REMINDER_CRON)
     public void sendWellnessReminders() {
+        jobRunner.runOnce("wellness-reminders", WELLNESS_REMINDER_CRON, this::wellnessReminders);
+    }
+
+    private void wellnessReminders() {
         logger.info("Running daily wellness reminder job");
 
         var reminders = wellnessReminderService.findAthletesNeedingReminders();
@@ -101,6 +207,7 @@ public class ScheduledService {
         for (var reminder : reminders) {
             notificationService.notifyAthlete(
                     reminder.athleteId(),
+                    NotificationType.WELLNESS_REMINDER,
                     "Please submit your wellness data. You haven't submitted in " + reminder.daysSinceSubmission() + " days."
             );
 
@@ -114,8 +221,12 @@ public class ScheduledService {
      * Check for safety guardrail violations and send notifications.
      * Runs daily at 10 AM.
      */
-    @Scheduled(cron = "0 0 10 * * *")
+    @Scheduled(cron = SAFETY_CHECK_CRON)
     public void checkSafetyViolations() {
+        jobRunner.runOnce("safety-check", SAFETY_CHECK_CRON, this::safetyViolations);
+    }
+
+    private void safetyViolations() {
         logger.info("Running daily safety violation check");
 
         // In a full implementation, this would:
@@ -125,12 +236,45 @@ public class ScheduledService {
 
         // Add notification scheduler service calls
         notificationSchedulerService.sendDailyWorkoutReminders();
-        notificationSchedulerService.sendMissedSessionAlerts();
-        notificationSchedulerService.sendFatigueWarnings();
 
         logger.info("Safety violation check completed");
     }
 
+    /**
+     * Drain the notification outbox on the node currently leading this job.
+     */
+    @Scheduled(fixedDelayString = "${training.notifications.dispatch-interval:PT1S}")
+    public void dispatchNotifications() {
+        jobRunner.runAsLeader("notification-dispatch",
+                renewLease -> notificationDispatcher.dispatchPending(Instant.now(), renewLease));
+    }
+
+    /**
+     * Run again the job occurrences a node stopped before finishing, once their lease has expired.
+     */
+    @Scheduled(fixedDelayString = "${training.scheduler.resume-interval:PT1M}")
+    public void resumeAbandonedJobs() {
+        jobRunner.resumeAbandoned();
+    }
+
+    /**
+     * Purge delivered and failed notifications past their retention, once a day.
+     */
+    @Scheduled(cron = NOTIFICATION_PURGE_CRON)
+    public void purgeNotifications() {
+        jobRunner.runOnce("notification-purge", NOTIFICATION_PURGE_CRON,
+                () -> notificationDispatcher.purgeFinished(Instant.now()));
+    }
+
+    /**
+     * Delete finished report jobs and their result files past retention, once a day.
+     */
+    @Scheduled(cron = REPORT_JOB_EXPIRY_CRON)
+    public void expireReportJobs() {
+        jobRunner.runOnce("report-job-expiry", REPORT_JOB_EXPIRY_CRON,
+                () -> reportJobService.deleteExpired(Instant.now()));
+    }
+
     /**
      * Notify admins about sync issues.
      */
@@ -139,6 +283,6 @@ public class ScheduledService {
         logger.warn(message);
 
         // Using the notification service to notify "system" admin
-        notificationService.notifyCoach("system", message);
+        notificationService.notifyCoach("system", null, NotificationType.SYNC_ISSUE, message);
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.training.coach.scheduler.application.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Coordination of scheduled jobs between backend nodes.
+ *
+ * @param nodeId name this node holds leases and runs report jobs under; defaults to the JVM's pid@hostname, which
+ *     changes on restart, so a restarted node only finds its interrupted report jobs with a configured id
+ * @param jobLease how long a job occurrence stays with its node after the node's last heartbeat
+ * @param leaderLease how long a continuously running job stays with its node after the node stops renewing
+ * @param jobHeartbeat how often a node renews the lease of a job occurrence while running it
+ */
+@ConfigurationProperties(prefix = "training.scheduler")
+public record SchedulerProperties(
+        String nodeId,
+        @DefaultValue("PT2M") Duration jobLease,
+        @DefaultValue("PT30S") Duration leaderLease,
+        @DefaultValue("PT30S") Duration jobHeartbeat) {
+    public SchedulerProperties {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+    }
+
+    public static SchedulerProperties defaults() {
+        return new SchedulerProperties(null, Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,15 @@
+package com.training.coach.scheduler.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Time-bounded claim of one node on a scheduled job.
+ *
+ * @param lastOccurrence the most recent scheduled occurrence of the job that a node has claimed
+ */
+public record JobLease(String jobName, String owner, Instant lockedUntil, Instant lastOccurrence) {
+
+    public boolean isHeldAt(Instant now) {
+        return lockedUntil != null && lockedUntil.isAfter(now);
+    }
+}
@@ -0,0 +1,59 @@
+package com.training.coach.scheduler.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One execution of a scheduled job on one node.
+ */
+public record JobRun(
+        String id,
+        String jobName,
+        Instant occurrence,
+        String owner,
+        RunStatus status,
+        Instant startedAt,
+        Instant finishedAt,
+        Long durationMillis,
+        String errorMessage
+) {
+    public JobRun {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Run ID cannot be null or blank");
+        }
+        if (jobName == null || jobName.isBlank()) {
+            throw new IllegalArgumentException("Job name cannot be null or blank");
+        }
+        if (status == null) status = RunStatus.RUNNING;
+    }
+
+    public static JobRun start(String jobName, Instant occurrence, String owner, Instant startedAt) {
+        return new JobRun(UUID.randomUUID().toString(), jobName, occurrence, owner, RunStatus.RUNNING, startedAt,
+                null, null, null);
+    }
+
+    public JobRun succeed(Instant at) {
+        return finish(RunStatus.SUCCEEDED, at, null);
+    }
+
+    public JobRun fail(Instant at, String error) {
+        return finish(RunStatus.FAILED, at, error);
+    }
+
+    private JobRun finish(RunStatus finalStatus, Instant at, String error) {
+        if (status != RunStatus.RUNNING && status != RunStatus.ABANDONED) {
+            throw new IllegalStateException("Run already finished: " + id);
+        }
+        return new JobRun(id, jobName, occurrence, owner, finalStatus, startedAt, at,
+                Duration.between(startedAt, at).toMillis(), error);
+    }
+
+    public enum RunStatus {
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        /** The node running it stopped renewing its lease before the run finished. */
+        ABANDONED
+    }
+}
@@ -0,0 +1,58 @@
+package com.training.coach.scheduler.infrastructure.persistence;
+
+import com.training.coach.scheduler.infrastructure.persistence.entity.JobLeaseEntity;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLeaseJpaRepository extends JpaRepository<JobLeaseEntity, String> {
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.owner = :owner, l.lockedUntil = :lockedUntil, "
+            + "l.lastOccurrence = :occurrence, l.version = l.version + 1 "
+            + "WHERE l.jobName = :jobName AND (l.lockedUntil <= :now OR l.owner = :owner) "
+            + "AND (l.lastOccurrence IS NULL OR l.lastOccurrence < :occurrence)")
+    int claimOccurrence(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("occurrence") Instant occurrence,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.version = l.version + 1 "
+            + "WHERE l.jobName = :jobName AND l.lockedUntil <= :now AND l.lastOccurrence = :occurrence")
+    int reclaimOccurrence(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("occurrence") Instant occurrence,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.version = l.version + 1 "
+            + "WHERE l.jobName = :jobName AND (l.lockedUntil <= :now OR l.owner = :owner)")
+    int claim(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.lockedUntil = :lockedUntil, l.version = l.version + 1 "
+            + "WHERE l.jobName = :jobName AND l.owner = :owner AND l.lastOccurrence = :occurrence")
+    int heartbeat(
+            @Param("jobName") String jobName,
+            @Param("owner") String owner,
+            @Param("occurrence") Instant occurrence,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.lockedUntil = :now, l.version = l.version + 1 "
+            + "WHERE l.jobName = :jobName AND l.owner = :owner AND l.lockedUntil > :now")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") Instant now);
+}
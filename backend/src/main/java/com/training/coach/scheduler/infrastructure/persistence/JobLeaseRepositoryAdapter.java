@@ -0,0 +1,104 @@
+package com.training.coach.scheduler.infrastructure.persistence;
+
+import com.training.coach.scheduler.application.port.out.JobLeaseRepository;
+import com.training.coach.scheduler.domain.model.JobLease;
+import com.training.coach.scheduler.infrastructure.persistence.entity.JobLeaseEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntSupplier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adapter for the scheduler lease table.
+ *
+ * <p>A lease is taken with a single conditional update, so the database decides between nodes racing for it. The
+ * first claim on a job inserts its row; when two nodes insert at once the primary key rejects the second.
+ * Each step runs in its own transaction, independent of any transaction of the caller.</p>
+ */
+@Repository
+@Profile("!test")
+public class JobLeaseRepositoryAdapter implements JobLeaseRepository {
+
+    private final JobLeaseJpaRepository leaseRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobLeaseRepositoryAdapter(JobLeaseJpaRepository leaseRepo, PlatformTransactionManager transactionManager) {
+        this.leaseRepo = leaseRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean tryAcquireOccurrence(
+            String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil) {
+        return claimOrInsert(
+                () -> leaseRepo.claimOccurrence(jobName, owner, occurrence, now, lockedUntil),
+                newLease(jobName, owner, lockedUntil, occurrence));
+    }
+
+    @Override
+    public boolean tryReclaimOccurrence(
+            String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil) {
+        Integer claimed = transactionTemplate.execute(
+                status -> leaseRepo.reclaimOccurrence(jobName, owner, occurrence, now, lockedUntil));
+        return claimed != null && claimed > 0;
+    }
+
+    @Override
+    public boolean heartbeat(String jobName, String owner, Instant occurrence, Instant lockedUntil) {
+        Integer renewed = transactionTemplate.execute(
+                status -> leaseRepo.heartbeat(jobName, owner, occurrence, lockedUntil));
+        return renewed != null && renewed > 0;
+    }
+
+    @Override
+    public boolean tryAcquire(String jobName, String owner, Instant now, Instant lockedUntil) {
+        return claimOrInsert(
+                () -> leaseRepo.claim(jobName, owner, now, lockedUntil),
+                newLease(jobName, owner, lockedUntil, null));
+    }
+
+    @Override
+    public void release(String jobName, String owner, Instant now) {
+        transactionTemplate.executeWithoutResult(status -> leaseRepo.release(jobName, owner, now));
+    }
+
+    @Override
+    public List<JobLease> findAll() {
+        return leaseRepo.findAll().stream()
+                .map(entity -> new JobLease(
+                        entity.getJobName(), entity.getOwner(), entity.getLockedUntil(), entity.getLastOccurrence()))
+                .toList();
+    }
+
+    private boolean claimOrInsert(IntSupplier claim, JobLeaseEntity lease) {
+        Integer claimed = transactionTemplate.execute(status -> claim.getAsInt());
+        if (claimed != null && claimed > 0) {
+            return true;
+        }
+        if (leaseRepo.existsById(lease.getJobName())) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepo.saveAndFlush(lease));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the lease first
+            return false;
+        }
+    }
+
+    private static JobLeaseEntity newLease(String jobName, String owner, Instant lockedUntil, Instant occurrence) {
+        JobLeaseEntity entity = new JobLeaseEntity();
+        entity.setJobName(jobName);
+        entity.setOwner(owner);
+        entity.setLockedUntil(lockedUntil);
+        entity.setLastOccurrence(occurrence);
+        return entity;
+    }
+}
@@ -0,0 +1,29 @@
+package com.training.coach.scheduler.infrastructure.persistence;
+
+import com.training.coach.scheduler.domain.model.JobRun;
+import com.training.coach.scheduler.infrastructure.persistence.entity.JobRunEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRunJpaRepository extends JpaRepository<JobRunEntity, String> {
+
+    List<JobRunEntity> findByJobNameOrderByStartedAtDesc(String jobName, Limit limit);
+
+    List<JobRunEntity> findAllByOrderByStartedAtDesc(Limit limit);
+
+    @Modifying
+    @Query("UPDATE JobRunEntity r SET r.status = :abandoned, r.finishedAt = :at "
+            + "WHERE r.jobName = :jobName AND r.status = :running")
+    int updateRunningStatus(
+            @Param("jobName") String jobName,
+            @Param("running") JobRun.RunStatus running,
+            @Param("abandoned") JobRun.RunStatus abandoned,
+            @Param("at") Instant at);
+}
@@ -0,0 +1,69 @@
+package com.training.coach.scheduler.infrastructure.persistence;
+
+import com.training.coach.scheduler.application.port.out.JobRunRepository;
+import com.training.coach.scheduler.domain.model.JobRun;
+import com.training.coach.scheduler.infrastructure.persistence.entity.JobRunEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter for scheduled job run history.
+ */
+@Repository
+@Profile("!test")
+public class JobRunRepositoryAdapter implements JobRunRepository {
+
+    private final JobRunJpaRepository runRepo;
+
+    public JobRunRepositoryAdapter(JobRunJpaRepository runRepo) {
+        this.runRepo = runRepo;
+    }
+
+    @Override
+    public JobRun save(JobRun run) {
+        JobRunEntity entity = new JobRunEntity();
+        entity.setId(run.id());
+        entity.setJobName(run.jobName());
+        entity.setOccurrence(run.occurrence());
+        entity.setOwner(run.owner());
+        entity.setStatus(run.status());
+        entity.setStartedAt(run.startedAt());
+        entity.setFinishedAt(run.finishedAt());
+        entity.setDurationMillis(run.durationMillis());
+        entity.setErrorMessage(run.errorMessage());
+        runRepo.save(entity);
+        return run;
+    }
+
+    @Override
+    @Transactional
+    public int abandonRunning(String jobName, Instant at) {
+        return runRepo.updateRunningStatus(jobName, JobRun.RunStatus.RUNNING, JobRun.RunStatus.ABANDONED, at);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobRun> findRecent(String jobName, int limit) {
+        List<JobRunEntity> runs = jobName == null
+                ? runRepo.findAllByOrderByStartedAtDesc(Limit.of(limit))
+                : runRepo.findByJobNameOrderByStartedAtDesc(jobName, Limit.of(limit));
+        return runs.stream().map(this::toDomain).toList();
+    }
+
+    private JobRun toDomain(JobRunEntity entity) {
+        return new JobRun(
+                entity.getId(),
+                entity.getJobName(),
+                entity.getOccurrence(),
+                entity.getOwner(),
+                entity.getStatus(),
+                entity.getStartedAt(),
+                entity.getFinishedAt(),
+                entity.getDurationMillis(),
+                entity.getErrorMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package com.training.coach.scheduler.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "scheduler_leases")
+public class JobLeaseEntity {
+
+    @Id
+    @Column(name = "job_name", updatable = false, nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "last_occurrence")
+    private Instant lastOccurrence;
+
+    /** Null until first stored, so a new lease is inserted rather than merged over a concurrent one. */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public Instant getLastOccurrence() {
+        return lastOccurrence;
+    }
+
+    public void setLastOccurrence(Instant lastOccurrence) {
+        this.lastOccurrence = lastOccurrence;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,48 @@
+package com.training.coach.scheduler.presentation;
+
+import com.training.coach.scheduler.application.port.out.JobLeaseRepository;
+import com.training.coach.scheduler.application.port.out.JobRunRepository;
+import com.training.coach.scheduler.domain.model.JobLease;
+import com.training.coach.scheduler.domain.model.JobRun;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller showing which node holds each scheduled job and how its runs went.
+ */
+@RestController
+@RequestMapping("/api/scheduler")
+public class SchedulerController {
+
+    private static final int MAX_RUNS = 500;
+
+    private final JobLeaseRepository leaseRepository;
+    private final JobRunRepository runRepository;
+
+    public SchedulerController(JobLeaseRepository leaseRepository, JobRunRepository runRepository) {
+        this.leaseRepository = leaseRepository;
+        this.runRepository = runRepository;
+    }
+
+    /**
+     * Current lease of every job that has run at least once.
+     */
+    @GetMapping("/leases")
+    public ResponseEntity<List<JobLease>> getLeases() {
+        return ResponseEntity.ok(leaseRepository.findAll());
+    }
+
+    /**
+     * Most recent runs, optionally of a single job.
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<JobRun>> getRuns(
+            @RequestParam(required = false) String job,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_RUNS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(runRepository.findRecent(job, limit));
+    }
+}
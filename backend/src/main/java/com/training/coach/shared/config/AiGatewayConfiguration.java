@@ -0,0 +1,9 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.integration.application.service.AiGatewayProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(AiGatewayProperties.class)
+public class AiGatewayConfiguration {}
@@ -0,0 +1,53 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.shared.web.WebExecutionProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Keeps blocking controller methods off the event loop.
+ *
+ * <p>Controller methods that do not return a reactive type, which includes every method calling JPA, run on the
+ * blocking request executor rather than on a Netty thread, so a slow query only holds its own thread. How much of
+ * that executor each endpoint group may use is limited by the bulkheads of {@link WebExecutionProperties}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WebExecutionProperties.class)
+public class BlockingExecutionConfiguration {
+
+    @Bean(name = "blockingRequestExecutor")
+    public AsyncTaskExecutor blockingRequestExecutor(
+            WebExecutionProperties properties, ThreadPoolTaskExecutorBuilder builder) {
+        if (properties.virtualThreads()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-request-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = builder.threadNamePrefix("blocking-request-")
+                .corePoolSize(properties.platformThreads())
+                .maxPoolSize(properties.platformThreads())
+                .build();
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public WebFluxConfigurer blockingExecutionConfigurer(
+            @Qualifier("blockingRequestExecutor") AsyncTaskExecutor blockingRequestExecutor) {
+        return new WebFluxConfigurer() {
+            @Override
+            public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+                configurer.setExecutor(blockingRequestExecutor);
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.analysis.infrastructure.audit.GuardrailAuditProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(GuardrailAuditProperties.class)
+public class GuardrailAuditConfiguration {}
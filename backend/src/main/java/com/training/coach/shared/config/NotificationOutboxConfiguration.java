@@ -0,0 +1,9 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.athlete.application.service.NotificationOutboxProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(NotificationOutboxProperties.class)
+public class NotificationOutboxConfiguration {}
@@ -0,0 +1,24 @@
+package com.training.coach.shared.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration(proxyBeanMethods = false)
+public class PlanGenerationExecutorConfiguration {
+
+    @Bean(name = "planGenerationExecutor")
+    public Executor planGenerationExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = builder.threadNamePrefix("plan-gen-")
+                .corePoolSize(Math.max(2, processors))
+                .maxPoolSize(Math.max(4, processors * 2))
+                .queueCapacity(512)
+                .build();
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.training.coach.shared.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration(proxyBeanMethods = false)
+public class PrivacyErasureExecutorConfiguration {
+
+    /**
+     * Runs the per-context erasers of one deletion request side by side. Each task holds a
+     * database connection for one set-based statement batch, so the pool stays small.
+     */
+    @Bean(name = "erasureExecutor")
+    public Executor erasureExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        ThreadPoolTaskExecutor executor = builder.threadNamePrefix("privacy-erasure-")
+                .corePoolSize(4)
+                .maxPoolSize(4)
+                .queueCapacity(256)
+                .build();
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
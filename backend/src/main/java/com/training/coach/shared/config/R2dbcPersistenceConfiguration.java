@@ -0,0 +1,53 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.shared.persistence.R2dbcPersistenceProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Reactive access to the database for the R2DBC adapters of the hottest stores.
+ *
+ * <p>The connection pool is deliberately not a bean: Boot backs off from the JDBC DataSource as soon as a
+ * {@code ConnectionFactory} bean exists, and JPA keeps serving every other repository.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("r2dbc")
+@EnableConfigurationProperties(R2dbcPersistenceProperties.class)
+public class R2dbcPersistenceConfiguration implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient(R2dbcPersistenceProperties properties) {
+        connectionPool = connectionPool(properties);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    public static ConnectionPool connectionPool(R2dbcPersistenceProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.username())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("training-coach-r2dbc")
+                .initialSize(properties.initialPoolSize())
+                .maxSize(properties.maxPoolSize())
+                .maxIdleTime(properties.maxIdleTime())
+                .build());
+    }
+}
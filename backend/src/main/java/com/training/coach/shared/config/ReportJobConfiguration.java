@@ -0,0 +1,31 @@
+package com.training.coach.shared.config;
+
+import com.training.coach.jobs.application.service.ReportJobProperties;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReportJobProperties.class)
+public class ReportJobConfiguration {
+
+    /**
+     * Fixed-size worker pool whose queue orders tasks by their natural order.
+     * Only {@code Comparable} tasks may be submitted, see ReportJobService.
+     */
+    @Bean(name = "reportJobExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor reportJobExecutor(ReportJobProperties properties) {
+        int workers = Math.max(1, properties.workers());
+        return new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new CustomizableThreadFactory("report-job-"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.training.coach.shared.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration(proxyBeanMethods = false)
+public class ReportingExecutorConfiguration {
+
+    @Bean(name = "reportingExecutor")
+    public Executor reportingExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = builder.threadNamePrefix("reporting-")
+                .corePoolSize(Math.max(2, processors))
+                .maxPoolSize(Math.max(4, processors * 2))
+                .queueCapacity(256)
+                .build();
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Background pool for pre-materializing weekly reports. Threads run at minimum priority
+     * and the pool is kept small so nightly batches yield to request handling.
+     */
+    @Bean(name = "reportMaterializationExecutor")
+    public Executor reportMaterializationExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = builder.threadNamePrefix("report-materialize-")
+                .corePoolSize(Math.max(1, processors / 2))
+                .maxPoolSize(Math.max(1, processors / 2))
+                .queueCapacity(1024)
+                .customizers(taskExecutor -> taskExecutor.setThreadPriority(Thread.MIN_PRIORITY))
+                .build();
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
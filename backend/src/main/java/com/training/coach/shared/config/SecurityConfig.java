@@ -48,10 +48,16 @@ public class SecurityConfig {
                         .permitAll()
                         .pathMatchers("/api/users/**")
                         .hasRole("ADMIN")
+                        .pathMatchers("/api/notifications/outbox/**")
+                        .hasRole("ADMIN")
+                        .pathMatchers("/api/scheduler/**")
+                        .hasRole("ADMIN")
                         .pathMatchers(HttpMethod.POST, "/api/integrations/ai/suggestions")
                         .hasAnyRole("COACH", "ADMIN")
                         .pathMatchers("/api/integrations/**")
                         .hasRole("ADMIN")
+                        .pathMatchers("/api/sync/shards/**")
+                        .hasRole("ADMIN")
                         .pathMatchers("/api/sync/**")
                         .hasAnyRole("COACH", "ADMIN")
                         .pathMatchers("/api/training-plans/**")
@@ -0,0 +1,14 @@
+package com.training.coach.shared.config;
+
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class TaperOptimizerConfiguration {
+
+    @Bean(name = "taperOptimizerPool", destroyMethod = "shutdown")
+    public ForkJoinPool taperOptimizerPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,29 @@
+package com.training.coach.shared.persistence;
+
+import java.util.List;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Streams a query result page by page, each page starting after the last row of the previous one.
+ *
+ * <p>The next page is only queried once the subscriber has requested past the current one, so a stream holds
+ * at most a page or two in memory however many rows it covers, and a slow subscriber slows the queries down
+ * rather than buffering rows.</p>
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {}
+
+    /**
+     * @param pageSize rows per page; a shorter page ends the stream
+     * @param firstPage query for the first page
+     * @param nextPage query for the page following the given last row
+     */
+    public static <T> Flux<T> stream(int pageSize, Mono<List<T>> firstPage, Function<T, Mono<List<T>>> nextPage) {
+        return firstPage
+                .expand(page -> page.size() < pageSize ? Mono.empty() : nextPage.apply(page.getLast()))
+                .concatMapIterable(Function.identity(), 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.training.coach.shared.persistence;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection and batching settings of the R2DBC adapters, used when the {@code r2dbc} profile is active.
+ *
+ * @param url R2DBC URL; it should name the same database as {@code spring.datasource.url}, which JPA keeps using
+ *     for every other repository
+ * @param initialPoolSize connections opened at startup
+ * @param maxPoolSize connections open at most; reactive queries wait for a free one rather than a thread
+ * @param maxIdleTime how long an unused connection is kept
+ * @param pageSize rows read per query when streaming a range, which bounds the memory a stream holds
+ * @param upsertBatchSize rows written per batched statement
+ */
+@ConfigurationProperties(prefix = "training.persistence.r2dbc")
+public record R2dbcPersistenceProperties(
+        @DefaultValue("r2dbc:h2:mem:///training_coach?options=DB_CLOSE_DELAY=-1") String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("2") int initialPoolSize,
+        @DefaultValue("16") int maxPoolSize,
+        @DefaultValue("PT30M") Duration maxIdleTime,
+        @DefaultValue("500") int pageSize,
+        @DefaultValue("200") int upsertBatchSize) {
+    public R2dbcPersistenceProperties {
+        if (maxPoolSize < 1 || initialPoolSize < 0 || initialPoolSize > maxPoolSize) {
+            throw new IllegalArgumentException("R2DBC pool sizes must satisfy 0 <= initial <= max and max >= 1");
+        }
+        if (pageSize < 1 || upsertBatchSize < 1) {
+            throw new IllegalArgumentException("R2DBC page and batch sizes must be positive");
+        }
+    }
+
+    public static R2dbcPersistenceProperties defaults() {
+        return new R2dbcPersistenceProperties(
+                "r2dbc:h2:mem:///training_coach?options=DB_CLOSE_DELAY=-1", "sa", "", 2, 16, Duration.ofMinutes(30),
+                500, 200);
+    }
+}
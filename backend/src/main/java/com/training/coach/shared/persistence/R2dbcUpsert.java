@@ -0,0 +1,103 @@
+package com.training.coach.shared.persistence;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Batched insert-or-update of rows keyed on an {@code id} column.
+ *
+ * <p>Each batch is one {@code MERGE} statement bound once per row, so a batch costs a single round trip. Rows
+ * already stored are updated in place except for their insert-only columns, such as the creation time.</p>
+ *
+ * @param <T> the row type
+ */
+public final class R2dbcUpsert<T> {
+
+    /**
+     * @param name column name; the first column of an upsert must be {@code id}
+     * @param type Java type of the column, used to bind nulls
+     * @param value reads the column value from a row
+     * @param insertOnly whether the column keeps its stored value when the row already exists
+     */
+    public record Column<T>(String name, Class<?> type, Function<T, Object> value, boolean insertOnly) {
+        public static <T> Column<T> of(String name, Class<?> type, Function<T, Object> value) {
+            return new Column<>(name, type, value, false);
+        }
+
+        public static <T> Column<T> insertOnly(String name, Class<?> type, Function<T, Object> value) {
+            return new Column<>(name, type, value, true);
+        }
+    }
+
+    private final List<Column<T>> columns;
+    private final int batchSize;
+    private final String sql;
+
+    public R2dbcUpsert(String table, List<Column<T>> columns, int batchSize) {
+        if (columns.isEmpty() || !columns.getFirst().name().equals("id")) {
+            throw new IllegalArgumentException("An upsert is keyed on a leading id column");
+        }
+        this.columns = List.copyOf(columns);
+        this.batchSize = batchSize;
+        this.sql = mergeSql(table, this.columns);
+    }
+
+    /**
+     * @return the number of rows written
+     */
+    public Mono<Long> execute(DatabaseClient client, List<T> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return Flux.fromIterable(rows)
+                .buffer(batchSize)
+                .concatMap(batch -> client.inConnection(connection -> {
+                    Statement statement = connection.createStatement(sql);
+                    for (int row = 0; row < batch.size(); row++) {
+                        if (row > 0) {
+                            statement.add();
+                        }
+                        bind(statement, batch.get(row));
+                    }
+                    return Flux.from(statement.execute())
+                            .flatMap(Result::getRowsUpdated)
+                            .reduce(0L, Long::sum);
+                }))
+                .reduce(0L, Long::sum);
+    }
+
+    private void bind(Statement statement, T row) {
+        for (int index = 0; index < columns.size(); index++) {
+            Column<T> column = columns.get(index);
+            Object value = column.value().apply(row);
+            if (value == null) {
+                statement.bindNull(index, column.type());
+            } else {
+                statement.bind(index, value);
+            }
+        }
+    }
+
+    private static String mergeSql(String table, List<? extends Column<?>> columns) {
+        String names = columns.stream().map(Column::name).collect(Collectors.joining(", "));
+        String markers = IntStream.rangeClosed(1, columns.size())
+                .mapToObj(index -> "$" + index)
+                .collect(Collectors.joining(", "));
+        String updates = columns.stream()
+                .skip(1)
+                .filter(column -> !column.insertOnly())
+                .map(column -> column.name() + " = s." + column.name())
+                .collect(Collectors.joining(", "));
+        String inserts = columns.stream().map(column -> "s." + column.name()).collect(Collectors.joining(", "));
+        return "MERGE INTO " + table + " t USING (VALUES (" + markers + ")) s(" + names + ") ON t.id = s.id "
+                + "WHEN MATCHED THEN UPDATE SET " + updates + " "
+                + "WHEN NOT MATCHED THEN INSERT (" + names + ") VALUES (" + inserts + ")";
+    }
+}
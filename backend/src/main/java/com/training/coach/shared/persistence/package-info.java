@@ -0,0 +1,4 @@
+/**
+ * Package documentation.
+ */
+package com.training.coach.shared.persistence;
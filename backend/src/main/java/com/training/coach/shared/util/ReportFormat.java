@@ -0,0 +1,133 @@
+package com.training.coach.shared.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sections shared by the CSV and JSON report exports, so every export lays out the header, readiness scores,
+ * compliance and activities the same way and rounds numbers alike.
+ */
+public final class ReportFormat {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ReportFormat() {}
+
+    /**
+     * Title, athlete and period lines, followed by a blank line.
+     */
+    public static void csvHeader(CsvWriter csv, String athleteName, LocalDate start, LocalDate end) {
+        csv.row("Training Coach - Weekly Report");
+        csv.row("Athlete:", athleteName);
+        csv.row("Period:", start + " to " + end).blankLine();
+    }
+
+    /**
+     * One row per day with its readiness score, followed by a blank line.
+     */
+    public static void csvDailyScores(CsvWriter csv, Map<LocalDate, Double> scores) {
+        csv.row("Date", "Readiness Score");
+        for (Map.Entry<LocalDate, Double> entry : scores.entrySet()) {
+            csv.row(entry.getKey(), String.format("%.1f", entry.getValue()));
+        }
+        csv.blankLine();
+    }
+
+    /**
+     * The compliance summary and, when there are any, its flags.
+     */
+    public static void csvCompliance(
+            CsvWriter csv,
+            double completionPercent,
+            double keySessionCompletionPercent,
+            double zoneDistributionAdherencePercent,
+            double unplannedLoadMinutes,
+            List<String> flags) {
+        csv.row("COMPLIANCE SUMMARY");
+        csv.row("Completion Rate", String.format("%.1f%%", completionPercent));
+        csv.row("Key Session Completion", String.format("%.1f%%", keySessionCompletionPercent));
+        csv.row("Zone Distribution Adherence", String.format("%.1f%%", zoneDistributionAdherencePercent));
+        csv.row("Unplanned Load (min)", String.format("%.0f", unplannedLoadMinutes)).blankLine();
+
+        if (!flags.isEmpty()) {
+            csv.row("FLAGS");
+            for (String flag : flags) {
+                csv.row("- " + flag);
+            }
+            csv.blankLine();
+        }
+    }
+
+    /**
+     * The completed activities section, left out when there are none.
+     */
+    public static void csvActivities(CsvWriter csv, Iterable<String> activities) {
+        boolean header = false;
+        for (String activity : activities) {
+            if (!header) {
+                csv.row("COMPLETED ACTIVITIES");
+                csv.row("Activity Details");
+                header = true;
+            }
+            csv.row(activity);
+        }
+    }
+
+    /**
+     * A JSON generator that leaves {@code outputStream} open when it is closed.
+     */
+    public static JsonGenerator jsonGenerator(OutputStream outputStream) throws IOException {
+        JsonGenerator json = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+        json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        return json;
+    }
+
+    /**
+     * The {@code compliance} object.
+     */
+    public static void jsonCompliance(
+            JsonGenerator json,
+            double completionPercent,
+            double keySessionCompletionPercent,
+            double zoneDistributionAdherencePercent,
+            double unplannedLoadMinutes,
+            List<String> flags) throws IOException {
+        json.writeObjectFieldStart("compliance");
+        json.writeNumberField("completionRate", round2(completionPercent));
+        json.writeNumberField("keySessionCompletion", round2(keySessionCompletionPercent));
+        json.writeNumberField("zoneDistributionAdherence", round2(zoneDistributionAdherencePercent));
+        json.writeNumberField("unplannedLoadMinutes", unplannedLoadMinutes);
+        jsonStrings(json, "flags", flags);
+        json.writeEndObject();
+    }
+
+    /**
+     * An object field mapping each date to its rounded readiness score.
+     */
+    public static void jsonDailyScores(JsonGenerator json, String field, Map<LocalDate, Double> scores)
+            throws IOException {
+        json.writeObjectFieldStart(field);
+        for (Map.Entry<LocalDate, Double> entry : scores.entrySet()) {
+            json.writeNumberField(entry.getKey().toString(), round2(entry.getValue()));
+        }
+        json.writeEndObject();
+    }
+
+    public static void jsonStrings(JsonGenerator json, String field, Iterable<String> values) throws IOException {
+        json.writeArrayFieldStart(field);
+        for (String value : values) {
+            json.writeString(value);
+        }
+        json.writeEndArray();
+    }
+
+    public static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.training.coach.shared.web;
+
+import com.training.coach.shared.exception.TrainingCoachException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Non-blocking concurrency limit for one group of endpoints.
+ *
+ * <p>At most {@code maxConcurrent} pieces of work run at once; up to {@code maxQueued} more wait in arrival order
+ * without holding a thread, and anything beyond that, or anything that waits longer than {@code maxWait}, fails
+ * with {@link BulkheadFullException}. A slow group therefore only ever uses its own slots, and callers of every
+ * other group are unaffected.</p>
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private int active;
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, Duration maxWait) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWait = maxWait;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Subscribe to {@code work} once a slot is free, and free the slot when it terminates or is cancelled.
+     */
+    public <T> Mono<T> execute(Mono<T> work) {
+        return Mono.usingWhen(
+                acquire(),
+                permit -> work,
+                Permit::releaseAsync,
+                (permit, error) -> permit.releaseAsync(),
+                Permit::releaseAsync);
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+                name, maxConcurrent, maxQueued, active, waiting.size(), accepted.sum(), rejected.sum());
+    }
+
+    private Mono<Permit> acquire() {
+        Mono<Permit> permit = Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            synchronized (this) {
+                if (active < maxConcurrent) {
+                    active++;
+                    accepted.increment();
+                    sink.success(waiter.permit);
+                    return;
+                }
+                if (waiting.size() >= maxQueued) {
+                    rejected.increment();
+                    sink.error(new BulkheadFullException(name));
+                    return;
+                }
+                waiting.addLast(waiter);
+            }
+            sink.onCancel(() -> cancel(waiter));
+        });
+        return permit.timeout(maxWait)
+                .onErrorMap(TimeoutException.class, e -> {
+                    rejected.increment();
+                    return new BulkheadFullException(name);
+                })
+                // A permit granted just as the wait timed out is dropped by the timeout
+                .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    private void cancel(Waiter waiter) {
+        synchronized (this) {
+            if (waiting.remove(waiter)) {
+                return;
+            }
+        }
+        // Granted while being cancelled; the permit may never reach the subscriber
+        waiter.permit.release();
+    }
+
+    private void release() {
+        Waiter next;
+        synchronized (this) {
+            next = waiting.pollFirst();
+            if (next == null) {
+                active--;
+                return;
+            }
+            accepted.increment();
+        }
+        // The slot passes straight to the next waiter
+        next.sink.success(next.permit);
+    }
+
+    private final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final Permit permit = new Permit();
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                Bulkhead.this.release();
+            }
+        }
+
+        private Mono<Void> releaseAsync() {
+            return Mono.fromRunnable(this::release);
+        }
+    }
+
+    public record Snapshot(
+            String name, int maxConcurrent, int maxQueued, int active, int queued, long accepted, long rejected) {}
+
+    /**
+     * The group has no free slot and no room left to wait for one.
+     */
+    public static class BulkheadFullException extends TrainingCoachException {
+
+        public BulkheadFullException(String name) {
+            super("Too many concurrent requests for " + name);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.training.coach.shared.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies the configured {@link Bulkhead} of each endpoint group to its requests.
+ *
+ * <p>Runs after security, so rejected authentication never takes a slot. A request whose group is full is answered
+ * with 503 and a {@code Retry-After} header instead of waiting without bound.</p>
+ */
+@Component
+public class BulkheadWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadWebFilter.class);
+
+    private final List<Group> groups = new ArrayList<>();
+
+    public BulkheadWebFilter(WebExecutionProperties properties) {
+        for (Map.Entry<String, WebExecutionProperties.BulkheadGroup> entry : properties.bulkheads().entrySet()) {
+            WebExecutionProperties.BulkheadGroup group = entry.getValue();
+            List<PathPattern> patterns = group.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            groups.add(new Group(patterns, new Bulkhead(
+                    entry.getKey(), group.maxConcurrent(), group.maxQueued(), group.maxWait())));
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Bulkhead bulkhead = bulkheadFor(exchange.getRequest().getPath().pathWithinApplication());
+        if (bulkhead == null) {
+            return chain.filter(exchange);
+        }
+        return bulkhead.execute(chain.filter(exchange))
+                .onErrorResume(Bulkhead.BulkheadFullException.class, e -> {
+                    logger.warn("Rejected {} {}: {}",
+                            exchange.getRequest().getMethod(), exchange.getRequest().getPath(), e.getMessage());
+                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    public List<Bulkhead.Snapshot> snapshots() {
+        return groups.stream().map(group -> group.bulkhead().snapshot()).toList();
+    }
+
+    private Bulkhead bulkheadFor(PathContainer path) {
+        for (Group group : groups) {
+            for (PathPattern pattern : group.patterns()) {
+                if (pattern.matches(path)) {
+                    return group.bulkhead();
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Group(List<PathPattern> patterns, Bulkhead bulkhead) {}
+}
@@ -0,0 +1,54 @@
+package com.training.coach.shared.web;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Where request handling runs and how much of it each endpoint group may take.
+ *
+ * @param virtualThreads run blocking controller methods on virtual threads; when off they run on a pool of
+ *     {@code platformThreads}
+ * @param platformThreads size of the blocking pool when virtual threads are off
+ * @param bulkheads endpoint groups in matching order; a request counts against the first group with a matching
+ *     path and requests matching no group are not limited
+ */
+@ConfigurationProperties(prefix = "training.web")
+public record WebExecutionProperties(
+        @DefaultValue("true") boolean virtualThreads,
+        @DefaultValue("64") int platformThreads,
+        Map<String, BulkheadGroup> bulkheads) {
+    public WebExecutionProperties {
+        if (bulkheads == null) bulkheads = Map.of();
+    }
+
+    public static WebExecutionProperties defaults() {
+        return new WebExecutionProperties(true, 64, Map.of());
+    }
+
+    /**
+     * @param paths path patterns of the group, such as {@code /api/reports/**}
+     * @param maxConcurrent requests of the group handled at once
+     * @param maxQueued requests of the group waiting for a slot before further ones are rejected
+     * @param maxWait how long a request may wait for a slot before it is rejected
+     */
+    public record BulkheadGroup(
+            List<String> paths,
+            @DefaultValue("16") int maxConcurrent,
+            @DefaultValue("64") int maxQueued,
+            @DefaultValue("PT5S") Duration maxWait) {
+        public BulkheadGroup {
+            if (paths == null || paths.isEmpty()) {
+                throw new IllegalArgumentException("A bulkhead group needs at least one path");
+            }
+            if (maxConcurrent < 1) {
+                throw new IllegalArgumentException("Bulkhead concurrency must be positive");
+            }
+            if (maxQueued < 0) {
+                throw new IllegalArgumentException("Bulkhead queue cannot be negative");
+            }
+        }
+    }
+}
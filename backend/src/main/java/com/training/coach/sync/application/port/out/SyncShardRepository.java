@@ -0,0 +1,45 @@
+package com.training.coach.sync.application.port.out;
+
+import com.training.coach.sync.domain.model.SyncShard;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Work queue of nightly sync shards shared by all nodes.
+ * Claims and updates must be atomic across nodes.
+ */
+public interface SyncShardRepository {
+
+    /**
+     * Add a batch's shards to the queue unless the batch was already planned.
+     *
+     * @return false if the batch already exists
+     */
+    boolean planBatch(List<SyncShard> shards);
+
+    /**
+     * Claim the oldest shard that is pending, or whose owner has not heartbeated since {@code staleBefore},
+     * for {@code owner}. The claim counts as an attempt and resets the shard's progress.
+     * Stale shards already claimed {@code maxAttempts} times are failed instead.
+     */
+    Optional<SyncShard> claimNext(String owner, Instant now, Instant staleBefore, int maxAttempts);
+
+    /**
+     * Store the progress or outcome of a shard claimed by {@code owner}.
+     *
+     * @return false if the shard has been claimed by another node in the meantime
+     */
+    boolean updateClaimed(String owner, SyncShard shard);
+
+    /**
+     * Refresh the heartbeat of a shard claimed by {@code owner} without touching its progress.
+     *
+     * @return false if the shard has been claimed by another node in the meantime
+     */
+    boolean heartbeat(String owner, String shardId, Instant at);
+
+    List<SyncShard> findByBatchId(String batchId);
+
+    Optional<String> findLatestBatchId();
+}
@@ -0,0 +1,199 @@
+package com.training.coach.sync.application.service;
+
+import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.shared.util.TimeProvider;
+import com.training.coach.sync.application.port.out.SyncShardRepository;
+import com.training.coach.sync.domain.model.AthleteShardRing;
+import com.training.coach.sync.domain.model.SyncBatchProgress;
+import com.training.coach.sync.domain.model.SyncShard;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * Spreads the nightly sync over every backend node.
+ *
+ * <p>The node running the nightly job only plans the batch: it splits the roster into shards on an
+ * {@link AthleteShardRing} and queues them. Every node then claims shards from the queue one at a time and syncs
+ * their athletes with {@link SyncService}, so the nightly window shrinks with each node added. Each shard records
+ * its athletes when it is planned. A node heartbeats on a timer while it works, so a slow athlete does not make
+ * the shard look abandoned; a shard whose node stops heartbeating is taken over by another node, and a shard that
+ * fails is put back in the queue until its last attempt.</p>
+ */
+@Service
+public class ShardedSyncService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedSyncService.class);
+
+    private final SyncShardRepository shardRepository;
+    private final AthleteRepository athleteRepository;
+    private final SyncService syncService;
+    private final SyncShardingProperties properties;
+    private final TimeProvider time;
+    private final ScheduledExecutorService heartbeats;
+    private final AthleteShardRing ring;
+
+    public ShardedSyncService(
+            SyncShardRepository shardRepository,
+            AthleteRepository athleteRepository,
+            SyncService syncService,
+            SyncShardingProperties properties) {
+        this(shardRepository, athleteRepository, syncService, properties, TimeProvider.SYSTEM,
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("sync-heartbeat").daemon().factory()));
+    }
+
+    ShardedSyncService(
+            SyncShardRepository shardRepository,
+            AthleteRepository athleteRepository,
+            SyncService syncService,
+            SyncShardingProperties properties,
+            TimeProvider time,
+            ScheduledExecutorService heartbeats) {
+        this.shardRepository = shardRepository;
+        this.athleteRepository = athleteRepository;
+        this.syncService = syncService;
+        this.properties = properties;
+        this.time = time;
+        this.heartbeats = heartbeats;
+        this.ring = new AthleteShardRing(properties.shardCount(), properties.virtualNodes());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+    }
+
+    /**
+     * Queue the shards of a batch syncing {@code windowStart} to {@code windowEnd}.
+     *
+     * @return the number of shards queued, 0 if the batch was already planned
+     */
+    public int planBatch(String batchId, LocalDate windowStart, LocalDate windowEnd) {
+        List<List<String>> athletes = new ArrayList<>(ring.shardCount());
+        for (int shard = 0; shard < ring.shardCount(); shard++) {
+            athletes.add(new ArrayList<>());
+        }
+        for (Athlete athlete : athleteRepository.findAll()) {
+            athletes.get(ring.shardOf(athlete.id())).add(athlete.id());
+        }
+        Instant now = time.now();
+        List<SyncShard> shards = new ArrayList<>(ring.shardCount());
+        for (int shard = 0; shard < ring.shardCount(); shard++) {
+            List<String> athleteIds = athletes.get(shard).stream().sorted().toList();
+            shards.add(SyncShard.plan(batchId, shard, ring.shardCount(), windowStart, windowEnd, athleteIds, now));
+        }
+        if (!shardRepository.planBatch(shards)) {
+            logger.info("Sync batch {} was already planned", batchId);
+            return 0;
+        }
+        logger.info("Planned sync batch {} with {} shards", batchId, shards.size());
+        return shards.size();
+    }
+
+    /**
+     * Claim and sync shards until none is left for this node.
+     *
+     * @param owner the node claiming the shards
+     * @return the batches this node worked on that are now finished
+     */
+    public List<SyncBatchProgress> processAvailableShards(String owner) {
+        Set<String> batchIds = new LinkedHashSet<>();
+        Optional<SyncShard> claimed;
+        while ((claimed = claimNext(owner)).isPresent()) {
+            batchIds.add(claimed.get().batchId());
+            process(claimed.get());
+        }
+        return batchIds.stream()
+                .map(this::progress)
+                .filter(SyncBatchProgress::isFinished)
+                .toList();
+    }
+
+    public SyncBatchProgress progress(String batchId) {
+        return SyncBatchProgress.of(batchId, shardRepository.findByBatchId(batchId));
+    }
+
+    public Optional<String> latestBatchId() {
+        return shardRepository.findLatestBatchId();
+    }
+
+    public List<SyncShard> shards(String batchId) {
+        return shardRepository.findByBatchId(batchId);
+    }
+
+    private Optional<SyncShard> claimNext(String owner) {
+        Instant now = time.now();
+        return shardRepository.claimNext(
+                owner, now, now.minus(properties.claimTimeout()), properties.maxAttempts());
+    }
+
+    private void process(SyncShard shard) {
+        String owner = shard.owner();
+        String shardId = shard.id();
+        logger.info("Syncing shard {} (attempt {}) on {}", shardId, shard.attempts(), owner);
+        AtomicBoolean lost = new AtomicBoolean();
+        long interval = properties.heartbeatInterval().toMillis();
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(() -> {
+            try {
+                if (!shardRepository.heartbeat(owner, shardId, time.now())) {
+                    lost.set(true);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Heartbeat of shard {} failed: {}", shardId, e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        Instant lastProgress = time.now();
+        try {
+            for (String athleteId : shard.athleteIds()) {
+                if (lost.get()) {
+                    logger.warn("Shard {} was taken over by another node, stopping", shardId);
+                    return;
+                }
+                SyncService.SyncResult result =
+                        syncService.syncAthlete(athleteId, shard.windowStart(), shard.windowEnd());
+                Instant now = time.now();
+                shard = shard.recordAthlete(result.status(), now);
+                if (!now.isBefore(lastProgress.plus(properties.heartbeatInterval()))) {
+                    if (!shardRepository.updateClaimed(owner, shard)) {
+                        logger.warn("Shard {} was taken over by another node, stopping", shardId);
+                        return;
+                    }
+                    lastProgress = now;
+                }
+            }
+            SyncShard completed = shard.complete(time.now());
+            if (shardRepository.updateClaimed(owner, completed)) {
+                logger.info("Synced shard {}: {} athletes, {} partial and {} complete failures",
+                        completed.id(), completed.athletesDone(), completed.partialFailures(),
+                        completed.completeFailures());
+            } else {
+                logger.warn("Shard {} was taken over by another node before it completed", shardId);
+            }
+        } catch (RuntimeException e) {
+            SyncShard released = shard.release(time.now(), e.getMessage(), properties.maxAttempts());
+            shardRepository.updateClaimed(owner, released);
+            logger.error("Shard {} failed ({}): {}", shardId, released.status(), e.getMessage(), e);
+        } finally {
+            heartbeat.cancel(false);
+        }
+    }
+}
@@ -2,20 +2,26 @@ package com.training.coach.sync.application.service;
 
 import com.training.coach.activity.application.port.out.ActivityRepository;
 import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.analysis.application.service.ZoneDistributionService;
 import com.training.coach.athlete.application.port.out.FitnessPlatformPort;
+import com.training.coach.reconciliation.application.service.ReconciliationService;
+import com.training.coach.reconciliation.domain.model.DataConflict;
 import com.training.coach.shared.functional.Result;
+import com.training.coach.workout.application.service.ActivityMatchingService;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.application.service.ReadinessCalculatorService;
 import com.training.coach.wellness.application.service.TrainingLoadCalculator;
 import com.training.coach.wellness.domain.model.PhysiologicalData;
 import com.training.coach.wellness.domain.model.SleepMetrics;
 import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessRecordedEvent;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -31,21 +37,33 @@ public class SyncService {
     private final WellnessRepository wellnessRepository;
     private final ReadinessCalculatorService readinessCalculatorService;
     private final TrainingLoadCalculator trainingLoadCalculator;
+    private final ZoneDistributionService zoneDistributionService;
+    private final ActivityMatchingService activityMatchingService;
+    private final ReconciliationService reconciliationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // In-memory sync tracking for testing
-    private final java.util.Map<String, SyncResult> lastSyncResults = new java.util.HashMap<>();
+    private final java.util.Map<String, SyncResult> lastSyncResults = new java.util.concurrent.ConcurrentHashMap<>();
 
     public SyncService(
             FitnessPlatformPort fitnessPlatformPort,
             ActivityRepository activityRepository,
             WellnessRepository wellnessRepository,
             ReadinessCalculatorService readinessCalculatorService,
-            TrainingLoadCalculator trainingLoadCalculator) {
+            TrainingLoadCalculator trainingLoadCalculator,
+            ZoneDistributionService zoneDistributionService,
+            ActivityMatchingService activityMatchingService,
+            ReconciliationService reconciliationService,
+            ApplicationEventPublisher eventPublisher) {
         this.fitnessPlatformPort = fitnessPlatformPort;
         this.activityRepository = activityRepository;
         this.wellnessRepository = wellnessRepository;
         this.readinessCalculatorService = readinessCalculatorService;
         this.trainingLoadCalculator = trainingLoadCalculator;
+        this.zoneDistributionService = zoneDistributionService;
+        this.activityMatchingService = activityMatchingService;
+        this.reconciliationService = reconciliationService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -74,8 +92,16 @@ public class SyncService {
     }
 
     public void syncAthleteData(String athleteId, LocalDate startDate, LocalDate endDate) {
+        syncAthlete(athleteId, startDate, endDate);
+    }
+
+    /**
+     * Sync one athlete and return the outcome, also kept as the athlete's last sync result.
+     */
+    public SyncResult syncAthlete(String athleteId, LocalDate startDate, LocalDate endDate) {
         SyncResult result = performSync(athleteId, startDate, endDate);
         lastSyncResults.put(athleteId, result);
+        return result;
     }
 
     private SyncResult performSync(String athleteId, LocalDate startDate, LocalDate endDate) {
@@ -146,24 +172,37 @@ public class SyncService {
      * Detect conflicts between activities from different platforms.
      */
     public java.util.List<ActivityConflict> detectActivityConflicts(String athleteId, LocalDate date) {
-        // In a real implementation, this would:
-        // 1. Fetch activities from multiple platforms for the given date
-        // 2. Compare durations, timestamps, and other metadata
-        // 3. Flag conflicts where data doesn't match
-
-        // For testing purposes, we'll simulate some conflicts
-        return java.util.List.of(
-            new ActivityConflict(
-                athleteId,
-                date,
-                java.util.List.of(
-                    new ConflictRecord("Intervals.icu", "activity1", 60, date),
-                    new ConflictRecord("Strava", "activity2", 65, date)
-                ),
-                ConflictStatus.AMBIGUOUS,
-                null
-            )
-        );
+        // Reads back the conflicts recorded by reconciliation runs over activities with real sources and start times
+        return reconciliationService.getConflictsForDate(athleteId, date).stream()
+                .map(conflict -> new ActivityConflict(
+                        conflict.athleteId(),
+                        conflict.activityDate().toLocalDate(),
+                        conflict.conflictingRecords().values().stream()
+                                .map(record -> new ConflictRecord(
+                                        record.platform(),
+                                        record.activityId(),
+                                        (int) Math.round(record.durationMinutes()),
+                                        record.startTime().toLocalDate()))
+                                .toList(),
+                        toConflictStatus(conflict.status()),
+                        canonicalRecordId(conflict)))
+                .toList();
+    }
+
+    private static ConflictStatus toConflictStatus(DataConflict.ConflictStatus status) {
+        return switch (status) {
+            case DETECTED -> ConflictStatus.DETECTED;
+            case REQUIRES_REVIEW -> ConflictStatus.REQUIRES_REVIEW;
+            case RESOLVED, IGNORED -> ConflictStatus.RESOLVED;
+        };
+    }
+
+    private static String canonicalRecordId(DataConflict conflict) {
+        if (!conflict.isResolved() || conflict.primaryPlatform() == null) {
+            return null;
+        }
+        DataConflict.ConflictRecord primary = conflict.conflictingRecords().get(conflict.primaryPlatform());
+        return primary != null ? primary.activityId() : null;
     }
 
     /**
@@ -174,14 +213,17 @@ public class SyncService {
 
         for (var conflict : conflicts) {
             if (conflict.canonicalRecordId() == null) {
-                // Apply precedence - Intervals.icu has higher precedence
-                if ("Intervals.icu".equals(preferredPlatform)) {
+                // Apply precedence - the preferred platform's record becomes canonical
+                var preferred = conflict.conflictingRecords().stream()
+                        .filter(record -> record.platform().equalsIgnoreCase(preferredPlatform))
+                        .findFirst();
+                if (preferred.isPresent()) {
                     return new ActivityConflict(
                         conflict.athleteId(),
                         conflict.date(),
                         conflict.conflictingRecords(),
                         ConflictStatus.RESOLVED,
-                        conflict.conflictingRecords().get(0).activityId()
+                        preferred.get().activityId()
                     );
                 }
             }
@@ -266,6 +308,8 @@ public class SyncService {
 
             activityRepository.saveAll(mapped);
             logger.info("Synced {} activities for athlete {}", mapped.size(), athleteId);
+            recordZoneDistribution(athleteId, startDate, endDate, mapped);
+            matchPlannedWorkouts(athleteId, startDate, endDate, mapped);
             return mapped.size();
         } catch (Exception e) {
             logger.error("Exception syncing activities for athlete {}: {}", athleteId, e.getMessage());
@@ -273,6 +317,32 @@ public class SyncService {
         }
     }
 
+    /**
+     * Refresh the synced days of the zone distribution cube. The activities are already stored,
+     * so a failure here is logged rather than failing the activity sync.
+     */
+    private void recordZoneDistribution(
+            String athleteId, LocalDate startDate, LocalDate endDate, List<ActivityLight> activities) {
+        try {
+            zoneDistributionService.recordActivities(athleteId, startDate, endDate, activities);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to update zone distribution for athlete {}: {}", athleteId, e.getMessage());
+        }
+    }
+
+    /**
+     * Match the synced activities to published workouts so compliance reads stored executions.
+     * Like the zone distribution, a failure here must not fail the activity sync.
+     */
+    private void matchPlannedWorkouts(
+            String athleteId, LocalDate startDate, LocalDate endDate, List<ActivityLight> activities) {
+        try {
+            activityMatchingService.matchActivities(athleteId, startDate, endDate, activities);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to match activities to planned workouts for athlete {}: {}", athleteId, e.getMessage());
+        }
+    }
+
     private int syncWellnessData(String athleteId, LocalDate startDate, LocalDate endDate) {
         try {
             Result<List<FitnessPlatformPort.WellnessData>> wellnessResult =
@@ -334,6 +404,7 @@ public class SyncService {
         }
 
         wellnessRepository.save(snapshot);
+        eventPublisher.publishEvent(WellnessRecordedEvent.of(snapshot));
         logger.debug("Saved wellness snapshot for athlete {} on date {}", athleteId, date);
     }
 }
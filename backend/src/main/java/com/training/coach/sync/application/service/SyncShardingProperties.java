@@ -0,0 +1,38 @@
+package com.training.coach.sync.application.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Distribution of the nightly sync over the backend nodes.
+ *
+ * @param enabled split the nightly sync into shards claimed by every node; when off the leading node syncs
+ *     every athlete itself
+ * @param shardCount shards per batch; several per node keeps the load even when a node is slower
+ * @param virtualNodes points per shard on the consistent hash ring
+ * @param heartbeatInterval how often a node working a shard records its progress
+ * @param claimTimeout how long a shard's owner may go without heartbeating before another node takes it over
+ * @param maxAttempts claims of a shard before it is failed
+ */
+@ConfigurationProperties(prefix = "training.sync.sharding")
+public record SyncShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("32") int shardCount,
+        @DefaultValue("64") int virtualNodes,
+        @DefaultValue("PT15S") Duration heartbeatInterval,
+        @DefaultValue("PT2M") Duration claimTimeout,
+        @DefaultValue("3") int maxAttempts) {
+    public SyncShardingProperties {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        if (!claimTimeout.minus(heartbeatInterval).isPositive()) {
+            throw new IllegalArgumentException("Claim timeout must be longer than the heartbeat interval");
+        }
+    }
+
+    public static SyncShardingProperties defaults() {
+        return new SyncShardingProperties(false, 32, 64, Duration.ofSeconds(15), Duration.ofMinutes(2), 3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.training.coach.sync.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring assigning athletes to sync shards.
+ *
+ * <p>Every shard owns {@code virtualNodes} points on the ring and an athlete belongs to the shard owning the first
+ * point at or after the athlete's hash. The assignment only depends on the athlete ID and the shard count, so every
+ * node computes the same shards without coordination, and changing the shard count only moves the athletes whose
+ * nearest point changed, about one shard's worth.</p>
+ */
+public final class AthleteShardRing {
+
+    private final int shardCount;
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    public AthleteShardRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        this.shardCount = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int point = 0; point < virtualNodes; point++) {
+                ring.put(hash("shard-" + shard + "#" + point), shard);
+            }
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The shard index, from 0 to {@code shardCount - 1}, the athlete belongs to.
+     */
+    public int shardOf(String athleteId) {
+        Map.Entry<Long, Integer> point = ring.ceilingEntry(hash(athleteId));
+        return point != null ? point.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * The first eight bytes of the MD5 digest, which is stable across JVMs and evenly spread.
+     */
+    private static long hash(String key) {
+        byte[] digest = md5().digest(key.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.training.coach.sync.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Progress of a sharded nightly sync batch, summed over its shards.
+ *
+ * @param shardsByOwner the number of shards each node has claimed or finished
+ */
+public record SyncBatchProgress(
+        String batchId,
+        Instant plannedAt,
+        LocalDate windowEnd,
+        int shards,
+        int pendingShards,
+        int claimedShards,
+        int completedShards,
+        int failedShards,
+        int athletesTotal,
+        int athletesDone,
+        int successes,
+        int partialFailures,
+        int completeFailures,
+        Map<String, Integer> shardsByOwner
+) {
+    public static SyncBatchProgress of(String batchId, List<SyncShard> shards) {
+        Instant plannedAt = null;
+        LocalDate windowEnd = null;
+        int pending = 0, claimed = 0, completed = 0, failed = 0;
+        int total = 0, done = 0, successes = 0, partial = 0, complete = 0;
+        Map<String, Integer> byOwner = new TreeMap<>();
+        for (SyncShard shard : shards) {
+            plannedAt = shard.plannedAt();
+            windowEnd = shard.windowEnd();
+            switch (shard.status()) {
+                case PENDING -> pending++;
+                case CLAIMED -> claimed++;
+                case COMPLETED -> completed++;
+                case FAILED -> failed++;
+            }
+            total += shard.athletesTotal();
+            done += shard.athletesDone();
+            successes += shard.successes();
+            partial += shard.partialFailures();
+            complete += shard.completeFailures();
+            if (shard.owner() != null) {
+                byOwner.merge(shard.owner(), 1, Integer::sum);
+            }
+        }
+        return new SyncBatchProgress(batchId, plannedAt, windowEnd, shards.size(), pending, claimed, completed, failed,
+                total, done, successes, partial, complete, byOwner);
+    }
+
+    public boolean isFinished() {
+        return shards > 0 && completedShards + failedShards == shards;
+    }
+}
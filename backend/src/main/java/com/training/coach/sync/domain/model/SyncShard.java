@@ -0,0 +1,112 @@
+package com.training.coach.sync.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One shard of a nightly sync batch in the shared work queue, with its claim and progress.
+ *
+ * <p>A node claims a pending shard, heartbeats while it syncs the shard's athletes and completes it. A shard whose
+ * owner stopped heartbeating may be claimed again by another node; the sync is idempotent, so the new owner
+ * starts the shard over.</p>
+ *
+ * @param plannedAt when the batch was planned, shared by all shards of the batch
+ * @param attempts how many times the shard has been claimed
+ * @param athleteIds the athletes the shard syncs, fixed when the batch is planned
+ */
+public record SyncShard(
+        String id,
+        String batchId,
+        int shardIndex,
+        int shardCount,
+        LocalDate windowStart,
+        LocalDate windowEnd,
+        ShardStatus status,
+        String owner,
+        Instant plannedAt,
+        Instant claimedAt,
+        Instant heartbeatAt,
+        Instant finishedAt,
+        int attempts,
+        int athletesTotal,
+        int athletesDone,
+        int successes,
+        int partialFailures,
+        int completeFailures,
+        String lastError,
+        List<String> athleteIds
+) {
+    public SyncShard {
+        if (batchId == null || batchId.isBlank()) {
+            throw new IllegalArgumentException("Batch ID cannot be null or blank");
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (shardCount - 1));
+        }
+        if (id == null || id.isBlank()) id = id(batchId, shardIndex);
+        if (status == null) status = ShardStatus.PENDING;
+        athleteIds = athleteIds == null ? List.of() : List.copyOf(athleteIds);
+    }
+
+    public static SyncShard plan(
+            String batchId,
+            int shardIndex,
+            int shardCount,
+            LocalDate windowStart,
+            LocalDate windowEnd,
+            List<String> athleteIds,
+            Instant plannedAt) {
+        return new SyncShard(id(batchId, shardIndex), batchId, shardIndex, shardCount, windowStart, windowEnd,
+                ShardStatus.PENDING, null, plannedAt, null, null, null, 0, athleteIds.size(), 0, 0, 0, 0, null,
+                athleteIds);
+    }
+
+    public static String id(String batchId, int shardIndex) {
+        return batchId + ":" + shardIndex;
+    }
+
+    /**
+     * Record the outcome of one athlete's sync and refresh the heartbeat.
+     */
+    public SyncShard recordAthlete(String syncStatus, Instant at) {
+        return new SyncShard(id, batchId, shardIndex, shardCount, windowStart, windowEnd, status, owner, plannedAt,
+                claimedAt, at, finishedAt, attempts, athletesTotal, athletesDone + 1,
+                successes + ("success".equals(syncStatus) ? 1 : 0),
+                partialFailures + ("partial_failure".equals(syncStatus) ? 1 : 0),
+                completeFailures + ("complete_failure".equals(syncStatus) ? 1 : 0),
+                lastError, athleteIds);
+    }
+
+    /**
+     * Complete the shard; {@code athletesTotal} becomes the number actually synced.
+     */
+    public SyncShard complete(Instant at) {
+        return new SyncShard(id, batchId, shardIndex, shardCount, windowStart, windowEnd, ShardStatus.COMPLETED,
+                owner, plannedAt, claimedAt, at, at, attempts, athletesDone, athletesDone, successes,
+                partialFailures, completeFailures, lastError, athleteIds);
+    }
+
+    /**
+     * Give the shard back to the queue after a failure, or fail it for good after its last attempt.
+     */
+    public SyncShard release(Instant at, String error, int maxAttempts) {
+        boolean exhausted = attempts >= maxAttempts;
+        return new SyncShard(id, batchId, shardIndex, shardCount, windowStart, windowEnd,
+                exhausted ? ShardStatus.FAILED : ShardStatus.PENDING, exhausted ? owner : null, plannedAt,
+                claimedAt, at, exhausted ? at : null, attempts, athletesTotal, athletesDone, successes,
+                partialFailures, completeFailures, error, athleteIds);
+    }
+
+    public boolean isFinished() {
+        return status == ShardStatus.COMPLETED || status == ShardStatus.FAILED;
+    }
+
+    public enum ShardStatus {
+        PENDING,
+        CLAIMED,
+        COMPLETED,
+        /** Gave up after the last attempt; its athletes are synced again by the next batch. */
+        FAILED
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package documentation.
+ */
+package com.training.coach.sync.domain.model;
@@ -0,0 +1,88 @@
+package com.training.coach.sync.infrastructure.persistence;
+
+import com.training.coach.sync.domain.model.SyncShard;
+import com.training.coach.sync.infrastructure.persistence.entity.SyncShardEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncShardJpaRepository extends JpaRepository<SyncShardEntity, String> {
+
+    boolean existsByBatchId(String batchId);
+
+    List<SyncShardEntity> findByBatchIdOrderByShardIndex(String batchId);
+
+    Optional<SyncShardEntity> findFirstByOrderByPlannedAtDesc();
+
+    @Query("SELECT s FROM SyncShardEntity s WHERE s.status = :pending "
+            + "OR (s.status = :claimed AND s.heartbeatAt < :staleBefore) "
+            + "ORDER BY s.plannedAt, s.shardIndex")
+    List<SyncShardEntity> findClaimable(
+            @Param("pending") SyncShard.ShardStatus pending,
+            @Param("claimed") SyncShard.ShardStatus claimed,
+            @Param("staleBefore") Instant staleBefore,
+            Limit limit);
+
+    @Modifying
+    @Query("UPDATE SyncShardEntity s SET s.status = :claimed, s.owner = :owner, s.claimedAt = :now, "
+            + "s.heartbeatAt = :now, s.attempts = s.attempts + 1, s.athletesDone = 0, s.successes = 0, "
+            + "s.partialFailures = 0, s.completeFailures = 0, s.version = s.version + 1 "
+            + "WHERE s.id = :id AND (s.status = :pending "
+            + "OR (s.status = :claimed AND s.heartbeatAt < :staleBefore)) AND s.attempts < :maxAttempts")
+    int claim(
+            @Param("id") String id,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("pending") SyncShard.ShardStatus pending,
+            @Param("claimed") SyncShard.ShardStatus claimed);
+
+    @Modifying
+    @Query("UPDATE SyncShardEntity s SET s.status = :failed, s.finishedAt = :now, "
+            + "s.lastError = 'Owner stopped heartbeating on the last attempt', s.version = s.version + 1 "
+            + "WHERE s.status = :claimed AND s.heartbeatAt < :staleBefore AND s.attempts >= :maxAttempts")
+    int failExhausted(
+            @Param("now") Instant now,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("claimed") SyncShard.ShardStatus claimed,
+            @Param("failed") SyncShard.ShardStatus failed);
+
+    @Modifying
+    @Query("UPDATE SyncShardEntity s SET s.status = :status, s.owner = :newOwner, s.heartbeatAt = :heartbeatAt, "
+            + "s.finishedAt = :finishedAt, s.athletesTotal = :athletesTotal, s.athletesDone = :athletesDone, "
+            + "s.successes = :successes, s.partialFailures = :partialFailures, "
+            + "s.completeFailures = :completeFailures, s.lastError = :lastError, s.version = s.version + 1 "
+            + "WHERE s.id = :id AND s.owner = :owner AND s.status = :claimed")
+    int updateClaimed(
+            @Param("id") String id,
+            @Param("owner") String owner,
+            @Param("claimed") SyncShard.ShardStatus claimed,
+            @Param("status") SyncShard.ShardStatus status,
+            @Param("newOwner") String newOwner,
+            @Param("heartbeatAt") Instant heartbeatAt,
+            @Param("finishedAt") Instant finishedAt,
+            @Param("athletesTotal") int athletesTotal,
+            @Param("athletesDone") int athletesDone,
+            @Param("successes") int successes,
+            @Param("partialFailures") int partialFailures,
+            @Param("completeFailures") int completeFailures,
+            @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("UPDATE SyncShardEntity s SET s.heartbeatAt = :at, s.version = s.version + 1 "
+            + "WHERE s.id = :id AND s.owner = :owner AND s.status = :claimed")
+    int heartbeat(
+            @Param("id") String id,
+            @Param("owner") String owner,
+            @Param("claimed") SyncShard.ShardStatus claimed,
+            @Param("at") Instant at);
+}
@@ -0,0 +1,160 @@
+package com.training.coach.sync.infrastructure.persistence;
+
+import com.training.coach.sync.application.port.out.SyncShardRepository;
+import com.training.coach.sync.domain.model.SyncShard;
+import com.training.coach.sync.infrastructure.persistence.entity.SyncShardEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adapter for the sync shard work queue.
+ *
+ * <p>A node claims a shard with a conditional update on the shard it read, so when two nodes race for the same
+ * shard the database lets only one update through and the other moves on to the next candidate. Progress is only
+ * stored while the shard is still claimed by the node reporting it. Each step runs in its own transaction.</p>
+ */
+@Repository
+@Profile("!test")
+public class SyncShardRepositoryAdapter implements SyncShardRepository {
+
+    private static final int CLAIM_CANDIDATES = 10;
+
+    private final SyncShardJpaRepository shardRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyncShardRepositoryAdapter(SyncShardJpaRepository shardRepo, PlatformTransactionManager transactionManager) {
+        this.shardRepo = shardRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean planBatch(List<SyncShard> shards) {
+        if (shards.isEmpty() || shardRepo.existsByBatchId(shards.getFirst().batchId())) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> shardRepo.saveAllAndFlush(
+                            shards.stream().map(SyncShardRepositoryAdapter::toEntity).toList()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node planned the batch first
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<SyncShard> claimNext(String owner, Instant now, Instant staleBefore, int maxAttempts) {
+        transactionTemplate.executeWithoutResult(status -> shardRepo.failExhausted(
+                now, staleBefore, maxAttempts, SyncShard.ShardStatus.CLAIMED, SyncShard.ShardStatus.FAILED));
+        List<SyncShardEntity> candidates = shardRepo.findClaimable(
+                SyncShard.ShardStatus.PENDING, SyncShard.ShardStatus.CLAIMED, staleBefore, Limit.of(CLAIM_CANDIDATES));
+        for (SyncShardEntity candidate : candidates) {
+            Integer claimed = transactionTemplate.execute(status -> shardRepo.claim(
+                    candidate.getId(), owner, now, staleBefore, maxAttempts,
+                    SyncShard.ShardStatus.PENDING, SyncShard.ShardStatus.CLAIMED));
+            if (claimed != null && claimed > 0) {
+                return shardRepo.findById(candidate.getId()).map(SyncShardRepositoryAdapter::toDomain);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean updateClaimed(String owner, SyncShard shard) {
+        Integer updated = transactionTemplate.execute(status -> shardRepo.updateClaimed(
+                shard.id(),
+                owner,
+                SyncShard.ShardStatus.CLAIMED,
+                shard.status(),
+                shard.owner(),
+                shard.heartbeatAt(),
+                shard.finishedAt(),
+                shard.athletesTotal(),
+                shard.athletesDone(),
+                shard.successes(),
+                shard.partialFailures(),
+                shard.completeFailures(),
+                shard.lastError()));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    public boolean heartbeat(String owner, String shardId, Instant at) {
+        Integer updated = transactionTemplate.execute(
+                status -> shardRepo.heartbeat(shardId, owner, SyncShard.ShardStatus.CLAIMED, at));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    public List<SyncShard> findByBatchId(String batchId) {
+        return shardRepo.findByBatchIdOrderByShardIndex(batchId).stream()
+                .map(SyncShardRepositoryAdapter::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findLatestBatchId() {
+        return shardRepo.findFirstByOrderByPlannedAtDesc().map(SyncShardEntity::getBatchId);
+    }
+
+    private static SyncShardEntity toEntity(SyncShard shard) {
+        SyncShardEntity entity = new SyncShardEntity();
+        entity.setId(shard.id());
+        entity.setBatchId(shard.batchId());
+        entity.setShardIndex(shard.shardIndex());
+        entity.setShardCount(shard.shardCount());
+        entity.setWindowStart(shard.windowStart());
+        entity.setWindowEnd(shard.windowEnd());
+        entity.setStatus(shard.status());
+        entity.setOwner(shard.owner());
+        entity.setPlannedAt(shard.plannedAt());
+        entity.setClaimedAt(shard.claimedAt());
+        entity.setHeartbeatAt(shard.heartbeatAt());
+        entity.setFinishedAt(shard.finishedAt());
+        entity.setAttempts(shard.attempts());
+        entity.setAthletesTotal(shard.athletesTotal());
+        entity.setAthletesDone(shard.athletesDone());
+        entity.setSuccesses(shard.successes());
+        entity.setPartialFailures(shard.partialFailures());
+        entity.setCompleteFailures(shard.completeFailures());
+        entity.setLastError(shard.lastError());
+        entity.setAthleteIds(String.join(",", shard.athleteIds()));
+        return entity;
+    }
+
+    private static SyncShard toDomain(SyncShardEntity entity) {
+        return new SyncShard(
+                entity.getId(),
+                entity.getBatchId(),
+                entity.getShardIndex(),
+                entity.getShardCount(),
+                entity.getWindowStart(),
+                entity.getWindowEnd(),
+                entity.getStatus(),
+                entity.getOwner(),
+                entity.getPlannedAt(),
+                entity.getClaimedAt(),
+                entity.getHeartbeatAt(),
+                entity.getFinishedAt(),
+                entity.getAttempts(),
+                entity.getAthletesTotal(),
+                entity.getAthletesDone(),
+                entity.getSuccesses(),
+                entity.getPartialFailures(),
+                entity.getCompleteFailures(),
+                entity.getLastError(),
+                entity.getAthleteIds() == null || entity.getAthleteIds().isEmpty()
+                        ? List.of()
+                        : List.of(entity.getAthleteIds().split(",")));
+    }
+}
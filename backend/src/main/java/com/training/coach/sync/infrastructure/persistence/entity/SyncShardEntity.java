@@ -0,0 +1,250 @@
+package com.training.coach.sync.infrastructure.persistence.entity;
+
+import com.training.coach.sync.domain.model.SyncShard;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+        name = "sync_shards",
+        indexes = {
+            @Index(name = "idx_sync_shards_batch", columnList = "batch_id, shard_index"),
+            @Index(name = "idx_sync_shards_status_planned", columnList = "status, planned_at")
+        })
+public class SyncShardEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "batch_id", nullable = false, length = 50)
+    private String batchId;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDate windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private LocalDate windowEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SyncShard.ShardStatus status;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "planned_at", nullable = false)
+    private Instant plannedAt;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "athletes_total", nullable = false)
+    private int athletesTotal;
+
+    @Column(name = "athletes_done", nullable = false)
+    private int athletesDone;
+
+    @Column(name = "successes", nullable = false)
+    private int successes;
+
+    @Column(name = "partial_failures", nullable = false)
+    private int partialFailures;
+
+    @Column(name = "complete_failures", nullable = false)
+    private int completeFailures;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "athlete_ids", columnDefinition = "TEXT")
+    private String athleteIds;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public LocalDate getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDate windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDate getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDate windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public SyncShard.ShardStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SyncShard.ShardStatus status) {
+        this.status = status;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getPlannedAt() {
+        return plannedAt;
+    }
+
+    public void setPlannedAt(Instant plannedAt) {
+        this.plannedAt = plannedAt;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(Instant claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(Instant heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getAthletesTotal() {
+        return athletesTotal;
+    }
+
+    public void setAthletesTotal(int athletesTotal) {
+        this.athletesTotal = athletesTotal;
+    }
+
+    public int getAthletesDone() {
+        return athletesDone;
+    }
+
+    public void setAthletesDone(int athletesDone) {
+        this.athletesDone = athletesDone;
+    }
+
+    public int getSuccesses() {
+        return successes;
+    }
+
+    public void setSuccesses(int successes) {
+        this.successes = successes;
+    }
+
+    public int getPartialFailures() {
+        return partialFailures;
+    }
+
+    public void setPartialFailures(int partialFailures) {
+        this.partialFailures = partialFailures;
+    }
+
+    public int getCompleteFailures() {
+        return completeFailures;
+    }
+
+    public void setCompleteFailures(int completeFailures) {
+        this.completeFailures = completeFailures;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public String getAthleteIds() {
+        return athleteIds;
+    }
+
+    public void setAthleteIds(String athleteIds) {
+        this.athleteIds = athleteIds;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -1,7 +1,11 @@
 package com.training.coach.sync.presentation;
 
+import com.training.coach.sync.application.service.ShardedSyncService;
 import com.training.coach.sync.application.service.SyncService;
+import com.training.coach.sync.domain.model.SyncBatchProgress;
+import com.training.coach.sync.domain.model.SyncShard;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -10,9 +14,11 @@ import org.springframework.web.bind.annotation.*;
 public class SyncController {
 
     private final SyncService syncService;
+    private final ShardedSyncService shardedSyncService;
 
-    public SyncController(SyncService syncService) {
+    public SyncController(SyncService syncService, ShardedSyncService shardedSyncService) {
         this.syncService = syncService;
+        this.shardedSyncService = shardedSyncService;
     }
 
     @PostMapping("/athletes/{athleteId}")
@@ -23,4 +29,22 @@ public class SyncController {
         syncService.syncAthleteData(athleteId, startDate, endDate);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Shard assignment and progress of a sharded nightly sync batch, the latest one by default.
+     */
+    @GetMapping("/shards")
+    public ResponseEntity<ShardedSyncResponse> getShards(@RequestParam(required = false) String batch) {
+        String batchId = batch != null ? batch : shardedSyncService.latestBatchId().orElse(null);
+        if (batchId == null) {
+            return ResponseEntity.notFound().build();
+        }
+        List<SyncShard> shards = shardedSyncService.shards(batchId);
+        if (shards.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new ShardedSyncResponse(SyncBatchProgress.of(batchId, shards), shards));
+    }
+
+    public record ShardedSyncResponse(SyncBatchProgress progress, List<SyncShard> shards) {}
 }
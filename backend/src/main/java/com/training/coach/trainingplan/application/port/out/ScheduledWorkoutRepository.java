@@ -0,0 +1,22 @@
+package com.training.coach.trainingplan.application.port.out;
+
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port for roster-wide queries over planned workouts.
+ */
+public interface ScheduledWorkoutRepository {
+
+    /**
+     * Find the workouts of every published plan scheduled on the given date, across all athletes.
+     * Results are ordered by athlete, then by plan version descending.
+     */
+    List<ScheduledWorkout> findPublishedWorkoutsOn(LocalDate date);
+
+    /**
+     * Find the athlete's workouts of published plans scheduled within the range, ordered by date.
+     */
+    List<ScheduledWorkout> findPublishedWorkouts(String athleteId, LocalDate startDate, LocalDate endDate);
+}
@@ -1,5 +1,6 @@
 package com.training.coach.trainingplan.application.service;
 
+import com.training.coach.analysis.application.service.ZoneDistributionService;
 import com.training.coach.athlete.application.port.out.AthleteRepository;
 import com.training.coach.athlete.domain.model.Athlete;
 import com.training.coach.athlete.domain.model.TrainingPlan;
@@ -10,6 +11,7 @@ import com.training.coach.shared.domain.unit.*;
 import com.training.coach.trainingplan.application.port.out.PlanRepository;
 import com.training.coach.trainingplan.domain.model.PlanSummary;
 import com.training.coach.trainingplan.domain.model.PlanVersion;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
 import java.time.DayOfWeek;
 import java.time.Instant;
@@ -28,11 +30,20 @@ public class PlanService {
     private final PlanRepository planRepository;
     private final TrainingPlanService trainingPlanService;
     private final AthleteRepository athleteRepository;
-
-    public PlanService(PlanRepository planRepository, TrainingPlanService trainingPlanService, AthleteRepository athleteRepository) {
+    private final SchedulingConstraintsService schedulingConstraintsService;
+    private final ZoneDistributionService zoneDistributionService;
+
+    public PlanService(
+            PlanRepository planRepository,
+            TrainingPlanService trainingPlanService,
+            AthleteRepository athleteRepository,
+            SchedulingConstraintsService schedulingConstraintsService,
+            ZoneDistributionService zoneDistributionService) {
         this.planRepository = planRepository;
         this.trainingPlanService = trainingPlanService;
         this.athleteRepository = athleteRepository;
+        this.schedulingConstraintsService = schedulingConstraintsService;
+        this.zoneDistributionService = zoneDistributionService;
     }
 
     public PlanSummary createPlan(CreatePlanCommand command) {
@@ -40,12 +51,21 @@ public class PlanService {
                 .findById(command.athleteId())
                 .orElseThrow(() -> new IllegalArgumentException("Athlete not found"));
 
+        SchedulingConstraints constraints = schedulingConstraintsService.forAthlete(
+                athlete, command.startDate(), command.startDate().plusWeeks(4));
         TrainingPlan generatedPlan = trainingPlanService.generatePlan(
-                athlete, command.phase(), command.startDate(), command.targetWeeklyHours());
+                athlete, command.phase(), command.startDate(), command.targetWeeklyHours(), constraints);
+
+        return saveDraftPlan(command.athleteId(), generatedPlan);
+    }
 
+    /**
+     * Persist a generated plan as a new draft plan with its first version.
+     */
+    public PlanSummary saveDraftPlan(String athleteId, TrainingPlan generatedPlan) {
         String planId = UUID.randomUUID().toString();
         PlanSummary planSummary =
-                new PlanSummary(planId, command.athleteId(), 1, PlanVersionStatus.DRAFT, Instant.now(), null);
+                new PlanSummary(planId, athleteId, 1, PlanVersionStatus.DRAFT, Instant.now(), null);
         planRepository.save(planSummary);
 
         PlanVersion version = PlanVersion.create(planId, 1, generatedPlan.workouts());
@@ -64,6 +84,8 @@ public class PlanService {
         PlanSummary updated = new PlanSummary(
                 plan.id(), plan.athleteId(), plan.currentVersion(), PlanVersionStatus.PUBLISHED, plan.createdAt(), Instant.now());
         planRepository.save(updated);
+        planRepository.findVersion(planId, plan.currentVersion())
+                .ifPresent(version -> zoneDistributionService.recordPlannedWorkouts(plan.athleteId(), version.workouts()));
         return updated;
     }
 
@@ -97,6 +119,26 @@ public class PlanService {
                 .toList();
     }
 
+    public PlanSummary getPlan(String planId) {
+        return planRepository.findById(planId).orElseThrow(() -> new IllegalArgumentException("Plan not found"));
+    }
+
+    /**
+     * Save rescheduled workouts as a new draft version of a published plan.
+     */
+    public PlanSummary saveRescheduledVersion(String planId, List<Workout> workouts) {
+        PlanSummary plan = getPlan(planId);
+        if (plan.status() != PlanVersionStatus.PUBLISHED) {
+            throw new IllegalStateException("Only published plans can be rescheduled");
+        }
+        int newVersion = plan.currentVersion() + 1;
+        planRepository.saveVersion(PlanVersion.create(plan.id(), newVersion, workouts));
+        PlanSummary updated =
+                new PlanSummary(plan.id(), plan.athleteId(), newVersion, PlanVersionStatus.DRAFT, plan.createdAt(), plan.publishedAt());
+        planRepository.save(updated);
+        return updated;
+    }
+
     public List<PlanSummary> listPlans() {
         return planRepository.findAll();
     }
@@ -138,6 +180,8 @@ public class PlanService {
         PlanSummary updated = new PlanSummary(
                 plan.id(), plan.athleteId(), plan.currentVersion(), PlanVersionStatus.ARCHIVED, plan.createdAt(), plan.publishedAt());
         planRepository.save(updated);
+        planRepository.findVersion(planId, plan.currentVersion())
+                .ifPresent(version -> zoneDistributionService.clearPlannedWorkouts(plan.athleteId(), version.workouts()));
         return updated;
     }
 
@@ -0,0 +1,45 @@
+package com.training.coach.trainingplan.application.service;
+
+import com.training.coach.athlete.application.port.out.AvailabilityTemplateRepository;
+import com.training.coach.athlete.application.port.out.EventRepository;
+import com.training.coach.athlete.application.port.out.TravelExceptionRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
+import java.time.LocalDate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service that gathers an athlete's scheduling constraints for a plan window.
+ */
+@Service
+public class SchedulingConstraintsService {
+
+    private final AvailabilityTemplateRepository templateRepository;
+    private final TravelExceptionRepository exceptionRepository;
+    private final EventRepository eventRepository;
+
+    public SchedulingConstraintsService(
+            AvailabilityTemplateRepository templateRepository,
+            TravelExceptionRepository exceptionRepository,
+            EventRepository eventRepository) {
+        this.templateRepository = templateRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Build constraints from the active availability template (falling back to the athlete's
+     * preferences), active exceptions overlapping the window and the athlete's events.
+     */
+    public SchedulingConstraints forAthlete(Athlete athlete, LocalDate startDate, LocalDate endDate) {
+        SchedulingConstraints constraints = SchedulingConstraints.fromAthlete(athlete);
+        constraints = templateRepository.findActiveByAthleteId(athlete.id())
+                .map(constraints::withAvailability)
+                .orElse(constraints);
+        return constraints
+                .withTravelExceptions(exceptionRepository.findOverlapping(athlete.id(), startDate, endDate))
+                .withEvents(eventRepository.findByAthleteId(athlete.id()).stream()
+                        .filter(event -> !event.date().isBefore(startDate) && !event.date().isAfter(endDate))
+                        .toList());
+    }
+}
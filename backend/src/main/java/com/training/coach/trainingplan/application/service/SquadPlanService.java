@@ -0,0 +1,146 @@
+package com.training.coach.trainingplan.application.service;
+
+import com.training.coach.athlete.application.port.out.AthleteDirectory;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.TrainingPlan;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.trainingplan.domain.model.PlanSummary;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Application service for generating plans for a whole squad in one request.
+ * Athletes are loaded by id in one query per batch, then each plan is generated, validated and
+ * persisted on the plan generation executor. Results are emitted as they complete.
+ */
+@Service
+public class SquadPlanService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SquadPlanService.class);
+
+    static final int MAX_SQUAD_SIZE = 500;
+
+    private final AthleteDirectory athleteDirectory;
+    private final TrainingPlanService trainingPlanService;
+    private final PlanService planService;
+    private final SchedulingConstraintsService schedulingConstraintsService;
+    private final Scheduler scheduler;
+    private final int parallelism;
+
+    public SquadPlanService(
+            AthleteDirectory athleteDirectory,
+            TrainingPlanService trainingPlanService,
+            PlanService planService,
+            SchedulingConstraintsService schedulingConstraintsService,
+            @Qualifier("planGenerationExecutor") Executor planGenerationExecutor) {
+        this.athleteDirectory = athleteDirectory;
+        this.trainingPlanService = trainingPlanService;
+        this.planService = planService;
+        this.schedulingConstraintsService = schedulingConstraintsService;
+        this.scheduler = Schedulers.fromExecutor(planGenerationExecutor);
+        this.parallelism = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Generate, validate and persist draft plans for every athlete in the command.
+     * A failure for one athlete is reported in its result and does not cancel the others.
+     */
+    public Flux<SquadPlanResult> createPlans(CreateSquadPlansCommand command) {
+        if (command.athleteIds() == null || command.athleteIds().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("At least one athlete is required"));
+        }
+        List<String> athleteIds = List.copyOf(new LinkedHashSet<>(command.athleteIds()));
+        if (athleteIds.size() > MAX_SQUAD_SIZE) {
+            return Flux.error(new IllegalArgumentException(
+                    "Squad plan generation is limited to " + MAX_SQUAD_SIZE + " athletes per request"));
+        }
+
+        return Mono.fromCallable(() -> loadAthletes(athleteIds))
+                .subscribeOn(scheduler)
+                .flatMapMany(athletes -> Flux.fromIterable(athleteIds)
+                        .flatMap(
+                                athleteId -> Mono.fromCallable(() -> createPlan(athletes.get(athleteId), athleteId, command))
+                                        .subscribeOn(scheduler),
+                                parallelism))
+                .doOnComplete(() -> logger.info("Squad plan generation completed for {} athletes", athleteIds.size()));
+    }
+
+    private Map<String, Athlete> loadAthletes(List<String> athleteIds) {
+        return athleteDirectory.findAllById(athleteIds).stream()
+                .collect(Collectors.toMap(Athlete::id, Function.identity()));
+    }
+
+    private SquadPlanResult createPlan(Athlete athlete, String athleteId, CreateSquadPlansCommand command) {
+        if (athlete == null) {
+            return SquadPlanResult.failed(athleteId, "Athlete not found");
+        }
+        try {
+            LocalDate endDate = command.targetDate() != null ? command.targetDate() : command.startDate().plusWeeks(4);
+            SchedulingConstraints constraints =
+                    schedulingConstraintsService.forAthlete(athlete, command.startDate(), endDate);
+            TrainingPlan generatedPlan = command.targetDate() != null
+                    ? trainingPlanService.generatePlanWithTaper(
+                            athlete,
+                            command.phase(),
+                            command.startDate(),
+                            command.targetWeeklyHours(),
+                            command.targetDate(),
+                            constraints)
+                    : trainingPlanService.generatePlan(
+                            athlete, command.phase(), command.startDate(), command.targetWeeklyHours(), constraints);
+
+            if (!trainingPlanService.validateIntensityGuardrails(generatedPlan)) {
+                return SquadPlanResult.rejected(athleteId, "Plan violates intensity guardrails");
+            }
+
+            PlanSummary plan = planService.saveDraftPlan(athleteId, generatedPlan);
+            return SquadPlanResult.created(athleteId, plan);
+        } catch (RuntimeException e) {
+            logger.error("Squad plan generation failed for athlete {}: {}", athleteId, e.getMessage());
+            return SquadPlanResult.failed(athleteId, e.getMessage());
+        }
+    }
+
+    public record CreateSquadPlansCommand(
+            List<String> athleteIds,
+            String phase,
+            LocalDate startDate,
+            Hours targetWeeklyHours,
+            LocalDate targetDate) {}
+
+    /**
+     * Per-athlete outcome of a squad plan generation request.
+     */
+    public record SquadPlanResult(
+            String athleteId,
+            String status, // "created", "rejected", "failed"
+            PlanSummary plan,
+            String errorMessage) {
+
+        public static SquadPlanResult created(String athleteId, PlanSummary plan) {
+            return new SquadPlanResult(athleteId, "created", plan, null);
+        }
+
+        public static SquadPlanResult rejected(String athleteId, String reason) {
+            return new SquadPlanResult(athleteId, "rejected", null, reason);
+        }
+
+        public static SquadPlanResult failed(String athleteId, String error) {
+            return new SquadPlanResult(athleteId, "failed", null, error);
+        }
+    }
+}
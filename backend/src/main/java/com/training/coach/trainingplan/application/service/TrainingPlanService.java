@@ -8,6 +8,7 @@ import com.training.coach.shared.domain.unit.Hours;
 import com.training.coach.shared.domain.unit.Minutes;
 import com.training.coach.shared.domain.unit.Percent;
 import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
@@ -21,14 +22,31 @@ import org.springframework.stereotype.Service;
 @Service
 public class TrainingPlanService {
 
+    private final WeeklyWorkoutScheduler weeklyScheduler = new WeeklyWorkoutScheduler();
+
     public TrainingPlan generatePlan(Athlete athlete, String phase, LocalDate startDate, Hours targetWeeklyHours) {
-        // Simple planner: create weekly workouts based on availability and polarized training
+        return generatePlan(athlete, phase, startDate, targetWeeklyHours, SchedulingConstraints.fromAthlete(athlete));
+    }
+
+    /**
+     * Generate a plan whose weekly sessions respect availability, exceptions, events and recovery spacing.
+     */
+    public TrainingPlan generatePlan(
+            Athlete athlete,
+            String phase,
+            LocalDate startDate,
+            Hours targetWeeklyHours,
+            SchedulingConstraints constraints) {
         List<Workout> workouts = new ArrayList<>();
 
         // Assume 4 weeks for MVP
         LocalDate endDate = startDate.plusWeeks(4);
+        LocalDate lastHighIntensityDate = constraints.lastHighIntensityDate();
         for (int week = 0; week < 4; week++) {
-            workouts.addAll(generateWeeklyWorkouts(athlete, phase, startDate.plusWeeks(week), targetWeeklyHours));
+            List<Workout> weekWorkouts = generateWeeklyWorkouts(
+                    athlete, phase, startDate.plusWeeks(week), targetWeeklyHours, constraints, lastHighIntensityDate);
+            lastHighIntensityDate = latestHighIntensityDate(weekWorkouts, lastHighIntensityDate);
+            workouts.addAll(weekWorkouts);
         }
 
         return TrainingPlan.create(
@@ -50,8 +68,23 @@ public class TrainingPlanService {
             LocalDate startDate,
             Hours targetWeeklyHours,
             LocalDate targetDate) {
+        return generatePlanWithTaper(
+                athlete, phase, startDate, targetWeeklyHours, targetDate, SchedulingConstraints.fromAthlete(athlete));
+    }
+
+    /**
+     * Generate a taper plan whose sessions respect the given scheduling constraints.
+     */
+    public TrainingPlan generatePlanWithTaper(
+            Athlete athlete,
+            String phase,
+            LocalDate startDate,
+            Hours targetWeeklyHours,
+            LocalDate targetDate,
+            SchedulingConstraints constraints) {
 
         List<Workout> workouts = new ArrayList<>();
+        LocalDate lastHighIntensityDate = constraints.lastHighIntensityDate();
 
         // Calculate weeks until target date
         long totalWeeks = java.time.temporal.ChronoUnit.WEEKS.between(startDate, targetDate) + 1;
@@ -65,9 +98,13 @@ public class TrainingPlanService {
             boolean isTaperWeek = week >= buildWeeks;
 
             if (isTaperWeek) {
-                workouts.addAll(generateTaperWeekWorkouts(athlete, weekStart, taperWeeks - (week - buildWeeks)));
+                workouts.addAll(generateTaperWeekWorkouts(
+                        athlete, weekStart, taperWeeks - (week - buildWeeks), constraints));
             } else {
-                workouts.addAll(generateWeeklyWorkouts(athlete, phase, weekStart, targetWeeklyHours));
+                List<Workout> weekWorkouts = generateWeeklyWorkouts(
+                        athlete, phase, weekStart, targetWeeklyHours, constraints, lastHighIntensityDate);
+                lastHighIntensityDate = latestHighIntensityDate(weekWorkouts, lastHighIntensityDate);
+                workouts.addAll(weekWorkouts);
             }
         }
 
@@ -83,18 +120,22 @@ public class TrainingPlanService {
     /**
      * Generate reduced intensity workouts for taper weeks.
      */
-    private List<Workout> generateTaperWeekWorkouts(Athlete athlete, LocalDate weekStart, int taperWeekIndex) {
+    private List<Workout> generateTaperWeekWorkouts(
+            Athlete athlete, LocalDate weekStart, int taperWeekIndex, SchedulingConstraints constraints) {
         List<Workout> workouts = new ArrayList<>();
 
         // Reduce volume by 50% in week 1 of taper, 70% in week 2 (week 2 is final week before race)
         double reductionFactor = taperWeekIndex == 1 ? 0.7 : 0.5;
 
         List<java.time.DayOfWeek> availableDays =
-                new ArrayList<>(athlete.preferences().availableDays());
+                new ArrayList<>(constraints.availableDays());
 
         for (java.time.DayOfWeek day : availableDays) {
             // Use nextOrSame to ensure workout date is never before weekStart
             LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(day));
+            if (!constraints.isTrainingDay(date)) {
+                continue;
+            }
             if (!date.isAfter(weekStart.plusWeeks(2))) { // Only add workouts within the taper period
                 workouts.add(new Workout(
                         UUID.randomUUID().toString(),
@@ -131,55 +172,72 @@ public class TrainingPlanService {
     }
 
     private List<Workout> generateWeeklyWorkouts(
-            Athlete athlete, String phase, LocalDate weekStart, Hours targetHours) {
+            Athlete athlete,
+            String phase,
+            LocalDate weekStart,
+            Hours targetHours,
+            SchedulingConstraints constraints,
+            LocalDate lastHighIntensityDate) {
         List<Workout> workouts = new ArrayList<>();
-        Hours highIntensityHours = targetHours.times(0.2); // 20% high
-        Hours lowIntensityHours = targetHours.times(0.8); // 80% low
+        List<WeeklyWorkoutScheduler.ScheduledSession> sessions =
+                weeklyScheduler.schedule(weekStart, constraints, lastHighIntensityDate);
+        if (sessions.isEmpty()) {
+            return workouts;
+        }
 
-        // Assign based on available days
-        List<java.time.DayOfWeek> availableDays =
-                new ArrayList<>(athlete.preferences().availableDays());
-
-        if (availableDays.size() >= 3) {
-            // High intensity on first available day
-            LocalDate date1 = weekStart.with(TemporalAdjusters.nextOrSame(availableDays.get(0)));
-            Minutes hiMinutes = highIntensityHours.times(0.5).toMinutesRounded();
-            workouts.add(new Workout(
-                    UUID.randomUUID().toString(),
-                    date1,
-                    Workout.WorkoutType.INTERVALS,
-                    hiMinutes,
-                    new Workout.IntensityProfile(
-                            Percent.of(10), Percent.of(10), Percent.of(10), Percent.of(35), Percent.of(35)),
-                    List.of(new Workout.Interval(
-                            Workout.Interval.IntervalType.VO2_MAX,
-                            Minutes.of(5),
-                            Watts.of(athlete.currentMetrics().ftp().value() * 1.10),
-                            BeatsPerMinute.of(170)))));
-            LocalDate date2 = weekStart.with(TemporalAdjusters.nextOrSame(availableDays.get(1)));
-            workouts.add(new Workout(
-                    UUID.randomUUID().toString(),
-                    date2,
-                    Workout.WorkoutType.THRESHOLD,
-                    hiMinutes,
-                    new Workout.IntensityProfile(
-                            Percent.of(10), Percent.of(10), Percent.of(50), Percent.of(30), Percent.of(0)),
-                    List.of()));
-            // Low intensity on remaining days
-            double lowPerDay = lowIntensityHours.value() / (availableDays.size() - 2);
-            for (int i = 2; i < availableDays.size(); i++) {
-                LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(availableDays.get(i)));
-                workouts.add(new Workout(
+        // Polarized split: each planned hard session takes its share of the 20%, the rest stays low intensity
+        Minutes hiMinutes = targetHours.times(0.2 / WeeklyWorkoutScheduler.HARD_SESSIONS_PER_WEEK).toMinutesRounded();
+        long hardSessions = sessions.stream().filter(WeeklyWorkoutScheduler.ScheduledSession::isHighIntensity).count();
+        long lowSessions = sessions.size() - hardSessions;
+        double lowPerDayHours = lowSessions > 0
+                ? (targetHours.value() - hardSessions * hiMinutes.asHours()) / lowSessions
+                : 0.0;
+
+        for (WeeklyWorkoutScheduler.ScheduledSession session : sessions) {
+            workouts.add(switch (session.type()) {
+                case INTERVALS -> new Workout(
                         UUID.randomUUID().toString(),
-                        date,
+                        session.date(),
+                        Workout.WorkoutType.INTERVALS,
+                        hiMinutes,
+                        new Workout.IntensityProfile(
+                                Percent.of(10), Percent.of(10), Percent.of(10), Percent.of(35), Percent.of(35)),
+                        List.of(new Workout.Interval(
+                                Workout.Interval.IntervalType.VO2_MAX,
+                                Minutes.of(5),
+                                Watts.of(athlete.currentMetrics().ftp().value() * 1.10),
+                                BeatsPerMinute.of(170))));
+                case THRESHOLD -> new Workout(
+                        UUID.randomUUID().toString(),
+                        session.date(),
+                        Workout.WorkoutType.THRESHOLD,
+                        hiMinutes,
+                        new Workout.IntensityProfile(
+                                Percent.of(10), Percent.of(10), Percent.of(50), Percent.of(30), Percent.of(0)),
+                        List.of());
+                default -> new Workout(
+                        UUID.randomUUID().toString(),
+                        session.date(),
                         Workout.WorkoutType.ENDURANCE,
-                        Minutes.of((int) Math.round(lowPerDay * 60)),
+                        Minutes.of((int) Math.round(lowPerDayHours * 60)),
                         new Workout.IntensityProfile(
                                 Percent.of(70), Percent.of(20), Percent.of(10), Percent.of(0), Percent.of(0)),
-                        List.of()));
-            }
+                        List.of());
+            });
         }
 
         return workouts;
     }
+
+    private LocalDate latestHighIntensityDate(List<Workout> workouts, LocalDate previous) {
+        LocalDate latest = previous;
+        for (Workout workout : workouts) {
+            boolean hard = workout.type() == Workout.WorkoutType.INTERVALS
+                    || workout.type() == Workout.WorkoutType.THRESHOLD;
+            if (hard && (latest == null || workout.date().isAfter(latest))) {
+                latest = workout.date();
+            }
+        }
+        return latest;
+    }
 }
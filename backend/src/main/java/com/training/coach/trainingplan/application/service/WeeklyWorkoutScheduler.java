@@ -0,0 +1,155 @@
+package com.training.coach.trainingplan.application.service;
+
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Places a week's sessions against availability, travel exceptions, events and the
+ * SG-RECOVERY-001 spacing rule.
+ *
+ * <p>Each day of the week is reduced to two flags (training possible, hard session allowed).
+ * A memoized search over (day, hard sessions left, recovery days left) picks the hard days:
+ * it maximizes the number of hard sessions placed and breaks ties by choosing the earliest
+ * days, so the result is deterministic. Solutions are cached by the week's flag pattern,
+ * which repeats across weeks and athletes, so whole-season plans mostly hit the cache.</p>
+ */
+public class WeeklyWorkoutScheduler {
+
+    static final int DAYS_PER_WEEK = 7;
+    static final int HARD_SESSIONS_PER_WEEK = 2;
+    static final int MIN_RECOVERY_DAYS = 2;
+
+    private static final int UNREACHABLE = -1;
+
+    private final Map<Integer, Integer> hardDayMasks = new ConcurrentHashMap<>();
+
+    /**
+     * Schedule one week starting at {@code weekStart}.
+     *
+     * @param lastHighIntensityDate the most recent hard session before this week, or null
+     * @return sessions in date order
+     */
+    public List<ScheduledSession> schedule(
+            LocalDate weekStart, SchedulingConstraints constraints, LocalDate lastHighIntensityDate) {
+        int trainingMask = 0;
+        int hardAllowedMask = 0;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            LocalDate date = weekStart.plusDays(day);
+            if (constraints.isTrainingDay(date)) {
+                trainingMask |= 1 << day;
+                if (constraints.allowsHighIntensity(date)) {
+                    hardAllowedMask |= 1 << day;
+                }
+            }
+        }
+
+        int trainingDays = Integer.bitCount(trainingMask);
+        // Keep at least one easy day whenever more than one day is available
+        int hardTarget = Math.min(HARD_SESSIONS_PER_WEEK, Math.max(0, trainingDays - 1));
+        int initialRecovery = initialRecoveryDays(weekStart, lastHighIntensityDate);
+
+        int key = trainingMask | hardAllowedMask << DAYS_PER_WEEK | initialRecovery << 14 | hardTarget << 17;
+        int finalTrainingMask = trainingMask;
+        int finalHardAllowedMask = hardAllowedMask;
+        int hardMask = hardDayMasks.computeIfAbsent(
+                key, k -> solve(finalTrainingMask & finalHardAllowedMask, hardTarget, initialRecovery));
+
+        List<ScheduledSession> sessions = new ArrayList<>();
+        int hardIndex = 0;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            if ((trainingMask & 1 << day) == 0) {
+                continue;
+            }
+            LocalDate date = weekStart.plusDays(day);
+            if ((hardMask & 1 << day) != 0) {
+                Workout.WorkoutType type =
+                        hardIndex++ % 2 == 0 ? Workout.WorkoutType.INTERVALS : Workout.WorkoutType.THRESHOLD;
+                sessions.add(new ScheduledSession(date, type));
+            } else {
+                sessions.add(new ScheduledSession(date, Workout.WorkoutType.ENDURANCE));
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * Number of days at the start of the week still inside the recovery window
+     * of the previous hard session.
+     */
+    private int initialRecoveryDays(LocalDate weekStart, LocalDate lastHighIntensityDate) {
+        if (lastHighIntensityDate == null) {
+            return 0;
+        }
+        long daysSince = ChronoUnit.DAYS.between(lastHighIntensityDate, weekStart);
+        if (daysSince <= 0) {
+            return MIN_RECOVERY_DAYS;
+        }
+        return (int) Math.max(0, MIN_RECOVERY_DAYS + 1 - daysSince);
+    }
+
+    /**
+     * Choose hard days as a bitmask over the week.
+     */
+    private int solve(int candidateMask, int hardTarget, int initialRecovery) {
+        int[][][] best = new int[DAYS_PER_WEEK + 1][hardTarget + 1][MIN_RECOVERY_DAYS + 1];
+        for (int[][] byRemaining : best) {
+            for (int[] byRecovery : byRemaining) {
+                Arrays.fill(byRecovery, UNREACHABLE);
+            }
+        }
+        // Walk the memo table forward from the chosen state to rebuild the mask
+        int mask = 0;
+        int remaining = hardTarget;
+        int recovery = initialRecovery;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            boolean canPlace = remaining > 0 && recovery == 0 && (candidateMask & 1 << day) != 0;
+            int placed = canPlace ? 1 + search(day + 1, remaining - 1, MIN_RECOVERY_DAYS, candidateMask, best) : -1;
+            int skipped = search(day + 1, remaining, Math.max(0, recovery - 1), candidateMask, best);
+            // Ties favour placing, which yields the earliest feasible hard days
+            if (placed >= skipped) {
+                mask |= 1 << day;
+                remaining--;
+                recovery = MIN_RECOVERY_DAYS;
+            } else {
+                recovery = Math.max(0, recovery - 1);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Maximum number of hard sessions that can still be placed from {@code day} onwards.
+     */
+    private int search(int day, int remaining, int recovery, int candidateMask, int[][][] best) {
+        if (day == DAYS_PER_WEEK || remaining == 0) {
+            return 0;
+        }
+        if (best[day][remaining][recovery] != UNREACHABLE) {
+            return best[day][remaining][recovery];
+        }
+        // Skip this day, then try a hard session on it unless skipping already places all that remain
+        int result = search(day + 1, remaining, Math.max(0, recovery - 1), candidateMask, best);
+        if (recovery == 0 && (candidateMask & 1 << day) != 0 && result < remaining) {
+            result = Math.max(result, 1 + search(day + 1, remaining - 1, MIN_RECOVERY_DAYS, candidateMask, best));
+        }
+        best[day][remaining][recovery] = result;
+        return result;
+    }
+
+    /**
+     * A session placed on a date, before durations are assigned.
+     */
+    public record ScheduledSession(LocalDate date, Workout.WorkoutType type) {
+
+        public boolean isHighIntensity() {
+            return type == Workout.WorkoutType.INTERVALS || type == Workout.WorkoutType.THRESHOLD;
+        }
+    }
+}
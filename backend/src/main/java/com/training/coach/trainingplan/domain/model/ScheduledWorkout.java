@@ -0,0 +1,8 @@
+package com.training.coach.trainingplan.domain.model;
+
+import com.training.coach.athlete.domain.model.Workout;
+
+/**
+ * A planned workout together with the athlete and plan version it belongs to.
+ */
+public record ScheduledWorkout(String athleteId, String planId, int planVersion, Workout workout) {}
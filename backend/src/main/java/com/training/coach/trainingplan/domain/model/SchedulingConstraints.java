@@ -0,0 +1,95 @@
+package com.training.coach.trainingplan.domain.model;
+
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AvailabilityTemplate;
+import com.training.coach.athlete.domain.model.Event;
+import com.training.coach.athlete.domain.model.TravelException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Constraints a weekly schedule must respect: the athlete's available weekdays, dates blocked
+ * by travel or other exceptions, goal events, and the last high-intensity session before the plan.
+ */
+public record SchedulingConstraints(
+        Set<DayOfWeek> availableDays,
+        Set<LocalDate> blockedDates,
+        List<Event> events,
+        LocalDate lastHighIntensityDate) {
+
+    public SchedulingConstraints {
+        availableDays = availableDays == null ? Set.of() : Set.copyOf(availableDays);
+        blockedDates = blockedDates == null ? Set.of() : Set.copyOf(blockedDates);
+        events = events == null ? List.of() : List.copyOf(events);
+    }
+
+    /**
+     * Constraints derived from the athlete's preferences only.
+     */
+    public static SchedulingConstraints fromAthlete(Athlete athlete) {
+        Set<DayOfWeek> days = athlete.preferences() != null ? athlete.preferences().availableDays() : Set.of();
+        return new SchedulingConstraints(days, Set.of(), List.of(), null);
+    }
+
+    /**
+     * Replace the available weekdays with those of an availability template.
+     */
+    public SchedulingConstraints withAvailability(AvailabilityTemplate template) {
+        return new SchedulingConstraints(template.availableDays(), blockedDates, events, lastHighIntensityDate);
+    }
+
+    /**
+     * Block every date covered by an active exception.
+     */
+    public SchedulingConstraints withTravelExceptions(List<TravelException> exceptions) {
+        Set<LocalDate> blocked = new HashSet<>(blockedDates);
+        for (TravelException exception : exceptions) {
+            if (exception.status() != TravelException.ExceptionStatus.ACTIVE) {
+                continue;
+            }
+            for (LocalDate date = exception.startDate(); !date.isAfter(exception.endDate()); date = date.plusDays(1)) {
+                blocked.add(date);
+            }
+        }
+        return new SchedulingConstraints(availableDays, blocked, events, lastHighIntensityDate);
+    }
+
+    public SchedulingConstraints withEvents(List<Event> additionalEvents) {
+        List<Event> merged = new ArrayList<>(events);
+        merged.addAll(additionalEvents);
+        return new SchedulingConstraints(availableDays, blockedDates, merged, lastHighIntensityDate);
+    }
+
+    public SchedulingConstraints withLastHighIntensityDate(LocalDate date) {
+        return new SchedulingConstraints(availableDays, blockedDates, events, date);
+    }
+
+    /**
+     * Check whether any training can be scheduled on a date.
+     */
+    public boolean isTrainingDay(LocalDate date) {
+        return availableDays.contains(date.getDayOfWeek())
+                && !blockedDates.contains(date)
+                && events.stream().noneMatch(event -> event.date().equals(date));
+    }
+
+    /**
+     * Check whether a high-intensity session may be scheduled on a date.
+     * Hard sessions are kept off the day after any event, the day before any event,
+     * and the two days before A and B priority events.
+     */
+    public boolean allowsHighIntensity(LocalDate date) {
+        for (Event event : events) {
+            long daysToEvent = java.time.temporal.ChronoUnit.DAYS.between(date, event.date());
+            int protectedDays = event.priority() == Event.EventPriority.C ? 1 : 2;
+            if (daysToEvent >= -1 && daysToEvent <= protectedDays) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -6,12 +6,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.training.coach.athlete.domain.model.Workout;
 import com.training.coach.shared.domain.unit.Percent;
 import com.training.coach.trainingplan.application.port.out.PlanRepository;
+import com.training.coach.trainingplan.application.port.out.ScheduledWorkoutRepository;
 import com.training.coach.trainingplan.domain.model.PlanSummary;
 import com.training.coach.trainingplan.domain.model.PlanVersion;
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionEntity;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanWorkoutEntity;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.TrainingPlanEntity;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,7 +26,7 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 @Profile("!test")
-public class PlanRepositoryAdapter implements PlanRepository {
+public class PlanRepositoryAdapter implements PlanRepository, ScheduledWorkoutRepository {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -143,6 +146,22 @@ public class PlanRepositoryAdapter implements PlanRepository {
         });
     }
 
+    @Override
+    public List<ScheduledWorkout> findPublishedWorkoutsOn(LocalDate date) {
+        return planWorkoutRepo.findScheduledOnDate(date, PlanVersionStatus.PUBLISHED).stream()
+                .map(row -> new ScheduledWorkout(
+                        row.athleteId(), row.planId(), row.planVersion(), mapToWorkout(row.workout())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ScheduledWorkout> findPublishedWorkouts(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return planWorkoutRepo.findScheduledForAthlete(athleteId, PlanVersionStatus.PUBLISHED, startDate, endDate).stream()
+                .map(row -> new ScheduledWorkout(
+                        row.athleteId(), row.planId(), row.planVersion(), mapToWorkout(row.workout())))
+                .collect(Collectors.toList());
+    }
+
     private Workout mapToWorkout(PlanWorkoutEntity entity) {
         Workout.IntensityProfile intensityProfile = readIntensityProfile(entity.getIntensityProfileJson());
         List<Workout.Interval> intervals = readIntervals(entity.getIntervalsJson());
@@ -4,7 +4,11 @@ import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVer
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +21,19 @@ public interface PlanVersionJpaRepository extends JpaRepository<PlanVersionEntit
     Optional<PlanVersionEntity> findByPlanIdAndVersion(String planId, Integer version);
 
     List<PlanVersionEntity> findByPlanIdAndStatus(String planId, PlanVersionStatus status);
+
+    @Query("SELECT v FROM PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE v.planId = p.id AND p.athleteId = :athleteId AND v.id > :afterId "
+            + "ORDER BY v.id ASC")
+    List<PlanVersionEntity> findByAthleteIdAfter(
+            @Param("athleteId") String athleteId, @Param("afterId") String afterId, Limit limit);
+
+    @Query("SELECT COUNT(v) FROM PlanVersionEntity v "
+            + "WHERE v.planId IN (SELECT p.id FROM TrainingPlanEntity p WHERE p.athleteId = :athleteId)")
+    long countByAthleteId(@Param("athleteId") String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM PlanVersionEntity v "
+            + "WHERE v.planId IN (SELECT p.id FROM TrainingPlanEntity p WHERE p.athleteId = :athleteId)")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
 }
@@ -1,8 +1,15 @@
 package com.training.coach.trainingplan.infrastructure.persistence;
 
+import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanWorkoutEntity;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +18,55 @@ public interface PlanWorkoutJpaRepository extends JpaRepository<PlanWorkoutEntit
     List<PlanWorkoutEntity> findByPlanVersionId(String planVersionId);
 
     List<PlanWorkoutEntity> findByPlanVersionIdOrderByDate(String planVersionId);
+
+    @Query("SELECT new com.training.coach.trainingplan.infrastructure.persistence.ScheduledWorkoutRow("
+            + "p.athleteId, v.planId, v.version, w) "
+            + "FROM PlanWorkoutEntity w, PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE w.planVersionId = v.id AND v.planId = p.id "
+            + "AND w.date = :date AND v.status = :status "
+            + "ORDER BY p.athleteId ASC, v.version DESC")
+    List<ScheduledWorkoutRow> findScheduledOnDate(
+            @Param("date") LocalDate date, @Param("status") PlanVersionStatus status);
+
+    @Query("SELECT new com.training.coach.trainingplan.infrastructure.persistence.ScheduledWorkoutRow("
+            + "p.athleteId, v.planId, v.version, w) "
+            + "FROM PlanWorkoutEntity w, PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE w.planVersionId = v.id AND v.planId = p.id "
+            + "AND p.athleteId = :athleteId AND v.status = :status "
+            + "AND w.date >= :startDate AND w.date <= :endDate "
+            + "ORDER BY w.date ASC, w.id ASC")
+    List<ScheduledWorkoutRow> findScheduledForAthlete(
+            @Param("athleteId") String athleteId,
+            @Param("status") PlanVersionStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MAX(v.updatedAt) FROM PlanWorkoutEntity w, PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE w.planVersionId = v.id AND v.planId = p.id "
+            + "AND p.athleteId = :athleteId "
+            + "AND w.date >= :startDate AND w.date <= :endDate")
+    Instant findLastVersionChange(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.training.coach.trainingplan.infrastructure.persistence.ScheduledWorkoutRow("
+            + "p.athleteId, v.planId, v.version, w) "
+            + "FROM PlanWorkoutEntity w, PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE w.planVersionId = v.id AND v.planId = p.id "
+            + "AND p.athleteId = :athleteId AND w.id > :afterId "
+            + "ORDER BY w.id ASC")
+    List<ScheduledWorkoutRow> findByAthleteIdAfter(
+            @Param("athleteId") String athleteId, @Param("afterId") String afterId, Limit limit);
+
+    @Query("SELECT COUNT(w) FROM PlanWorkoutEntity w WHERE w.planVersionId IN ("
+            + "SELECT v.id FROM PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE v.planId = p.id AND p.athleteId = :athleteId)")
+    long countByAthleteId(@Param("athleteId") String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM PlanWorkoutEntity w WHERE w.planVersionId IN ("
+            + "SELECT v.id FROM PlanVersionEntity v, TrainingPlanEntity p "
+            + "WHERE v.planId = p.id AND p.athleteId = :athleteId)")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
 }
@@ -0,0 +1,8 @@
+package com.training.coach.trainingplan.infrastructure.persistence;
+
+import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanWorkoutEntity;
+
+/**
+ * Projection joining a plan workout with its owning athlete and plan version.
+ */
+public record ScheduledWorkoutRow(String athleteId, String planId, Integer planVersion, PlanWorkoutEntity workout) {}
@@ -3,10 +3,19 @@ package com.training.coach.trainingplan.infrastructure.persistence;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.TrainingPlanEntity;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TrainingPlanJpaRepository extends JpaRepository<TrainingPlanEntity, String> {
 
     List<TrainingPlanEntity> findByAthleteId(String athleteId);
+
+    long countByAthleteId(String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM TrainingPlanEntity p WHERE p.athleteId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
 }
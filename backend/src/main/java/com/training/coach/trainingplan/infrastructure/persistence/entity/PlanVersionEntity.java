@@ -5,7 +5,9 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "plan_versions")
+@Table(
+        name = "plan_versions",
+        indexes = {@Index(name = "idx_plan_versions_plan_status", columnList = "plan_id, status")})
 @org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 public class PlanVersionEntity {
 
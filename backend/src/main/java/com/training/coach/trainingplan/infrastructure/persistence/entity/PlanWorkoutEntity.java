@@ -7,7 +7,12 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "plan_workouts")
+@Table(
+        name = "plan_workouts",
+        indexes = {
+            @Index(name = "idx_plan_workouts_date", columnList = "date"),
+            @Index(name = "idx_plan_workouts_version", columnList = "plan_version_id")
+        })
 @org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 public class PlanWorkoutEntity {
 
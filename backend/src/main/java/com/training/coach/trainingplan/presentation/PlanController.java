@@ -1,13 +1,17 @@
 package com.training.coach.trainingplan.presentation;
 
+import com.training.coach.analysis.application.service.SafetyGuardrailService;
 import com.training.coach.shared.domain.unit.Hours;
 import com.training.coach.trainingplan.application.service.PlanService;
+import com.training.coach.trainingplan.application.service.SquadPlanService;
 import com.training.coach.trainingplan.domain.model.PlanSummary;
 import com.training.coach.trainingplan.domain.model.PlanVersion;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 /**
  * REST controller for plan lifecycle management.
@@ -17,9 +21,14 @@ import org.springframework.web.bind.annotation.*;
 public class PlanController {
 
     private final PlanService planService;
+    private final SquadPlanService squadPlanService;
+    private final SafetyGuardrailService safetyGuardrailService;
 
-    public PlanController(PlanService planService) {
+    public PlanController(
+            PlanService planService, SquadPlanService squadPlanService, SafetyGuardrailService safetyGuardrailService) {
         this.planService = planService;
+        this.squadPlanService = squadPlanService;
+        this.safetyGuardrailService = safetyGuardrailService;
     }
 
     @PostMapping
@@ -30,6 +39,20 @@ public class PlanController {
         return ResponseEntity.ok(plan);
     }
 
+    /**
+     * Generate draft plans for a squad, streaming one result per athlete as each plan completes.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SquadPlanService.SquadPlanResult> createPlans(@RequestBody CreateSquadPlansRequest request) {
+        SquadPlanService.CreateSquadPlansCommand command = new SquadPlanService.CreateSquadPlansCommand(
+                request.athleteIds(),
+                request.phase(),
+                request.startDate(),
+                request.targetWeeklyHours(),
+                request.targetDate());
+        return squadPlanService.createPlans(command);
+    }
+
     @GetMapping
     public ResponseEntity<List<PlanSummary>> listPlans() {
         List<PlanSummary> plans = planService.listPlans();
@@ -42,6 +65,18 @@ public class PlanController {
         return ResponseEntity.ok(planVersion);
     }
 
+    /**
+     * Check the upcoming workouts of a plan version against the safety guardrails, returning the blocked ones.
+     */
+    @GetMapping("/{planId}/versions/{version}/guardrails")
+    public ResponseEntity<List<SafetyGuardrailService.GuardrailViolation>> checkGuardrails(
+            @PathVariable String planId, @PathVariable int version) {
+        PlanSummary plan = planService.getPlan(planId);
+        PlanVersion planVersion = planService.getPlanVersion(planId, version);
+        return ResponseEntity.ok(
+                safetyGuardrailService.checkPlan(plan.athleteId(), planVersion.workouts(), LocalDate.now()));
+    }
+
     @PostMapping("/{planId}/publish")
     public ResponseEntity<PlanSummary> publishPlan(@PathVariable String planId) {
         PlanSummary plan = planService.publishPlan(planId);
@@ -59,4 +94,7 @@ public class PlanController {
     public record RevisePlanRequest(Hours newWeeklyHours) {}
 
     public record CreatePlanRequest(String athleteId, String phase, LocalDate startDate, Hours targetWeeklyHours) {}
+
+    public record CreateSquadPlansRequest(
+            List<String> athleteIds, String phase, LocalDate startDate, Hours targetWeeklyHours, LocalDate targetDate) {}
 }
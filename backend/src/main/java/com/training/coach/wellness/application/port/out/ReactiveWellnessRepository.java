@@ -0,0 +1,26 @@
+package com.training.coach.wellness.application.port.out;
+
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import java.time.LocalDate;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to wellness snapshots, for read paths that stream long histories.
+ */
+public interface ReactiveWellnessRepository {
+
+    /**
+     * Snapshots of the athlete from {@code startDate} to {@code endDate} inclusive, oldest first. Rows are read a
+     * page at a time as the subscriber requests them.
+     */
+    Flux<WellnessSnapshot> streamByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Insert the snapshots, replacing any stored under the same id, in batched statements.
+     *
+     * @return the number of rows written
+     */
+    Mono<Long> upsertAll(List<WellnessSnapshot> snapshots);
+}
@@ -0,0 +1,16 @@
+package com.training.coach.wellness.application.port.out;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Tells when an athlete's wellness data last changed, so answers built from it can be cached until it does.
+ */
+public interface WellnessChangeRepository {
+
+    /**
+     * Latest modification time of any wellness snapshot of the athlete dated within the range, edits included.
+     */
+    Optional<Instant> findLastUpdatedAt(String athleteId, LocalDate startDate, LocalDate endDate);
+}
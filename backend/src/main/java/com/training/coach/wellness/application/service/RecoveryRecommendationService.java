@@ -1,10 +1,12 @@
 package com.training.coach.wellness.application.service;
 
 import com.training.coach.integration.application.service.AIService;
+import com.training.coach.wellness.application.port.out.WellnessChangeRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.RecoveryRecommendations;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import com.training.coach.wellness.domain.model.WellnessTrends;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,12 +22,17 @@ public class RecoveryRecommendationService {
     private static final int LOW_SLEEP_DAYS = 3;
 
     private final WellnessRepository wellnessRepository;
+    private final WellnessChangeRepository wellnessChangeRepository;
     private final TrendCalculationService trendService;
     private final AIService aiService;
 
     public RecoveryRecommendationService(
-            WellnessRepository wellnessRepository, TrendCalculationService trendService, AIService aiService) {
+            WellnessRepository wellnessRepository,
+            WellnessChangeRepository wellnessChangeRepository,
+            TrendCalculationService trendService,
+            AIService aiService) {
         this.wellnessRepository = wellnessRepository;
+        this.wellnessChangeRepository = wellnessChangeRepository;
         this.trendService = trendService;
         this.aiService = aiService;
     }
@@ -113,7 +120,12 @@ public class RecoveryRecommendationService {
         String aiRecommendations = "";
         try {
             String prompt = buildAiPrompt(athleteId, latest, trends, hardRules);
-            aiRecommendations = aiService.getSuggestion(prompt);
+            // Unchanged wellness data gives an identical prompt, so repeat views are served from the AI cache
+            String dataVersion = latest.date() + "/" + snapshots.size() + "/" + wellnessChangeRepository
+                    .findLastUpdatedAt(athleteId, startDate, endDate)
+                    .map(Instant::toString)
+                    .orElse("");
+            aiRecommendations = aiService.getSuggestion(athleteId, dataVersion, prompt);
         } catch (Exception e) {
             aiRecommendations = "AI recommendations temporarily unavailable.";
         }
@@ -9,8 +9,10 @@ import com.training.coach.wellness.domain.model.PhysiologicalData;
 import com.training.coach.wellness.domain.model.SleepMetrics;
 import com.training.coach.wellness.domain.model.SubjectiveWellness;
 import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessRecordedEvent;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,11 +20,15 @@ public class SubjectiveWellnessService {
 
     private final WellnessRepository wellnessRepository;
     private final ReadinessCalculatorService readinessCalculator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SubjectiveWellnessService(
-            WellnessRepository wellnessRepository, ReadinessCalculatorService readinessCalculator) {
+            WellnessRepository wellnessRepository,
+            ReadinessCalculatorService readinessCalculator,
+            ApplicationEventPublisher eventPublisher) {
         this.wellnessRepository = wellnessRepository;
         this.readinessCalculator = readinessCalculator;
+        this.eventPublisher = eventPublisher;
     }
 
     public WellnessSnapshot recordSubjectiveWellness(
@@ -44,7 +50,9 @@ public class SubjectiveWellnessService {
         WellnessSnapshot snapshot =
                 WellnessSnapshot.create(athleteId, date, physiological, subjective, loadSummary, readinessScore);
 
-        return wellnessRepository.save(snapshot);
+        WellnessSnapshot saved = wellnessRepository.save(snapshot);
+        eventPublisher.publishEvent(WellnessRecordedEvent.of(snapshot));
+        return saved;
     }
 
     public Optional<WellnessSnapshot> getWellnessSnapshot(String athleteId, java.time.LocalDate date) {
@@ -1,29 +1,39 @@
 package com.training.coach.wellness.application.service;
 
+import com.training.coach.wellness.application.port.out.ReactiveWellnessRepository;
 import com.training.coach.wellness.application.port.out.TrainingLoadRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.PhysiologicalData;
 import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.WellnessRecordedEvent;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 @Service
 public class WellnessSubmissionService {
 
     private final WellnessRepository wellnessRepository;
+    private final ReactiveWellnessRepository reactiveWellnessRepository;
     private final ReadinessCalculatorService readinessCalculator;
     private final TrainingLoadRepository trainingLoadRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WellnessSubmissionService(
             WellnessRepository wellnessRepository,
+            ReactiveWellnessRepository reactiveWellnessRepository,
             ReadinessCalculatorService readinessCalculator,
-            TrainingLoadRepository trainingLoadRepository) {
+            TrainingLoadRepository trainingLoadRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.wellnessRepository = wellnessRepository;
+        this.reactiveWellnessRepository = reactiveWellnessRepository;
         this.readinessCalculator = readinessCalculator;
         this.trainingLoadRepository = trainingLoadRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public WellnessSnapshot submitWellness(
@@ -37,13 +47,30 @@ public class WellnessSubmissionService {
         var snapshot = WellnessSnapshot.create(
                 athleteId, date, physiological, subjective, loadSummary.orElse(null), readinessScore);
 
-        return wellnessRepository.save(snapshot);
+        WellnessSnapshot saved = wellnessRepository.save(snapshot);
+        eventPublisher.publishEvent(WellnessRecordedEvent.of(snapshot));
+        return saved;
     }
 
     public List<WellnessSnapshot> getWellnessHistory(String athleteId, LocalDate startDate, LocalDate endDate) {
         return wellnessRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate);
     }
 
+    /**
+     * Streams the snapshots of a range in date order, a page at a time as the subscriber requests them.
+     *
+     * @throws IllegalArgumentException if the range is missing or ends before it starts
+     */
+    public Flux<WellnessSnapshot> streamWellnessHistory(String athleteId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must be on or after start date");
+        }
+        return reactiveWellnessRepository.streamByAthleteIdAndDateRange(athleteId, startDate, endDate);
+    }
+
     public Optional<WellnessSnapshot> getLatestWellness(String athleteId) {
         return wellnessRepository.findLatestByAthleteId(athleteId);
     }
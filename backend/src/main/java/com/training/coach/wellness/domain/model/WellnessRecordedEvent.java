@@ -0,0 +1,13 @@
+package com.training.coach.wellness.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Published after a wellness snapshot has been saved, whether submitted by the athlete or synced.
+ */
+public record WellnessRecordedEvent(String athleteId, LocalDate date, double readinessScore) {
+
+    public static WellnessRecordedEvent of(WellnessSnapshot snapshot) {
+        return new WellnessRecordedEvent(snapshot.athleteId(), snapshot.date(), snapshot.readinessScore());
+    }
+}
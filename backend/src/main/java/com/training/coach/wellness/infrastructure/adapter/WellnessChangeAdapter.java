@@ -0,0 +1,28 @@
+package com.training.coach.wellness.infrastructure.adapter;
+
+import com.training.coach.wellness.application.port.out.WellnessChangeRepository;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers change checks with one aggregate query on the (athlete_id, date) index.
+ */
+@Component
+@Profile("!test")
+public class WellnessChangeAdapter implements WellnessChangeRepository {
+
+    private final WellnessJpaRepository wellnessRepository;
+
+    public WellnessChangeAdapter(WellnessJpaRepository wellnessRepository) {
+        this.wellnessRepository = wellnessRepository;
+    }
+
+    @Override
+    public Optional<Instant> findLastUpdatedAt(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return Optional.ofNullable(wellnessRepository.findLastUpdatedAt(athleteId, startDate, endDate));
+    }
+}
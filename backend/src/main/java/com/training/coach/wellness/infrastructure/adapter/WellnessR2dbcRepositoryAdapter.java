@@ -0,0 +1,200 @@
+package com.training.coach.wellness.infrastructure.adapter;
+
+import com.training.coach.shared.persistence.KeysetPagination;
+import com.training.coach.shared.persistence.R2dbcPersistenceProperties;
+import com.training.coach.shared.persistence.R2dbcUpsert;
+import com.training.coach.shared.persistence.R2dbcUpsert.Column;
+import com.training.coach.shared.persistence.converter.BeatsPerMinuteConverter;
+import com.training.coach.shared.persistence.converter.GramsConverter;
+import com.training.coach.shared.persistence.converter.HeartRateVariabilityConverter;
+import com.training.coach.shared.persistence.converter.HoursConverter;
+import com.training.coach.wellness.application.port.out.ReactiveWellnessRepository;
+import com.training.coach.wellness.application.port.out.WellnessRepository;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.wellness.infrastructure.persistence.entity.WellnessSnapshotEntity;
+import io.r2dbc.spi.Readable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC adapter of the wellness store, on the {@code wellness_snapshots} table that JPA maps.
+ *
+ * <p>The blocking port is kept for the services that still use it and blocks on the reactive queries, which is
+ * only safe off the event loop, as blocking controller methods are.</p>
+ */
+@Component
+@Profile("r2dbc & !test")
+public class WellnessR2dbcRepositoryAdapter implements WellnessRepository, ReactiveWellnessRepository {
+
+    private static final String COLUMNS = "id, athlete_id, date, resting_heart_rate, hrv, "
+            + "body_weight_g, sleep_hours, sleep_quality, fatigue, stress, motivation, soreness, readiness_score, "
+            + "tss, ctl, atl, tsb, training_minutes";
+
+    private static final BeatsPerMinuteConverter HEART_RATE = new BeatsPerMinuteConverter();
+    private static final HeartRateVariabilityConverter HRV = new HeartRateVariabilityConverter();
+    private static final GramsConverter GRAMS = new GramsConverter();
+    private static final HoursConverter HOURS = new HoursConverter();
+
+    private final DatabaseClient client;
+    private final int pageSize;
+    private final R2dbcUpsert<WellnessSnapshotEntity> upsert;
+
+    public WellnessR2dbcRepositoryAdapter(DatabaseClient client, R2dbcPersistenceProperties properties) {
+        this.client = client;
+        this.pageSize = properties.pageSize();
+        this.upsert = new R2dbcUpsert<>("wellness_snapshots", List.of(
+                Column.of("id", String.class, WellnessSnapshotEntity::getId),
+                Column.of("athlete_id", String.class, WellnessSnapshotEntity::getAthleteId),
+                Column.of("date", LocalDate.class, WellnessSnapshotEntity::getDate),
+                Column.insertOnly("created_at", Instant.class, WellnessSnapshotEntity::getUpdatedAt),
+                Column.of("updated_at", Instant.class, WellnessSnapshotEntity::getUpdatedAt),
+                Column.of("resting_heart_rate", Double.class,
+                        entity -> HEART_RATE.convertToDatabaseColumn(entity.getRestingHeartRate())),
+                Column.of("hrv", Double.class, entity -> HRV.convertToDatabaseColumn(entity.getHrv())),
+                Column.of("body_weight_g", Double.class,
+                        entity -> GRAMS.convertToDatabaseColumn(entity.getBodyWeightGrams())),
+                Column.of("sleep_hours", Double.class, entity -> HOURS.convertToDatabaseColumn(entity.getSleepHours())),
+                Column.of("sleep_quality", Integer.class, WellnessSnapshotEntity::getSleepQuality),
+                Column.of("fatigue", Integer.class, WellnessSnapshotEntity::getFatigue),
+                Column.of("stress", Integer.class, WellnessSnapshotEntity::getStress),
+                Column.of("motivation", Integer.class, WellnessSnapshotEntity::getMotivation),
+                Column.of("soreness", Integer.class, WellnessSnapshotEntity::getSoreness),
+                Column.of("readiness_score", Double.class, WellnessSnapshotEntity::getReadinessScore),
+                Column.of("tss", Double.class, WellnessSnapshotEntity::getTss),
+                Column.of("ctl", Double.class, WellnessSnapshotEntity::getCtl),
+                Column.of("atl", Double.class, WellnessSnapshotEntity::getAtl),
+                Column.of("tsb", Double.class, WellnessSnapshotEntity::getTsb),
+                Column.of("training_minutes", Integer.class, WellnessSnapshotEntity::getTrainingMinutes)),
+                properties.upsertBatchSize());
+    }
+
+    @Override
+    public Flux<WellnessSnapshot> streamByAthleteIdAndDateRange(
+            String athleteId, LocalDate startDate, LocalDate endDate) {
+        return KeysetPagination.stream(
+                pageSize,
+                page(client.sql("SELECT " + COLUMNS + " FROM wellness_snapshots "
+                                + "WHERE athlete_id = :athleteId AND date >= :startDate AND date <= :endDate "
+                                + "ORDER BY date ASC, id ASC LIMIT :limit")
+                        .bind("startDate", startDate), athleteId, endDate),
+                last -> page(client.sql("SELECT " + COLUMNS + " FROM wellness_snapshots "
+                                + "WHERE athlete_id = :athleteId "
+                                + "AND (date > :date OR (date = :date AND id > :id)) AND date <= :endDate "
+                                + "ORDER BY date ASC, id ASC LIMIT :limit")
+                        .bind("date", last.date())
+                        .bind("id", last.id()), athleteId, endDate));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<WellnessSnapshot> snapshots) {
+        return upsert.execute(client, snapshots.stream().map(WellnessRepositoryAdapter::toEntity).toList());
+    }
+
+    @Override
+    public Optional<WellnessSnapshot> findByAthleteIdAndDate(String athleteId, LocalDate date) {
+        return client.sql("SELECT " + COLUMNS + " FROM wellness_snapshots "
+                        + "WHERE athlete_id = :athleteId AND date = :date LIMIT 1")
+                .bind("athleteId", athleteId)
+                .bind("date", date)
+                .map(WellnessR2dbcRepositoryAdapter::toDomain)
+                .one()
+                .blockOptional();
+    }
+
+    @Override
+    public List<WellnessSnapshot> findByAthleteIdAndDateRange(
+            String athleteId, LocalDate startDate, LocalDate endDate) {
+        return streamByAthleteIdAndDateRange(athleteId, startDate, endDate).collectList().block();
+    }
+
+    @Override
+    public Optional<WellnessSnapshot> findLatestByAthleteId(String athleteId) {
+        return client.sql("SELECT " + COLUMNS + " FROM wellness_snapshots "
+                        + "WHERE athlete_id = :athleteId ORDER BY date DESC LIMIT 1")
+                .bind("athleteId", athleteId)
+                .map(WellnessR2dbcRepositoryAdapter::toDomain)
+                .one()
+                .blockOptional();
+    }
+
+    @Override
+    public WellnessSnapshot save(WellnessSnapshot snapshot) {
+        upsertAll(List.of(snapshot)).block();
+        return snapshot;
+    }
+
+    @Override
+    public List<WellnessSnapshot> saveAll(List<WellnessSnapshot> snapshots) {
+        upsertAll(snapshots).block();
+        return snapshots;
+    }
+
+    @Override
+    public void deleteByAthleteIdAndDate(String athleteId, LocalDate date) {
+        client.sql("DELETE FROM wellness_snapshots WHERE athlete_id = :athleteId AND date = :date")
+                .bind("athleteId", athleteId)
+                .bind("date", date)
+                .then()
+                .block();
+    }
+
+    @Override
+    public void deleteByAthleteId(String athleteId) {
+        client.sql("DELETE FROM wellness_snapshots WHERE athlete_id = :athleteId")
+                .bind("athleteId", athleteId)
+                .then()
+                .block();
+    }
+
+    @Override
+    public boolean existsByAthleteIdAndDate(String athleteId, LocalDate date) {
+        return Boolean.TRUE.equals(client.sql("SELECT 1 FROM wellness_snapshots "
+                        + "WHERE athlete_id = :athleteId AND date = :date LIMIT 1")
+                .bind("athleteId", athleteId)
+                .bind("date", date)
+                .fetch()
+                .first()
+                .hasElement()
+                .block());
+    }
+
+    private Mono<List<WellnessSnapshot>> page(GenericExecuteSpec query, String athleteId, LocalDate endDate) {
+        return query.bind("athleteId", athleteId)
+                .bind("endDate", endDate)
+                .bind("limit", pageSize)
+                .map(WellnessR2dbcRepositoryAdapter::toDomain)
+                .all()
+                .collectList();
+    }
+
+    private static WellnessSnapshot toDomain(Readable row) {
+        WellnessSnapshotEntity entity = new WellnessSnapshotEntity();
+        entity.setId(row.get("id", String.class));
+        entity.setAthleteId(row.get("athlete_id", String.class));
+        entity.setDate(row.get("date", LocalDate.class));
+        entity.setRestingHeartRate(HEART_RATE.convertToEntityAttribute(row.get("resting_heart_rate", Double.class)));
+        entity.setHrv(HRV.convertToEntityAttribute(row.get("hrv", Double.class)));
+        entity.setBodyWeightGrams(GRAMS.convertToEntityAttribute(row.get("body_weight_g", Double.class)));
+        entity.setSleepHours(HOURS.convertToEntityAttribute(row.get("sleep_hours", Double.class)));
+        entity.setSleepQuality(row.get("sleep_quality", Integer.class));
+        entity.setFatigue(row.get("fatigue", Integer.class));
+        entity.setStress(row.get("stress", Integer.class));
+        entity.setMotivation(row.get("motivation", Integer.class));
+        entity.setSoreness(row.get("soreness", Integer.class));
+        entity.setReadinessScore(row.get("readiness_score", Double.class));
+        entity.setTss(row.get("tss", Double.class));
+        entity.setCtl(row.get("ctl", Double.class));
+        entity.setAtl(row.get("atl", Double.class));
+        entity.setTsb(row.get("tsb", Double.class));
+        entity.setTrainingMinutes(row.get("training_minutes", Integer.class));
+        return WellnessRepositoryAdapter.toDomain(entity);
+    }
+}
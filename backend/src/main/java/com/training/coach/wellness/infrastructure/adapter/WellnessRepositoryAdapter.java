@@ -1,5 +1,7 @@
 package com.training.coach.wellness.infrastructure.adapter;
 
+import com.training.coach.shared.persistence.KeysetPagination;
+import com.training.coach.wellness.application.port.out.ReactiveWellnessRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.*;
 import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
@@ -8,13 +10,25 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
-
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JPA adapter of the wellness store. Reactive callers are served by running the blocking queries on the bounded
+ * elastic scheduler, a page at a time. The {@code r2dbc} profile replaces this adapter with
+ * {@link WellnessR2dbcRepositoryAdapter}.
+ */
 @Component
-@Profile("!test")
-public class WellnessRepositoryAdapter implements WellnessRepository {
+@Profile("!test & !r2dbc")
+public class WellnessRepositoryAdapter implements WellnessRepository, ReactiveWellnessRepository {
+
+    private static final int STREAM_PAGE_SIZE = 500;
 
     private final WellnessJpaRepository jpaRepository;
 
@@ -25,14 +39,14 @@ public class WellnessRepositoryAdapter implements WellnessRepository {
     @Override
     public Optional<WellnessSnapshot> findByAthleteIdAndDate(String athleteId, LocalDate date) {
         WellnessSnapshotEntity entity = jpaRepository.findByAthleteIdAndDate(athleteId, date);
-        return Optional.ofNullable(entity).map(this::toDomain);
+        return Optional.ofNullable(entity).map(WellnessRepositoryAdapter::toDomain);
     }
 
     @Override
     public List<WellnessSnapshot> findByAthleteIdAndDateRange(
             String athleteId, LocalDate startDate, LocalDate endDate) {
         return jpaRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
-                .map(this::toDomain)
+                .map(WellnessRepositoryAdapter::toDomain)
                 .collect(Collectors.toList());
     }
 
@@ -52,9 +66,9 @@ public class WellnessRepositoryAdapter implements WellnessRepository {
     @Override
     public List<WellnessSnapshot> saveAll(List<WellnessSnapshot> snapshots) {
         List<WellnessSnapshotEntity> entities =
-                snapshots.stream().map(this::toEntity).collect(Collectors.toList());
+                snapshots.stream().map(WellnessRepositoryAdapter::toEntity).collect(Collectors.toList());
         List<WellnessSnapshotEntity> saved = jpaRepository.saveAll(entities);
-        return saved.stream().map(this::toDomain).collect(Collectors.toList());
+        return saved.stream().map(WellnessRepositoryAdapter::toDomain).collect(Collectors.toList());
     }
 
     @Override
@@ -76,7 +90,29 @@ public class WellnessRepositoryAdapter implements WellnessRepository {
         return jpaRepository.findByAthleteIdAndDate(athleteId, date) != null;
     }
 
-    private WellnessSnapshotEntity toEntity(WellnessSnapshot snapshot) {
+    @Override
+    public Flux<WellnessSnapshot> streamByAthleteIdAndDateRange(
+            String athleteId, LocalDate startDate, LocalDate endDate) {
+        Limit limit = Limit.of(STREAM_PAGE_SIZE);
+        return KeysetPagination.stream(
+                STREAM_PAGE_SIZE,
+                page(() -> jpaRepository.findByAthleteIdAndDateBetweenOrderByDateAscIdAsc(
+                        athleteId, startDate, endDate, limit)),
+                last -> page(() -> jpaRepository.findByAthleteIdAfterUntil(
+                        athleteId, last.date(), last.id(), endDate, limit)));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<WellnessSnapshot> snapshots) {
+        return Mono.fromCallable(() -> (long) saveAll(snapshots).size()).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<List<WellnessSnapshot>> page(Supplier<List<WellnessSnapshotEntity>> query) {
+        return Mono.fromCallable(() -> query.get().stream().map(WellnessRepositoryAdapter::toDomain).toList())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static WellnessSnapshotEntity toEntity(WellnessSnapshot snapshot) {
         WellnessSnapshotEntity entity = new WellnessSnapshotEntity();
         entity.setId(snapshot.id());
         entity.setAthleteId(snapshot.athleteId());
@@ -120,7 +156,7 @@ public class WellnessRepositoryAdapter implements WellnessRepository {
         return entity;
     }
 
-    private WellnessSnapshot toDomain(WellnessSnapshotEntity entity) {
+    static WellnessSnapshot toDomain(WellnessSnapshotEntity entity) {
         PhysiologicalData physiological = null;
         if (entity.getRestingHeartRate() != null
                 || entity.getHrv() != null
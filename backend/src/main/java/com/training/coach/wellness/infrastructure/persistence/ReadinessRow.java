@@ -0,0 +1,8 @@
+package com.training.coach.wellness.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the readiness score of one wellness snapshot.
+ */
+public record ReadinessRow(String athleteId, LocalDate date, Double readinessScore) {}
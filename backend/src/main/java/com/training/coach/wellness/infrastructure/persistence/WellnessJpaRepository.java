@@ -1,9 +1,13 @@
 package com.training.coach.wellness.infrastructure.persistence;
 
 import com.training.coach.wellness.infrastructure.persistence.entity.WellnessSnapshotEntity;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +20,20 @@ public interface WellnessJpaRepository extends JpaRepository<WellnessSnapshotEnt
     List<WellnessSnapshotEntity> findByAthleteIdAndDateBetweenOrderByDateAsc(
             String athleteId, LocalDate startDate, LocalDate endDate);
 
+    List<WellnessSnapshotEntity> findByAthleteIdAndDateBetweenOrderByDateAscIdAsc(
+            String athleteId, LocalDate startDate, LocalDate endDate, Limit limit);
+
+    @Query("SELECT w FROM WellnessSnapshotEntity w WHERE w.athleteId = :athleteId "
+            + "AND (w.date > :date OR (w.date = :date AND w.id > :id)) "
+            + "AND w.date <= :endDate "
+            + "ORDER BY w.date ASC, w.id ASC")
+    List<WellnessSnapshotEntity> findByAthleteIdAfterUntil(
+            @Param("athleteId") String athleteId,
+            @Param("date") LocalDate date,
+            @Param("id") String id,
+            @Param("endDate") LocalDate endDate,
+            Limit limit);
+
     @Query("SELECT w FROM WellnessSnapshotEntity w WHERE w.athleteId = :athleteId "
             + "AND w.date >= :startDate "
             + "AND w.date <= :endDate ORDER BY w.date ASC")
@@ -26,5 +44,51 @@ public interface WellnessJpaRepository extends JpaRepository<WellnessSnapshotEnt
 
     WellnessSnapshotEntity findByAthleteIdAndDate(String athleteId, LocalDate date);
 
+    @Query("SELECT new com.training.coach.wellness.infrastructure.persistence.ReadinessRow("
+            + "w.athleteId, w.date, w.readinessScore) "
+            + "FROM WellnessSnapshotEntity w WHERE w.athleteId IN :athleteIds "
+            + "AND w.date >= :startDate "
+            + "AND w.date <= :endDate "
+            + "AND w.readinessScore IS NOT NULL")
+    List<ReadinessRow> findReadinessByAthleteIdsAndDateRange(
+            @Param("athleteIds") Collection<String> athleteIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.training.coach.wellness.infrastructure.persistence.WellnessScoreRow("
+            + "w.athleteId, w.date, w.fatigue, w.soreness, w.readinessScore) "
+            + "FROM WellnessSnapshotEntity w WHERE w.athleteId IN :athleteIds "
+            + "AND w.date >= :startDate "
+            + "AND w.date <= :endDate")
+    List<WellnessScoreRow> findScoresByAthleteIdsAndDateRange(
+            @Param("athleteIds") Collection<String> athleteIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MAX(w.updatedAt) FROM WellnessSnapshotEntity w WHERE w.athleteId = :athleteId "
+            + "AND w.date >= :startDate "
+            + "AND w.date <= :endDate")
+    Instant findLastUpdatedAt(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    List<WellnessSnapshotEntity> findByAthleteIdOrderByDateAscIdAsc(String athleteId, Limit limit);
+
+    @Query("SELECT w FROM WellnessSnapshotEntity w WHERE w.athleteId = :athleteId "
+            + "AND (w.date > :date OR (w.date = :date AND w.id > :id)) "
+            + "ORDER BY w.date ASC, w.id ASC")
+    List<WellnessSnapshotEntity> findByAthleteIdAfter(
+            @Param("athleteId") String athleteId,
+            @Param("date") LocalDate date,
+            @Param("id") String id,
+            Limit limit);
+
     void deleteByAthleteId(String athleteId);
+
+    long countByAthleteId(String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM WellnessSnapshotEntity w WHERE w.athleteId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
 }
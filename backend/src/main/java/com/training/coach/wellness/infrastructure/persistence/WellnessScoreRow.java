@@ -0,0 +1,9 @@
+package com.training.coach.wellness.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the subjective scores of one wellness snapshot.
+ */
+public record WellnessScoreRow(
+        String athleteId, LocalDate date, Integer fatigue, Integer soreness, Double readinessScore) {}
@@ -12,8 +12,10 @@ import com.training.coach.wellness.domain.model.WellnessReport;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/wellness")
@@ -46,6 +48,22 @@ public class WellnessController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * Streams the history of a range as newline-delimited JSON or server-sent events, written as the client reads
+     * it rather than buffered into one array.
+     */
+    @GetMapping(
+            value = "/athletes/{athleteId}/history/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<WellnessSnapshot>> streamWellnessHistory(
+            @PathVariable String athleteId, @RequestParam LocalDate startDate, @RequestParam LocalDate endDate) {
+        try {
+            return ResponseEntity.ok(submissionService.streamWellnessHistory(athleteId, startDate, endDate));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/athletes/{athleteId}/latest")
     public ResponseEntity<WellnessSnapshot> getLatestWellness(@PathVariable String athleteId) {
         return submissionService
@@ -0,0 +1,22 @@
+package com.training.coach.workout.application.port.out;
+
+import com.training.coach.workout.domain.WorkoutMatch;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port for activity-to-plan matches and the workout executions they produce.
+ */
+public interface WorkoutMatchRepository {
+
+    /**
+     * Matches of the athlete whose execution date is within the range, ordered by date.
+     */
+    List<WorkoutMatch> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Insert or replace the given matches in one batch. A match replaces any stored match for the
+     * same planned workout.
+     */
+    void saveAll(List<WorkoutMatch> matches);
+}
@@ -0,0 +1,315 @@
+package com.training.coach.workout.application.service;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.analysis.application.service.ZoneDistributionService;
+import com.training.coach.analysis.domain.model.Zone;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.model.AthleteId;
+import com.training.coach.trainingplan.application.port.out.ScheduledWorkoutRepository;
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
+import com.training.coach.workout.application.port.out.WorkoutMatchRepository;
+import com.training.coach.workout.domain.ExecutionStatus;
+import com.training.coach.workout.domain.WorkoutExecution;
+import com.training.coach.workout.domain.WorkoutMatch;
+import com.training.coach.workout.domain.model.WorkoutTemplate.WorkoutType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Matches synced activities to the athlete's published workouts in bulk and records each match
+ * as a {@link WorkoutExecution}.
+ *
+ * <p>Activities and planned workouts of the sync window are sorted by date once; each activity is
+ * scored only against the planned workouts inside its ±{@link #DATE_TOLERANCE_DAYS}-day slice of
+ * the sorted list. The score combines date proximity, duration similarity and whether the
+ * activity's intensity fits the planned workout type. Candidate pairs are then assigned greedily
+ * by score so each activity and each planned workout is used at most once. Activities and planned
+ * workouts matched by an earlier sync are left alone, which makes re-running a window idempotent.</p>
+ */
+@Service
+public class ActivityMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityMatchingService.class);
+
+    static final int DATE_TOLERANCE_DAYS = 1;
+    static final double MIN_MATCH_SCORE = 0.5;
+    static final double COMPLETED_DURATION_RATIO = 0.8;
+
+    private static final double DURATION_WEIGHT = 0.4;
+    private static final double TYPE_WEIGHT = 0.3;
+    private static final double DATE_WEIGHT = 0.3;
+    private static final Set<String> NON_ENDURANCE_SPORTS =
+            Set.of("STRENGTH", "WEIGHTS", "WEIGHTTRAINING", "YOGA", "STRETCH");
+
+    private final ScheduledWorkoutRepository scheduledWorkoutRepository;
+    private final WorkoutMatchRepository workoutMatchRepository;
+
+    public ActivityMatchingService(
+            ScheduledWorkoutRepository scheduledWorkoutRepository, WorkoutMatchRepository workoutMatchRepository) {
+        this.scheduledWorkoutRepository = scheduledWorkoutRepository;
+        this.workoutMatchRepository = workoutMatchRepository;
+    }
+
+    /**
+     * Match the activities synced for {@code [startDate, endDate]} and store the new matches in one batch.
+     */
+    public MatchingResult matchActivities(
+            String athleteId, LocalDate startDate, LocalDate endDate, List<ActivityLight> activities) {
+        List<Workout> planned = plannedWorkouts(
+                athleteId, startDate.minusDays(DATE_TOLERANCE_DAYS), endDate.plusDays(DATE_TOLERANCE_DAYS));
+
+        // Planned workouts near the window edges may have been matched by activities just outside it
+        List<WorkoutMatch> existing = workoutMatchRepository.findByAthleteIdAndDateRange(
+                athleteId, startDate.minusDays(2L * DATE_TOLERANCE_DAYS), endDate.plusDays(2L * DATE_TOLERANCE_DAYS));
+        Set<String> matchedActivityIds = new HashSet<>();
+        Set<String> matchedWorkoutIds = new HashSet<>();
+        for (WorkoutMatch match : existing) {
+            matchedActivityIds.add(match.activityId());
+            matchedWorkoutIds.add(match.plannedWorkoutId());
+        }
+
+        List<ActivityLight> newActivities = activities.stream()
+                .filter(activity -> !activity.date().isBefore(startDate) && !activity.date().isAfter(endDate))
+                .filter(activity -> !matchedActivityIds.contains(activity.id()))
+                .sorted(Comparator.comparing(ActivityLight::date).thenComparing(ActivityLight::id))
+                .toList();
+        List<Workout> openWorkouts = planned.stream()
+                .filter(workout -> !matchedWorkoutIds.contains(workout.id()))
+                .toList();
+
+        List<Candidate> candidates = candidates(newActivities, openWorkouts);
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed()
+                .thenComparingLong(Candidate::dayDistance)
+                .thenComparing(candidate -> candidate.activity().id()));
+
+        Set<String> usedActivities = new HashSet<>();
+        Set<String> usedWorkouts = new HashSet<>();
+        List<WorkoutMatch> matches = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (usedActivities.contains(candidate.activity().id()) || usedWorkouts.contains(candidate.workout().id())) {
+                continue;
+            }
+            usedActivities.add(candidate.activity().id());
+            usedWorkouts.add(candidate.workout().id());
+            matches.add(new WorkoutMatch(
+                    candidate.activity().id(),
+                    toExecution(athleteId, candidate.activity(), candidate.workout()),
+                    candidate.score()));
+        }
+        matches.sort(Comparator.comparing((WorkoutMatch match) -> match.execution().date())
+                .thenComparing(WorkoutMatch::activityId));
+        workoutMatchRepository.saveAll(matches);
+
+        List<String> unmatchedActivities = newActivities.stream()
+                .map(ActivityLight::id)
+                .filter(id -> !usedActivities.contains(id))
+                .toList();
+        List<String> unmatchedWorkouts = openWorkouts.stream()
+                .filter(workout -> !workout.date().isBefore(startDate) && !workout.date().isAfter(endDate))
+                .map(Workout::id)
+                .filter(id -> !usedWorkouts.contains(id))
+                .toList();
+        logger.info("Matched {} of {} new activities for athlete {} between {} and {}",
+                matches.size(), newActivities.size(), athleteId, startDate, endDate);
+        return new MatchingResult(athleteId, matches, unmatchedActivities, unmatchedWorkouts);
+    }
+
+    /**
+     * Planned and executed counts of the published workouts scheduled within the range.
+     */
+    public ExecutionSummary summarizeExecutions(String athleteId, LocalDate startDate, LocalDate endDate) {
+        List<Workout> planned = plannedWorkouts(athleteId, startDate, endDate);
+        Map<String, WorkoutMatch> matchesByWorkout = new HashMap<>();
+        for (WorkoutMatch match : workoutMatchRepository.findByAthleteIdAndDateRange(
+                athleteId, startDate.minusDays(DATE_TOLERANCE_DAYS), endDate.plusDays(DATE_TOLERANCE_DAYS))) {
+            matchesByWorkout.put(match.plannedWorkoutId(), match);
+        }
+
+        int executed = 0;
+        int keySessions = 0;
+        int keySessionsExecuted = 0;
+        int executedMinutes = 0;
+        for (Workout workout : planned) {
+            WorkoutMatch match = matchesByWorkout.get(workout.id());
+            boolean keySession = isKeySession(workout);
+            if (keySession) {
+                keySessions++;
+            }
+            if (match != null) {
+                executed++;
+                executedMinutes += match.execution().durationMinutes();
+                if (keySession) {
+                    keySessionsExecuted++;
+                }
+            }
+        }
+        return new ExecutionSummary(planned.size(), executed, keySessions, keySessionsExecuted, executedMinutes);
+    }
+
+    /**
+     * Pair every activity with the planned workouts inside its date tolerance. Both lists are
+     * sorted by date, so the slice start only ever moves forward.
+     */
+    private static List<Candidate> candidates(List<ActivityLight> activities, List<Workout> workouts) {
+        List<Candidate> candidates = new ArrayList<>();
+        int sliceStart = 0;
+        for (ActivityLight activity : activities) {
+            if (NON_ENDURANCE_SPORTS.contains(normalizedSport(activity.type()))) {
+                continue;
+            }
+            LocalDate earliest = activity.date().minusDays(DATE_TOLERANCE_DAYS);
+            LocalDate latest = activity.date().plusDays(DATE_TOLERANCE_DAYS);
+            while (sliceStart < workouts.size() && workouts.get(sliceStart).date().isBefore(earliest)) {
+                sliceStart++;
+            }
+            for (int index = sliceStart; index < workouts.size() && !workouts.get(index).date().isAfter(latest); index++) {
+                Workout workout = workouts.get(index);
+                long dayDistance = Math.abs(ChronoUnit.DAYS.between(workout.date(), activity.date()));
+                double score = score(activity, workout, dayDistance);
+                if (score >= MIN_MATCH_SCORE) {
+                    candidates.add(new Candidate(activity, workout, score, dayDistance));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    static double score(ActivityLight activity, Workout workout, long dayDistance) {
+        double dateScore = 1.0 - (double) dayDistance / (DATE_TOLERANCE_DAYS + 1);
+        return DURATION_WEIGHT * durationSimilarity(activityMinutes(activity), workout.durationMinutes().value())
+                + TYPE_WEIGHT * typeSimilarity(activity, workout)
+                + DATE_WEIGHT * dateScore;
+    }
+
+    private static double durationSimilarity(double actualMinutes, double plannedMinutes) {
+        if (actualMinutes <= 0 || plannedMinutes <= 0) {
+            return 0.0;
+        }
+        return Math.min(actualMinutes, plannedMinutes) / Math.max(actualMinutes, plannedMinutes);
+    }
+
+    /**
+     * 1 when the activity's intensity zone is the one the workout type targets, 0.5 one zone
+     * off, 0 two zones off. Activities without an intensity factor score 0.5.
+     */
+    private static double typeSimilarity(ActivityLight activity, Workout workout) {
+        if (activity.intensityFactor() == null) {
+            return 0.5;
+        }
+        Zone actual = ZoneDistributionService.zoneForIntensityFactor(activity.intensityFactor());
+        return 1.0 - Math.abs(actual.ordinal() - targetZone(workout.type()).ordinal()) / 2.0;
+    }
+
+    private static Zone targetZone(Workout.WorkoutType type) {
+        return switch (type) {
+            case ENDURANCE, RECOVERY -> Zone.Z1;
+            case THRESHOLD -> Zone.Z2;
+            case INTERVALS, TEST -> Zone.Z3;
+        };
+    }
+
+    private static boolean isKeySession(Workout workout) {
+        return workout.type() == Workout.WorkoutType.THRESHOLD || workout.type() == Workout.WorkoutType.INTERVALS;
+    }
+
+    private static WorkoutExecution toExecution(String athleteId, ActivityLight activity, Workout workout) {
+        int durationMinutes = (int) Math.round(activityMinutes(activity));
+        ZoneMinutes zones = ZoneDistributionService.actualMinutes(activity);
+        int intensityMinutes = (int) Math.round(zones.z2() + zones.z3());
+        ExecutionStatus status = durationMinutes >= workout.durationMinutes().value() * COMPLETED_DURATION_RATIO
+                ? ExecutionStatus.COMPLETED
+                : ExecutionStatus.PARTIAL;
+        return new WorkoutExecution(
+                executionId(workout.id()),
+                new AthleteId(athleteId),
+                workout.id(),
+                activity.date(),
+                executionType(workout.type()),
+                durationMinutes,
+                intensityMinutes,
+                0.0,
+                null,
+                null,
+                activity.date().atStartOfDay(),
+                activity.date().atStartOfDay().plusMinutes(durationMinutes),
+                status);
+    }
+
+    /**
+     * Stable per planned workout, so storing the same match twice updates one execution.
+     */
+    private static String executionId(String plannedWorkoutId) {
+        return UUID.nameUUIDFromBytes(("execution:" + plannedWorkoutId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static WorkoutType executionType(Workout.WorkoutType type) {
+        return switch (type) {
+            case ENDURANCE -> WorkoutType.ENDURANCE;
+            case THRESHOLD -> WorkoutType.THRESHOLD;
+            case INTERVALS -> WorkoutType.INTERVALS;
+            case RECOVERY -> WorkoutType.RECOVERY;
+            case TEST -> WorkoutType.OTHER;
+        };
+    }
+
+    private static double activityMinutes(ActivityLight activity) {
+        return activity.durationSeconds() == null ? 0.0 : activity.durationSeconds().value() / 60.0;
+    }
+
+    private static String normalizedSport(String type) {
+        return type == null ? "" : type.replace(" ", "").toUpperCase();
+    }
+
+    /**
+     * Published workouts of the athlete in the range, keeping only the latest published version of each plan.
+     */
+    private List<Workout> plannedWorkouts(String athleteId, LocalDate startDate, LocalDate endDate) {
+        List<ScheduledWorkout> scheduled = scheduledWorkoutRepository.findPublishedWorkouts(athleteId, startDate, endDate);
+        Map<String, Integer> latestVersion = new HashMap<>();
+        for (ScheduledWorkout workout : scheduled) {
+            latestVersion.merge(workout.planId(), workout.planVersion(), Math::max);
+        }
+        return scheduled.stream()
+                .filter(workout -> workout.planVersion() == latestVersion.get(workout.planId()))
+                .map(ScheduledWorkout::workout)
+                .sorted(Comparator.comparing(Workout::date).thenComparing(Workout::id))
+                .toList();
+    }
+
+    private record Candidate(ActivityLight activity, Workout workout, double score, long dayDistance) {}
+
+    public record MatchingResult(
+            String athleteId,
+            List<WorkoutMatch> matches,
+            List<String> unmatchedActivityIds,
+            List<String> unmatchedPlannedWorkoutIds) {}
+
+    public record ExecutionSummary(
+            int plannedCount,
+            int executedCount,
+            int keySessionCount,
+            int keySessionsExecuted,
+            int executedMinutes) {
+
+        public double completionPercent() {
+            return plannedCount == 0 ? 100.0 : Math.min(100.0, executedCount * 100.0 / plannedCount);
+        }
+
+        public double keySessionCompletionPercent() {
+            return keySessionCount == 0 ? 100.0 : Math.min(100.0, keySessionsExecuted * 100.0 / keySessionCount);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.training.coach.workout.application.port.out.WorkoutRepository;
 import com.training.coach.workout.domain.ExecutionStatus;
 import com.training.coach.workout.domain.SkipReason;
 import com.training.coach.workout.domain.WorkoutExecution;
+import com.training.coach.workout.domain.WorkoutExecutionRecordedEvent;
 import com.training.coach.workout.domain.WorkoutFeedback;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -18,6 +19,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,16 +34,19 @@ public class WorkoutExecutionService {
     private final WorkoutRepository workoutRepository;
     private final WorkoutExecutionRepository workoutExecutionRepository;
     private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WorkoutExecutionService(
             AthleteRepository athleteRepository,
             WorkoutRepository workoutRepository,
             WorkoutExecutionRepository workoutExecutionRepository,
-            ActivityRepository activityRepository) {
+            ActivityRepository activityRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.athleteRepository = athleteRepository;
         this.workoutRepository = workoutRepository;
         this.workoutExecutionRepository = workoutExecutionRepository;
         this.activityRepository = activityRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -89,7 +94,7 @@ public class WorkoutExecutionService {
             completed = completed.withFeedback(feedback);
         }
 
-        return workoutExecutionRepository.save(completed);
+        return saveAndPublish(completed);
     }
 
     /**
@@ -105,7 +110,7 @@ public class WorkoutExecutionService {
             skipped = skipped.withFeedback("Skipped: " + notes);
         }
 
-        return workoutExecutionRepository.save(skipped);
+        return saveAndPublish(skipped);
     }
 
     /**
@@ -150,7 +155,16 @@ public class WorkoutExecutionService {
              .withStatus(ExecutionStatus.COMPLETED);
         }
 
-        return workoutExecutionRepository.save(execution);
+        return saveAndPublish(execution);
+    }
+
+    /**
+     * Save an execution whose status changed and let alert rules react to it.
+     */
+    private WorkoutExecution saveAndPublish(WorkoutExecution execution) {
+        WorkoutExecution saved = workoutExecutionRepository.save(execution);
+        eventPublisher.publishEvent(WorkoutExecutionRecordedEvent.of(execution));
+        return saved;
     }
 
     /**
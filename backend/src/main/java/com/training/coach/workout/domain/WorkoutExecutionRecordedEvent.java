@@ -0,0 +1,19 @@
+package com.training.coach.workout.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Published after a workout execution changed status and was saved.
+ */
+public record WorkoutExecutionRecordedEvent(
+        String athleteId, String executionId, String plannedWorkoutId, LocalDate date, ExecutionStatus status) {
+
+    public static WorkoutExecutionRecordedEvent of(WorkoutExecution execution) {
+        return new WorkoutExecutionRecordedEvent(
+                execution.athleteId().value(),
+                execution.id(),
+                execution.plannedWorkoutId(),
+                execution.date(),
+                execution.status());
+    }
+}
@@ -0,0 +1,24 @@
+package com.training.coach.workout.domain;
+
+/**
+ * A synced activity matched to the planned workout it fulfils, with the resulting execution.
+ * {@code score} is the match confidence between 0 and 1.
+ */
+public record WorkoutMatch(
+    String activityId,
+    WorkoutExecution execution,
+    double score
+) {
+    public WorkoutMatch {
+        if (activityId == null || activityId.isBlank()) {
+            throw new IllegalArgumentException("Activity ID cannot be null or blank");
+        }
+        if (execution == null || execution.plannedWorkoutId() == null) {
+            throw new IllegalArgumentException("A match needs an execution of a planned workout");
+        }
+    }
+
+    public String plannedWorkoutId() {
+        return execution.plannedWorkoutId();
+    }
+}
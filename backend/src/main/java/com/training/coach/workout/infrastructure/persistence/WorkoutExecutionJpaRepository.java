@@ -0,0 +1,40 @@
+package com.training.coach.workout.infrastructure.persistence;
+
+import com.training.coach.workout.infrastructure.persistence.entity.WorkoutExecutionEntity;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkoutExecutionJpaRepository extends JpaRepository<WorkoutExecutionEntity, String> {
+
+    @Query("SELECT e FROM WorkoutExecutionEntity e WHERE e.athleteId = :athleteId "
+            + "AND e.date >= :startDate "
+            + "AND e.date <= :endDate ORDER BY e.date ASC")
+    List<WorkoutExecutionEntity> findByAthleteIdAndDateRange(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MAX(e.updatedAt) FROM WorkoutExecutionEntity e WHERE e.athleteId = :athleteId "
+            + "AND e.date >= :startDate "
+            + "AND e.date <= :endDate")
+    Instant findLastUpdatedAt(
+            @Param("athleteId") String athleteId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    List<WorkoutExecutionEntity> findByPlannedWorkoutIdIn(Collection<String> plannedWorkoutIds);
+
+    long countByAthleteId(String athleteId);
+
+    @Modifying
+    @Query("DELETE FROM WorkoutExecutionEntity e WHERE e.athleteId = :athleteId")
+    int bulkDeleteByAthleteId(@Param("athleteId") String athleteId);
+}
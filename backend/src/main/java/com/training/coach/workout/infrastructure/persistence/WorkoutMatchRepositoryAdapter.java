@@ -0,0 +1,92 @@
+package com.training.coach.workout.infrastructure.persistence;
+
+import com.training.coach.shared.domain.model.AthleteId;
+import com.training.coach.workout.application.port.out.WorkoutMatchRepository;
+import com.training.coach.workout.domain.ExecutionStatus;
+import com.training.coach.workout.domain.WorkoutExecution;
+import com.training.coach.workout.domain.WorkoutMatch;
+import com.training.coach.workout.domain.model.WorkoutTemplate.WorkoutType;
+import com.training.coach.workout.infrastructure.persistence.entity.WorkoutExecutionEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter for matched workout executions. A batch is written with one lookup of the rows already
+ * stored for its planned workouts, which are updated in place.
+ */
+@Repository
+@Profile("!test")
+public class WorkoutMatchRepositoryAdapter implements WorkoutMatchRepository {
+
+    private final WorkoutExecutionJpaRepository workoutExecutionRepo;
+
+    public WorkoutMatchRepositoryAdapter(WorkoutExecutionJpaRepository workoutExecutionRepo) {
+        this.workoutExecutionRepo = workoutExecutionRepo;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkoutMatch> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return workoutExecutionRepo.findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<WorkoutMatch> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        Map<String, WorkoutExecutionEntity> existing = workoutExecutionRepo
+                .findByPlannedWorkoutIdIn(matches.stream().map(WorkoutMatch::plannedWorkoutId).toList()).stream()
+                .collect(Collectors.toMap(WorkoutExecutionEntity::getPlannedWorkoutId, Function.identity()));
+        List<WorkoutExecutionEntity> entities = matches.stream()
+                .map(match -> toEntity(match, existing.getOrDefault(match.plannedWorkoutId(), new WorkoutExecutionEntity())))
+                .toList();
+        workoutExecutionRepo.saveAll(entities);
+    }
+
+    private WorkoutExecutionEntity toEntity(WorkoutMatch match, WorkoutExecutionEntity entity) {
+        WorkoutExecution execution = match.execution();
+        if (entity.getId() == null) {
+            entity.setId(execution.id());
+        }
+        entity.setAthleteId(execution.athleteId().value());
+        entity.setPlannedWorkoutId(execution.plannedWorkoutId());
+        entity.setActivityId(match.activityId());
+        entity.setDate(execution.date());
+        entity.setType(execution.type().name());
+        entity.setDurationMinutes(execution.durationMinutes());
+        entity.setIntensityMinutes(execution.intensityMinutes());
+        entity.setStatus(execution.status().name());
+        entity.setMatchScore(match.score());
+        entity.setStartTime(execution.startTime());
+        entity.setEndTime(execution.endTime());
+        return entity;
+    }
+
+    private WorkoutMatch toDomain(WorkoutExecutionEntity entity) {
+        WorkoutExecution execution = new WorkoutExecution(
+                entity.getId(),
+                new AthleteId(entity.getAthleteId()),
+                entity.getPlannedWorkoutId(),
+                entity.getDate(),
+                WorkoutType.valueOf(entity.getType()),
+                entity.getDurationMinutes(),
+                entity.getIntensityMinutes(),
+                0.0,
+                null,
+                null,
+                entity.getStartTime(),
+                entity.getEndTime(),
+                ExecutionStatus.valueOf(entity.getStatus()));
+        return new WorkoutMatch(entity.getActivityId(), execution, entity.getMatchScore());
+    }
+}
@@ -0,0 +1,169 @@
+package com.training.coach.workout.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Workout execution produced by matching a synced activity to a planned workout.
+ * One row per planned workout; the matched activity is kept alongside it.
+ */
+@Entity
+@Table(
+        name = "workout_executions",
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_workout_executions_planned_workout", columnNames = {"planned_workout_id"})
+        },
+        indexes = {
+            @Index(name = "idx_workout_executions_athlete_date", columnList = "athlete_id, date"),
+            @Index(name = "idx_workout_executions_activity", columnList = "activity_id")
+        })
+public class WorkoutExecutionEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private String id;
+
+    @Column(name = "athlete_id", nullable = false, length = 255)
+    private String athleteId;
+
+    @Column(name = "planned_workout_id", nullable = false, length = 255)
+    private String plannedWorkoutId;
+
+    @Column(name = "activity_id", nullable = false, length = 255)
+    private String activityId;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "type", nullable = false, length = 50)
+    private String type;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private int durationMinutes;
+
+    @Column(name = "intensity_minutes", nullable = false)
+    private int intensityMinutes;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "match_score", nullable = false)
+    private double matchScore;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAthleteId() {
+        return athleteId;
+    }
+
+    public void setAthleteId(String athleteId) {
+        this.athleteId = athleteId;
+    }
+
+    public String getPlannedWorkoutId() {
+        return plannedWorkoutId;
+    }
+
+    public void setPlannedWorkoutId(String plannedWorkoutId) {
+        this.plannedWorkoutId = plannedWorkoutId;
+    }
+
+    public String getActivityId() {
+        return activityId;
+    }
+
+    public void setActivityId(String activityId) {
+        this.activityId = activityId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public int getIntensityMinutes() {
+        return intensityMinutes;
+    }
+
+    public void setIntensityMinutes(int intensityMinutes) {
+        this.intensityMinutes = intensityMinutes;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(double matchScore) {
+        this.matchScore = matchScore;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,105 @@
+package com.training.coach.activity.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Kilometers;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.H2TestDatabase;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Activity R2DBC Repository Adapter Tests")
+class ActivityR2dbcRepositoryAdapterTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    private H2TestDatabase database;
+    private ActivityR2dbcRepositoryAdapter r2dbcAdapter;
+    private ActivityRepositoryAdapter jpaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new H2TestDatabase(4, 3, 4);
+        r2dbcAdapter = new ActivityR2dbcRepositoryAdapter(database.databaseClient(), database.r2dbcProperties());
+        jpaAdapter = new ActivityRepositoryAdapter(database.jpaRepository(ActivityJpaRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should page through several activities on one day without skipping or repeating any")
+    void shouldStreamByDateAndId() {
+        // Given two rides a day, so page boundaries fall inside a day
+        List<ActivityLight> activities = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            activities.add(activity("athlete-1", "ride-" + day + "-am", START.plusDays(day), 200));
+            activities.add(activity("athlete-1", "ride-" + day + "-pm", START.plusDays(day), 180));
+        }
+        activities.add(activity("athlete-2", "ride-0-am", START, 250));
+
+        // When
+        long written = r2dbcAdapter.upsertAll(activities).block();
+        List<ActivityLight> streamed = r2dbcAdapter
+                .streamByAthleteIdAndDateRange("athlete-1", START.plusDays(1), START.plusDays(3))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(written).isEqualTo(11);
+        assertThat(streamed).extracting(ActivityLight::externalActivityId).containsExactly(
+                "ride-1-am", "ride-1-pm", "ride-2-am", "ride-2-pm", "ride-3-am", "ride-3-pm");
+        assertThat(streamed)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(jpaAdapter
+                        .streamByAthleteIdAndDateRange("athlete-1", START.plusDays(1), START.plusDays(3))
+                        .collectList()
+                        .block());
+    }
+
+    @Test
+    @DisplayName("Should replace a re-synced activity in place and find it through the blocking port")
+    void shouldReplaceResyncedActivity() {
+        // Given
+        jpaAdapter.save(activity("athlete-1", "ride-1", START, 200));
+
+        // When
+        r2dbcAdapter.save(activity("athlete-1", "ride-1", START, 215));
+
+        // Then
+        assertThat(r2dbcAdapter.findByAthleteIdAndExternalActivityId("athlete-1", "ride-1"))
+                .map(ActivityLight::averagePower)
+                .contains(Watts.of(215));
+        assertThat(jpaAdapter.findByAthleteIdAndDateRange("athlete-1", START, START)).singleElement()
+                .satisfies(activity -> assertThat(activity.averagePower()).isEqualTo(Watts.of(215)));
+        r2dbcAdapter.deleteByAthleteId("athlete-1");
+        assertThat(r2dbcAdapter.findByAthleteIdAndDate("athlete-1", START)).isEmpty();
+    }
+
+    private static ActivityLight activity(String athleteId, String externalId, LocalDate date, double power) {
+        return ActivityLight.create(
+                athleteId,
+                externalId,
+                date,
+                "Endurance Ride",
+                "Ride",
+                Seconds.of(3600),
+                Kilometers.of(30.0),
+                Watts.of(power),
+                BeatsPerMinute.of(140),
+                60.0,
+                0.75,
+                null);
+    }
+}
@@ -1,5 +1,7 @@
 package com.training.coach.activity.presentation;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.training.coach.activity.application.service.ActivityReadService;
 import com.training.coach.activity.domain.model.ActivityLight;
 import com.training.coach.shared.domain.unit.BeatsPerMinute;
@@ -13,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import com.training.coach.AbstractWebFluxControllerTest;
 import com.training.coach.testconfig.ExternalPortsTestConfig;
 import com.training.coach.testconfig.WebTestConfig;
@@ -30,7 +33,7 @@ class ActivityControllerIT extends AbstractWebFluxControllerTest {
     static class TestServicesConfig {
         @Bean
         ActivityReadService activityReadService(InMemoryActivityRepository activityRepository) {
-            return new ActivityReadService(activityRepository);
+            return new ActivityReadService(activityRepository, activityRepository);
         }
     }
 
@@ -87,6 +90,78 @@ class ActivityControllerIT extends AbstractWebFluxControllerTest {
                 .isBadRequest();
     }
 
+    @Test
+    void streamActivitiesWritesNdjsonAcrossRangesLongerThanAYear() {
+        String athleteId = "ath-1";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2026, 12, 31);
+        activityRepository.saveAll(List.of(
+                ride(athleteId, "act-3", LocalDate.of(2026, 6, 1)),
+                ride(athleteId, "act-1", LocalDate.of(2024, 3, 1)),
+                ride(athleteId, "act-2", LocalDate.of(2025, 3, 1)),
+                ride("ath-2", "act-4", LocalDate.of(2025, 3, 1))));
+
+        List<String> streamed = webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/activities/athletes/{athleteId}/stream")
+                        .queryParam("startDate", startDate)
+                        .queryParam("endDate", endDate)
+                        .build(athleteId))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ActivityLight.class)
+                .getResponseBody()
+                .map(ActivityLight::externalActivityId)
+                .collectList()
+                .block();
+
+        assertThat(streamed).containsExactly("act-1", "act-2", "act-3");
+    }
+
+    @Test
+    void streamActivitiesWritesServerSentEvents() {
+        String athleteId = "ath-1";
+        LocalDate date = LocalDate.of(2026, 1, 3);
+        activityRepository.save(ride(athleteId, "act-1", date));
+
+        webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/activities/athletes/{athleteId}/stream")
+                        .queryParam("startDate", date)
+                        .queryParam("endDate", date)
+                        .build(athleteId))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .startsWith("data:")
+                        .contains("\"externalActivityId\":\"act-1\""));
+    }
+
+    @Test
+    void streamActivitiesRejectsReversedRange() {
+        webTestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/activities/athletes/{athleteId}/stream")
+                        .queryParam("startDate", LocalDate.of(2026, 1, 7))
+                        .queryParam("endDate", LocalDate.of(2026, 1, 1))
+                        .build("ath-1"))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
 
     @Test
     void getActivityByDateReturnsActivity() {
@@ -129,4 +204,20 @@ class ActivityControllerIT extends AbstractWebFluxControllerTest {
                 .expectStatus()
                 .isNotFound();
     }
+
+    private static ActivityLight ride(String athleteId, String externalId, LocalDate date) {
+        return ActivityLight.create(
+                athleteId,
+                externalId,
+                date,
+                "Endurance Ride",
+                "Ride",
+                Seconds.of(3600),
+                Kilometers.of(30.0),
+                Watts.of(190.0),
+                BeatsPerMinute.of(140.0),
+                55.0,
+                0.7,
+                Watts.of(200.0));
+    }
 }
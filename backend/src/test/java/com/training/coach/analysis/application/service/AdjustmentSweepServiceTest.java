@@ -0,0 +1,101 @@
+package com.training.coach.analysis.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.analysis.domain.model.AdjustmentProposal;
+import com.training.coach.analysis.domain.model.AdjustmentProposal.AdjustmentType;
+import com.training.coach.integration.application.service.AIService;
+import com.training.coach.integration.application.service.AiGateway;
+import com.training.coach.integration.application.service.AiGatewayProperties;
+import com.training.coach.integration.infrastructure.adapter.LocalLanguageModel;
+import com.training.coach.testconfig.inmemory.InMemoryActivityRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAdjustmentProposalRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailAuditLog;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailInputRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReadinessSampleRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessChangeRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Adjustment Sweep Service Tests")
+class AdjustmentSweepServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    private InMemoryWellnessRepository wellnessRepository;
+    private InMemoryAdjustmentProposalRepository proposalRepository;
+    private AiGateway aiGateway;
+    private AdjustmentSweepService service;
+
+    @BeforeEach
+    void setUp() {
+        wellnessRepository = new InMemoryWellnessRepository();
+        proposalRepository = new InMemoryAdjustmentProposalRepository();
+        aiGateway = new AiGateway(new LocalLanguageModel(Duration.ZERO), AiGatewayProperties.defaults());
+        SafetyGuardrailService guardrails = new SafetyGuardrailService(
+                new InMemoryGuardrailInputRepository(wellnessRepository, new InMemoryActivityRepository()),
+                new InMemoryGuardrailAuditLog());
+        AIAdjustmentService adjustmentService = new AIAdjustmentService(
+                new InMemoryAthleteRepository(), wellnessRepository, new InMemoryWellnessChangeRepository(), guardrails,
+                new AIService(aiGateway));
+        service = new AdjustmentSweepService(
+                new InMemoryReadinessSampleRepository(wellnessRepository), adjustmentService, proposalRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiGateway.close();
+    }
+
+    @Test
+    @DisplayName("Should propose and save adjustments only for athletes whose readiness window needs one")
+    void shouldSweepRoster() {
+        // Given
+        record(TODAY.minusDays(1), "tired", 30);
+        record(TODAY, "tired", 40);
+        record(TODAY.minusDays(6), "steady", 50);
+        record(TODAY, "fresh", 85);
+        // Outside the 7-day window
+        record(TODAY.minusDays(7), "returning", 20);
+        Map<String, String> plans = Map.of(
+                "tired", "plan-1", "steady", "plan-2", "fresh", "plan-3", "returning", "plan-4");
+
+        // When
+        List<AdjustmentProposal> proposals = service.sweep(plans, TODAY).block();
+
+        // Then
+        assertThat(proposals).extracting(AdjustmentProposal::athleteId).containsExactly("steady", "tired");
+        assertThat(proposals).extracting(AdjustmentProposal::type)
+                .containsExactly(AdjustmentType.REDUCE_VOLUME, AdjustmentType.REDUCE_INTENSITY);
+        assertThat(proposals.get(1).parameters()).containsEntry("reason", "Low readiness: 35.0");
+        assertThat(proposals).allSatisfy(proposal -> assertThat(proposal.guardrailResult().passed()).isTrue());
+        assertThat(proposalRepository.findByPlanId("plan-1")).singleElement()
+                .satisfies(saved -> assertThat(saved.id()).isEqualTo(proposals.get(1).id()));
+        assertThat(proposalRepository.findByPlanId("plan-4")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a roster entry without a plan")
+    void shouldRejectMissingPlan() {
+        assertThatThrownBy(() -> service.sweep(Map.of("tired", " "), TODAY).block())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void record(LocalDate date, String athleteId, double readiness) {
+        wellnessRepository.save(WellnessSnapshot.create(
+                athleteId, date, null, SubjectiveWellness.create(5, 5, 5, 5, 5), TrainingLoadSummary.empty(),
+                readiness));
+    }
+}
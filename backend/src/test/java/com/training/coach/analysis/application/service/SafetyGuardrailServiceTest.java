@@ -0,0 +1,173 @@
+package com.training.coach.analysis.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.analysis.application.service.SafetyGuardrailService.GuardrailResult;
+import com.training.coach.analysis.application.service.SafetyGuardrailService.GuardrailViolation;
+import com.training.coach.analysis.domain.model.GuardrailCheck;
+import com.training.coach.analysis.domain.model.GuardrailContext;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.unit.Minutes;
+import com.training.coach.shared.domain.unit.Percent;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.testconfig.inmemory.InMemoryActivityRepository;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailAuditLog;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailInputRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Safety Guardrail Service Tests")
+class SafetyGuardrailServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    private InMemoryWellnessRepository wellnessRepository;
+    private InMemoryActivityRepository activityRepository;
+    private SafetyGuardrailService service;
+
+    @BeforeEach
+    void setUp() {
+        wellnessRepository = new InMemoryWellnessRepository();
+        activityRepository = new InMemoryActivityRepository();
+        service = new SafetyGuardrailService(
+                new InMemoryGuardrailInputRepository(wellnessRepository, activityRepository),
+                new InMemoryGuardrailAuditLog());
+    }
+
+    @Test
+    @DisplayName("Should evaluate a batch in input order and share one approval instance")
+    void shouldEvaluateBatch() {
+        // Given
+        Map<String, GuardrailContext> contexts = Map.of(
+                "tired", GuardrailContext.empty("tired").withWellness(TODAY, 9, 8, 35),
+                "fresh", GuardrailContext.empty("fresh").withWeeklyLoad(300));
+        List<GuardrailCheck> checks = List.of(
+                new GuardrailCheck("fresh", TODAY, "ENDURANCE", 330.0),
+                new GuardrailCheck("tired", TODAY, "INTERVALS", null),
+                new GuardrailCheck("fresh", TODAY.plusDays(1), "ENDURANCE", 400.0),
+                new GuardrailCheck("tired", TODAY, "RECOVERY", null),
+                // Wellness reported today says nothing about next week
+                new GuardrailCheck("tired", TODAY.plusDays(7), "INTERVALS", null));
+
+        // When
+        List<GuardrailResult> results = service.checkBatch(checks, contexts);
+
+        // Then
+        assertThat(results).extracting(GuardrailResult::ruleId)
+                .containsExactly(null, "SG-FATIGUE-001", "SG-LOAD-001", null, null);
+        assertThat(results.get(0)).isSameAs(results.get(3));
+        assertThat(results.get(2).safeAlternative()).isEqualTo("Maximum safe load: 345 TSS");
+        assertThat(service.getAuditEntries("tired")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count approved hard sessions in the plan towards recovery spacing")
+    void shouldCheckPlanWithLoadedContext() {
+        // Given
+        activityRepository.save(ActivityLight.create(
+                "athlete-1", "a-1", TODAY.minusDays(1), "VO2", "Ride", Seconds.of(3600),
+                null, null, null, 250.0, 0.95, null));
+        wellnessRepository.save(WellnessSnapshot.create(
+                "athlete-1", TODAY.minusDays(1), null, SubjectiveWellness.create(4, 3, 7, 7, 3),
+                TrainingLoadSummary.empty(), 72));
+        List<Workout> workouts = List.of(
+                workout("w-0", TODAY.minusDays(3), Workout.WorkoutType.INTERVALS),
+                workout("w-1", TODAY, Workout.WorkoutType.THRESHOLD),
+                workout("w-2", TODAY.plusDays(1), Workout.WorkoutType.INTERVALS),
+                workout("w-3", TODAY.plusDays(3), Workout.WorkoutType.INTERVALS),
+                workout("w-4", TODAY.plusDays(4), Workout.WorkoutType.INTERVALS),
+                workout("w-5", TODAY.plusDays(4), Workout.WorkoutType.ENDURANCE));
+
+        // When
+        List<GuardrailViolation> violations = service.checkPlan("athlete-1", workouts, TODAY);
+
+        // Then
+        assertThat(violations).extracting(GuardrailViolation::workoutId).containsExactly("w-1", "w-4");
+        assertThat(violations).allSatisfy(violation ->
+                assertThat(violation.result().ruleId()).isEqualTo("SG-RECOVERY-001"));
+        assertThat(violations.get(0).result().blockingRule()).startsWith("Only 1 day(s)");
+    }
+
+    @Test
+    @DisplayName("Should block the planned workout that pushes its week past the load ramp cap")
+    void shouldCheckPlanWeekLoad() {
+        // Given
+        activityRepository.save(ActivityLight.create(
+                "athlete-1", "a-1", TODAY.minusDays(1), "Long ride", "Ride", Seconds.of(10800),
+                null, null, null, 100.0, 0.6, null));
+        List<Workout> workouts = List.of(
+                endurance("w-1", TODAY),
+                endurance("w-2", TODAY.plusDays(1)),
+                endurance("w-3", TODAY.plusDays(2)),
+                // Next week starts from zero again
+                endurance("w-4", TODAY.plusDays(7)));
+
+        // When
+        List<GuardrailViolation> violations = service.checkPlan("athlete-1", workouts, TODAY);
+
+        // Then
+        assertThat(SafetyGuardrailService.plannedLoad(workouts.getFirst())).isCloseTo(56.25, within(0.01));
+        assertThat(violations).singleElement().satisfies(violation -> {
+            assertThat(violation.workoutId()).isEqualTo("w-3");
+            assertThat(violation.result().ruleId()).isEqualTo("SG-LOAD-001");
+        });
+    }
+
+    @Test
+    @DisplayName("Should audit a coach's approved check")
+    void shouldAuditCoachApprovals() {
+        // When
+        GuardrailResult approved = service.checkAdjustment("athlete-1", 3, 3, 80, "INTERVALS", "coach-1");
+
+        // Then
+        assertThat(approved.blocked()).isFalse();
+        assertThat(service.getAuditEntries("athlete-1")).singleElement().satisfies(entry -> {
+            assertThat(entry.decision()).isEqualTo("APPROVED");
+            assertThat(entry.performedBy()).isEqualTo("coach-1");
+        });
+    }
+
+    @Test
+    @DisplayName("Should audit blocked single checks once and keep the ramp message readable")
+    void shouldAuditBlockedSingleChecks() {
+        // When
+        GuardrailResult blocked = service.checkLoadRamp("athlete-1", 200, 260, null);
+        GuardrailResult approved = service.checkAdjustment("athlete-1", 3, 3, 80, "INTERVALS");
+
+        // Then
+        assertThat(blocked.blockingRule()).contains("30.0% exceeds the 15.0% ramp cap");
+        assertThat(approved.blocked()).isFalse();
+        assertThat(service.getAuditEntries("athlete-1")).singleElement()
+                .satisfies(entry -> assertThat(entry.ruleId()).isEqualTo("SG-LOAD-001"));
+    }
+
+    private static Workout endurance(String id, LocalDate date) {
+        return new Workout(
+                id,
+                date,
+                Workout.WorkoutType.ENDURANCE,
+                Minutes.of(60),
+                new Workout.IntensityProfile(Percent.of(0), Percent.of(100), Percent.of(0), Percent.of(0), Percent.of(0)),
+                List.of());
+    }
+
+    private static Workout workout(String id, LocalDate date, Workout.WorkoutType type) {
+        return new Workout(
+                id,
+                date,
+                type,
+                Minutes.of(60),
+                new Workout.IntensityProfile(Percent.of(60), Percent.of(20), Percent.of(20), Percent.of(0), Percent.of(0)),
+                List.of());
+    }
+}
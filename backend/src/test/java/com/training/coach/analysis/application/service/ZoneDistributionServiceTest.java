@@ -0,0 +1,160 @@
+package com.training.coach.analysis.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.analysis.application.service.ZoneDistributionService.PolarizedCheck;
+import com.training.coach.analysis.application.service.ZoneDistributionService.Z2CreepReport;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.unit.Minutes;
+import com.training.coach.shared.domain.unit.Percent;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.testconfig.inmemory.InMemoryZoneDistributionRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Zone Distribution Service Tests")
+class ZoneDistributionServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private InMemoryZoneDistributionRepository repository;
+    private ZoneDistributionService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryZoneDistributionRepository();
+        service = new ZoneDistributionService(repository, new DistributionAnalyzer());
+    }
+
+    @Test
+    @DisplayName("Should roll synced activities up into daily and weekly zone minutes")
+    void shouldRollUpActivities() {
+        // Given
+        List<ActivityLight> activities = List.of(
+                activity("a-1", MONDAY, 120, 0.65),
+                activity("a-2", MONDAY, 30, 0.85),
+                activity("a-3", MONDAY.plusDays(2), 60, 0.95),
+                activity("a-4", MONDAY.plusDays(3), 45, null));
+
+        // When
+        service.recordActivities("athlete-1", MONDAY, MONDAY.plusDays(6), activities);
+
+        // Then
+        assertThat(repository.findDaily("athlete-1", DistributionSource.ACTUAL, MONDAY, MONDAY))
+                .singleElement()
+                .satisfies(day -> assertThat(day.minutes()).isEqualTo(new ZoneMinutes(120, 30, 0)));
+        List<WeeklyZoneDistribution> weeks =
+                service.weeklyDistribution("athlete-1", DistributionSource.ACTUAL, 1, MONDAY.plusDays(6));
+        assertThat(weeks).singleElement()
+                .satisfies(week -> assertThat(week.minutes()).isEqualTo(new ZoneMinutes(165, 30, 60)));
+    }
+
+    @Test
+    @DisplayName("Should replace only the re-synced days")
+    void shouldReplaceOnlyResyncedDays() {
+        // Given
+        service.recordActivities("athlete-1", MONDAY, MONDAY.plusDays(6), List.of(
+                activity("a-1", MONDAY, 60, 0.7),
+                activity("a-2", MONDAY.plusDays(5), 60, 0.85)));
+
+        // When
+        service.recordActivities("athlete-1", MONDAY.plusDays(4), MONDAY.plusDays(6), List.of(
+                activity("a-3", MONDAY.plusDays(6), 90, 0.7)));
+
+        // Then
+        assertThat(repository.findDaily("athlete-1", DistributionSource.ACTUAL, MONDAY, MONDAY.plusDays(6)))
+                .extracting(day -> day.date())
+                .containsExactly(MONDAY, MONDAY.plusDays(6));
+    }
+
+    @Test
+    @DisplayName("Should fold five-zone workout profiles into planned Seiler zones")
+    void shouldRecordPlannedWorkouts() {
+        // Given
+        Workout intervals = workout(MONDAY.plusDays(1), 100, 10, 10, 10, 35, 35);
+        Workout endurance = workout(MONDAY.plusDays(3), 60, 80, 20, 0, 0, 0);
+
+        // When
+        service.recordPlannedWorkouts("athlete-1", List.of(intervals, endurance));
+
+        // Then
+        List<WeeklyZoneDistribution> weeks =
+                service.weeklyDistribution("athlete-1", DistributionSource.PLANNED, 1, MONDAY);
+        assertThat(weeks.get(0).minutes()).isEqualTo(new ZoneMinutes(80, 10, 70));
+
+        // When
+        service.clearPlannedWorkouts("athlete-1", List.of(intervals, endurance));
+
+        // Then
+        assertThat(service.weeklyDistribution("athlete-1", DistributionSource.PLANNED, 1, MONDAY).get(0).minutes())
+                .isEqualTo(ZoneMinutes.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should report Z2 creep weeks over the requested history")
+    void shouldReportZ2Creep() {
+        // Given
+        LocalDate today = MONDAY.plusWeeks(11).plusDays(2);
+        service.recordActivities("athlete-1", MONDAY, MONDAY, List.of(activity("a-1", MONDAY, 100, 0.85)));
+        service.recordActivities("athlete-1", MONDAY.plusWeeks(5), MONDAY.plusWeeks(5), List.of(
+                activity("a-2", MONDAY.plusWeeks(5), 300, 0.65),
+                activity("a-3", MONDAY.plusWeeks(5), 60, 0.95)));
+
+        // When
+        Z2CreepReport report = service.z2Creep("athlete-1", 12, today);
+
+        // Then
+        assertThat(report.weeks()).hasSize(12);
+        assertThat(report.weeks().get(0).weekStart()).isEqualTo(MONDAY);
+        assertThat(report.creepWeeks()).containsExactly(MONDAY);
+        assertThat(report.hasZ2Creep()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should check polarized targets for a whole squad in one query")
+    void shouldCheckSquadPolarizedTargets() {
+        // Given
+        service.recordActivities("polarized", MONDAY, MONDAY.plusDays(6), List.of(
+                activity("a-1", MONDAY, 400, 0.65),
+                activity("a-2", MONDAY.plusDays(2), 100, 0.95)));
+        service.recordActivities("tempo", MONDAY, MONDAY.plusDays(6), List.of(
+                activity("a-3", MONDAY, 200, 0.85)));
+
+        // When
+        List<PolarizedCheck> checks = service.checkPolarizedTargets(
+                List.of("polarized", "tempo", "no-data"), DistributionSource.ACTUAL, MONDAY.plusDays(3));
+
+        // Then
+        assertThat(checks).extracting(PolarizedCheck::athleteId, PolarizedCheck::meetsPolarizedTargets)
+                .containsExactly(
+                        tuple("polarized", true),
+                        tuple("tempo", false),
+                        tuple("no-data", false));
+        assertThat(checks).extracting(PolarizedCheck::weekStart).containsOnly(MONDAY);
+    }
+
+    private static ActivityLight activity(String externalId, LocalDate date, int minutes, Double intensityFactor) {
+        return ActivityLight.create(
+                "athlete-1", externalId, date, "Ride", "Ride", Seconds.of(minutes * 60),
+                null, null, null, null, intensityFactor, null);
+    }
+
+    private static Workout workout(LocalDate date, int minutes, double z1, double z2, double z3, double z4, double z5) {
+        return new Workout(
+                "w-" + date,
+                date,
+                Workout.WorkoutType.ENDURANCE,
+                Minutes.of(minutes),
+                new Workout.IntensityProfile(
+                        Percent.of(z1), Percent.of(z2), Percent.of(z3), Percent.of(z4), Percent.of(z5)),
+                List.of());
+    }
+}
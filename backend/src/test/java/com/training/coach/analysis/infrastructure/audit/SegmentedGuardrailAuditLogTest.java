@@ -0,0 +1,193 @@
+package com.training.coach.analysis.infrastructure.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("Segmented Guardrail Audit Log Tests")
+class SegmentedGuardrailAuditLogTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T08:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private SegmentedGuardrailAuditLog log;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read concurrent appends back per athlete and by time range across segments")
+    void shouldQueryAcrossSegments() throws Exception {
+        // Given
+        log = open();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> appends = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            int minute = i;
+            appends.add(executor.submit(() -> log.append(entry("athlete-" + (minute % 2), START.plusSeconds(60L * minute)))));
+        }
+        for (Future<?> append : appends) {
+            append.get();
+        }
+        executor.shutdown();
+
+        // When
+        List<GuardrailAuditEntry> athlete = log.findByAthleteId("athlete-0", START.plusSeconds(600), START.plusSeconds(1200));
+        List<GuardrailAuditEntry> window = log.findByTimeRange(START.plusSeconds(1800), START.plusSeconds(1920));
+
+        // Then
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(log.countByAthleteId("athlete-0")).isEqualTo(20);
+        assertThat(athlete).hasSize(5).allSatisfy(entry -> assertThat(entry.athleteId()).isEqualTo("athlete-0"));
+        assertThat(window).extracting(GuardrailAuditEntry::timestamp)
+                .containsExactlyInAnyOrder(START.plusSeconds(1800), START.plusSeconds(1860));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index on restart and drop a torn record at the tail")
+    void shouldRecoverAfterRestart() throws IOException {
+        // Given
+        log = open();
+        log.append(entry("athlete-1", START));
+        log.append(entry("athlete-1", START.plusSeconds(60)));
+        assertThat(log.countByAthleteId("athlete-1")).isEqualTo(2);
+        log.close();
+        Path last = segmentFiles().getLast();
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.APPEND)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[] {0, 0, 0, 42, 1, 2}));
+        }
+
+        // When
+        log = open();
+        log.append(entry("athlete-1", START.plusSeconds(120)));
+
+        // Then
+        assertThat(log.findByAthleteId("athlete-1", null, null)).extracting(GuardrailAuditEntry::timestamp)
+                .containsExactly(START, START.plusSeconds(60), START.plusSeconds(120));
+    }
+
+    @Test
+    @DisplayName("Should keep the bytes of a sealed segment that is unreadable part-way on restart")
+    void shouldNotTruncateSealedSegments() throws IOException {
+        // Given
+        log = open();
+        for (int i = 0; i < 12; i++) {
+            log.append(entry("athlete-1", START.plusSeconds(60L * i)));
+        }
+        log.close();
+        Path sealed = segmentFiles().getFirst();
+        long sealedSize = Files.size(sealed);
+        try (FileChannel channel = FileChannel.open(sealed, StandardOpenOption.WRITE)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[] {0x7f}), sealedSize - 1);
+        }
+
+        // When
+        log = open();
+
+        // Then
+        assertThat(Files.size(sealed)).isEqualTo(sealedSize);
+        assertThat(log.countByAthleteId("athlete-1")).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should find entries appended out of time order by their own timestamp")
+    void shouldIndexOutOfOrderTimestamps() {
+        // Given
+        log = open();
+        log.append(entry("athlete-1", START.plusSeconds(600)));
+        log.append(entry("athlete-1", START));
+        log.append(entry("athlete-1", START.plusSeconds(1200)));
+
+        // When
+        List<GuardrailAuditEntry> early = log.findByAthleteId("athlete-1", START, START.plusSeconds(300));
+
+        // Then
+        assertThat(early).extracting(GuardrailAuditEntry::timestamp).containsExactly(START);
+        assertThat(log.findByAthleteId("athlete-1", null, null)).extracting(GuardrailAuditEntry::timestamp)
+                .containsExactly(START, START.plusSeconds(600), START.plusSeconds(1200));
+    }
+
+    @Test
+    @DisplayName("Should erase an athlete by compacting only their segments and keep the others readable")
+    void shouldEraseAthlete() throws IOException {
+        // Given
+        log = open();
+        for (int i = 0; i < 12; i++) {
+            log.append(entry(i % 3 == 0 ? "erased" : "kept", START.plusSeconds(60L * i)));
+        }
+
+        // When
+        long erased = log.eraseByAthleteId("erased");
+
+        // Then
+        assertThat(erased).isEqualTo(4);
+        assertThat(log.countByAthleteId("erased")).isZero();
+        assertThat(log.findByTimeRange(null, null)).extracting(GuardrailAuditEntry::athleteId)
+                .hasSize(8).containsOnly("kept");
+        assertThat(log.findByAthleteId("kept", null, null)).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("Should delete whole sealed segments past retention")
+    void shouldApplyRetention() throws IOException {
+        // Given
+        log = open();
+        for (int i = 0; i < 12; i++) {
+            log.append(entry("athlete-1", START.plus(Duration.ofDays(i))));
+        }
+        log.countByAthleteId("athlete-1");
+        int segmentsBefore = segmentFiles().size();
+
+        // When
+        int deleted = log.deleteSegmentsOlderThan(START.plus(Duration.ofDays(6)));
+
+        // Then
+        assertThat(deleted).isPositive();
+        assertThat(segmentFiles()).hasSize(segmentsBefore - deleted);
+        List<GuardrailAuditEntry> remaining = log.findByAthleteId("athlete-1", null, null);
+        assertThat(remaining).hasSize((int) log.countByAthleteId("athlete-1"));
+        assertThat(remaining.getFirst().timestamp()).isBefore(START.plus(Duration.ofDays(7)));
+        assertThat(remaining.getLast().timestamp()).isEqualTo(START.plus(Duration.ofDays(11)));
+    }
+
+    private SegmentedGuardrailAuditLog open() {
+        return new SegmentedGuardrailAuditLog(
+                new GuardrailAuditProperties(directory.toString(), DataSize.ofBytes(400), Duration.ofDays(30), 100, 8));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> AuditSegment.idOf(file) >= 0).sorted().toList();
+        }
+    }
+
+    private static GuardrailAuditEntry entry(String athleteId, Instant timestamp) {
+        return new GuardrailAuditEntry(
+                "AUDIT-" + timestamp.getEpochSecond(), "SG-LOAD-001", athleteId, "BLOCKED",
+                "Load increase exceeds the ramp cap", timestamp, "system", null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.training.coach.athlete.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.training.coach.athlete.domain.model.NotificationType;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.model.AthleteId;
+import com.training.coach.shared.domain.unit.Minutes;
+import com.training.coach.shared.domain.unit.Percent;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.trainingplan.application.port.out.ScheduledWorkoutRepository;
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
+import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessRecordedEvent;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.workout.application.port.out.WorkoutExecutionRepository;
+import com.training.coach.workout.domain.ExecutionStatus;
+import com.training.coach.workout.domain.WorkoutExecution;
+import com.training.coach.workout.domain.model.WorkoutTemplate;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Athlete Alert Service Tests")
+class AthleteAlertServiceTest {
+
+    // A Wednesday, so the week already holds Monday and Tuesday
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 4);
+
+    @Mock
+    private WorkoutExecutionRepository workoutExecutionRepository;
+
+    @Mock
+    private ScheduledWorkoutRepository scheduledWorkoutRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private InMemoryWellnessRepository wellnessRepository;
+    private AthleteAlertService service;
+
+    @BeforeEach
+    void setUp() {
+        wellnessRepository = new InMemoryWellnessRepository();
+        service = new AthleteAlertService(
+                wellnessRepository, workoutExecutionRepository, scheduledWorkoutRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("Should warn once when a wellness report completes a low-readiness streak seeded from history")
+    void shouldWarnOncePerLowReadinessStreak() {
+        // Given
+        wellnessRepository.save(snapshot(TODAY.minusDays(2), 35));
+        wellnessRepository.save(snapshot(TODAY.minusDays(1), 38));
+
+        // When
+        service.onWellnessRecorded(new WellnessRecordedEvent("athlete-1", TODAY, 32));
+        service.onWellnessRecorded(new WellnessRecordedEvent("athlete-1", TODAY.plusDays(1), 30));
+
+        // Then
+        verify(notificationService, times(1)).notifyAthlete(eq("athlete-1"), eq(NotificationType.FATIGUE_WARNING), contains("Fatigue Warning"));
+        verify(notificationService, times(1)).notifyCoach(eq("system"), eq("athlete-1"), eq(NotificationType.FATIGUE_WARNING), anyString());
+    }
+
+    @Test
+    @DisplayName("Should alert the coach only about key sessions left without a stored completed workout at day close")
+    void shouldAlertMissedKeySessionsAtDayClose() {
+        // Given a completion stored by the sync's bulk matching, which publishes no event
+        when(workoutExecutionRepository.findByAthleteIdAndDateRange(any(AthleteId.class), any(), any()))
+                .thenAnswer(invocation -> invocation.<AthleteId>getArgument(0).value().equals("done")
+                        ? List.of(completed("done", TODAY))
+                        : List.of());
+        when(scheduledWorkoutRepository.findPublishedWorkoutsOn(TODAY)).thenReturn(List.of(
+                new ScheduledWorkout("done", "plan-1", 1, workout(TODAY, 90)),
+                new ScheduledWorkout("missed", "plan-2", 2, workout(TODAY, 90)),
+                new ScheduledWorkout("missed", "plan-2", 1, workout(TODAY, 120)),
+                new ScheduledWorkout("easy", "plan-3", 1, workout(TODAY, 45))));
+
+        // When
+        int alerts = service.closeDay(TODAY);
+
+        // Then
+        assertThat(alerts).isEqualTo(1);
+        verify(notificationService).notifyCoach(eq("system"), eq("missed"), eq(NotificationType.KEY_SESSION_ALERT), contains("missed 1/1 key sessions"));
+        verify(notificationService, never()).notifyAthlete(anyString(), any(NotificationType.class), anyString());
+    }
+
+    @Test
+    @DisplayName("Should count the week's earlier key sessions from stored data on a node that saw none of them")
+    void shouldRecountWeekAtDayClose() {
+        // Given key sessions on Monday and today, with only Monday's completed
+        LocalDate monday = TODAY.minusDays(2);
+        when(workoutExecutionRepository.findByAthleteIdAndDateRange(any(AthleteId.class), any(), any()))
+                .thenReturn(List.of(completed("athlete-1", monday)));
+        when(scheduledWorkoutRepository.findPublishedWorkoutsOn(monday)).thenReturn(List.of(
+                new ScheduledWorkout("athlete-1", "plan-1", 1, workout(monday, 90))));
+        when(scheduledWorkoutRepository.findPublishedWorkoutsOn(TODAY)).thenReturn(List.of(
+                new ScheduledWorkout("athlete-1", "plan-1", 1, workout(TODAY, 90))));
+
+        // When
+        int alerts = service.closeDay(TODAY);
+
+        // Then
+        assertThat(alerts).isEqualTo(1);
+        verify(notificationService).notifyCoach(eq("system"), eq("athlete-1"), eq(NotificationType.KEY_SESSION_ALERT), contains("missed 1/2 key sessions"));
+    }
+
+    private static WorkoutExecution completed(String athleteId, LocalDate date) {
+        return new WorkoutExecution(
+                "exec-" + athleteId + "-" + date,
+                new AthleteId(athleteId),
+                "workout-90",
+                date,
+                WorkoutTemplate.WorkoutType.INTERVALS,
+                90,
+                30,
+                0.0,
+                null,
+                null,
+                date.atStartOfDay(),
+                date.atStartOfDay().plusMinutes(90),
+                ExecutionStatus.COMPLETED);
+    }
+
+    private static WellnessSnapshot snapshot(LocalDate date, double readiness) {
+        return WellnessSnapshot.create(
+                "athlete-1", date, null, SubjectiveWellness.create(8, 7, 4, 4, 7), TrainingLoadSummary.empty(),
+                readiness);
+    }
+
+    private static Workout workout(LocalDate date, int minutes) {
+        return new Workout(
+                "workout-" + minutes,
+                date,
+                Workout.WorkoutType.INTERVALS,
+                Minutes.of(minutes),
+                new Workout.IntensityProfile(Percent.of(60), Percent.of(20), Percent.of(20), Percent.of(0), Percent.of(0)),
+                List.of());
+    }
+}
@@ -0,0 +1,227 @@
+package com.training.coach.athlete.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.athlete.application.port.out.NotificationChannel;
+import com.training.coach.athlete.domain.model.Notification;
+import com.training.coach.athlete.domain.model.NotificationStatus;
+import com.training.coach.athlete.domain.model.NotificationType;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import com.training.coach.athlete.infrastructure.adapter.InAppNotificationChannel;
+import com.training.coach.testconfig.inmemory.InMemoryNotificationOutbox;
+import com.training.coach.testconfig.inmemory.InMemoryNotificationRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Notification Dispatcher Tests")
+class NotificationDispatcherTest {
+
+    private static final NotificationOutboxProperties PROPERTIES = new NotificationOutboxProperties(
+            2, 50, 3, Duration.ofSeconds(30), Duration.ofMinutes(1), List.of("in-app", "flaky"), null,
+            Duration.ofDays(7));
+
+    private InMemoryNotificationOutbox outbox;
+    private InMemoryNotificationRepository repository;
+    private NotificationMetrics metrics;
+    private FlakyChannel flaky;
+    private NotificationService service;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new InMemoryNotificationOutbox();
+        repository = new InMemoryNotificationRepository();
+        metrics = new NotificationMetrics();
+        flaky = new FlakyChannel();
+        service = new NotificationService(repository, outbox, metrics);
+        dispatcher = new NotificationDispatcher(
+                outbox, List.of(new InAppNotificationChannel(repository), flaky, new RecordingChannel("disabled")),
+                PROPERTIES, metrics);
+    }
+
+    @Test
+    @DisplayName("Should enqueue one notification per recipient, athlete, type and day and deliver them in batches")
+    void shouldDeduplicateAndDeliverInBatches() {
+        // Given
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest");
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest again");
+        service.notifyAthlete("athlete-1", NotificationType.WORKOUT_REMINDER, "Ride tomorrow");
+        service.notifyCoach("system", "athlete-1", NotificationType.FATIGUE_WARNING, "Athlete 1 is tired");
+        service.notifyCoach("system", "athlete-2", NotificationType.FATIGUE_WARNING, "Athlete 2 is tired");
+
+        // When
+        List<Notification> beforeDispatch = service.getNotifications("athlete-1");
+        int delivered = dispatcher.dispatchPending(Instant.now());
+
+        // Then
+        assertThat(beforeDispatch).extracting(Notification::status).containsOnly(NotificationStatus.PENDING);
+        assertThat(delivered).isEqualTo(4);
+        assertThat(flaky.batchSizes).containsExactly(2, 2);
+        assertThat(service.getNotifications("athlete-1")).hasSize(2)
+                .extracting(Notification::status).containsOnly(NotificationStatus.DELIVERED);
+        assertThat(service.getNotifications("system")).hasSize(2);
+        NotificationMetrics.Snapshot snapshot = dispatcher.metrics();
+        assertThat(snapshot.enqueued()).isEqualTo(4);
+        assertThat(snapshot.deduplicated()).isEqualTo(1);
+        assertThat(snapshot.delivered()).isEqualTo(4);
+        assertThat(snapshot.pending()).isZero();
+        assertThat(snapshot.deliveredByChannel()).containsOnlyKeys("in-app", "flaky");
+    }
+
+    @Test
+    @DisplayName("Should stop after the current batch once the dispatch lease can no longer be renewed")
+    void shouldStopWhenLeaseIsLost() {
+        // Given
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest");
+        service.notifyAthlete("athlete-1", NotificationType.WORKOUT_REMINDER, "Ride tomorrow");
+        service.notifyAthlete("athlete-2", NotificationType.FATIGUE_WARNING, "Rest");
+        List<String> renewals = new ArrayList<>();
+
+        // When
+        int delivered = dispatcher.dispatchPending(Instant.now(), () -> {
+            renewals.add("renew");
+            return false;
+        });
+
+        // Then
+        assertThat(delivered).isEqualTo(2);
+        assertThat(renewals).hasSize(1);
+        assertThat(dispatcher.metrics().pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only drop repeats of the same text for untyped notifications")
+    void shouldDeduplicateUntypedNotificationsByContent() {
+        // Given
+        service.notifyAthlete("athlete-1", "Ride tomorrow");
+        service.notifyAthlete("athlete-1", "Your plan was updated");
+        service.notifyAthlete("athlete-1", "Ride tomorrow");
+        service.notifyCoach("coach-1", "Athlete 1 finished the block");
+        service.notifyCoach("coach-1", "Athlete 2 finished the block");
+
+        // When
+        dispatcher.dispatchPending(Instant.now());
+
+        // Then
+        assertThat(service.getNotifications("athlete-1")).extracting(Notification::message)
+                .containsExactlyInAnyOrder("Ride tomorrow", "Your plan was updated");
+        assertThat(service.getNotifications("coach-1")).hasSize(2);
+        assertThat(dispatcher.metrics().deduplicated()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should purge finished notifications past retention and keep pending ones")
+    void shouldPurgeFinishedNotifications() {
+        // Given
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest");
+        service.notifyAthlete("athlete-2", NotificationType.FATIGUE_WARNING, "Rest");
+        flaky.failuresLeft = 1;
+        Instant now = Instant.now();
+        dispatcher.dispatchPending(now);
+        dispatcher.dispatchPending(now.plusSeconds(30));
+
+        // When
+        int early = dispatcher.purgeFinished(now.plus(Duration.ofDays(6)));
+        service.notifyAthlete("athlete-3", NotificationType.FATIGUE_WARNING, "Rest");
+        int purged = dispatcher.purgeFinished(now.plus(Duration.ofDays(8)));
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(purged).isEqualTo(2);
+        assertThat(outbox.findAll()).singleElement()
+                .satisfies(notification -> assertThat(notification.athleteId()).isEqualTo("athlete-3"));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch with growing backoff and give up after the last attempt")
+    void shouldRetryWithBackoff() {
+        // Given
+        Instant start = Instant.now().plusSeconds(60);
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest");
+        flaky.failuresLeft = 10;
+
+        // When
+        dispatcher.dispatchPending(start);
+        OutboxNotification afterFirst = outbox.findAll().getFirst();
+        dispatcher.dispatchPending(start.plusSeconds(29));
+        dispatcher.dispatchPending(start.plusSeconds(30));
+        OutboxNotification afterSecond = outbox.findAll().getFirst();
+        dispatcher.dispatchPending(start.plusSeconds(90));
+
+        // Then
+        assertThat(afterFirst.status()).isEqualTo(OutboxNotification.DeliveryStatus.PENDING);
+        assertThat(afterFirst.nextAttemptAt()).isEqualTo(start.plusSeconds(30));
+        assertThat(afterSecond.nextAttemptAt()).isEqualTo(start.plusSeconds(90));
+        OutboxNotification last = outbox.findAll().getFirst();
+        assertThat(last.status()).isEqualTo(OutboxNotification.DeliveryStatus.FAILED);
+        assertThat(last.attempts()).isEqualTo(3);
+        assertThat(last.lastError()).isEqualTo("flaky: unavailable");
+        assertThat(flaky.batchSizes).hasSize(3);
+        assertThat(dispatcher.metrics().retried()).isEqualTo(2);
+        assertThat(dispatcher.metrics().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver a retried notification once the channel recovers")
+    void shouldDeliverAfterRecovery() {
+        // Given
+        Instant start = Instant.now().plusSeconds(60);
+        service.notifyAthlete("athlete-1", NotificationType.FATIGUE_WARNING, "Rest");
+        flaky.failuresLeft = 1;
+
+        // When
+        int first = dispatcher.dispatchPending(start);
+        int second = dispatcher.dispatchPending(start.plusSeconds(30));
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(outbox.findAll()).singleElement().satisfies(notification -> {
+            assertThat(notification.status()).isEqualTo(OutboxNotification.DeliveryStatus.DELIVERED);
+            assertThat(notification.attempts()).isEqualTo(2);
+        });
+    }
+
+    private static class RecordingChannel implements NotificationChannel {
+
+        private final String name;
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        RecordingChannel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void deliver(List<OutboxNotification> notifications) {
+            batchSizes.add(notifications.size());
+        }
+    }
+
+    private static class FlakyChannel extends RecordingChannel {
+
+        int failuresLeft;
+
+        FlakyChannel() {
+            super("flaky");
+        }
+
+        @Override
+        public void deliver(List<OutboxNotification> notifications) {
+            super.deliver(notifications);
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("unavailable");
+            }
+        }
+    }
+}
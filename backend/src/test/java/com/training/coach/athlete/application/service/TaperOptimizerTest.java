@@ -0,0 +1,83 @@
+package com.training.coach.athlete.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.athlete.domain.model.TaperOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Taper Optimizer Tests")
+class TaperOptimizerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    private ForkJoinPool pool;
+    private TaperOptimizer optimizer;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        optimizer = new TaperOptimizer(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return the requested number of options ranked by score")
+    void shouldRankOptions() {
+        // When
+        List<TaperOption> options = optimizer.optimize(TODAY, TODAY.plusWeeks(6), 70.0, 80.0, 70.0, 5);
+
+        // Then
+        assertThat(options).hasSize(5);
+        assertThat(options).extracting(TaperOption::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("Should arrive at the race fresh with the best option")
+    void shouldProjectPositiveForm() {
+        // When
+        TaperOption best = optimizer.optimize(TODAY, TODAY.plusWeeks(6), 70.0, 80.0, 70.0, 1).get(0);
+
+        // Then
+        assertThat(best.raceDayTsb()).isBetween(TaperOptimizer.TARGET_TSB_MIN, TaperOptimizer.TARGET_TSB_MAX);
+        assertThat(best.taperStartDate()).isEqualTo(TODAY.plusWeeks(6).minusDays(best.taperDays()));
+        assertThat(best.intensityRetentionPercent()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Should limit taper length to the days left before the race")
+    void shouldRespectShortLeadTime() {
+        // When
+        List<TaperOption> options = optimizer.optimize(TODAY, TODAY.plusDays(6), 60.0, 60.0, 60.0, 20);
+
+        // Then
+        assertThat(options).allMatch(option -> option.taperDays() <= 6);
+        assertThat(options).allMatch(option -> !option.taperStartDate().isBefore(TODAY));
+    }
+
+    @Test
+    @DisplayName("Should produce the same ranking on repeated runs")
+    void shouldBeDeterministic() {
+        List<TaperOption> first = optimizer.optimize(TODAY, TODAY.plusWeeks(8), 65.0, 70.0, 65.0, 10);
+        List<TaperOption> second = optimizer.optimize(TODAY, TODAY.plusWeeks(8), 65.0, 70.0, 65.0, 10);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should reject events too close to taper for")
+    void shouldRejectImminentEvent() {
+        assertThatThrownBy(() -> optimizer.optimize(TODAY, TODAY.plusDays(2), 60.0, 60.0, 60.0, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
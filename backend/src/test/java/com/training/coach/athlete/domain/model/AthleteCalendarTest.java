@@ -0,0 +1,101 @@
+package com.training.coach.athlete.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Athlete Calendar Domain Model Tests")
+class AthleteCalendarTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+    private static final Set<DayOfWeek> ALL_DAYS = EnumSet.allOf(DayOfWeek.class);
+
+    @Test
+    @DisplayName("Should return only entries overlapping the query range")
+    void shouldFindOverlappingEntries() {
+        // Given
+        CalendarEntry travel = entry(MONDAY.plusDays(2), MONDAY.plusDays(4), CalendarEntry.EntryKind.TRAVEL);
+        CalendarEntry taper = entry(MONDAY.plusDays(7), MONDAY.plusDays(20), CalendarEntry.EntryKind.TAPER);
+        CalendarEntry event = entry(MONDAY.plusDays(21), MONDAY.plusDays(21), CalendarEntry.EntryKind.EVENT);
+        AthleteCalendar calendar = AthleteCalendar.of(List.of(event, taper, travel));
+
+        // When / Then
+        assertThat(calendar.overlapping(MONDAY, MONDAY.plusDays(1))).isEmpty();
+        assertThat(calendar.overlapping(MONDAY.plusDays(4), MONDAY.plusDays(7))).containsExactly(travel, taper);
+        assertThat(calendar.overlapping(MONDAY.plusDays(15), MONDAY.plusDays(30))).containsExactly(taper, event);
+        assertThat(calendar.overlapping(MONDAY, MONDAY.plusDays(30), CalendarEntry.EntryKind.EVENT))
+                .containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan for many overlapping entries")
+    void shouldMatchLinearScan() {
+        // Given
+        List<CalendarEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = MONDAY.plusDays((i * 37L) % 365);
+            entries.add(entry(start, start.plusDays(i % 9), CalendarEntry.EntryKind.TRAVEL));
+        }
+        AthleteCalendar calendar = AthleteCalendar.of(entries);
+
+        for (int offset = 0; offset < 380; offset += 11) {
+            LocalDate start = MONDAY.plusDays(offset);
+            LocalDate end = start.plusDays(5);
+
+            // When
+            List<CalendarEntry> found = calendar.overlapping(start, end);
+
+            // Then
+            assertThat(found).containsExactlyInAnyOrderElementsOf(
+                    entries.stream().filter(entry -> entry.overlaps(start, end)).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat travel and events as blocked but not taper or workouts")
+    void shouldReportBlockedDates() {
+        // Given
+        AthleteCalendar calendar = AthleteCalendar.of(List.of(
+                entry(MONDAY, MONDAY.plusDays(1), CalendarEntry.EntryKind.TRAVEL),
+                entry(MONDAY.plusDays(2), MONDAY.plusDays(3), CalendarEntry.EntryKind.TRAVEL),
+                entry(MONDAY.plusDays(5), MONDAY.plusDays(5), CalendarEntry.EntryKind.WORKOUT),
+                entry(MONDAY, MONDAY.plusDays(6), CalendarEntry.EntryKind.TAPER),
+                entry(MONDAY.plusDays(6), MONDAY.plusDays(6), CalendarEntry.EntryKind.EVENT)));
+
+        // When / Then
+        assertThat(calendar.blockedDates(MONDAY.minusDays(1), MONDAY.plusDays(7))).containsExactly(
+                MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2), MONDAY.plusDays(3), MONDAY.plusDays(6));
+        assertThat(calendar.isBlocked(MONDAY.plusDays(4))).isFalse();
+        assertThat(calendar.isBlocked(MONDAY.plusDays(5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should skip blocked, occupied and unavailable days when finding a free date")
+    void shouldFindNextFreeDate() {
+        // Given
+        AthleteCalendar calendar = AthleteCalendar.of(List.of(
+                entry(MONDAY, MONDAY.plusDays(2), CalendarEntry.EntryKind.TRAVEL),
+                entry(MONDAY.plusDays(3), MONDAY.plusDays(3), CalendarEntry.EntryKind.WORKOUT)));
+        Set<DayOfWeek> weekdays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+        // When / Then
+        assertThat(calendar.nextFreeDate(MONDAY, MONDAY.plusDays(13), ALL_DAYS, Set.of()))
+                .contains(MONDAY.plusDays(4));
+        assertThat(calendar.nextFreeDate(MONDAY, MONDAY.plusDays(13), ALL_DAYS, Set.of(MONDAY.plusDays(4))))
+                .contains(MONDAY.plusDays(5));
+        assertThat(calendar.nextFreeDate(MONDAY.plusDays(5), MONDAY.plusDays(13), weekdays, Set.of()))
+                .contains(MONDAY.plusDays(7));
+        assertThat(calendar.nextFreeDate(MONDAY, MONDAY.plusDays(3), ALL_DAYS, Set.of())).isEmpty();
+    }
+
+    private CalendarEntry entry(LocalDate start, LocalDate end, CalendarEntry.EntryKind kind) {
+        return new CalendarEntry(start, end, kind, kind + "-" + start);
+    }
+}
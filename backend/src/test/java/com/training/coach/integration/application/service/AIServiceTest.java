@@ -1,36 +1,49 @@
 package com.training.coach.integration.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.training.coach.integration.infrastructure.adapter.LocalLanguageModel;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("AI Service Tests")
 class AIServiceTest {
 
-    @Mock
-    private ClaudeApiClient claudeApiClient;
-
-    @InjectMocks
+    private AiGateway aiGateway;
     private AIService aiService;
 
+    @BeforeEach
+    void setUp() {
+        aiGateway = new AiGateway(new LocalLanguageModel(Duration.ZERO), AiGatewayProperties.defaults());
+        aiService = new AIService(aiGateway);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiGateway.close();
+    }
+
     @Test
     @DisplayName("Should get AI suggestion")
     void shouldGetAISuggestion() {
         // Given
-        String prompt = "Suggest training adjustment";
-        when(claudeApiClient.call(prompt)).thenReturn("Reduce volume by 10%");
+        String prompt = "Suggest a recovery week";
 
         // When
         String suggestion = aiService.getSuggestion(prompt);
 
         // Then
-        assertThat(suggestion).isEqualTo("Reduce volume by 10%");
+        assertThat(suggestion).startsWith("Prioritize recovery");
+    }
+
+    @Test
+    @DisplayName("Should reject a blank prompt")
+    void shouldRejectBlankPrompt() {
+        assertThatThrownBy(() -> aiService.getSuggestion(" "))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
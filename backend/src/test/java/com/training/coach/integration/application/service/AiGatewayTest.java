@@ -0,0 +1,173 @@
+package com.training.coach.integration.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.integration.application.port.out.LanguageModelPort;
+import com.training.coach.integration.infrastructure.adapter.LocalLanguageModel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AI Gateway Tests")
+class AiGatewayTest {
+
+    private AiGateway gateway;
+
+    @AfterEach
+    void tearDown() {
+        if (gateway != null) {
+            gateway.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer identical prompts once and re-ask when the athlete data version changes")
+    void shouldCacheByNormalizedPromptAndDataVersion() {
+        // Given
+        LocalLanguageModel model = new LocalLanguageModel(Duration.ofMillis(50));
+        gateway = new AiGateway(model, properties(1, 8, Duration.ofSeconds(5), 5));
+
+        // When
+        CompletableFuture<String> first = gateway.submit("athlete-1", "2026-03-02", "Plan a  recovery week");
+        CompletableFuture<String> inFlight = gateway.submit("athlete-1", "2026-03-02", " Plan a recovery\tweek ");
+        first.join();
+        String cached = gateway.submit("athlete-1", "2026-03-02", "Plan a recovery week").join();
+        String otherAthlete = gateway.submit("athlete-2", "2026-03-02", "Plan a recovery week").join();
+        String newData = gateway.submit("athlete-1", "2026-03-03", "Plan a recovery week").join();
+
+        // Then
+        assertThat(inFlight.join()).isEqualTo(first.join()).isEqualTo(cached).isEqualTo(newData)
+                .isEqualTo(otherAthlete);
+        assertThat(model.promptCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should micro-batch independent prompts queued behind a busy worker")
+    void shouldBatchQueuedPrompts() {
+        // Given
+        LocalLanguageModel model = new LocalLanguageModel(Duration.ofMillis(100));
+        gateway = new AiGateway(model, properties(1, 8, Duration.ofSeconds(5), 5));
+
+        // When
+        List<CompletableFuture<String>> answers = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            answers.add(gateway.submit("athlete-" + i, null, "Suggest an adjustment"));
+        }
+        answers.forEach(CompletableFuture::join);
+
+        // Then
+        assertThat(model.promptCount()).isEqualTo(9);
+        assertThat(model.callCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should time out slow calls and open the circuit after repeated failures")
+    void shouldTimeOutAndOpenCircuit() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        LanguageModelPort failing = prompts -> {
+            calls.incrementAndGet();
+            batchSizes.add(prompts.size());
+            throw new IllegalStateException("model down");
+        };
+        gateway = new AiGateway(failing, properties(1, 1, Duration.ofSeconds(5), 2));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<String> answer = gateway.submit("athlete-1", null, "Prompt " + i);
+            assertThatThrownBy(answer::join).hasCauseInstanceOf(IllegalStateException.class);
+        }
+        CompletableFuture<String> rejected = gateway.submit("athlete-1", null, "Prompt 2");
+
+        // Then
+        assertThat(gateway.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(rejected::join).hasRootCauseMessage("AI model unavailable, circuit open");
+        assertThat(calls).hasValue(2);
+
+        // And a model slower than the call timeout makes callers give up without waiting for it
+        AiGateway slowGateway = new AiGateway(
+                new LocalLanguageModel(Duration.ofMillis(500)), properties(1, 1, Duration.ofMillis(50), 5));
+        try {
+            assertThatThrownBy(() -> slowGateway.submit("athlete-1", null, "Prompt").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+        } finally {
+            slowGateway.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send prompts one by one side by side to a model that cannot batch")
+    void shouldNotBatchForModelsThatCannotBatch() {
+        // Given
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        LanguageModelPort unbatched = new LanguageModelPort() {
+            @Override
+            public List<String> completeAll(List<String> prompts) {
+                batchSizes.add(prompts.size());
+                return prompts.stream().map(prompt -> "answer").toList();
+            }
+
+            @Override
+            public boolean batchesPrompts() {
+                return false;
+            }
+        };
+        gateway = new AiGateway(unbatched, properties(2, 8, Duration.ofSeconds(5), 5));
+
+        // When
+        List<CompletableFuture<String>> answers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            answers.add(gateway.submit("athlete-" + i, null, "Suggest an adjustment"));
+        }
+        answers.forEach(CompletableFuture::join);
+
+        // Then
+        assertThat(batchSizes).hasSize(5).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("Should abandon a hung model call after the call timeout and free the worker")
+    void shouldBoundEachModelCall() {
+        // Given a model whose first call never returns
+        AtomicInteger calls = new AtomicInteger();
+        LanguageModelPort hanging = prompts -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofMinutes(10));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted");
+                }
+            }
+            return prompts.stream().map(prompt -> "answer").toList();
+        };
+        gateway = new AiGateway(hanging, properties(1, 1, Duration.ofMillis(200), 5));
+
+        // When
+        CompletableFuture<String> hung = gateway.submit("athlete-1", null, "Prompt 1");
+        assertThatThrownBy(hung::join).isInstanceOf(CompletionException.class);
+        String next = gateway.submit("athlete-2", null, "Prompt 2").join();
+
+        // Then
+        assertThat(next).isEqualTo("answer");
+        assertThat(calls).hasValue(2);
+    }
+
+    private static AiGatewayProperties properties(
+            int maxConcurrentCalls, int maxBatchSize, Duration callTimeout, int failureThreshold) {
+        return new AiGatewayProperties(
+                "local", maxConcurrentCalls, 100, maxBatchSize, Duration.ofMillis(20), callTimeout,
+                failureThreshold, Duration.ofMinutes(1), 100, Duration.ofMinutes(10), Duration.ZERO);
+    }
+}
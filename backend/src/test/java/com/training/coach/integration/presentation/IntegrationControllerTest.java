@@ -0,0 +1,69 @@
+package com.training.coach.integration.presentation;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.training.coach.integration.application.service.AIService;
+import com.training.coach.integration.application.service.IntegrationService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+class IntegrationControllerTest {
+
+    private WebTestClient webTestClient;
+    private AIService aiService;
+
+    @BeforeEach
+    void setUp() {
+        aiService = mock(AIService.class);
+        IntegrationController controller = new IntegrationController(mock(IntegrationService.class), aiService);
+        webTestClient = WebTestClient.bindToController(controller).build();
+    }
+
+    @Test
+    void aiSuggestionReturnsTheGatewayAnswer() {
+        when(aiService.suggest(null, null, "Plan a recovery week"))
+                .thenReturn(CompletableFuture.completedFuture("Prioritize recovery"));
+
+        postPrompt("Plan a recovery week")
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .isEqualTo("Prioritize recovery");
+    }
+
+    @Test
+    void aiSuggestionReturnsServiceUnavailableWhenTheGatewayRejectsThePrompt() {
+        when(aiService.suggest(null, null, "Plan a recovery week")).thenReturn(CompletableFuture.failedFuture(
+                new IllegalStateException("AI model unavailable, circuit open")));
+
+        postPrompt("Plan a recovery week")
+                .expectStatus()
+                .isEqualTo(503)
+                .expectHeader()
+                .exists(HttpHeaders.RETRY_AFTER);
+    }
+
+    @Test
+    void aiSuggestionReturnsGatewayTimeoutWhenTheCallTimesOut() {
+        when(aiService.suggest(null, null, "Plan a recovery week"))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        postPrompt("Plan a recovery week")
+                .expectStatus()
+                .isEqualTo(504);
+    }
+
+    private WebTestClient.ResponseSpec postPrompt(String prompt) {
+        return webTestClient.post()
+                .uri("/api/integrations/ai/suggestions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new IntegrationController.AIPrompt(prompt))
+                .exchange();
+    }
+}
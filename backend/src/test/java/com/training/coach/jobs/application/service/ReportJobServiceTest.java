@@ -0,0 +1,315 @@
+package com.training.coach.jobs.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.jobs.domain.model.ReportJob;
+import com.training.coach.jobs.domain.model.ReportJob.JobPriority;
+import com.training.coach.jobs.domain.model.ReportJob.JobStatus;
+import com.training.coach.jobs.domain.model.ReportJob.JobType;
+import com.training.coach.scheduler.application.service.SchedulerProperties;
+import com.training.coach.testconfig.inmemory.InMemoryReportJobRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Report Job Service Tests")
+class ReportJobServiceTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private InMemoryReportJobRepository repository;
+    private ThreadPoolExecutor executor;
+    private RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryReportJobRepository();
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>());
+        handler = new RecordingHandler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run a job in the background and persist progress and result")
+    void shouldRunJobAndPersistResult() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        handler.release.countDown();
+
+        // When
+        ReportJob submitted = service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "a"), JobPriority.NORMAL);
+        drain();
+
+        // Then
+        assertThat(submitted.status()).isEqualTo(JobStatus.QUEUED);
+        ReportJob finished = service.getJob(submitted.id());
+        assertThat(finished.status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.progressPercent()).isEqualTo(100);
+        assertThat(finished.resultContentType()).isEqualTo("text/plain");
+        assertThat(Files.readString(service.getResult(submitted.id()))).isEqualTo("result:a");
+        assertThat(finished.resultSizeBytes()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("Should return the active or cached job for identical submissions")
+    void shouldDeduplicateIdenticalSubmissions() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        ReportJob first = service.submit(
+                JobType.ORGANIZATION_REPORT, Map.of("name", "a", "scope", "all"), JobPriority.NORMAL);
+
+        // When
+        ReportJob whileRunning = service.submit(
+                JobType.ORGANIZATION_REPORT, Map.of("scope", "all", "name", "a"), JobPriority.HIGH);
+        handler.release.countDown();
+        drain();
+        ReportJob afterCompletion = service.submit(
+                JobType.ORGANIZATION_REPORT, Map.of("name", "a", "scope", "all"), JobPriority.NORMAL);
+
+        // Then
+        assertThat(whileRunning.id()).isEqualTo(first.id());
+        assertThat(afterCompletion.id()).isEqualTo(first.id());
+        assertThat(afterCompletion.status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(handler.runs).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Should run an identical job again once the cached result has expired")
+    void shouldRerunAfterResultExpires() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ZERO, 10);
+        handler.release.countDown();
+        ReportJob first = service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "a"), JobPriority.NORMAL);
+        waitFor(service, first.id());
+
+        // When
+        ReportJob second = service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "a"), JobPriority.NORMAL);
+        drain();
+
+        // Then
+        assertThat(second.id()).isNotEqualTo(first.id());
+        assertThat(handler.runs).containsExactly("a", "a");
+    }
+
+    @Test
+    @DisplayName("Should take queued jobs by priority, then submission order")
+    void shouldRunQueuedJobsByPriority() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "blocking"), JobPriority.NORMAL);
+        handler.started.await(5, TimeUnit.SECONDS);
+
+        // When
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "low"), JobPriority.LOW);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "normal"), JobPriority.NORMAL);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "high-1"), JobPriority.HIGH);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "high-2"), JobPriority.HIGH);
+        handler.release.countDown();
+        drain();
+
+        // Then
+        assertThat(handler.runs).containsExactly("blocking", "high-1", "high-2", "normal", "low");
+    }
+
+    @Test
+    @DisplayName("Should reject submissions when the queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 1);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "running"), JobPriority.NORMAL);
+        handler.started.await(5, TimeUnit.SECONDS);
+        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "queued"), JobPriority.NORMAL);
+
+        // When / Then
+        assertThatThrownBy(() ->
+                        service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "rejected"), JobPriority.HIGH))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should record failures and reject invalid parameters at submission")
+    void shouldRecordFailures() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        handler.release.countDown();
+
+        // When
+        ReportJob job = service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "fail"), JobPriority.NORMAL);
+        drain();
+
+        // Then
+        ReportJob failed = service.getJob(job.id());
+        assertThat(failed.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(failed.errorMessage()).isEqualTo("boom");
+        assertThat(Files.list(outputDirectory)).isEmpty();
+        assertThatThrownBy(() -> service.getResult(job.id())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.submit(JobType.ORGANIZATION_REPORT, Map.of(), JobPriority.NORMAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.submit(JobType.WEEKLY_REPORT_EXPORT, Map.of("name", "a"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a succeeded job and its result when the success callback fails")
+    void shouldKeepSuccessWhenCallbackFails() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        handler.release.countDown();
+
+        // When
+        ReportJob job = service.submit(
+                JobType.ORGANIZATION_REPORT, Map.of("name", "callback-fails"), JobPriority.NORMAL);
+        drain();
+
+        // Then
+        assertThat(service.getJob(job.id()).status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(Files.readString(service.getResult(job.id()))).isEqualTo("result:callback-fails");
+    }
+
+    @Test
+    @DisplayName("Should delete finished jobs past retention together with their result files")
+    void shouldDeleteExpiredJobsAndFiles() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        handler.release.countDown();
+        ReportJob job = service.submit(JobType.ORGANIZATION_REPORT, Map.of("name", "a"), JobPriority.NORMAL);
+        drain();
+        Path result = service.getResult(job.id());
+
+        // When
+        int kept = service.deleteExpired(Instant.now());
+        int deleted = service.deleteExpired(Instant.now().plus(Duration.ofDays(8)));
+
+        // Then
+        assertThat(kept).isZero();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findById(job.id())).isEmpty();
+        assertThat(result).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should only fail the running jobs of the restarting node and run each queued job once")
+    void shouldResumeOnlyOwnJobs() throws Exception {
+        // Given
+        ReportJobService service = service(Duration.ofHours(1), 10);
+        handler.release.countDown();
+        ReportJob interrupted = repository.save(
+                ReportJob.create(JobType.ORGANIZATION_REPORT, Map.of("name", "a"), JobPriority.NORMAL).start("node-a"));
+        ReportJob elsewhere = repository.save(
+                ReportJob.create(JobType.ORGANIZATION_REPORT, Map.of("name", "b"), JobPriority.NORMAL).start("node-b"));
+        ReportJob queued = repository.save(
+                ReportJob.create(JobType.ORGANIZATION_REPORT, Map.of("name", "c"), JobPriority.NORMAL));
+        ReportJob claimedElsewhere = repository.save(
+                ReportJob.create(JobType.ORGANIZATION_REPORT, Map.of("name", "d"), JobPriority.NORMAL));
+        repository.claim(claimedElsewhere.start("node-b"));
+
+        // When
+        service.resumeJobs();
+        drain();
+
+        // Then
+        assertThat(repository.findById(interrupted.id()).orElseThrow().status()).isEqualTo(JobStatus.FAILED);
+        assertThat(repository.findById(elsewhere.id()).orElseThrow().status()).isEqualTo(JobStatus.RUNNING);
+        ReportJob ran = repository.findById(queued.id()).orElseThrow();
+        assertThat(ran.status()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(ran.owner()).isEqualTo("node-a");
+        assertThat(repository.findById(claimedElsewhere.id()).orElseThrow().status()).isEqualTo(JobStatus.RUNNING);
+        assertThat(handler.runs).containsExactly("c");
+    }
+
+    private ReportJobService service(Duration resultTtl, int maxQueued) {
+        ReportJobProperties properties =
+                new ReportJobProperties(1, maxQueued, resultTtl, Duration.ofDays(7), outputDirectory.toString());
+        SchedulerProperties scheduler =
+                new SchedulerProperties("node-a", Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofSeconds(30));
+        return new ReportJobService(repository, List.of(handler), executor, properties, scheduler);
+    }
+
+    private void drain() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void waitFor(ReportJobService service, String jobId) throws InterruptedException {
+        for (int i = 0; i < 500 && !service.getJob(jobId).isFinished(); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class RecordingHandler implements ReportJobHandler {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> runs = new CopyOnWriteArrayList<>();
+
+        @Override
+        public JobType type() {
+            return JobType.ORGANIZATION_REPORT;
+        }
+
+        @Override
+        public String contentType(Map<String, String> parameters) {
+            return "text/plain";
+        }
+
+        @Override
+        public String fileExtension(Map<String, String> parameters) {
+            return "txt";
+        }
+
+        @Override
+        public void validate(Map<String, String> parameters) {
+            if (!parameters.containsKey("name")) {
+                throw new IllegalArgumentException("name is required");
+            }
+        }
+
+        @Override
+        public void run(Map<String, String> parameters, OutputStream outputStream, JobProgress progress)
+                throws IOException {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String name = parameters.get("name");
+            runs.add(name);
+            progress.update(50, "Halfway");
+            if ("fail".equals(name)) {
+                throw new IllegalStateException("boom");
+            }
+            outputStream.write(("result:" + name).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onSuccess(Map<String, String> parameters, ReportJob job) {
+            if ("callback-fails".equals(parameters.get("name"))) {
+                throw new IllegalStateException("callback failed");
+            }
+        }
+    }
+}
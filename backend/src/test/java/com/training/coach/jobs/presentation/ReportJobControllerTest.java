@@ -0,0 +1,86 @@
+package com.training.coach.jobs.presentation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockAuthentication;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.web.server.context.SecurityContextServerWebExchangeWebFilter;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+class ReportJobControllerTest {
+
+    private WebTestClient webTestClient;
+    private ReportJobService jobService;
+
+    @TempDir
+    Path resultDirectory;
+
+    @BeforeEach
+    void setUp() {
+        jobService = mock(ReportJobService.class);
+        webTestClient = WebTestClient.bindToController(new ReportJobController(jobService))
+                .webFilter(new SecurityContextServerWebExchangeWebFilter())
+                .apply(springSecurity())
+                .configureClient()
+                .build();
+    }
+
+    @Test
+    void submitJobRejectsDataExports() {
+        webTestClient.post()
+                .uri("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ReportJobController.SubmitJobRequest(
+                        ReportJob.JobType.DATA_EXPORT, Map.of("requestId", "export-1"), ReportJob.JobPriority.HIGH))
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+
+        verify(jobService, never()).submit(any(), any(), any());
+    }
+
+    @Test
+    void getResultForbidsOtherCallersThanTheHandlerAllows() throws Exception {
+        ReportJob job = succeededExport();
+        when(jobService.getJob(job.id())).thenReturn(job);
+        when(jobService.getResult(job.id())).thenReturn(Path.of(job.resultPath()));
+        when(jobService.canReadResult(job, "athlete-1", false)).thenReturn(true);
+        when(jobService.canReadResult(job, "athlete-2", false)).thenReturn(false);
+
+        webTestClient.mutateWith(mockAuthentication(new TestingAuthenticationToken("athlete-2", null, "ROLE_ATHLETE")))
+                .get()
+                .uri("/api/jobs/{jobId}/result", job.id())
+                .exchange()
+                .expectStatus()
+                .isForbidden();
+        webTestClient.mutateWith(mockAuthentication(new TestingAuthenticationToken("athlete-1", null, "ROLE_ATHLETE")))
+                .get()
+                .uri("/api/jobs/{jobId}/result", job.id())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .isEqualTo("archive");
+    }
+
+    private ReportJob succeededExport() throws Exception {
+        Path result = Files.writeString(resultDirectory.resolve("export.zip"), "archive");
+        return ReportJob.create(ReportJob.JobType.DATA_EXPORT, Map.of("requestId", "export-1"), null)
+                .start("node-a")
+                .succeed(result.toString(), "application/zip", Files.size(result), "checksum");
+    }
+}
@@ -0,0 +1,139 @@
+package com.training.coach.privacy.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.privacy.application.port.out.PersonalDataEraser;
+import com.training.coach.privacy.domain.model.ErasureCount;
+import com.training.coach.privacy.domain.model.ErasureResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Personal Data Erasure Service Tests")
+class PersonalDataErasureServiceTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should erase every context in parallel and sum exact counts")
+    void shouldEraseAllContextsInParallel() {
+        // Given
+        CountDownLatch allStarted = new CountDownLatch(3);
+        FakeEraser wellness = new FakeEraser("wellness", 1200, 0, allStarted);
+        FakeEraser activities = new FakeEraser("activities", 300, 0, allStarted);
+        FakeEraser reports = new FakeEraser("weekly-reports", 0, 52, allStarted);
+        PersonalDataErasureService service =
+                new PersonalDataErasureService(List.of(wellness, activities, reports), executor);
+
+        // When
+        ErasureResult result = service.erase("athlete-1", false);
+
+        // Then
+        assertThat(result.dryRun()).isFalse();
+        assertThat(result.totalDeleted()).isEqualTo(1500);
+        assertThat(result.totalAnonymized()).isEqualTo(52);
+        assertThat(result.contexts()).extracting(ErasureCount::context)
+                .containsExactly("activities", "weekly-reports", "wellness");
+        assertThat(wellness.erased).containsExactly("athlete-1");
+        assertThat(allStarted.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only count in a dry run")
+    void shouldOnlyCountInDryRun() {
+        // Given
+        FakeEraser wellness = new FakeEraser("wellness", 10, 0, null);
+        PersonalDataErasureService service = new PersonalDataErasureService(List.of(wellness), executor);
+
+        // When
+        ErasureResult result = service.erase("athlete-1", true);
+
+        // Then
+        assertThat(result.dryRun()).isTrue();
+        assertThat(result.totalDeleted()).isEqualTo(10);
+        assertThat(wellness.erased).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report failed contexts after the others have run")
+    void shouldReportFailedContexts() {
+        // Given
+        FakeEraser wellness = new FakeEraser("wellness", 10, 0, null);
+        PersonalDataEraser broken = new FakeEraser("activities", 0, 0, null) {
+            @Override
+            public ErasureCount erase(String athleteId) {
+                throw new IllegalStateException("connection lost");
+            }
+        };
+        PersonalDataErasureService service = new PersonalDataErasureService(List.of(wellness, broken), executor);
+
+        // When / Then
+        assertThatThrownBy(() -> service.erase("athlete-1", false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[activities]");
+        assertThat(wellness.erased).containsExactly("athlete-1");
+    }
+
+    private static class FakeEraser implements PersonalDataEraser {
+
+        private final String context;
+        private final long deleted;
+        private final long anonymized;
+        private final CountDownLatch allStarted;
+        private final Set<String> erased = ConcurrentHashMap.newKeySet();
+
+        FakeEraser(String context, long deleted, long anonymized, CountDownLatch allStarted) {
+            this.context = context;
+            this.deleted = deleted;
+            this.anonymized = anonymized;
+            this.allStarted = allStarted;
+        }
+
+        @Override
+        public String context() {
+            return context;
+        }
+
+        @Override
+        public ErasureCount count(String athleteId) {
+            return new ErasureCount(context, deleted, anonymized);
+        }
+
+        @Override
+        public ErasureCount erase(String athleteId) {
+            if (allStarted != null) {
+                // Each eraser waits for the others, so this only completes if they run concurrently
+                allStarted.countDown();
+                try {
+                    if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Erasers did not run in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            erased.add(athleteId);
+            return new ErasureCount(context, deleted, anonymized);
+        }
+    }
+}
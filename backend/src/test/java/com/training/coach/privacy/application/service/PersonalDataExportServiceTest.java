@@ -0,0 +1,150 @@
+package com.training.coach.privacy.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteProfile;
+import com.training.coach.athlete.domain.model.TrainingMetrics;
+import com.training.coach.athlete.domain.model.TrainingPreferences;
+import com.training.coach.feedback.application.service.NoteService;
+import com.training.coach.privacy.domain.model.ConsentLog;
+import com.training.coach.privacy.domain.model.PersonalDataCategory;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Centimeters;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.shared.domain.unit.Vo2Max;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemoryConsentLogRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPersonalDataExportRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Personal Data Export Service Tests")
+class PersonalDataExportServiceTest {
+
+    private InMemoryAthleteRepository athleteRepository;
+    private InMemoryPersonalDataExportRepository exportRepository;
+    private InMemoryConsentLogRepository consentLogRepository;
+    private NoteService noteService;
+    private PersonalDataExportService service;
+
+    @BeforeEach
+    void setUp() {
+        athleteRepository = new InMemoryAthleteRepository();
+        exportRepository = new InMemoryPersonalDataExportRepository();
+        consentLogRepository = new InMemoryConsentLogRepository();
+        noteService = new NoteService();
+        service = new PersonalDataExportService(athleteRepository, exportRepository, consentLogRepository, noteService);
+    }
+
+    @Test
+    @DisplayName("Should write one NDJSON entry per bounded context and a manifest")
+    void shouldWriteArchiveEntries() throws IOException {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        exportRepository.addRow(PersonalDataCategory.ACTIVITIES, "athlete-1", row("a-1"));
+        exportRepository.addRow(PersonalDataCategory.PLAN_VERSIONS, "athlete-1", row("v-1"));
+        exportRepository.addRow(PersonalDataCategory.ACTIVITIES, "athlete-2", row("other"));
+        noteService.addNote("athlete-1", "Felt strong");
+        noteService.addNoteForDate("athlete-1", LocalDate.of(2026, 3, 2), "Skipped intervals");
+        consentLogRepository.save(ConsentLog.create(
+                "athlete-1", ConsentLog.ConsentAction.DATA_EXPORT_REQUESTED, "EXPORT_REQUEST",
+                "athlete-1", "request-1", "Athlete requested data export"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> progress = new ArrayList<>();
+
+        // When
+        Map<String, Long> counts = service.writeArchive("athlete-1", out, progress::add);
+
+        // Then
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(entries).containsOnlyKeys(
+                "athlete-profile.ndjson", "wellness.ndjson", "activities.ndjson", "plan-versions.ndjson",
+                "plan-workouts.ndjson", "notes.ndjson", "consent-logs.ndjson", "manifest.json");
+        assertThat(entries.get("athlete-profile.ndjson")).contains("\"id\":\"athlete-1\"").endsWith("\n");
+        assertThat(entries.get("activities.ndjson")).isEqualTo("{\"id\":\"a-1\"}\n");
+        assertThat(entries.get("wellness.ndjson")).isEmpty();
+        assertThat(entries.get("notes.ndjson").lines()).containsExactly(
+                "{\"date\":null,\"note\":\"Felt strong\"}",
+                "{\"date\":\"2026-03-02\",\"note\":\"Skipped intervals\"}");
+        assertThat(entries.get("consent-logs.ndjson").lines()).hasSize(1);
+        assertThat(entries.get("manifest.json")).contains("\"athleteId\" : \"athlete-1\"");
+        assertThat(counts).containsEntry("activities.ndjson", 1L).containsEntry("notes.ndjson", 2L);
+        assertThat(progress).isSorted().last().isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should page through bulk data with the keyset cursor")
+    void shouldPageThroughBulkData() throws IOException {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        int rows = PersonalDataExportService.PAGE_SIZE * 2 + 7;
+        for (int i = 0; i < rows; i++) {
+            exportRepository.addRow(PersonalDataCategory.WELLNESS, "athlete-1", row("w-" + i));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        Map<String, Long> counts = service.writeArchive("athlete-1", out, percent -> {});
+
+        // Then
+        List<String> lines = unzip(out.toByteArray()).get("wellness.ndjson").lines().toList();
+        assertThat(lines).hasSize(rows);
+        assertThat(lines.get(0)).isEqualTo("{\"id\":\"w-0\"}");
+        assertThat(lines.get(rows - 1)).isEqualTo("{\"id\":\"w-" + (rows - 1) + "\"}");
+        assertThat(counts).containsEntry("wellness.ndjson", (long) rows);
+        int otherCategories = PersonalDataCategory.values().length - 1;
+        assertThat(exportRepository.pageReads()).isEqualTo(3 + otherCategories);
+    }
+
+    @Test
+    @DisplayName("Should refuse to export an unknown athlete")
+    void shouldRejectUnknownAthlete() {
+        assertThatThrownBy(() -> service.writeArchive("missing", new ByteArrayOutputStream(), percent -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, Object> row(String id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        return row;
+    }
+
+    private static Map<String, String> unzip(byte[] archive) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private static Athlete createTestAthlete(String id) {
+        AthleteProfile profile =
+                new AthleteProfile("male", 30, Kilograms.of(75.0), Centimeters.of(175.0), "intermediate");
+        TrainingMetrics metrics =
+                new TrainingMetrics(Watts.of(250.0), BeatsPerMinute.of(180.0), Vo2Max.of(45.0), Kilograms.of(75.0));
+        Set<DayOfWeek> availableDays = Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        TrainingPreferences preferences = new TrainingPreferences(availableDays, Hours.of(8.0), "base");
+        return new Athlete(id, "Athlete " + id, profile, metrics, preferences);
+    }
+}
@@ -1,16 +1,53 @@
 package com.training.coach.privacy.application.service;
 
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteProfile;
+import com.training.coach.athlete.domain.model.TrainingMetrics;
+import com.training.coach.athlete.domain.model.TrainingPreferences;
+import com.training.coach.feedback.application.service.NoteService;
+import com.training.coach.jobs.application.service.ReportJobProperties;
+import com.training.coach.jobs.application.service.ReportJobService;
+import com.training.coach.jobs.domain.model.ReportJob;
 import com.training.coach.privacy.application.port.out.ConsentLogRepository;
 import com.training.coach.privacy.application.port.out.DataDeletionRequestRepository;
 import com.training.coach.privacy.application.port.out.DataExportRequestRepository;
 import com.training.coach.privacy.domain.model.ConsentLog;
 import com.training.coach.privacy.domain.model.DataDeletionRequest;
 import com.training.coach.privacy.domain.model.DataExportRequest;
+import com.training.coach.privacy.domain.model.ErasureResult;
+import com.training.coach.privacy.infrastructure.adapter.CoachNoteEraser;
+import com.training.coach.privacy.infrastructure.adapter.ExportArchiveEraser;
+import com.training.coach.privacy.infrastructure.adapter.ReportJobEraser;
+import com.training.coach.scheduler.application.service.SchedulerProperties;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Centimeters;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.shared.domain.unit.Vo2Max;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
 import com.training.coach.testconfig.inmemory.InMemoryConsentLogRepository;
 import com.training.coach.testconfig.inmemory.InMemoryDataDeletionRequestRepository;
 import com.training.coach.testconfig.inmemory.InMemoryDataExportRequestRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPersonalDataExportRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReportJobRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,21 +57,55 @@ class PrivacyServiceTest {
     private DataExportRequestRepository exportRepository;
     private DataDeletionRequestRepository deletionRepository;
     private ConsentLogRepository consentLogRepository;
+    private InMemoryAthleteRepository athleteRepository;
+    private NoteService noteService;
+    private ThreadPoolExecutor jobExecutor;
+    private InMemoryReportJobRepository jobRepository;
+    private ReportJobService reportJobService;
     private PrivacyService privacyService;
 
+    @TempDir
+    Path exportDirectory;
+
     @BeforeEach
     void setUp() {
         exportRepository = new InMemoryDataExportRequestRepository();
         deletionRepository = new InMemoryDataDeletionRequestRepository();
         consentLogRepository = new InMemoryConsentLogRepository();
+        athleteRepository = new InMemoryAthleteRepository();
+        jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>());
+        noteService = new NoteService();
+        PersonalDataExportService personalDataExportService = new PersonalDataExportService(
+                athleteRepository, new InMemoryPersonalDataExportRepository(), consentLogRepository, noteService);
+        jobRepository = new InMemoryReportJobRepository();
+        ReportJobProperties jobProperties =
+                new ReportJobProperties(1, 10, Duration.ofHours(1), Duration.ofDays(7), exportDirectory.toString());
+        reportJobService = new ReportJobService(
+                jobRepository,
+                List.of(new DataExportJobHandler(exportRepository, consentLogRepository, personalDataExportService)),
+                jobExecutor,
+                jobProperties,
+                SchedulerProperties.defaults());
         privacyService = new PrivacyService(
                 exportRepository,
                 deletionRepository,
                 consentLogRepository,
-                null  // athleteRepository - we'll handle the null case
+                athleteRepository,
+                reportJobService,
+                new PersonalDataErasureService(
+                        List.of(
+                                new CoachNoteEraser(noteService),
+                                new ExportArchiveEraser(exportRepository),
+                                new ReportJobEraser(jobRepository, jobProperties)),
+                        Runnable::run)
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        jobExecutor.shutdownNow();
+    }
+
     @Test
     void shouldRequestDataExport() {
         // Since athleteRepository is null, this would normally throw
@@ -73,16 +144,41 @@ class PrivacyServiceTest {
     }
 
     @Test
-    void shouldProcessExportRequest() {
+    void shouldProcessExportRequest() throws Exception {
         DataExportRequest request = DataExportRequest.create("athlete-123");
         DataExportRequest approved = request.approve("admin-user");
         exportRepository.save(approved);
 
-        DataExportRequest processed = privacyService.processExport(request.id());
+        athleteRepository.save(createTestAthlete("athlete-123"));
 
+        DataExportRequest processing = privacyService.processExport(request.id());
+        awaitJobs();
+
+        assertThat(processing.status()).isEqualTo(DataExportRequest.RequestStatus.PROCESSING);
+        DataExportRequest processed = privacyService.getExportRequest(request.id());
         assertThat(processed.status()).isEqualTo(DataExportRequest.RequestStatus.COMPLETED);
-        assertThat(processed.exportFilePath()).isNotNull();
-        assertThat(processed.exportFilePath()).contains("athlete_123");
+        Path archive = privacyService.getExportFile(request.id());
+        assertThat(archive.toString()).endsWith(".zip");
+        assertThat(processed.exportSizeBytes()).isEqualTo(Files.size(archive));
+        assertThat(processed.exportChecksum()).isEqualTo(sha256(archive));
+        assertThat(privacyService.getLogsForRequest(request.id()))
+                .extracting(ConsentLog::action)
+                .contains(ConsentLog.ConsentAction.DATA_EXPORT_COMPLETED);
+    }
+
+    @Test
+    void shouldMarkExportFailedWhenArchiveCannotBeWritten() throws Exception {
+        DataExportRequest request = DataExportRequest.create("missing-athlete");
+        exportRepository.save(request.approve("admin-user"));
+
+        privacyService.processExport(request.id());
+        awaitJobs();
+
+        DataExportRequest failed = privacyService.getExportRequest(request.id());
+        assertThat(failed.status()).isEqualTo(DataExportRequest.RequestStatus.FAILED);
+        assertThat(failed.failureReason()).contains("Athlete not found");
+        assertThatThrownBy(() -> privacyService.getExportFile(request.id()))
+                .isInstanceOf(IllegalStateException.class);
     }
 
     @Test
@@ -95,6 +191,41 @@ class PrivacyServiceTest {
                 .hasMessageContaining("must be approved");
     }
 
+    @Test
+    void shouldRefuseExportJobsOutsideTheProcessingFlow() {
+        DataExportRequest request = DataExportRequest.create("athlete-123");
+        exportRepository.save(request.approve("admin-user"));
+        athleteRepository.save(createTestAthlete("athlete-123"));
+
+        assertThatThrownBy(() -> reportJobService.submit(
+                        ReportJob.JobType.DATA_EXPORT,
+                        Map.of(DataExportJobHandler.REQUEST_ID, request.id()),
+                        ReportJob.JobPriority.HIGH))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not being processed");
+        assertThat(privacyService.getExportRequest(request.id()).status())
+                .isEqualTo(DataExportRequest.RequestStatus.APPROVED);
+    }
+
+    @Test
+    void shouldOnlyServeExportJobResultsToTheAthleteOrAnAdmin() throws Exception {
+        DataExportRequest request = DataExportRequest.create("athlete-123");
+        exportRepository.save(request.approve("admin-user"));
+        athleteRepository.save(createTestAthlete("athlete-123"));
+
+        privacyService.processExport(request.id());
+        awaitJobs();
+        ReportJob job = jobRepository.findLatestBySpecKey(ReportJob.specKey(
+                        ReportJob.JobType.DATA_EXPORT, Map.of(DataExportJobHandler.REQUEST_ID, request.id())))
+                .orElseThrow();
+
+        assertThat(job.status()).isEqualTo(ReportJob.JobStatus.SUCCEEDED);
+        assertThat(reportJobService.canReadResult(job, "athlete-123", false)).isTrue();
+        assertThat(reportJobService.canReadResult(job, "admin-user", true)).isTrue();
+        assertThat(reportJobService.canReadResult(job, "athlete-456", false)).isFalse();
+        assertThat(reportJobService.canReadResult(job, null, false)).isFalse();
+    }
+
     @Test
     void shouldApproveDeletionRequest() {
         DataDeletionRequest request = DataDeletionRequest.create("athlete-123");
@@ -130,10 +261,58 @@ class PrivacyServiceTest {
         DataDeletionRequest approved = request.approve("admin-user");
         deletionRepository.save(approved);
 
+        noteService.addNote("athlete-123", "Tired legs");
+        noteService.addNoteForDate("athlete-123", LocalDate.of(2026, 5, 4), "Race recap");
+        noteService.addNote("athlete-456", "Unrelated");
+
         DataDeletionRequest processed = privacyService.processDeletion(request.id());
 
         assertThat(processed.status()).isEqualTo(DataDeletionRequest.RequestStatus.COMPLETED);
         assertThat(processed.completedAt()).isNotNull();
+        assertThat(processed.recordsDeleted()).isEqualTo(2);
+        assertThat(processed.recordsAnonymized()).isZero();
+        assertThat(noteService.getNotes("athlete-123")).isEmpty();
+        assertThat(noteService.getNotes("athlete-456")).containsExactly("Unrelated");
+        assertThat(privacyService.getLogsForRequest(request.id()))
+                .extracting(ConsentLog::action)
+                .contains(ConsentLog.ConsentAction.DATA_DELETION_COMPLETED);
+    }
+
+    @Test
+    void shouldEraseReportJobsHoldingTheAthletesData() throws Exception {
+        DataDeletionRequest request = DataDeletionRequest.create("athlete-123");
+        deletionRepository.save(request.approve("admin-user"));
+        ReportJob export = completedJob(ReportJob.JobType.WEEKLY_REPORT_EXPORT,
+                Map.of("athleteIds", "athlete-456,athlete-123", "startDate", "2026-05-04", "endDate", "2026-05-10"));
+        ReportJob otherExport = completedJob(ReportJob.JobType.WEEKLY_REPORT_EXPORT,
+                Map.of("athleteIds", "athlete-1234", "startDate", "2026-05-04", "endDate", "2026-05-10"));
+        ReportJob organizationReport = completedJob(ReportJob.JobType.ORGANIZATION_REPORT,
+                Map.of("startDate", "2026-05-04", "endDate", "2026-05-10"));
+
+        DataDeletionRequest processed = privacyService.processDeletion(request.id());
+
+        assertThat(processed.recordsDeleted()).isEqualTo(2);
+        assertThat(jobRepository.findById(export.id())).isEmpty();
+        assertThat(jobRepository.findById(organizationReport.id())).isEmpty();
+        assertThat(Path.of(export.resultPath())).doesNotExist();
+        assertThat(Path.of(organizationReport.resultPath())).doesNotExist();
+        assertThat(jobRepository.findById(otherExport.id())).isPresent();
+        assertThat(Path.of(otherExport.resultPath())).exists();
+    }
+
+    @Test
+    void shouldCountDeletionInDryRunWithoutErasing() {
+        DataDeletionRequest request = DataDeletionRequest.create("athlete-123");
+        deletionRepository.save(request.approve("admin-user"));
+        noteService.addNote("athlete-123", "Tired legs");
+
+        ErasureResult preview = privacyService.previewDeletion(request.id());
+
+        assertThat(preview.dryRun()).isTrue();
+        assertThat(preview.totalDeleted()).isEqualTo(1);
+        assertThat(noteService.getNotes("athlete-123")).containsExactly("Tired legs");
+        assertThat(privacyService.getDeletionRequest(request.id()).status())
+                .isEqualTo(DataDeletionRequest.RequestStatus.APPROVED);
     }
 
     @Test
@@ -172,4 +351,29 @@ class PrivacyServiceTest {
 
         assertThat(pending).hasSize(2);
     }
+
+    private ReportJob completedJob(ReportJob.JobType type, Map<String, String> parameters) throws Exception {
+        ReportJob job = ReportJob.create(type, parameters, ReportJob.JobPriority.NORMAL).start("node-a");
+        Path result = Files.writeString(exportDirectory.resolve(job.id() + ".json"), "{}");
+        return jobRepository.save(job.succeed(result.toString(), "application/json", 2, sha256(result)));
+    }
+
+    private void awaitJobs() throws InterruptedException {
+        jobExecutor.shutdown();
+        assertThat(jobExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static String sha256(Path file) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+    }
+
+    private static Athlete createTestAthlete(String id) {
+        AthleteProfile profile =
+                new AthleteProfile("male", 30, Kilograms.of(75.0), Centimeters.of(175.0), "intermediate");
+        TrainingMetrics metrics =
+                new TrainingMetrics(Watts.of(250.0), BeatsPerMinute.of(180.0), Vo2Max.of(45.0), Kilograms.of(75.0));
+        Set<DayOfWeek> availableDays = Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        TrainingPreferences preferences = new TrainingPreferences(availableDays, Hours.of(8.0), "base");
+        return new Athlete(id, "Athlete " + id, profile, metrics, preferences);
+    }
 }
@@ -0,0 +1,122 @@
+package com.training.coach.reconciliation.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.reconciliation.application.service.ReconciliationService.ReconciliationResult;
+import com.training.coach.reconciliation.domain.model.ActivityFingerprint;
+import com.training.coach.reconciliation.domain.model.DataConflict;
+import com.training.coach.reconciliation.domain.model.PrecedenceRule;
+import com.training.coach.testconfig.inmemory.InMemoryDataConflictRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPrecedenceRuleRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Reconciliation Service Tests")
+class ReconciliationServiceTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2026, 3, 2, 7, 55);
+
+    private InMemoryDataConflictRepository conflictRepository;
+    private InMemoryPrecedenceRuleRepository ruleRepository;
+    private ReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        conflictRepository = new InMemoryDataConflictRepository();
+        ruleRepository = new InMemoryPrecedenceRuleRepository();
+        service = new ReconciliationService(conflictRepository, ruleRepository);
+    }
+
+    @Test
+    @DisplayName("Should pair duplicates across neighbouring start-time buckets and auto-resolve by precedence")
+    void shouldDetectDuplicatesAcrossBuckets() {
+        // Given
+        service.setPrecedenceRule("athlete-1", "garmin first", Map.of(
+                PrecedenceRule.Platform.GARMIN, 3, PrecedenceRule.Platform.STRAVA, 1));
+        List<ActivityFingerprint> existing = List.of(
+                fingerprint(PrecedenceRule.Platform.GARMIN, "g-1", MORNING, 62, 40.1),
+                fingerprint(PrecedenceRule.Platform.GARMIN, "g-2", MORNING.plusHours(9), 45, 12.0));
+
+        // When
+        ReconciliationResult result = service.detectDuplicates("athlete-1", List.of(
+                // Starts after the bucket boundary but within tolerance of the Garmin ride
+                fingerprint(PrecedenceRule.Platform.STRAVA, "s-1", MORNING.plusMinutes(10), 60, 40.0),
+                // Same afternoon slot but a different ride
+                fingerprint(PrecedenceRule.Platform.STRAVA, "s-2", MORNING.plusHours(9), 45, 30.0)),
+                existing);
+
+        // Then
+        assertThat(result.duplicatesDetected()).isEqualTo(1);
+        assertThat(result.autoResolved()).isEqualTo(1);
+        DataConflict conflict = conflictRepository.findByAthleteId("athlete-1").getFirst();
+        assertThat(conflict.primaryPlatform()).isEqualTo(PrecedenceRule.Platform.GARMIN);
+        assertThat(conflict.conflictingRecords()).containsOnlyKeys(
+                PrecedenceRule.Platform.GARMIN, PrecedenceRule.Platform.STRAVA);
+        assertThat(conflict.activityDate()).isEqualTo(MORNING);
+    }
+
+    @Test
+    @DisplayName("Should group duplicates within the new batch and not report them again on the next sync")
+    void shouldGroupBatchDuplicatesOnce() {
+        // Given
+        List<ActivityFingerprint> batch = List.of(
+                fingerprint(PrecedenceRule.Platform.GARMIN, "g-1", MORNING, 90, null),
+                fingerprint(PrecedenceRule.Platform.STRAVA, "s-1", MORNING.plusMinutes(1), 88, null),
+                fingerprint(PrecedenceRule.Platform.WHOOP, "w-1", MORNING.minusMinutes(3), 91, null));
+        service.detectDuplicates("athlete-1", batch, List.of());
+
+        // When
+        ReconciliationResult rerun = service.detectDuplicates("athlete-1", batch, List.of());
+
+        // Then
+        assertThat(rerun.duplicatesDetected()).isZero();
+        assertThat(conflictRepository.findByAthleteId("athlete-1")).singleElement()
+                .satisfies(conflict -> assertThat(conflict.conflictingRecords()).hasSize(3))
+                .satisfies(conflict -> assertThat(conflict.isResolved()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should not flag a double day synced from one platform as duplicates")
+    void shouldNotFlagSamePlatformDoubleDay() {
+        // Given
+        LocalDateTime midnight = MORNING.toLocalDate().atStartOfDay();
+        service.setPrecedenceRule("athlete-1", "intervals first", Map.of(PrecedenceRule.Platform.INTERVALS_ICU, 2));
+
+        // When
+        ReconciliationResult result = service.detectDuplicates("athlete-1", List.of(
+                fingerprint(PrecedenceRule.Platform.INTERVALS_ICU, "i-2", midnight, 60, 30.0)),
+                List.of(fingerprint(PrecedenceRule.Platform.INTERVALS_ICU, "i-1", midnight, 60, 30.2)));
+
+        // Then
+        assertThat(result.duplicatesDetected()).isZero();
+        assertThat(conflictRepository.findByAthleteId("athlete-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave two uploads from one platform matching the same ride for manual review")
+    void shouldRequireReviewWhenOnePlatformMatchesTwice() {
+        // Given
+        service.setPrecedenceRule("athlete-1", "intervals first", Map.of(PrecedenceRule.Platform.INTERVALS_ICU, 2));
+
+        // When
+        ReconciliationResult result = service.detectDuplicates("athlete-1", List.of(
+                fingerprint(PrecedenceRule.Platform.INTERVALS_ICU, "i-1", MORNING, 60, 30.2),
+                fingerprint(PrecedenceRule.Platform.INTERVALS_ICU, "i-2", MORNING, 60, 30.0)),
+                List.of(fingerprint(PrecedenceRule.Platform.GARMIN, "g-1", MORNING, 60, 30.1)));
+
+        // Then
+        assertThat(result.requiresReview()).isEqualTo(1);
+        assertThat(conflictRepository.findRequiresReview()).singleElement()
+                .satisfies(conflict -> assertThat(conflict.conflictingRecords()).containsOnlyKeys(
+                        PrecedenceRule.Platform.GARMIN, "intervals.icu:i-1", "intervals.icu:i-2"));
+    }
+
+    private static ActivityFingerprint fingerprint(
+            String platform, String activityId, LocalDateTime start, double minutes, Double distanceKm) {
+        return new ActivityFingerprint("athlete-1", platform, activityId, start, minutes, distanceKm);
+    }
+}
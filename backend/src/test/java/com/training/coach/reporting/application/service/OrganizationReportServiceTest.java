@@ -0,0 +1,297 @@
+package com.training.coach.reporting.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteProfile;
+import com.training.coach.athlete.domain.model.TrainingMetrics;
+import com.training.coach.athlete.domain.model.TrainingPreferences;
+import com.training.coach.reporting.domain.model.OrganizationReport;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Centimeters;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.shared.domain.unit.Vo2Max;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.inmemory.InMemoryActivityRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteDirectory;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWeeklyReportRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Organization Report Service Tests")
+class OrganizationReportServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 1, 5);
+    private static final LocalDate WEEK_END = LocalDate.of(2026, 1, 11);
+
+    private InMemoryAthleteRepository athleteRepository;
+    private InMemoryWeeklyReportRepository reportRepository;
+    private InMemoryWellnessRepository wellnessRepository;
+    private InMemoryActivityRepository activityRepository;
+    private ExecutorService executor;
+    private OrganizationReportService service;
+
+    @BeforeEach
+    void setUp() {
+        athleteRepository = new InMemoryAthleteRepository();
+        reportRepository = new InMemoryWeeklyReportRepository();
+        wellnessRepository = new InMemoryWellnessRepository();
+        activityRepository = new InMemoryActivityRepository();
+        executor = Executors.newFixedThreadPool(4);
+        service = new OrganizationReportService(
+                new InMemoryAthleteDirectory(athleteRepository),
+                reportRepository,
+                wellnessRepository,
+                activityRepository,
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should combine stored rollups with rollups computed from raw data")
+    void shouldCombineStoredAndComputedRollups() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        athleteRepository.save(createTestAthlete("athlete-2"));
+        athleteRepository.save(createTestAthlete("athlete-3"));
+        reportRepository.save(WeeklyReport.create(
+                "athlete-1",
+                "Athlete athlete-1",
+                WEEK_START,
+                WEEK_END,
+                WeeklyReport.ReadinessTrend.fromMap(Map.of(WEEK_START, 80.0)),
+                new WeeklyReport.ComplianceSummary(90.0, 100.0, 80.0, 0.0, List.of()),
+                List.of(),
+                List.of("Endurance Ride")));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-2", WEEK_START, null, null, null, 60.0));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-2", WEEK_START.plusDays(1), null, null, null, 70.0));
+        activityRepository.save(createActivity("athlete-2", WEEK_START.plusDays(1)));
+
+        // When
+        OrganizationReport report = service.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString())
+                .value()
+                .orElseThrow();
+
+        // Then
+        assertThat(report.totalAthletes()).isEqualTo(3);
+        assertThat(report.activeAthletes()).isEqualTo(2);
+        assertThat(report.averageReadiness()).isEqualTo(72.5);
+        assertThat(report.averageCompliance()).isEqualTo(90.0);
+        assertThat(report.athleteSummaries())
+                .filteredOn(summary -> summary.athleteId().equals("athlete-2"))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.readinessScore()).isEqualTo(65.0);
+                    assertThat(summary.compliancePercent()).isNull();
+                    assertThat(summary.recentActivitiesCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("Should leave athletes without planned workouts out of the average compliance")
+    void shouldExcludeAthletesWithoutPlanFromCompliance() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        athleteRepository.save(createTestAthlete("athlete-2"));
+        reportRepository.save(storedReport("athlete-1", new WeeklyReport.ComplianceSummary(
+                60.0, 100.0, 80.0, 0.0, List.of(), 5)));
+        reportRepository.save(storedReport("athlete-2", new WeeklyReport.ComplianceSummary(
+                100.0, 100.0, 100.0, 30.0, List.of(), 0)));
+
+        // When
+        OrganizationReport report = service.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString())
+                .value()
+                .orElseThrow();
+
+        // Then
+        assertThat(report.activeAthletes()).isEqualTo(2);
+        assertThat(report.averageCompliance()).isEqualTo(60.0);
+        assertThat(report.athleteSummaries())
+                .extracting(OrganizationReport.AthleteSummary::athleteId,
+                        OrganizationReport.AthleteSummary::compliancePercent)
+                .containsExactlyInAnyOrder(tuple("athlete-1", 60.0), tuple("athlete-2", null));
+    }
+
+    @Test
+    @DisplayName("Should report no average compliance when no athlete had planned workouts")
+    void shouldReportNoComplianceWithoutPlans() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-1", WEEK_START, null, null, null, 75.0));
+
+        // When
+        OrganizationReport report = service.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString())
+                .value()
+                .orElseThrow();
+
+        // Then
+        assertThat(report.activeAthletes()).isEqualTo(1);
+        assertThat(report.averageCompliance()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should combine the stored weeks that cover a multi-week period")
+    void shouldCombineStoredWeeksCoveringThePeriod() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        reportRepository.save(storedReport("athlete-1", WEEK_START, 60.0, new WeeklyReport.ComplianceSummary(
+                80.0, 100.0, 80.0, 0.0, List.of(), 5)));
+        reportRepository.save(storedReport("athlete-1", WEEK_START.plusWeeks(1), 80.0,
+                new WeeklyReport.ComplianceSummary(100.0, 100.0, 100.0, 0.0, List.of(), 4)));
+
+        // When
+        OrganizationReport report = service.getOrganizationReport(
+                        WEEK_START.toString(), WEEK_END.plusWeeks(1).toString())
+                .value()
+                .orElseThrow();
+
+        // Then
+        assertThat(report.averageReadiness()).isEqualTo(70.0);
+        assertThat(report.averageCompliance()).isEqualTo(90.0);
+        assertThat(report.athleteSummaries()).singleElement()
+                .satisfies(summary -> assertThat(summary.recentActivitiesCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should compute from raw data when stored weeks only cover part of the period")
+    void shouldComputeWhenStoredWeeksDoNotCoverThePeriod() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        reportRepository.save(storedReport("athlete-1", WEEK_START, 60.0, new WeeklyReport.ComplianceSummary(
+                80.0, 100.0, 80.0, 0.0, List.of(), 5)));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-1", WEEK_START, null, null, null, 60.0));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-1", WEEK_START.plusWeeks(1), null, null, null, 90.0));
+
+        // When
+        OrganizationReport report = service.getOrganizationReport(
+                        WEEK_START.toString(), WEEK_END.plusWeeks(1).toString())
+                .value()
+                .orElseThrow();
+
+        // Then
+        assertThat(report.averageReadiness()).isEqualTo(75.0);
+    }
+
+    @Test
+    @DisplayName("Should run chunks on the caller when the reporting executor is saturated")
+    void shouldRunChunksOnCallerWhenExecutorRejects() {
+        // Given
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        OrganizationReportService saturatedService = new OrganizationReportService(
+                new InMemoryAthleteDirectory(athleteRepository),
+                reportRepository,
+                wellnessRepository,
+                activityRepository,
+                saturated);
+        int athletes =
+                OrganizationReportService.ROLLUP_CHUNK_SIZE * (OrganizationReportService.MAX_PARALLEL_CHUNKS + 2);
+        for (int i = 0; i < athletes; i++) {
+            athleteRepository.save(createTestAthlete("athlete-" + i));
+        }
+        wellnessRepository.save(WellnessSnapshot.create("athlete-0", WEEK_START, null, null, null, 75.0));
+
+        // When
+        OrganizationReport report;
+        try {
+            report = saturatedService.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString())
+                    .value()
+                    .orElseThrow();
+        } finally {
+            saturated.shutdownNow();
+        }
+
+        // Then
+        assertThat(report.totalAthletes()).isEqualTo(athletes);
+        assertThat(report.activeAthletes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not persist weekly reports while building the organization report")
+    void shouldNotWriteReports() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        wellnessRepository.save(WellnessSnapshot.create("athlete-1", WEEK_START, null, null, null, 75.0));
+
+        // When
+        service.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString());
+
+        // Then
+        assertThat(reportRepository.findByAthleteId("athlete-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return an empty report when there are no athletes")
+    void shouldHandleNoAthletes() {
+        OrganizationReport report = service.getOrganizationReport(WEEK_START.toString(), WEEK_END.toString())
+                .value()
+                .orElseThrow();
+
+        assertThat(report.totalAthletes()).isZero();
+        assertThat(report.athleteSummaries()).isEmpty();
+    }
+
+    private WeeklyReport storedReport(String athleteId, WeeklyReport.ComplianceSummary compliance) {
+        return WeeklyReport.create(
+                athleteId,
+                "Athlete " + athleteId,
+                WEEK_START,
+                WEEK_END,
+                WeeklyReport.ReadinessTrend.fromMap(Map.of(WEEK_START, 70.0)),
+                compliance,
+                List.of(),
+                List.of("Endurance Ride"));
+    }
+
+    private WeeklyReport storedReport(
+            String athleteId, LocalDate weekStart, double readiness, WeeklyReport.ComplianceSummary compliance) {
+        return WeeklyReport.create(
+                athleteId,
+                "Athlete " + athleteId,
+                weekStart,
+                weekStart.plusDays(6),
+                WeeklyReport.ReadinessTrend.fromMap(Map.of(weekStart, readiness)),
+                compliance,
+                List.of(),
+                List.of("Endurance Ride"));
+    }
+
+    private ActivityLight createActivity(String athleteId, LocalDate date) {
+        return ActivityLight.create(
+                athleteId, "ext-" + date, date, "Endurance Ride", "Ride", Seconds.of(3600), null, null, null, null, null, null);
+    }
+
+    private Athlete createTestAthlete(String id) {
+        AthleteProfile profile =
+                new AthleteProfile("male", 30, Kilograms.of(75.0), Centimeters.of(175.0), "intermediate");
+        TrainingMetrics metrics =
+                new TrainingMetrics(Watts.of(250.0), BeatsPerMinute.of(180.0), Vo2Max.of(45.0), Kilograms.of(75.0));
+        TrainingPreferences preferences =
+                new TrainingPreferences(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), Hours.of(8.0), "base");
+        return new Athlete(id, "Athlete " + id, profile, metrics, preferences);
+    }
+}
@@ -0,0 +1,174 @@
+package com.training.coach.reporting.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.reporting.infrastructure.persistence.WeeklyReportRepositoryAdapter;
+import com.training.coach.testconfig.inmemory.InMemoryWeeklyReportRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+@DisplayName("Weekly Report Export Service Tests")
+class WeeklyReportExportServiceTest {
+
+    private static final LocalDate FIRST_WEEK = LocalDate.of(2025, 1, 6);
+
+    private InMemoryWeeklyReportRepository repository;
+    private ExecutorService executor;
+    private WeeklyReportExportService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryWeeklyReportRepository();
+        executor = Executors.newSingleThreadExecutor();
+        service = new WeeklyReportExportService(repository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should export every week of a multi-year range exactly once and in order")
+    void shouldExportEveryWeekOfRange() {
+        // Given
+        for (int week = 0; week < 60; week++) {
+            repository.save(report("athlete-1", FIRST_WEEK.plusWeeks(week), List.of()));
+            repository.save(report("athlete-2", FIRST_WEEK.plusWeeks(week), List.of()));
+        }
+        LocalDate endDate = FIRST_WEEK.plusWeeks(60).minusDays(1);
+
+        // When
+        String csv = write(out -> service.writeCsv(List.of("athlete-1", "athlete-2"), FIRST_WEEK, endDate, out));
+
+        // Then
+        List<String> rows = csv.lines().toList();
+        assertThat(rows).hasSize(121);
+        assertThat(rows.get(0)).startsWith("Athlete ID,Athlete Name,Week Start");
+        assertThat(rows.get(1)).startsWith("athlete-1,Athlete One," + FIRST_WEEK);
+        assertThat(rows.get(60)).startsWith("athlete-1,Athlete One," + FIRST_WEEK.plusWeeks(59));
+        assertThat(rows.get(61)).startsWith("athlete-2,Athlete One," + FIRST_WEEK);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV cells containing separators and quotes")
+    void shouldQuoteCsvCells() {
+        // Given
+        WeeklyReport report = report("athlete-1", FIRST_WEEK, List.of("Ride, \"easy\" spin"));
+
+        // When
+        String csv = write(out -> service.writeCsv(report, out));
+
+        // Then
+        assertThat(csv).contains("COMPLETED ACTIVITIES\nActivity Details\n\"Ride, \"\"easy\"\" spin\"\n");
+        assertThat(csv).contains("Date,Readiness Score\n" + FIRST_WEEK + ",72.5\n");
+    }
+
+    @Test
+    @DisplayName("Should stream valid JSON with escaped strings")
+    void shouldStreamValidJson() throws Exception {
+        // Given
+        repository.save(report("athlete-1", FIRST_WEEK, List.of("Tempo \"over/under\"\n2x20")));
+        repository.save(report("athlete-1", FIRST_WEEK.plusWeeks(1), List.of()));
+
+        // When
+        byte[] streamed = DataBufferUtils.join(
+                        service.streamJson(List.of("athlete-1"), FIRST_WEEK, FIRST_WEEK.plusWeeks(2)))
+                .map(this::drain)
+                .block();
+
+        // Then
+        JsonNode root = new ObjectMapper().readTree(streamed);
+        assertThat(root.get("reports")).hasSize(2);
+        JsonNode first = root.get("reports").get(0);
+        assertThat(first.get("athlete").get("id").asText()).isEqualTo("athlete-1");
+        assertThat(first.get("completedActivities").get(0).asText()).isEqualTo("Tempo \"over/under\"\n2x20");
+        assertThat(first.get("readiness").get("dailyScores").get(FIRST_WEEK.toString()).asDouble())
+                .isEqualTo(72.5);
+    }
+
+    @Test
+    @DisplayName("Should export an anonymized report as stored after erasure")
+    void shouldExportAnonymizedReport() throws Exception {
+        // Given the report parts as the privacy eraser leaves them
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        WeeklyReport anonymized = new WeeklyReport(
+                "report-1",
+                "erased-1",
+                "erased-1",
+                FIRST_WEEK,
+                FIRST_WEEK.plusDays(6),
+                mapper.readValue(WeeklyReportRepositoryAdapter.EMPTY_READINESS_TREND_JSON,
+                        WeeklyReport.ReadinessTrend.class),
+                mapper.readValue(WeeklyReportRepositoryAdapter.EMPTY_COMPLIANCE_JSON,
+                        WeeklyReport.ComplianceSummary.class),
+                mapper.readValue(WeeklyReportRepositoryAdapter.EMPTY_LIST_JSON, new TypeReference<List<String>>() {}),
+                mapper.readValue(WeeklyReportRepositoryAdapter.EMPTY_LIST_JSON, new TypeReference<List<String>>() {}),
+                null);
+        repository.save(anonymized);
+
+        // When
+        String csv = write(out -> service.writeCsv(anonymized, out));
+        byte[] streamed = DataBufferUtils.join(
+                        service.streamJson(List.of("erased-1"), FIRST_WEEK, FIRST_WEEK.plusWeeks(1)))
+                .map(this::drain)
+                .block();
+
+        // Then
+        assertThat(csv).contains("erased-1").doesNotContain("Athlete One");
+        JsonNode first = new ObjectMapper().readTree(streamed).get("reports").get(0);
+        assertThat(first.get("readiness").get("dailyScores")).isEmpty();
+        assertThat(first.get("keyNotes")).isEmpty();
+        assertThat(first.get("completedActivities")).isEmpty();
+    }
+
+    private byte[] drain(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private String write(ThrowingWriter writer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writer.write(out);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private WeeklyReport report(String athleteId, LocalDate weekStart, List<String> activities) {
+        return WeeklyReport.create(
+                athleteId,
+                "Athlete One",
+                weekStart,
+                weekStart.plusDays(6),
+                WeeklyReport.ReadinessTrend.fromMap(Map.of(weekStart, 72.5)),
+                WeeklyReport.ComplianceSummary.empty(),
+                List.of("Readiness remained stable this week"),
+                activities);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingWriter {
+        void write(ByteArrayOutputStream out) throws Exception;
+    }
+}
@@ -0,0 +1,150 @@
+package com.training.coach.reporting.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.analysis.application.service.DistributionAnalyzer;
+import com.training.coach.analysis.application.service.ZoneDistributionService;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteProfile;
+import com.training.coach.athlete.domain.model.TrainingMetrics;
+import com.training.coach.athlete.domain.model.TrainingPreferences;
+import com.training.coach.reporting.application.service.WeeklyReportMaterializationService.MaterializationResult;
+import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Centimeters;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.shared.domain.unit.Vo2Max;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPlanRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReportDataChangeRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWeeklyReportRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWorkoutMatchRepository;
+import com.training.coach.testconfig.inmemory.InMemoryZoneDistributionRepository;
+import com.training.coach.workout.application.service.ActivityMatchingService;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Weekly Report Materialization Service Tests")
+class WeeklyReportMaterializationServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 1, 5);
+
+    private InMemoryAthleteRepository athleteRepository;
+    private InMemoryWeeklyReportRepository reportRepository;
+    private InMemoryReportDataChangeRepository dataChangeRepository;
+    private ExecutorService executor;
+    private WeeklyReportMaterializationService service;
+
+    @BeforeEach
+    void setUp() {
+        athleteRepository = new InMemoryAthleteRepository();
+        reportRepository = new InMemoryWeeklyReportRepository();
+        dataChangeRepository = new InMemoryReportDataChangeRepository();
+        executor = Executors.newFixedThreadPool(2);
+        WeeklyReportService weeklyReportService = new WeeklyReportService(
+                reportRepository,
+                athleteRepository,
+                new InMemoryWellnessRepository(),
+                new ActivityMatchingService(new InMemoryPlanRepository(), new InMemoryWorkoutMatchRepository()),
+                new ZoneDistributionService(new InMemoryZoneDistributionRepository(), new DistributionAnalyzer()));
+        service = new WeeklyReportMaterializationService(
+                weeklyReportService, reportRepository, athleteRepository, dataChangeRepository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should materialize the previous week once per athlete and skip it when unchanged")
+    void shouldMaterializePreviousWeekOnce() {
+        // Given
+        for (int i = 0; i < WeeklyReportMaterializationService.BATCH_SIZE + 5; i++) {
+            athleteRepository.save(createTestAthlete("athlete-" + i));
+        }
+        LocalDate today = WEEK_START.plusWeeks(1).plusDays(2);
+
+        // When
+        MaterializationResult first = service.materializePreviousWeek(today);
+        MaterializationResult second = service.materializePreviousWeek(today);
+
+        // Then
+        assertThat(first.weekStart()).isEqualTo(WEEK_START);
+        assertThat(first.weekEnd()).isEqualTo(WEEK_START.plusDays(6));
+        assertThat(first.generated()).isEqualTo(WeeklyReportMaterializationService.BATCH_SIZE + 5);
+        assertThat(second.generated()).isZero();
+        assertThat(second.skipped()).isEqualTo(WeeklyReportMaterializationService.BATCH_SIZE + 5);
+        assertThat(reportRepository.findByAthleteId("athlete-0")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the stored report while its data is unchanged")
+    void shouldServeStoredReport() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        service.materializeWeek(WEEK_START);
+        WeeklyReport stored = reportRepository.findByAthleteIdAndWeek("athlete-1", WEEK_START).orElseThrow();
+        dataChangeRepository.recordChange("athlete-1", WEEK_START.plusDays(1), Instant.now().minusSeconds(3600));
+
+        // When
+        WeeklyReport served = service.getWeeklyReport("athlete-1", WEEK_START);
+
+        // Then
+        assertThat(served).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("Should regenerate the report in place when its data changed after generation")
+    void shouldRegenerateStaleReport() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        service.materializeWeek(WEEK_START);
+        WeeklyReport stored = reportRepository.findByAthleteIdAndWeek("athlete-1", WEEK_START).orElseThrow();
+        dataChangeRepository.recordChange("athlete-1", WEEK_START.plusDays(3), Instant.now().plusSeconds(3600));
+
+        // When
+        WeeklyReport served = service.getWeeklyReport("athlete-1", WEEK_START);
+
+        // Then
+        assertThat(served.id()).isEqualTo(stored.id());
+        assertThat(served.metadata().generatedAt()).isAfterOrEqualTo(stored.metadata().generatedAt());
+        assertThat(served).isNotSameAs(stored);
+        assertThat(reportRepository.findByAthleteId("athlete-1")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should generate a missing report on first read")
+    void shouldGenerateMissingReportOnRead() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+
+        // When
+        WeeklyReport served = service.getWeeklyReport("athlete-1", WEEK_START);
+
+        // Then
+        assertThat(served.weekEnd()).isEqualTo(WEEK_START.plusDays(6));
+        assertThat(reportRepository.findByAthleteIdAndWeek("athlete-1", WEEK_START)).contains(served);
+    }
+
+    private Athlete createTestAthlete(String id) {
+        AthleteProfile profile =
+                new AthleteProfile("male", 30, Kilograms.of(75.0), Centimeters.of(175.0), "intermediate");
+        TrainingMetrics metrics =
+                new TrainingMetrics(Watts.of(250.0), BeatsPerMinute.of(180.0), Vo2Max.of(45.0), Kilograms.of(75.0));
+        Set<DayOfWeek> availableDays = Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        TrainingPreferences preferences = new TrainingPreferences(availableDays, Hours.of(8.0), "base");
+        return new Athlete(id, "Athlete " + id, profile, metrics, preferences);
+    }
+}
@@ -21,7 +21,7 @@ class WeeklyReportServiceTest {
     @BeforeEach
     void setUp() {
         repository = new InMemoryWeeklyReportRepository();
-        service = new WeeklyReportService(repository, null, null);
+        service = new WeeklyReportService(repository, null, null, null, null);
     }
 
     @Test
@@ -0,0 +1,235 @@
+package com.training.coach.scheduler.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.training.coach.scheduler.domain.model.JobRun;
+import com.training.coach.testconfig.inmemory.InMemoryJobLeaseRepository;
+import com.training.coach.testconfig.inmemory.InMemoryJobRunRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Cluster Job Runner Tests")
+class ClusterJobRunnerTest {
+
+    private static final String CRON = "0 0 2 * * *";
+    private static final ZonedDateTime FIRE_TIME = ZonedDateTime.of(2026, 3, 4, 2, 0, 0, 0, ZoneOffset.UTC);
+
+    private InMemoryJobLeaseRepository leaseRepository;
+    private InMemoryJobRunRepository runRepository;
+    private ClusterJobRunner nodeA;
+    private ClusterJobRunner nodeB;
+    private List<String> ranOn;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository = new InMemoryJobLeaseRepository();
+        runRepository = new InMemoryJobRunRepository();
+        nodeA = runner("node-a");
+        nodeB = runner("node-b");
+        ranOn = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    @Test
+    @DisplayName("Should run each cron occurrence on exactly one node, however late the other nodes fire")
+    void shouldRunEachOccurrenceOnce() {
+        // When
+        boolean first = nodeA.runOnce("nightly-sync", CRON, () -> ranOn.add("node-a"), FIRE_TIME);
+        boolean late = nodeB.runOnce("nightly-sync", CRON, () -> ranOn.add("node-b"), FIRE_TIME.plusMinutes(3));
+        boolean again = nodeA.runOnce("nightly-sync", CRON, () -> ranOn.add("node-a"), FIRE_TIME.plusSeconds(1));
+        boolean nextDay = nodeB.runOnce("nightly-sync", CRON, () -> ranOn.add("node-b"), FIRE_TIME.plusDays(1));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(late).isFalse();
+        assertThat(again).isFalse();
+        assertThat(nextDay).isTrue();
+        assertThat(ranOn).containsExactly("node-a", "node-b");
+        assertThat(runRepository.findRecent("nightly-sync", 10))
+                .extracting(JobRun::owner, JobRun::occurrence, JobRun::status)
+                .containsExactly(
+                        tuple("node-b", FIRE_TIME.plusDays(1).toInstant(), JobRun.RunStatus.SUCCEEDED),
+                        tuple("node-a", FIRE_TIME.toInstant(), JobRun.RunStatus.SUCCEEDED));
+    }
+
+    @Test
+    @DisplayName("Should record a failed run and mark a run left behind by a dead node as abandoned")
+    void shouldRecordFailuresAndAbandonedRuns() {
+        // Given a node that claimed an occurrence and died before finishing it
+        Instant crashedOccurrence = FIRE_TIME.minusDays(1).toInstant();
+        leaseRepository.tryAcquireOccurrence("nightly-sync", "node-a", crashedOccurrence, crashedOccurrence,
+                crashedOccurrence.plus(Duration.ofHours(2)));
+        runRepository.save(JobRun.start("nightly-sync", crashedOccurrence, "node-a", crashedOccurrence));
+
+        // When
+        boolean ran = nodeB.runOnce("nightly-sync", CRON, () -> {
+            throw new IllegalStateException("platform unavailable");
+        }, FIRE_TIME);
+
+        // Then
+        assertThat(ran).isTrue();
+        List<JobRun> runs = runRepository.findRecent(null, 10);
+        assertThat(runs).hasSize(2);
+        assertThat(runs.get(0).owner()).isEqualTo("node-b");
+        assertThat(runs.get(0).status()).isEqualTo(JobRun.RunStatus.FAILED);
+        assertThat(runs.get(0).errorMessage()).isEqualTo("platform unavailable");
+        assertThat(runs.get(0).durationMillis()).isNotNull();
+        assertThat(runs.get(1).owner()).isEqualTo("node-a");
+        assertThat(runs.get(1).status()).isEqualTo(JobRun.RunStatus.ABANDONED);
+        assertThat(leaseRepository.findAll()).singleElement()
+                .satisfies(lease -> assertThat(lease.isHeldAt(Instant.now())).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should keep a continuous job on its leader and hand it over once the leader stops renewing")
+    void shouldHandOverLeadershipAfterLeaseExpiry() {
+        // Given
+        Instant start = FIRE_TIME.toInstant();
+
+        // When
+        boolean aLeads = nodeA.runAsLeader("notification-dispatch", () -> ranOn.add("node-a"), start);
+        boolean bWhileALives = nodeB.runAsLeader(
+                "notification-dispatch", () -> ranOn.add("node-b"), start.plusSeconds(10));
+        boolean aRenews = nodeA.runAsLeader(
+                "notification-dispatch", () -> ranOn.add("node-a"), start.plusSeconds(20));
+        boolean bBeforeExpiry = nodeB.runAsLeader(
+                "notification-dispatch", () -> ranOn.add("node-b"), start.plusSeconds(45));
+        boolean bAfterExpiry = nodeB.runAsLeader(
+                "notification-dispatch", () -> ranOn.add("node-b"), start.plusSeconds(51));
+        boolean aReturns = nodeA.runAsLeader(
+                "notification-dispatch", () -> ranOn.add("node-a"), start.plusSeconds(52));
+
+        // Then
+        assertThat(aLeads).isTrue();
+        assertThat(bWhileALives).isFalse();
+        assertThat(aRenews).isTrue();
+        assertThat(bBeforeExpiry).isFalse();
+        assertThat(bAfterExpiry).isTrue();
+        assertThat(aReturns).isFalse();
+        assertThat(ranOn).containsExactly("node-a", "node-a", "node-b");
+    }
+
+    @Test
+    @DisplayName("Should run an occurrence again once the node that claimed it stops before finishing")
+    void shouldResumeAbandonedOccurrence() {
+        // Given node-a claimed tonight's occurrence and died while running it
+        Instant occurrence = FIRE_TIME.toInstant();
+        leaseRepository.tryAcquireOccurrence("nightly-sync", "node-a", occurrence, occurrence,
+                occurrence.plus(Duration.ofHours(2)));
+        runRepository.save(JobRun.start("nightly-sync", occurrence, "node-a", occurrence));
+
+        // When
+        boolean whileLeased = nodeB.runOnce("nightly-sync", CRON, () -> ranOn.add("node-b"), FIRE_TIME.plusMinutes(3));
+        int beforeExpiry = nodeB.resumeAbandoned(occurrence.plus(Duration.ofMinutes(90)));
+        int afterExpiry = nodeB.resumeAbandoned(occurrence.plus(Duration.ofHours(2)).plusSeconds(1));
+        int onceFinished = nodeB.resumeAbandoned(occurrence.plus(Duration.ofHours(5)));
+
+        // Then
+        assertThat(whileLeased).isFalse();
+        assertThat(beforeExpiry).isZero();
+        assertThat(afterExpiry).isEqualTo(1);
+        assertThat(onceFinished).isZero();
+        assertThat(ranOn).containsExactly("node-b");
+        assertThat(runRepository.findRecent("nightly-sync", 10))
+                .extracting(JobRun::owner, JobRun::occurrence, JobRun::status)
+                .containsExactly(
+                        tuple("node-b", occurrence, JobRun.RunStatus.SUCCEEDED),
+                        tuple("node-a", occurrence, JobRun.RunStatus.ABANDONED));
+    }
+
+    @Test
+    @DisplayName("Should let a late trigger take over an occurrence whose node stopped before finishing")
+    void shouldTakeOverAbandonedOccurrenceOnLateTrigger() {
+        // Given
+        Instant occurrence = FIRE_TIME.toInstant();
+        leaseRepository.tryAcquireOccurrence("nightly-sync", "node-a", occurrence, occurrence,
+                occurrence.plus(Duration.ofHours(2)));
+        runRepository.save(JobRun.start("nightly-sync", occurrence, "node-a", occurrence));
+
+        // When
+        boolean late = nodeB.runOnce("nightly-sync", CRON, () -> ranOn.add("node-b"), FIRE_TIME.plusHours(3));
+        boolean again = nodeA.runOnce("nightly-sync", CRON, () -> ranOn.add("node-a"), FIRE_TIME.plusHours(6));
+
+        // Then
+        assertThat(late).isTrue();
+        assertThat(again).isFalse();
+        assertThat(ranOn).containsExactly("node-b");
+    }
+
+    @Test
+    @DisplayName("Should renew the leader lease during a long run and stop the run once the lease is lost")
+    void shouldRenewLeaderLeaseDuringRun() {
+        // Given
+        Instant start = FIRE_TIME.toInstant();
+        Instant[] clock = {start};
+        List<Boolean> renewals = new ArrayList<>();
+
+        // When node-a renews every 25 seconds for a minute, then stalls past its lease while node-b takes over
+        boolean aLeads = nodeA.runAsLeader("notification-dispatch", renew -> {
+            for (int seconds = 25; seconds <= 75; seconds += 25) {
+                clock[0] = start.plusSeconds(seconds);
+                renewals.add(renew.getAsBoolean());
+                renewals.add(nodeB.runAsLeader("notification-dispatch", () -> ranOn.add("node-b"), clock[0]));
+            }
+            clock[0] = start.plusSeconds(120);
+            nodeB.runAsLeader("notification-dispatch", () -> ranOn.add("node-b"), start.plusSeconds(110));
+            renewals.add(renew.getAsBoolean());
+        }, start, () -> clock[0]);
+
+        // Then
+        assertThat(aLeads).isTrue();
+        assertThat(renewals).containsExactly(true, false, true, false, true, false, false);
+        assertThat(ranOn).containsExactly("node-b");
+    }
+
+    @Test
+    @DisplayName("Should keep a running occurrence on its node past the lease while the node heartbeats")
+    void shouldHeartbeatWhileRunning() {
+        // Given node-a heartbeats every 20 ms with a lease that ran out long ago
+        ClusterJobRunner heartbeating = new ClusterJobRunner(leaseRepository, runRepository,
+                new SchedulerProperties(
+                        "node-a", Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofMillis(20)));
+        int[] resumedDuringRun = new int[1];
+
+        // When node-b sweeps for abandoned occurrences while node-a is still running, hours after the fire time
+        boolean ran = heartbeating.runOnce("nightly-sync", CRON, () -> {
+            // node-b has fired the job too, so its sweep covers it
+            nodeB.runOnce("nightly-sync", CRON, () -> {}, FIRE_TIME.minusDays(1));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (leaseRepository.findAll().stream().noneMatch(lease -> lease.isHeldAt(Instant.now()))
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            resumedDuringRun[0] = nodeB.resumeAbandoned(FIRE_TIME.plusHours(3).toInstant());
+            ranOn.add("node-a");
+        }, FIRE_TIME);
+        heartbeating.destroy();
+
+        // Then
+        assertThat(ran).isTrue();
+        assertThat(resumedDuringRun[0]).isZero();
+        assertThat(ranOn).containsExactly("node-a");
+        assertThat(runRepository.findRecent("nightly-sync", 1))
+                .extracting(JobRun::owner, JobRun::status)
+                .containsExactly(tuple("node-a", JobRun.RunStatus.SUCCEEDED));
+    }
+
+    private ClusterJobRunner runner(String nodeId) {
+        return new ClusterJobRunner(leaseRepository, runRepository,
+                new SchedulerProperties(nodeId, Duration.ofHours(2), Duration.ofSeconds(30), Duration.ofSeconds(30)));
+    }
+}
@@ -0,0 +1,233 @@
+package com.training.coach.shared.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.activity.infrastructure.adapter.ActivityR2dbcRepositoryAdapter;
+import com.training.coach.activity.infrastructure.adapter.ActivityRepositoryAdapter;
+import com.training.coach.activity.infrastructure.persistence.ActivityJpaRepository;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilometers;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.H2TestDatabase;
+import com.training.coach.wellness.domain.model.PhysiologicalData;
+import com.training.coach.wellness.domain.model.SleepMetrics;
+import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.wellness.infrastructure.adapter.WellnessR2dbcRepositoryAdapter;
+import com.training.coach.wellness.infrastructure.adapter.WellnessRepositoryAdapter;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compares the JPA and R2DBC adapters on one H2 database at high concurrency. Both get a pool of
+ * {@value #POOL_SIZE} connections; JPA callers block on virtual threads as blocking controller methods do, R2DBC
+ * callers do not block at all.
+ *
+ * <p>Run with {@code mvn test -Dtest=PersistenceAdapterBenchmarkTest -Dbenchmark=true}; results are logged. The
+ * assertions only check that every contender read and wrote the same rows, as timings vary by machine.</p>
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Persistence Adapter Benchmark")
+class PersistenceAdapterBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceAdapterBenchmarkTest.class);
+
+    private static final int POOL_SIZE = 16;
+    private static final int CONCURRENCY = 256;
+    private static final int ATHLETES = 200;
+    private static final int DAYS = 365;
+    private static final int REQUESTS = 4_000;
+    private static final int RANGE_DAYS = 90;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private H2TestDatabase database;
+    private WellnessRepositoryAdapter jpaWellness;
+    private WellnessR2dbcRepositoryAdapter r2dbcWellness;
+    private ActivityRepositoryAdapter jpaActivities;
+    private ActivityR2dbcRepositoryAdapter r2dbcActivities;
+    private ExecutorService virtualThreads;
+
+    @BeforeAll
+    void setUp() {
+        database = new H2TestDatabase(POOL_SIZE, 500, 200);
+        jpaWellness = new WellnessRepositoryAdapter(database.jpaRepository(WellnessJpaRepository.class));
+        r2dbcWellness = new WellnessR2dbcRepositoryAdapter(database.databaseClient(), database.r2dbcProperties());
+        jpaActivities = new ActivityRepositoryAdapter(database.jpaRepository(ActivityJpaRepository.class));
+        r2dbcActivities = new ActivityR2dbcRepositoryAdapter(database.databaseClient(), database.r2dbcProperties());
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterAll
+    void tearDown() {
+        virtualThreads.shutdownNow();
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should write and read a year of wellness for many athletes through both adapters")
+    void compareWellness() throws Exception {
+        // Given half the athletes written through each adapter
+        int half = ATHLETES / 2;
+        long jpaWritten = measure("wellness write, JPA saveAll", half * DAYS,
+                () -> blocking(half, athlete -> (long) jpaWellness.saveAll(year("athlete-" + athlete)).size()));
+        long r2dbcWritten = measure("wellness write, R2DBC upsert", half * DAYS,
+                () -> reactive(half, athlete -> r2dbcWellness.upsertAll(year("athlete-" + (half + athlete)))));
+
+        // When
+        reactive(REQUESTS / 10, this::r2dbcWellnessRange);
+        blocking(REQUESTS / 10, this::jpaWellnessRange);
+        long jpaRead = measure("wellness range read, JPA on virtual threads", REQUESTS,
+                () -> blocking(REQUESTS, this::jpaWellnessRange));
+        long offloadedRead = measure("wellness range read, JPA offloaded", REQUESTS,
+                () -> reactive(REQUESTS, request -> jpaWellness
+                        .streamByAthleteIdAndDateRange(athleteFor(request), from(request), to(request))
+                        .count()));
+        long r2dbcRead = measure("wellness range read, R2DBC", REQUESTS,
+                () -> reactive(REQUESTS, this::r2dbcWellnessRange));
+
+        // Then
+        assertThat(jpaWritten).isEqualTo((long) half * DAYS);
+        assertThat(r2dbcWritten).isEqualTo((long) half * DAYS);
+        assertThat(jpaRead).isEqualTo(offloadedRead).isEqualTo(r2dbcRead)
+                .isEqualTo((long) REQUESTS * (RANGE_DAYS + 1));
+    }
+
+    @Test
+    @DisplayName("Should read activity ranges through both adapters")
+    void compareActivities() throws Exception {
+        // Given
+        r2dbcActivities.upsertAll(IntStream.range(0, ATHLETES)
+                        .boxed()
+                        .flatMap(athlete -> IntStream.range(0, DAYS)
+                                .mapToObj(day -> activity("athlete-" + athlete, START.plusDays(day))))
+                        .toList())
+                .block();
+
+        // When
+        reactive(REQUESTS / 10, this::r2dbcActivityRange);
+        blocking(REQUESTS / 10, this::jpaActivityRange);
+        long jpaRead = measure("activity range read, JPA on virtual threads", REQUESTS,
+                () -> blocking(REQUESTS, this::jpaActivityRange));
+        long r2dbcRead = measure("activity range read, R2DBC", REQUESTS,
+                () -> reactive(REQUESTS, this::r2dbcActivityRange));
+
+        // Then
+        assertThat(jpaRead).isEqualTo(r2dbcRead).isEqualTo((long) REQUESTS * (RANGE_DAYS + 1));
+    }
+
+    private long jpaWellnessRange(int request) {
+        return jpaWellness.findByAthleteIdAndDateRange(athleteFor(request), from(request), to(request)).size();
+    }
+
+    private Mono<Long> r2dbcWellnessRange(int request) {
+        return r2dbcWellness.streamByAthleteIdAndDateRange(athleteFor(request), from(request), to(request)).count();
+    }
+
+    private long jpaActivityRange(int request) {
+        return jpaActivities.findByAthleteIdAndDateRange(athleteFor(request), from(request), to(request)).size();
+    }
+
+    private Mono<Long> r2dbcActivityRange(int request) {
+        return r2dbcActivities.streamByAthleteIdAndDateRange(athleteFor(request), from(request), to(request)).count();
+    }
+
+    /**
+     * Runs the operations on virtual threads, at most {@link #CONCURRENCY} at a time.
+     */
+    private long blocking(int operations, IntFunction<Long> operation) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Future<Long>> results = new ArrayList<>(operations);
+        for (int index = 0; index < operations; index++) {
+            int current = index;
+            inFlight.acquire();
+            results.add(virtualThreads.submit(() -> {
+                try {
+                    return operation.apply(current);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get();
+        }
+        return total;
+    }
+
+    /**
+     * Subscribes to the operations without blocking, at most {@link #CONCURRENCY} at a time.
+     */
+    private static long reactive(int operations, IntFunction<Mono<Long>> operation) {
+        return Flux.range(0, operations)
+                .flatMap(operation::apply, CONCURRENCY)
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    private static long measure(String name, int operations, ThrowingSupplier run) throws Exception {
+        long started = System.nanoTime();
+        long rows = run.get();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        logger.info("{}: {} operations, {} rows in {} ms, {} operations/s",
+                name, operations, rows, Math.round(seconds * 1000), Math.round(operations / seconds));
+        return rows;
+    }
+
+    private static String athleteFor(int request) {
+        return "athlete-" + Math.floorMod(request * 7919, ATHLETES);
+    }
+
+    private static LocalDate from(int request) {
+        return START.plusDays(Math.floorMod(request * 31, DAYS - RANGE_DAYS));
+    }
+
+    private static LocalDate to(int request) {
+        return from(request).plusDays(RANGE_DAYS);
+    }
+
+    private static List<WellnessSnapshot> year(String athleteId) {
+        return IntStream.range(0, DAYS)
+                .mapToObj(day -> WellnessSnapshot.create(
+                        athleteId,
+                        START.plusDays(day),
+                        new PhysiologicalData(null, null, null, SleepMetrics.basic(Hours.of(7), 7)),
+                        SubjectiveWellness.create(4, 4, 7, 7, 3),
+                        new TrainingLoadSummary(60, 55, 58, -3, 75),
+                        50 + day % 40))
+                .toList();
+    }
+
+    private static ActivityLight activity(String athleteId, LocalDate date) {
+        return ActivityLight.create(
+                athleteId, "ride-" + date, date, "Endurance Ride", "Ride", Seconds.of(3600), Kilometers.of(30.0),
+                Watts.of(200), null, 60.0, 0.75, null);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        long get() throws Exception;
+    }
+}
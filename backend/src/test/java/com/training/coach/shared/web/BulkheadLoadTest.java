@@ -0,0 +1,179 @@
+package com.training.coach.shared.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@DisplayName("Bulkhead Load Tests")
+class BulkheadLoadTest {
+
+    private static final int SLOW_REQUESTS = 12;
+
+    private SlowReportController controller;
+    private BulkheadWebFilter filter;
+    private WebTestClient client;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, WebExecutionProperties.BulkheadGroup> groups = new LinkedHashMap<>();
+        groups.put("reports", new WebExecutionProperties.BulkheadGroup(
+                List.of("/api/reports/**"), 2, 4, Duration.ofSeconds(5)));
+        groups.put("default", new WebExecutionProperties.BulkheadGroup(
+                List.of("/api/**"), 16, 64, Duration.ofSeconds(1)));
+        filter = new BulkheadWebFilter(new WebExecutionProperties(true, 64, groups));
+        controller = new SlowReportController();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-request-");
+        executor.setVirtualThreads(true);
+        client = WebTestClient.bindToController(controller)
+                .webFilter(filter)
+                .blockingExecution(configurer -> configurer.setExecutor(executor))
+                .configureClient()
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+        callers = Executors.newFixedThreadPool(SLOW_REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should keep cheap reads fast while slow report queries saturate their own group")
+    void shouldNotStarveCheapReads() throws Exception {
+        // Given slow report requests holding every report slot and filling the report queue
+        List<Future<HttpStatus>> slow = new ArrayList<>();
+        for (int i = 0; i < SLOW_REQUESTS; i++) {
+            slow.add(callers.submit(() -> status("/api/reports/slow")));
+        }
+        awaitSnapshot(snapshot -> snapshot.active() == 2 && snapshot.queued() == 4);
+
+        // When
+        long started = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            client.get().uri("/api/athletes/cheap").exchange().expectStatus().isOk();
+        }
+        Duration cheapReads = Duration.ofNanos(System.nanoTime() - started);
+        controller.release.countDown();
+
+        // Then
+        assertThat(cheapReads).isLessThan(Duration.ofSeconds(2));
+        List<HttpStatus> statuses = new ArrayList<>();
+        for (Future<HttpStatus> request : slow) {
+            statuses.add(request.get(10, TimeUnit.SECONDS));
+        }
+        assertThat(statuses).filteredOn(status -> status == HttpStatus.OK).hasSize(6);
+        assertThat(statuses).filteredOn(status -> status == HttpStatus.SERVICE_UNAVAILABLE).hasSize(6);
+        assertThat(controller.maxConcurrentSlow).isEqualTo(2);
+        assertThat(controller.slowOnVirtualThreads).isTrue();
+        assertThat(reportsSnapshot().rejected()).isEqualTo(6);
+        assertThat(reportsSnapshot().active()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a queued request once it has waited too long for a slot")
+    void shouldRejectAfterMaxWait() throws Exception {
+        // Given
+        Map<String, WebExecutionProperties.BulkheadGroup> groups = Map.of("reports",
+                new WebExecutionProperties.BulkheadGroup(List.of("/api/reports/**"), 1, 4, Duration.ofMillis(200)));
+        BulkheadWebFilter impatient = new BulkheadWebFilter(new WebExecutionProperties(true, 64, groups));
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("blocking-request-");
+        executor.setVirtualThreads(true);
+        WebTestClient impatientClient = WebTestClient.bindToController(controller)
+                .webFilter(impatient)
+                .blockingExecution(configurer -> configurer.setExecutor(executor))
+                .configureClient()
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+        Future<?> holder = callers.submit(
+                () -> impatientClient.get().uri("/api/reports/slow").exchange().expectStatus().isOk());
+        awaitCondition(() -> impatient.snapshots().getFirst().active() == 1);
+
+        // When
+        long started = System.nanoTime();
+        impatientClient.get().uri("/api/reports/slow").exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader().valueEquals("Retry-After", "1");
+        Duration waited = Duration.ofNanos(System.nanoTime() - started);
+        controller.release.countDown();
+
+        // Then
+        holder.get(10, TimeUnit.SECONDS);
+        assertThat(waited).isBetween(Duration.ofMillis(150), Duration.ofSeconds(2));
+        assertThat(impatient.snapshots().getFirst().queued()).isZero();
+    }
+
+    private HttpStatus status(String uri) {
+        return HttpStatus.valueOf(client.get().uri(uri).exchange().returnResult(String.class).getStatus().value());
+    }
+
+    private Bulkhead.Snapshot reportsSnapshot() {
+        return filter.snapshots().getFirst();
+    }
+
+    private void awaitSnapshot(Predicate<Bulkhead.Snapshot> condition) throws InterruptedException {
+        awaitCondition(() -> condition.test(reportsSnapshot()));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @RestController
+    static class SlowReportController {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean slowOnVirtualThreads = true;
+        volatile int maxConcurrentSlow;
+        private int concurrentSlow;
+
+        @GetMapping("/api/reports/slow")
+        String slowReport() throws InterruptedException {
+            synchronized (this) {
+                concurrentSlow++;
+                maxConcurrentSlow = Math.max(maxConcurrentSlow, concurrentSlow);
+            }
+            slowOnVirtualThreads &= Thread.currentThread().isVirtual();
+            try {
+                // Stands in for a slow blocking query
+                release.await(10, TimeUnit.SECONDS);
+                return "report";
+            } finally {
+                synchronized (this) {
+                    concurrentSlow--;
+                }
+            }
+        }
+
+        @GetMapping("/api/athletes/cheap")
+        String cheapRead() {
+            return "athlete";
+        }
+    }
+}
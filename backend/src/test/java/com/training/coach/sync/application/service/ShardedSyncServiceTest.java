@@ -0,0 +1,223 @@
+package com.training.coach.sync.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.sync.domain.model.SyncBatchProgress;
+import com.training.coach.sync.domain.model.SyncShard;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemorySyncShardRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Sharded Sync Service Tests")
+class ShardedSyncServiceTest {
+
+    private static final LocalDate END = LocalDate.of(2026, 3, 4);
+    private static final LocalDate START = END.minusDays(7);
+    private static final SyncShardingProperties PROPERTIES = new SyncShardingProperties(
+            true, 4, 64, Duration.ofSeconds(15), Duration.ofMinutes(2), 2);
+
+    @Mock
+    private SyncService syncService;
+
+    private InMemorySyncShardRepository shardRepository;
+    private InMemoryAthleteRepository athleteRepository;
+    private AtomicReference<Instant> now;
+    private ScheduledExecutorService heartbeats;
+    private ShardedSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        shardRepository = new InMemorySyncShardRepository();
+        athleteRepository = new InMemoryAthleteRepository();
+        for (int i = 0; i < 40; i++) {
+            athleteRepository.save(new Athlete("athlete-" + i, "Athlete " + i, null, null, null));
+        }
+        now = new AtomicReference<>(Instant.parse("2026-03-04T02:00:00Z"));
+        heartbeats = Executors.newSingleThreadScheduledExecutor();
+        service = new ShardedSyncService(
+                shardRepository, athleteRepository, syncService, PROPERTIES, now::get, heartbeats);
+    }
+
+    @AfterEach
+    void tearDown() {
+        heartbeats.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should sync every athlete exactly once across nodes working the queue at the same time")
+    void shouldSyncEveryAthleteOnceAcrossNodes() throws Exception {
+        // Given
+        when(syncService.syncAthlete(anyString(), eq(START), eq(END)))
+                .thenAnswer(invocation -> SyncService.SyncResult.success(invocation.getArgument(0), 1, 1));
+        service.planBatch("2026-03-04", START, END);
+
+        // When
+        List<List<SyncBatchProgress>> finished;
+        try (ExecutorService nodes = Executors.newFixedThreadPool(3)) {
+            List<Future<List<SyncBatchProgress>>> workers = List.of(
+                    nodes.submit(() -> service.processAvailableShards("node-a")),
+                    nodes.submit(() -> service.processAvailableShards("node-b")),
+                    nodes.submit(() -> service.processAvailableShards("node-c")));
+            finished = List.of(workers.get(0).get(), workers.get(1).get(), workers.get(2).get());
+        }
+
+        // Then
+        for (int i = 0; i < 40; i++) {
+            verify(syncService, times(1)).syncAthlete("athlete-" + i, START, END);
+        }
+        SyncBatchProgress progress = service.progress("2026-03-04");
+        assertThat(progress.isFinished()).isTrue();
+        assertThat(progress.completedShards()).isEqualTo(4);
+        assertThat(progress.athletesTotal()).isEqualTo(40);
+        assertThat(progress.athletesDone()).isEqualTo(40);
+        assertThat(progress.successes()).isEqualTo(40);
+        assertThat(progress.shardsByOwner().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(4);
+        assertThat(finished).anySatisfy(batches -> assertThat(batches).extracting(SyncBatchProgress::batchId)
+                .containsExactly("2026-03-04"));
+    }
+
+    @Test
+    @DisplayName("Should take over a shard whose node stopped heartbeating")
+    void shouldStealStaleShard() {
+        // Given node-a claimed a shard and died
+        when(syncService.syncAthlete(anyString(), any(), any()))
+                .thenAnswer(invocation -> SyncService.SyncResult.success(invocation.getArgument(0), 1, 1));
+        service.planBatch("2026-03-04", START, END);
+        SyncShard abandoned = shardRepository.claimNext("node-a", now.get(), now.get().minusSeconds(120), 2)
+                .orElseThrow();
+
+        // When
+        List<SyncBatchProgress> beforeTimeout = service.processAvailableShards("node-b");
+        now.set(now.get().plus(Duration.ofMinutes(3)));
+        List<SyncBatchProgress> afterTimeout = service.processAvailableShards("node-b");
+
+        // Then
+        assertThat(beforeTimeout).isEmpty();
+        assertThat(afterTimeout).singleElement().satisfies(batch -> {
+            assertThat(batch.completedShards()).isEqualTo(4);
+            assertThat(batch.athletesDone()).isEqualTo(40);
+            assertThat(batch.shardsByOwner()).containsExactly(Map.entry("node-b", 4));
+        });
+        SyncShard stolen = shardRepository.findByBatchId("2026-03-04").get(abandoned.shardIndex());
+        assertThat(stolen.owner()).isEqualTo("node-b");
+        assertThat(stolen.attempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should retry a failing shard and fail it after the last attempt")
+    void shouldFailShardAfterLastAttempt() {
+        // Given
+        when(syncService.syncAthlete(anyString(), any(), any())).thenAnswer(invocation -> {
+            if ("athlete-7".equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return SyncService.SyncResult.success(invocation.getArgument(0), 1, 1);
+        });
+        service.planBatch("2026-03-04", START, END);
+
+        // When
+        List<SyncBatchProgress> finished = service.processAvailableShards("node-a");
+
+        // Then
+        assertThat(finished).singleElement().satisfies(batch -> {
+            assertThat(batch.completedShards()).isEqualTo(3);
+            assertThat(batch.failedShards()).isEqualTo(1);
+        });
+        verify(syncService, times(2)).syncAthlete(eq("athlete-7"), any(), any());
+        assertThat(shardRepository.findByBatchId("2026-03-04"))
+                .filteredOn(shard -> shard.status() == SyncShard.ShardStatus.FAILED)
+                .singleElement()
+                .satisfies(shard -> {
+                    assertThat(shard.attempts()).isEqualTo(2);
+                    assertThat(shard.lastError()).isEqualTo("database unavailable");
+                });
+    }
+
+    @Test
+    @DisplayName("Should sync the athletes recorded when the batch was planned")
+    void shouldSyncPlannedAthletes() {
+        // Given
+        when(syncService.syncAthlete(anyString(), any(), any()))
+                .thenAnswer(invocation -> SyncService.SyncResult.success(invocation.getArgument(0), 1, 1));
+        service.planBatch("2026-03-04", START, END);
+        athleteRepository.save(new Athlete("athlete-late", "Late Athlete", null, null, null));
+
+        // When
+        List<SyncBatchProgress> finished = service.processAvailableShards("node-a");
+
+        // Then
+        assertThat(finished).singleElement()
+                .satisfies(batch -> assertThat(batch.athletesDone()).isEqualTo(40));
+        verify(syncService, never()).syncAthlete(eq("athlete-late"), any(), any());
+        assertThat(service.shards("2026-03-04")).flatExtracting(SyncShard::athleteIds).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("Should keep heartbeating while a single athlete takes longer than the heartbeat interval")
+    void shouldHeartbeatDuringSlowAthlete() {
+        // Given
+        ShardedSyncService fastHeartbeats = new ShardedSyncService(shardRepository, athleteRepository, syncService,
+                new SyncShardingProperties(true, 4, 64, Duration.ofMillis(20), Duration.ofMinutes(2), 2),
+                now::get, heartbeats);
+        List<Instant> heartbeatsSeen = new ArrayList<>();
+        when(syncService.syncAthlete(anyString(), any(), any())).thenAnswer(invocation -> {
+            if (heartbeatsSeen.isEmpty()) {
+                Instant later = now.get().plus(Duration.ofMinutes(5));
+                now.set(later);
+                Thread.sleep(200);
+                shardRepository.findByBatchId("2026-03-04").stream()
+                        .filter(shard -> shard.status() == SyncShard.ShardStatus.CLAIMED)
+                        .forEach(shard -> heartbeatsSeen.add(shard.heartbeatAt()));
+            }
+            return SyncService.SyncResult.success(invocation.getArgument(0), 1, 1);
+        });
+        fastHeartbeats.planBatch("2026-03-04", START, END);
+
+        // When
+        fastHeartbeats.processAvailableShards("node-a");
+
+        // Then
+        assertThat(heartbeatsSeen).singleElement().isEqualTo(now.get());
+    }
+
+    @Test
+    @DisplayName("Should plan each batch only once")
+    void shouldPlanBatchOnce() {
+        // When
+        int first = service.planBatch("2026-03-04", START, END);
+        int second = service.planBatch("2026-03-04", START, END);
+
+        // Then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isZero();
+        assertThat(service.latestBatchId()).contains("2026-03-04");
+        assertThat(service.shards("2026-03-04")).extracting(SyncShard::athletesTotal)
+                .satisfies(totals -> assertThat(totals.stream().mapToInt(Integer::intValue).sum()).isEqualTo(40));
+    }
+}
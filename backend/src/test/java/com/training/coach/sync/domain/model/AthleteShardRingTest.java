@@ -0,0 +1,57 @@
+package com.training.coach.sync.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Athlete Shard Ring Tests")
+class AthleteShardRingTest {
+
+    private static final List<String> ATHLETES = IntStream.range(0, 10_000)
+            .mapToObj(i -> "athlete-" + i)
+            .toList();
+
+    @Test
+    @DisplayName("Should spread athletes evenly over the shards")
+    void shouldSpreadAthletesEvenly() {
+        // Given
+        AthleteShardRing ring = new AthleteShardRing(16, 64);
+
+        // When
+        int[] counts = new int[16];
+        ATHLETES.forEach(athleteId -> counts[ring.shardOf(athleteId)]++);
+
+        // Then
+        int mean = ATHLETES.size() / 16;
+        assertThat(IntStream.of(counts).min().orElseThrow()).isGreaterThan(mean / 2);
+        assertThat(IntStream.of(counts).max().orElseThrow()).isLessThan(mean * 3 / 2);
+    }
+
+    @Test
+    @DisplayName("Should move only about one shard's worth of athletes when a shard is added")
+    void shouldMoveFewAthletesWhenAShardIsAdded() {
+        // Given
+        AthleteShardRing before = new AthleteShardRing(16, 64);
+        AthleteShardRing after = new AthleteShardRing(17, 64);
+
+        // When
+        long moved = ATHLETES.stream()
+                .filter(athleteId -> before.shardOf(athleteId) != after.shardOf(athleteId))
+                .count();
+
+        // Then every moved athlete went to the new shard
+        assertThat(moved).isLessThan(ATHLETES.size() / 8);
+        assertThat(ATHLETES.stream().filter(athleteId -> before.shardOf(athleteId) != after.shardOf(athleteId)))
+                .allSatisfy(athleteId -> assertThat(after.shardOf(athleteId)).isEqualTo(16));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty ring")
+    void shouldRejectEmptyRing() {
+        assertThatThrownBy(() -> new AthleteShardRing(0, 64)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.training.coach.testconfig;
+
+import com.training.coach.activity.infrastructure.persistence.entity.ActivityLightEntity;
+import com.training.coach.shared.config.R2dbcPersistenceConfiguration;
+import com.training.coach.shared.persistence.R2dbcPersistenceProperties;
+import com.training.coach.wellness.infrastructure.persistence.entity.WellnessSnapshotEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * One in-memory H2 database reached both through Hibernate, which creates the schema, and through R2DBC, so the
+ * JPA and R2DBC adapters can be compared on the same rows without starting the application.
+ */
+public final class H2TestDatabase implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JpaRepositoryFactory repositoryFactory;
+    private final ConnectionPool connectionPool;
+    private final R2dbcPersistenceProperties r2dbcProperties;
+
+    /**
+     * @param poolSize connections of each of the JDBC and R2DBC pools
+     * @param pageSize rows per page of the R2DBC adapters
+     * @param upsertBatchSize rows per batched statement of the R2DBC adapters
+     */
+    public H2TestDatabase(int poolSize, int pageSize, int upsertBatchSize) {
+        String name = "adapters_" + UUID.randomUUID().toString().replace("-", "");
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(poolSize);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(
+                WellnessSnapshotEntity.class.getPackageName(), ActivityLightEntity.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.cache.use_second_level_cache", "false",
+                "jakarta.persistence.validation.mode", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        TransactionInterceptor transactions = new TransactionInterceptor(
+                (TransactionManager) new JpaTransactionManager(entityManagerFactory),
+                new AnnotationTransactionAttributeSource());
+        repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        repositoryFactory.addRepositoryProxyPostProcessor((factory, information) -> factory.addAdvice(transactions));
+
+        r2dbcProperties = new R2dbcPersistenceProperties(
+                "r2dbc:h2:mem:///" + name + "?options=DB_CLOSE_DELAY=-1", "sa", "", poolSize, poolSize,
+                Duration.ofMinutes(30), pageSize, upsertBatchSize);
+        connectionPool = R2dbcPersistenceConfiguration.connectionPool(r2dbcProperties);
+    }
+
+    public <T> T jpaRepository(Class<T> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    public R2dbcPersistenceProperties r2dbcProperties() {
+        return r2dbcProperties;
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+}
@@ -4,30 +4,43 @@ import com.training.coach.activity.application.port.out.ActivityRepository;
 import com.training.coach.athlete.application.port.out.AthleteRepository;
 import com.training.coach.athlete.application.port.out.EventRepository;
 import com.training.coach.athlete.application.port.out.FitnessPlatformPort;
+import com.training.coach.athlete.application.port.out.NotificationOutbox;
 import com.training.coach.athlete.application.port.out.NotificationRepository;
 import com.training.coach.privacy.application.port.out.ConsentLogRepository;
 import com.training.coach.privacy.application.port.out.DataDeletionRequestRepository;
 import com.training.coach.privacy.application.port.out.DataExportRequestRepository;
-import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
 import com.training.coach.security.RefreshTokenStore;
 import com.training.coach.testconfig.inmemory.InMemoryActivityRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAdjustmentProposalRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteDirectory;
 import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
 import com.training.coach.testconfig.inmemory.InMemoryEventRepository;
-import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailAuditLog;
+import com.training.coach.testconfig.inmemory.InMemoryGuardrailInputRepository;
+import com.training.coach.testconfig.inmemory.InMemoryJobLeaseRepository;
+import com.training.coach.testconfig.inmemory.InMemoryJobRunRepository;
+import com.training.coach.testconfig.inmemory.InMemorySyncShardRepository;
 import com.training.coach.testconfig.inmemory.InMemoryConsentLogRepository;
 import com.training.coach.testconfig.inmemory.InMemoryDataDeletionRequestRepository;
 import com.training.coach.testconfig.inmemory.InMemoryDataExportRequestRepository;
+import com.training.coach.testconfig.inmemory.InMemoryNotificationOutbox;
 import com.training.coach.testconfig.inmemory.InMemoryNotificationRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPersonalDataExportRepository;
 import com.training.coach.testconfig.inmemory.InMemoryPlanRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReadinessSampleRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReportDataChangeRepository;
+import com.training.coach.testconfig.inmemory.InMemoryReportJobRepository;
 import com.training.coach.testconfig.inmemory.InMemoryWeeklyReportRepository;
 import com.training.coach.testconfig.inmemory.InMemoryRefreshTokenStore;
 import com.training.coach.testconfig.inmemory.InMemorySystemUserRepository;
 import com.training.coach.testconfig.inmemory.InMemoryTrainingLoadRepository;
 import com.training.coach.testconfig.inmemory.InMemoryTrainingPlanRepository;
 import com.training.coach.testconfig.inmemory.InMemoryUserCredentialsRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWellnessChangeRepository;
 import com.training.coach.testconfig.inmemory.InMemoryWellnessRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWorkoutMatchRepository;
+import com.training.coach.testconfig.inmemory.InMemoryZoneDistributionRepository;
 import com.training.coach.testconfig.inmemory.TestFitnessPlatformPort;
-import com.training.coach.trainingplan.application.port.out.PlanRepository;
 import com.training.coach.trainingplan.application.port.out.TrainingPlanRepository;
 import com.training.coach.user.application.port.out.SystemUserRepository;
 import com.training.coach.user.application.port.out.UserCredentialsRepository;
@@ -63,7 +76,7 @@ public class InMemoryRepositoriesTestConfig {
     }
 
     @Bean
-    public ActivityRepository activityRepository() {
+    public InMemoryActivityRepository activityRepository() {
         return new InMemoryActivityRepository();
     }
 
@@ -73,7 +86,12 @@ public class InMemoryRepositoriesTestConfig {
     }
 
     @Bean
-    public WellnessRepository wellnessRepository() {
+    public InMemoryAthleteDirectory athleteDirectory(AthleteRepository athleteRepository) {
+        return new InMemoryAthleteDirectory(athleteRepository);
+    }
+
+    @Bean
+    public InMemoryWellnessRepository wellnessRepository() {
         return new InMemoryWellnessRepository();
     }
 
@@ -83,7 +101,7 @@ public class InMemoryRepositoriesTestConfig {
     }
 
     @Bean
-    public PlanRepository planRepository() {
+    public InMemoryPlanRepository planRepository() {
         return new InMemoryPlanRepository();
     }
 
@@ -113,10 +131,30 @@ public class InMemoryRepositoriesTestConfig {
     }
 
     @Bean
-    public WeeklyReportRepository weeklyReportRepository() {
+    public NotificationOutbox notificationOutbox() {
+        return new InMemoryNotificationOutbox();
+    }
+
+    @Bean
+    public InMemoryWeeklyReportRepository weeklyReportRepository() {
         return new InMemoryWeeklyReportRepository();
     }
 
+    @Bean
+    public InMemoryReportDataChangeRepository reportDataChangeRepository() {
+        return new InMemoryReportDataChangeRepository();
+    }
+
+    @Bean
+    public InMemoryWellnessChangeRepository wellnessChangeRepository() {
+        return new InMemoryWellnessChangeRepository();
+    }
+
+    @Bean
+    public InMemoryReportJobRepository reportJobRepository() {
+        return new InMemoryReportJobRepository();
+    }
+
     @Bean
     public DataExportRequestRepository dataExportRequestRepository() {
         return new InMemoryDataExportRequestRepository();
@@ -131,4 +169,55 @@ public class InMemoryRepositoriesTestConfig {
     public ConsentLogRepository consentLogRepository() {
         return new InMemoryConsentLogRepository();
     }
+
+    @Bean
+    public InMemoryPersonalDataExportRepository personalDataExportRepository() {
+        return new InMemoryPersonalDataExportRepository();
+    }
+
+    @Bean
+    public InMemoryZoneDistributionRepository zoneDistributionRepository() {
+        return new InMemoryZoneDistributionRepository();
+    }
+
+    @Bean
+    public InMemoryWorkoutMatchRepository workoutMatchRepository() {
+        return new InMemoryWorkoutMatchRepository();
+    }
+
+    @Bean
+    public InMemoryGuardrailAuditLog guardrailAuditLog() {
+        return new InMemoryGuardrailAuditLog();
+    }
+
+    @Bean
+    public InMemoryAdjustmentProposalRepository adjustmentProposalRepository() {
+        return new InMemoryAdjustmentProposalRepository();
+    }
+
+    @Bean
+    public InMemoryReadinessSampleRepository readinessSampleRepository(WellnessRepository wellnessRepository) {
+        return new InMemoryReadinessSampleRepository(wellnessRepository);
+    }
+
+    @Bean
+    public InMemoryGuardrailInputRepository guardrailInputRepository(
+            WellnessRepository wellnessRepository, ActivityRepository activityRepository) {
+        return new InMemoryGuardrailInputRepository(wellnessRepository, activityRepository);
+    }
+
+    @Bean
+    public InMemoryJobLeaseRepository jobLeaseRepository() {
+        return new InMemoryJobLeaseRepository();
+    }
+
+    @Bean
+    public InMemoryJobRunRepository jobRunRepository() {
+        return new InMemoryJobRunRepository();
+    }
+
+    @Bean
+    public InMemorySyncShardRepository syncShardRepository() {
+        return new InMemorySyncShardRepository();
+    }
 }
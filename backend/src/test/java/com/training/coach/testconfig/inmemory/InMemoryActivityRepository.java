@@ -6,12 +6,15 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.activity.application.port.out.ReactiveActivityRepository;
 import com.training.coach.activity.domain.model.ActivityLight;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
- * In-memory ActivityRepository for fast tests.
+ * In-memory ActivityRepository and ReactiveActivityRepository for fast tests.
  */
-public class InMemoryActivityRepository implements ActivityRepository {
+public class InMemoryActivityRepository implements ActivityRepository, ReactiveActivityRepository {
     private final ConcurrentHashMap<String, List<ActivityLight>> byAthleteId = new ConcurrentHashMap<>();
 
     @Override
@@ -52,4 +55,15 @@ public class InMemoryActivityRepository implements ActivityRepository {
     public void deleteByAthleteId(String athleteId) {
         byAthleteId.remove(athleteId);
     }
+
+    @Override
+    public Flux<ActivityLight> streamByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return Flux.defer(() -> Flux.fromStream(findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
+                .sorted(java.util.Comparator.comparing(ActivityLight::date).thenComparing(ActivityLight::id))));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<ActivityLight> activities) {
+        return Mono.fromSupplier(() -> (long) saveAll(activities).size());
+    }
 }
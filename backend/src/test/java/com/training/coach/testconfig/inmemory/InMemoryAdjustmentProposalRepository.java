@@ -20,6 +20,12 @@ public class InMemoryAdjustmentProposalRepository implements AdjustmentProposalR
         return proposal;
     }
 
+    @Override
+    public List<AdjustmentProposal> saveAll(List<AdjustmentProposal> batch) {
+        batch.forEach(proposal -> proposals.put(proposal.id(), proposal));
+        return batch;
+    }
+
     @Override
     public Optional<AdjustmentProposal> findById(String proposalId) {
         return Optional.ofNullable(proposals.get(proposalId));
@@ -0,0 +1,38 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.athlete.application.port.out.AthleteDirectory;
+import com.training.coach.athlete.application.port.out.AthleteRepository;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteName;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory AthleteDirectory reading from the test athlete repository.
+ */
+public class InMemoryAthleteDirectory implements AthleteDirectory {
+    private final AthleteRepository athleteRepository;
+
+    public InMemoryAthleteDirectory(AthleteRepository athleteRepository) {
+        this.athleteRepository = athleteRepository;
+    }
+
+    @Override
+    public List<AthleteName> findAllNames() {
+        return athleteRepository.findAll().stream()
+                .map(athlete -> new AthleteName(athlete.id(), athlete.name()))
+                .sorted(Comparator.comparing(AthleteName::id))
+                .toList();
+    }
+
+    @Override
+    public List<Athlete> findAllById(Collection<String> athleteIds) {
+        return athleteIds.stream()
+                .distinct()
+                .map(athleteRepository::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+}
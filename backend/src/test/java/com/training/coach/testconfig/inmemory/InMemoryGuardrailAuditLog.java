@@ -0,0 +1,48 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.analysis.application.port.out.GuardrailAuditLog;
+import com.training.coach.analysis.domain.model.GuardrailAuditEntry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory GuardrailAuditLog for fast tests.
+ */
+public class InMemoryGuardrailAuditLog implements GuardrailAuditLog {
+    private final CopyOnWriteArrayList<GuardrailAuditEntry> entries = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void append(GuardrailAuditEntry entry) {
+        entries.add(entry);
+    }
+
+    @Override
+    public List<GuardrailAuditEntry> findByAthleteId(String athleteId, Instant from, Instant to) {
+        return entries.stream()
+                .filter(e -> e.athleteId().equals(athleteId))
+                .filter(e -> inRange(e, from, to))
+                .toList();
+    }
+
+    @Override
+    public List<GuardrailAuditEntry> findByTimeRange(Instant from, Instant to) {
+        return entries.stream().filter(e -> inRange(e, from, to)).toList();
+    }
+
+    @Override
+    public long countByAthleteId(String athleteId) {
+        return entries.stream().filter(e -> e.athleteId().equals(athleteId)).count();
+    }
+
+    @Override
+    public long eraseByAthleteId(String athleteId) {
+        long before = entries.size();
+        entries.removeIf(e -> e.athleteId().equals(athleteId));
+        return before - entries.size();
+    }
+
+    private static boolean inRange(GuardrailAuditEntry entry, Instant from, Instant to) {
+        return (from == null || !entry.timestamp().isBefore(from)) && (to == null || entry.timestamp().isBefore(to));
+    }
+}
@@ -0,0 +1,50 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.activity.application.port.out.ActivityRepository;
+import com.training.coach.analysis.application.port.out.GuardrailInputRepository;
+import com.training.coach.analysis.domain.model.ActivityLoadSample;
+import com.training.coach.analysis.domain.model.WellnessScoreSample;
+import com.training.coach.wellness.application.port.out.WellnessRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory GuardrailInputRepository reading from the test wellness and activity repositories.
+ */
+public class InMemoryGuardrailInputRepository implements GuardrailInputRepository {
+    private final WellnessRepository wellnessRepository;
+    private final ActivityRepository activityRepository;
+
+    public InMemoryGuardrailInputRepository(
+            WellnessRepository wellnessRepository, ActivityRepository activityRepository) {
+        this.wellnessRepository = wellnessRepository;
+        this.activityRepository = activityRepository;
+    }
+
+    @Override
+    public List<WellnessScoreSample> findWellnessByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        return athleteIds.stream()
+                .flatMap(athleteId -> wellnessRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate)
+                        .stream()
+                        .map(s -> new WellnessScoreSample(
+                                athleteId,
+                                s.date(),
+                                s.subjective() != null ? s.subjective().fatigueScore() : null,
+                                s.subjective() != null ? s.subjective().muscleSorenessScore() : null,
+                                s.readinessScore())))
+                .toList();
+    }
+
+    @Override
+    public List<ActivityLoadSample> findActivityLoadByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        return athleteIds.stream()
+                .flatMap(athleteId -> activityRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate)
+                        .stream()
+                        .map(a -> new ActivityLoadSample(
+                                athleteId, a.date(), a.trainingStressScore(), a.intensityFactor())))
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.scheduler.application.port.out.JobLeaseRepository;
+import com.training.coach.scheduler.domain.model.JobLease;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory JobLeaseRepository for fast tests.
+ */
+public class InMemoryJobLeaseRepository implements JobLeaseRepository {
+    private final Map<String, JobLease> leases = new HashMap<>();
+
+    @Override
+    public synchronized boolean tryAcquireOccurrence(
+            String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil) {
+        JobLease current = leases.get(jobName);
+        if (current != null) {
+            if (current.isHeldAt(now) && !owner.equals(current.owner())) {
+                return false;
+            }
+            if (current.lastOccurrence() != null && !occurrence.isAfter(current.lastOccurrence())) {
+                return false;
+            }
+        }
+        leases.put(jobName, new JobLease(jobName, owner, lockedUntil, occurrence));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean tryReclaimOccurrence(
+            String jobName, String owner, Instant occurrence, Instant now, Instant lockedUntil) {
+        JobLease current = leases.get(jobName);
+        if (current == null || current.isHeldAt(now) || !occurrence.equals(current.lastOccurrence())) {
+            return false;
+        }
+        leases.put(jobName, new JobLease(jobName, owner, lockedUntil, occurrence));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean heartbeat(String jobName, String owner, Instant occurrence, Instant lockedUntil) {
+        JobLease current = leases.get(jobName);
+        if (current == null || !owner.equals(current.owner()) || !occurrence.equals(current.lastOccurrence())) {
+            return false;
+        }
+        leases.put(jobName, new JobLease(jobName, owner, lockedUntil, current.lastOccurrence()));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(String jobName, String owner, Instant now, Instant lockedUntil) {
+        JobLease current = leases.get(jobName);
+        if (current != null && current.isHeldAt(now) && !owner.equals(current.owner())) {
+            return false;
+        }
+        leases.put(jobName, new JobLease(
+                jobName, owner, lockedUntil, current == null ? null : current.lastOccurrence()));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String jobName, String owner, Instant now) {
+        JobLease current = leases.get(jobName);
+        if (current != null && owner.equals(current.owner()) && current.isHeldAt(now)) {
+            leases.put(jobName, new JobLease(jobName, owner, now, current.lastOccurrence()));
+        }
+    }
+
+    @Override
+    public synchronized List<JobLease> findAll() {
+        return new ArrayList<>(leases.values());
+    }
+}
@@ -0,0 +1,43 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.scheduler.application.port.out.JobRunRepository;
+import com.training.coach.scheduler.domain.model.JobRun;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory JobRunRepository for fast tests.
+ */
+public class InMemoryJobRunRepository implements JobRunRepository {
+    private final ConcurrentHashMap<String, JobRun> runs = new ConcurrentHashMap<>();
+
+    @Override
+    public JobRun save(JobRun run) {
+        runs.put(run.id(), run);
+        return run;
+    }
+
+    @Override
+    public synchronized int abandonRunning(String jobName, Instant at) {
+        int abandoned = 0;
+        for (JobRun run : runs.values()) {
+            if (run.jobName().equals(jobName) && run.status() == JobRun.RunStatus.RUNNING) {
+                runs.put(run.id(), new JobRun(run.id(), run.jobName(), run.occurrence(), run.owner(),
+                        JobRun.RunStatus.ABANDONED, run.startedAt(), at, null, null));
+                abandoned++;
+            }
+        }
+        return abandoned;
+    }
+
+    @Override
+    public List<JobRun> findRecent(String jobName, int limit) {
+        return runs.values().stream()
+                .filter(run -> jobName == null || run.jobName().equals(jobName))
+                .sorted(Comparator.comparing(JobRun::startedAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
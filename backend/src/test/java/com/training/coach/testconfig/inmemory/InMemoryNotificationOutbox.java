@@ -0,0 +1,77 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.athlete.application.port.out.NotificationOutbox;
+import com.training.coach.athlete.domain.model.OutboxNotification;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory NotificationOutbox for fast tests.
+ */
+public class InMemoryNotificationOutbox implements NotificationOutbox {
+    private final ConcurrentHashMap<String, OutboxNotification> notifications = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> idsByDedupKey = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean enqueue(OutboxNotification notification) {
+        if (idsByDedupKey.putIfAbsent(notification.dedupKey(), notification.id()) != null) {
+            return false;
+        }
+        notifications.put(notification.id(), notification);
+        return true;
+    }
+
+    @Override
+    public List<OutboxNotification> findDue(Instant now, int limit) {
+        return notifications.values().stream()
+                .filter(n -> n.status() == OutboxNotification.DeliveryStatus.PENDING)
+                .filter(n -> !n.nextAttemptAt().isAfter(now))
+                .sorted(Comparator.comparing(OutboxNotification::nextAttemptAt))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<OutboxNotification> findPendingByRecipientId(String recipientId) {
+        return notifications.values().stream()
+                .filter(n -> n.recipientId().equals(recipientId))
+                .filter(n -> n.status() == OutboxNotification.DeliveryStatus.PENDING)
+                .sorted(Comparator.comparing(OutboxNotification::createdAt))
+                .toList();
+    }
+
+    @Override
+    public void markDelivered(Collection<String> ids, Instant deliveredAt) {
+        ids.forEach(id -> notifications.computeIfPresent(id, (key, n) -> n.delivered(deliveredAt)));
+    }
+
+    @Override
+    public void saveAll(List<OutboxNotification> updated) {
+        updated.forEach(n -> notifications.put(n.id(), n));
+    }
+
+    @Override
+    public long countByStatus(OutboxNotification.DeliveryStatus status) {
+        return notifications.values().stream().filter(n -> n.status() == status).count();
+    }
+
+    @Override
+    public int deleteFinishedBefore(Instant cutoff) {
+        List<OutboxNotification> finished = notifications.values().stream()
+                .filter(n -> n.status() != OutboxNotification.DeliveryStatus.PENDING)
+                .filter(n -> n.createdAt().isBefore(cutoff))
+                .toList();
+        finished.forEach(n -> {
+            notifications.remove(n.id());
+            idsByDedupKey.remove(n.dedupKey());
+        });
+        return finished.size();
+    }
+
+    public List<OutboxNotification> findAll() {
+        return List.copyOf(notifications.values());
+    }
+}
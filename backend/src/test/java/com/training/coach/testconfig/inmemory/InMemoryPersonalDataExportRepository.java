@@ -0,0 +1,57 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.privacy.application.port.out.PersonalDataExportRepository;
+import com.training.coach.privacy.domain.model.PersonalDataCategory;
+import com.training.coach.privacy.domain.model.PersonalDataPage;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory PersonalDataExportRepository for fast tests. Rows are recorded explicitly and the
+ * cursor is the index of the last row returned.
+ */
+public class InMemoryPersonalDataExportRepository implements PersonalDataExportRepository {
+    private final ConcurrentHashMap<String, List<Map<String, Object>>> rows = new ConcurrentHashMap<>();
+    private final AtomicInteger pageReads = new AtomicInteger();
+
+    @Override
+    public PersonalDataPage findPage(PersonalDataCategory category, String athleteId, String cursor, int limit) {
+        pageReads.incrementAndGet();
+        List<Map<String, Object>> all = rows.getOrDefault(key(category, athleteId), List.of());
+        int from = cursor == null ? 0 : Integer.parseInt(cursor) + 1;
+        int to = Math.min(all.size(), from + limit);
+        List<Map<String, Object>> page = from >= to ? List.of() : all.subList(from, to);
+        return page.size() < limit
+                ? PersonalDataPage.last(page)
+                : new PersonalDataPage(page, String.valueOf(to - 1));
+    }
+
+    /**
+     * Record a row of personal data for the athlete.
+     */
+    public void addRow(PersonalDataCategory category, String athleteId, Map<String, Object> row) {
+        rows.computeIfAbsent(key(category, athleteId), k -> new CopyOnWriteArrayList<>()).add(row);
+    }
+
+    /**
+     * Number of pages read since creation or the last clear.
+     */
+    public int pageReads() {
+        return pageReads.get();
+    }
+
+    /**
+     * Clear all rows for testing purposes.
+     */
+    public void clearAll() {
+        rows.clear();
+        pageReads.set(0);
+    }
+
+    private static String key(PersonalDataCategory category, String athleteId) {
+        return category + ":" + athleteId;
+    }
+}
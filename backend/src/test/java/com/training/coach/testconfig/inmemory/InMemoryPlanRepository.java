@@ -1,18 +1,22 @@
 package com.training.coach.testconfig.inmemory;
 
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.training.coach.trainingplan.application.port.out.PlanRepository;
+import com.training.coach.trainingplan.application.port.out.ScheduledWorkoutRepository;
 import com.training.coach.trainingplan.domain.model.PlanSummary;
 import com.training.coach.trainingplan.domain.model.PlanVersion;
+import com.training.coach.trainingplan.domain.model.ScheduledWorkout;
 import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
 
 /**
  * In-memory PlanRepository for fast tests.
  */
-public class InMemoryPlanRepository implements PlanRepository {
+public class InMemoryPlanRepository implements PlanRepository, ScheduledWorkoutRepository {
     private final ConcurrentHashMap<String, PlanSummary> plans = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, List<PlanVersion>> versionsByPlan = new ConcurrentHashMap<>();
 
@@ -63,4 +67,32 @@ public class InMemoryPlanRepository implements PlanRepository {
             }
         }
     }
+
+    @Override
+    public List<ScheduledWorkout> findPublishedWorkoutsOn(LocalDate date) {
+        return versionsByPlan.values().stream()
+                .flatMap(List::stream)
+                .filter(version -> version.status() == PlanVersionStatus.PUBLISHED && plans.containsKey(version.planId()))
+                .flatMap(version -> version.workouts().stream()
+                        .filter(workout -> workout.date().equals(date))
+                        .map(workout -> new ScheduledWorkout(
+                                plans.get(version.planId()).athleteId(), version.planId(), version.versionNumber(), workout)))
+                .sorted(Comparator.comparing(ScheduledWorkout::athleteId)
+                        .thenComparing(Comparator.comparingInt(ScheduledWorkout::planVersion).reversed()))
+                .toList();
+    }
+
+    @Override
+    public List<ScheduledWorkout> findPublishedWorkouts(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return versionsByPlan.values().stream()
+                .flatMap(List::stream)
+                .filter(version -> version.status() == PlanVersionStatus.PUBLISHED && plans.containsKey(version.planId()))
+                .filter(version -> plans.get(version.planId()).athleteId().equals(athleteId))
+                .flatMap(version -> version.workouts().stream()
+                        .filter(workout -> !workout.date().isBefore(startDate) && !workout.date().isAfter(endDate))
+                        .map(workout -> new ScheduledWorkout(athleteId, version.planId(), version.versionNumber(), workout)))
+                .sorted(Comparator.comparing((ScheduledWorkout scheduled) -> scheduled.workout().date())
+                        .thenComparing(scheduled -> scheduled.workout().id()))
+                .toList();
+    }
 }
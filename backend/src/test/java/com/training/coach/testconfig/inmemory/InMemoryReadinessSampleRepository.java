@@ -0,0 +1,29 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.analysis.application.port.out.ReadinessSampleRepository;
+import com.training.coach.analysis.domain.model.ReadinessSample;
+import com.training.coach.wellness.application.port.out.WellnessRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory ReadinessSampleRepository reading from the test wellness repository.
+ */
+public class InMemoryReadinessSampleRepository implements ReadinessSampleRepository {
+    private final WellnessRepository wellnessRepository;
+
+    public InMemoryReadinessSampleRepository(WellnessRepository wellnessRepository) {
+        this.wellnessRepository = wellnessRepository;
+    }
+
+    @Override
+    public List<ReadinessSample> findByAthleteIdsAndDateRange(
+            Collection<String> athleteIds, LocalDate startDate, LocalDate endDate) {
+        return athleteIds.stream()
+                .flatMap(athleteId -> wellnessRepository.findByAthleteIdAndDateRange(athleteId, startDate, endDate)
+                        .stream()
+                        .map(s -> new ReadinessSample(athleteId, s.date(), s.readinessScore())))
+                .toList();
+    }
+}
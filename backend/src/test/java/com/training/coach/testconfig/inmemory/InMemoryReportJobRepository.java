@@ -0,0 +1,98 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.jobs.application.port.out.ReportJobRepository;
+import com.training.coach.jobs.domain.model.ReportJob;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory ReportJobRepository for fast tests.
+ */
+public class InMemoryReportJobRepository implements ReportJobRepository {
+    private final ConcurrentHashMap<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public ReportJob save(ReportJob job) {
+        jobs.put(job.id(), job);
+        return job;
+    }
+
+    @Override
+    public Optional<ReportJob> findById(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Override
+    public Optional<ReportJob> findLatestBySpecKey(String specKey) {
+        return jobs.values().stream()
+                .filter(job -> job.specKey().equals(specKey))
+                .max(Comparator.comparing(ReportJob::submittedAt));
+    }
+
+    @Override
+    public List<ReportJob> findByStatus(ReportJob.JobStatus status) {
+        return jobs.values().stream()
+                .filter(job -> job.status() == status)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean claim(ReportJob started) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        jobs.computeIfPresent(started.id(), (id, job) -> {
+            if (job.status() != ReportJob.JobStatus.QUEUED) {
+                return job;
+            }
+            claimed.set(true);
+            return started;
+        });
+        return claimed.get();
+    }
+
+    @Override
+    public List<ReportJob> findByStatusAndOwner(ReportJob.JobStatus status, String owner) {
+        return jobs.values().stream()
+                .filter(job -> job.status() == status && owner.equals(job.owner()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ReportJob> findByType(ReportJob.JobType type) {
+        return jobs.values().stream()
+                .filter(job -> job.type() == type)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ReportJob> findByTypeAndParametersContaining(ReportJob.JobType type, String text) {
+        return jobs.values().stream()
+                .filter(job -> job.type() == type)
+                .filter(job -> job.parameters().entrySet().stream()
+                        .anyMatch(entry -> entry.getKey().contains(text) || entry.getValue().contains(text)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ReportJob> findFinishedBefore(Instant cutoff) {
+        return jobs.values().stream()
+                .filter(job -> job.isFinished() && job.completedAt().isBefore(cutoff))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(String jobId) {
+        jobs.remove(jobId);
+    }
+
+    /**
+     * Clear all jobs for testing purposes.
+     */
+    public void clearAll() {
+        jobs.clear();
+    }
+}
@@ -0,0 +1,98 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.sync.application.port.out.SyncShardRepository;
+import com.training.coach.sync.domain.model.SyncShard;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory SyncShardRepository for fast tests.
+ */
+public class InMemorySyncShardRepository implements SyncShardRepository {
+    private final Map<String, SyncShard> shards = new LinkedHashMap<>();
+
+    @Override
+    public synchronized boolean planBatch(List<SyncShard> batch) {
+        if (batch.isEmpty() || !findByBatchId(batch.getFirst().batchId()).isEmpty()) {
+            return false;
+        }
+        batch.forEach(shard -> shards.put(shard.id(), shard));
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<SyncShard> claimNext(
+            String owner, Instant now, Instant staleBefore, int maxAttempts) {
+        Optional<SyncShard> next = Optional.empty();
+        for (SyncShard shard : shards.values().stream()
+                .sorted(Comparator.comparing(SyncShard::plannedAt).thenComparing(SyncShard::shardIndex))
+                .toList()) {
+            boolean stale = shard.status() == SyncShard.ShardStatus.CLAIMED
+                    && shard.heartbeatAt().isBefore(staleBefore);
+            if (stale && shard.attempts() >= maxAttempts) {
+                shards.put(shard.id(), withClaim(shard, SyncShard.ShardStatus.FAILED, shard.owner(), shard.claimedAt(),
+                        shard.heartbeatAt(), now, shard.attempts(), "Owner stopped heartbeating on the last attempt"));
+            } else if (next.isEmpty() && (shard.status() == SyncShard.ShardStatus.PENDING || stale)) {
+                SyncShard claimed = withClaim(shard, SyncShard.ShardStatus.CLAIMED, owner, now, now, null,
+                        shard.attempts() + 1, shard.lastError());
+                shards.put(shard.id(), claimed);
+                next = Optional.of(claimed);
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public synchronized boolean updateClaimed(String owner, SyncShard shard) {
+        SyncShard current = shards.get(shard.id());
+        if (current == null || current.status() != SyncShard.ShardStatus.CLAIMED || !owner.equals(current.owner())) {
+            return false;
+        }
+        shards.put(shard.id(), shard);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean heartbeat(String owner, String shardId, Instant at) {
+        SyncShard current = shards.get(shardId);
+        if (current == null || current.status() != SyncShard.ShardStatus.CLAIMED || !owner.equals(current.owner())) {
+            return false;
+        }
+        shards.put(shardId, withClaim(current, current.status(), owner, current.claimedAt(), at,
+                current.finishedAt(), current.attempts(), current.lastError()));
+        return true;
+    }
+
+    @Override
+    public synchronized List<SyncShard> findByBatchId(String batchId) {
+        return shards.values().stream()
+                .filter(shard -> shard.batchId().equals(batchId))
+                .sorted(Comparator.comparing(SyncShard::shardIndex))
+                .toList();
+    }
+
+    @Override
+    public synchronized Optional<String> findLatestBatchId() {
+        return shards.values().stream()
+                .max(Comparator.comparing(SyncShard::plannedAt))
+                .map(SyncShard::batchId);
+    }
+
+    private static SyncShard withClaim(
+            SyncShard shard,
+            SyncShard.ShardStatus status,
+            String owner,
+            Instant claimedAt,
+            Instant heartbeatAt,
+            Instant finishedAt,
+            int attempts,
+            String lastError) {
+        return new SyncShard(shard.id(), shard.batchId(), shard.shardIndex(), shard.shardCount(), shard.windowStart(),
+                shard.windowEnd(), status, owner, shard.plannedAt(), claimedAt, heartbeatAt, finishedAt, attempts,
+                shard.athletesTotal(), 0, 0, 0, 0, lastError, shard.athleteIds());
+    }
+}
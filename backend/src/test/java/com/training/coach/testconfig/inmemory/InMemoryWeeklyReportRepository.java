@@ -1,9 +1,12 @@
 package com.training.coach.testconfig.inmemory;
 
 import com.training.coach.reporting.application.port.out.WeeklyReportRepository;
+import com.training.coach.reporting.application.port.out.WeeklyRollupRepository;
 import com.training.coach.reporting.domain.model.WeeklyReport;
+import com.training.coach.reporting.domain.model.WeeklyRollup;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -12,7 +15,7 @@ import java.util.stream.Collectors;
 /**
  * In-memory WeeklyReportRepository for fast tests.
  */
-public class InMemoryWeeklyReportRepository implements WeeklyReportRepository {
+public class InMemoryWeeklyReportRepository implements WeeklyReportRepository, WeeklyRollupRepository {
     private final ConcurrentHashMap<String, WeeklyReport> reports = new ConcurrentHashMap<>();
 
     @Override
@@ -56,6 +59,15 @@ public class InMemoryWeeklyReportRepository implements WeeklyReportRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<WeeklyRollup> findRollupsOverlapping(LocalDate startDate, LocalDate endDate) {
+        return reports.values().stream()
+                .filter(r -> !r.weekStart().isAfter(endDate) && !r.weekEnd().isBefore(startDate))
+                .sorted(Comparator.comparing(WeeklyReport::athleteId).thenComparing(WeeklyReport::weekStart))
+                .map(WeeklyRollup::fromReport)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(String reportId) {
         reports.remove(reportId);
@@ -0,0 +1,38 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.wellness.application.port.out.WellnessChangeRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory WellnessChangeRepository for fast tests. Changes are recorded explicitly.
+ */
+public class InMemoryWellnessChangeRepository implements WellnessChangeRepository {
+    private final ConcurrentHashMap<String, Map<LocalDate, Instant>> changes = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Instant> findLastUpdatedAt(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return changes.getOrDefault(athleteId, Map.of()).entrySet().stream()
+                .filter(e -> !e.getKey().isBefore(startDate) && !e.getKey().isAfter(endDate))
+                .map(Map.Entry::getValue)
+                .max(Instant::compareTo);
+    }
+
+    /**
+     * Record that the athlete's snapshot dated {@code date} was modified at {@code changedAt}.
+     */
+    public void recordChange(String athleteId, LocalDate date, Instant changedAt) {
+        changes.computeIfAbsent(athleteId, id -> new ConcurrentHashMap<>()).merge(date, changedAt,
+                (existing, replacement) -> existing.isAfter(replacement) ? existing : replacement);
+    }
+
+    /**
+     * Clear all recorded changes for testing purposes.
+     */
+    public void clearAll() {
+        changes.clear();
+    }
+}
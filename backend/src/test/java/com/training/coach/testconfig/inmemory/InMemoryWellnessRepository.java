@@ -1,16 +1,19 @@
 package com.training.coach.testconfig.inmemory;
 
+import com.training.coach.wellness.application.port.out.ReactiveWellnessRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.WellnessSnapshot;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
- * In-memory WellnessRepository for fast tests.
+ * In-memory WellnessRepository and ReactiveWellnessRepository for fast tests.
  */
-public class InMemoryWellnessRepository implements WellnessRepository {
+public class InMemoryWellnessRepository implements WellnessRepository, ReactiveWellnessRepository {
     private final ConcurrentHashMap<String, java.util.List<WellnessSnapshot>> byAthlete = new ConcurrentHashMap<>();
 
     @Override
@@ -64,4 +67,16 @@ public class InMemoryWellnessRepository implements WellnessRepository {
     public boolean existsByAthleteIdAndDate(String athleteId, LocalDate date) {
         return byAthlete.getOrDefault(athleteId, List.of()).stream().anyMatch(snapshot -> snapshot.date().equals(date));
     }
+
+    @Override
+    public Flux<WellnessSnapshot> streamByAthleteIdAndDateRange(
+            String athleteId, LocalDate startDate, LocalDate endDate) {
+        return Flux.defer(() -> Flux.fromStream(findByAthleteIdAndDateRange(athleteId, startDate, endDate).stream()
+                .sorted(java.util.Comparator.comparing(WellnessSnapshot::date))));
+    }
+
+    @Override
+    public Mono<Long> upsertAll(List<WellnessSnapshot> snapshots) {
+        return Mono.fromSupplier(() -> (long) saveAll(snapshots).size());
+    }
 }
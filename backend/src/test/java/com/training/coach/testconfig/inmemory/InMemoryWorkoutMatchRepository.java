@@ -0,0 +1,48 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.workout.application.port.out.WorkoutMatchRepository;
+import com.training.coach.workout.domain.WorkoutMatch;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory WorkoutMatchRepository for fast tests. Matches are keyed by planned workout.
+ */
+public class InMemoryWorkoutMatchRepository implements WorkoutMatchRepository {
+    private final ConcurrentHashMap<String, WorkoutMatch> matches = new ConcurrentHashMap<>();
+    private int batches;
+
+    @Override
+    public List<WorkoutMatch> findByAthleteIdAndDateRange(String athleteId, LocalDate startDate, LocalDate endDate) {
+        return matches.values().stream()
+                .filter(match -> match.execution().athleteId().value().equals(athleteId))
+                .filter(match -> !match.execution().date().isBefore(startDate) && !match.execution().date().isAfter(endDate))
+                .sorted(Comparator.comparing((WorkoutMatch match) -> match.execution().date())
+                        .thenComparing(WorkoutMatch::activityId))
+                .toList();
+    }
+
+    @Override
+    public synchronized void saveAll(List<WorkoutMatch> batch) {
+        batches++;
+        for (WorkoutMatch match : batch) {
+            matches.put(match.plannedWorkoutId(), match);
+        }
+    }
+
+    /**
+     * Number of saveAll calls, to verify matches are written in bulk.
+     */
+    public synchronized int batches() {
+        return batches;
+    }
+
+    /**
+     * Clear all matches for testing purposes.
+     */
+    public void clearAll() {
+        matches.clear();
+    }
+}
@@ -0,0 +1,74 @@
+package com.training.coach.testconfig.inmemory;
+
+import com.training.coach.analysis.application.port.out.ZoneDistributionRepository;
+import com.training.coach.analysis.domain.model.DailyZoneDistribution;
+import com.training.coach.analysis.domain.model.DistributionSource;
+import com.training.coach.analysis.domain.model.WeeklyZoneDistribution;
+import com.training.coach.analysis.domain.model.ZoneMinutes;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory ZoneDistributionRepository for fast tests.
+ */
+public class InMemoryZoneDistributionRepository implements ZoneDistributionRepository {
+    private final ConcurrentHashMap<String, TreeMap<LocalDate, DailyZoneDistribution>> cells = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void replaceDays(
+            String athleteId,
+            DistributionSource source,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<DailyZoneDistribution> days) {
+        TreeMap<LocalDate, DailyZoneDistribution> athleteCells = cells.computeIfAbsent(key(athleteId, source), k -> new TreeMap<>());
+        athleteCells.subMap(startDate, true, endDate, true).clear();
+        for (DailyZoneDistribution day : days) {
+            athleteCells.put(day.date(), day);
+        }
+    }
+
+    @Override
+    public synchronized List<DailyZoneDistribution> findDaily(
+            String athleteId, DistributionSource source, LocalDate startDate, LocalDate endDate) {
+        return new ArrayList<>(cells.getOrDefault(key(athleteId, source), new TreeMap<>())
+                .subMap(startDate, true, endDate, true)
+                .values());
+    }
+
+    @Override
+    public synchronized List<WeeklyZoneDistribution> findWeekly(
+            Collection<String> athleteIds, DistributionSource source, LocalDate fromWeekStart, LocalDate toWeekStart) {
+        List<WeeklyZoneDistribution> weeks = new ArrayList<>();
+        for (String athleteId : athleteIds.stream().distinct().sorted().toList()) {
+            Map<LocalDate, ZoneMinutes> totals = new TreeMap<>();
+            for (DailyZoneDistribution day : cells.getOrDefault(key(athleteId, source), new TreeMap<>()).values()) {
+                if (!day.weekStart().isBefore(fromWeekStart) && !day.weekStart().isAfter(toWeekStart)) {
+                    totals.merge(day.weekStart(), day.minutes(), ZoneMinutes::plus);
+                }
+            }
+            totals.forEach((weekStart, minutes) ->
+                    weeks.add(new WeeklyZoneDistribution(athleteId, weekStart, source, minutes)));
+        }
+        weeks.sort(Comparator.comparing(WeeklyZoneDistribution::athleteId)
+                .thenComparing(WeeklyZoneDistribution::weekStart));
+        return weeks;
+    }
+
+    /**
+     * Clear all cells for testing purposes.
+     */
+    public void clearAll() {
+        cells.clear();
+    }
+
+    private static String key(String athleteId, DistributionSource source) {
+        return athleteId + "|" + source;
+    }
+}
@@ -0,0 +1,129 @@
+package com.training.coach.trainingplan.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.training.coach.analysis.application.service.DistributionAnalyzer;
+import com.training.coach.analysis.application.service.ZoneDistributionService;
+import com.training.coach.athlete.domain.model.Athlete;
+import com.training.coach.athlete.domain.model.AthleteProfile;
+import com.training.coach.athlete.domain.model.TrainingMetrics;
+import com.training.coach.athlete.domain.model.TrainingPreferences;
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.Centimeters;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.shared.domain.unit.Vo2Max;
+import com.training.coach.shared.domain.unit.Watts;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteDirectory;
+import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository;
+import com.training.coach.testconfig.inmemory.InMemoryAvailabilityTemplateRepository;
+import com.training.coach.testconfig.inmemory.InMemoryEventRepository;
+import com.training.coach.testconfig.inmemory.InMemoryPlanRepository;
+import com.training.coach.testconfig.inmemory.InMemoryTravelExceptionRepository;
+import com.training.coach.testconfig.inmemory.InMemoryZoneDistributionRepository;
+import com.training.coach.trainingplan.application.service.SquadPlanService.CreateSquadPlansCommand;
+import com.training.coach.trainingplan.application.service.SquadPlanService.SquadPlanResult;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Squad Plan Service Tests")
+class SquadPlanServiceTest {
+
+    private InMemoryAthleteRepository athleteRepository;
+    private InMemoryPlanRepository planRepository;
+    private ExecutorService executor;
+    private SquadPlanService service;
+
+    @BeforeEach
+    void setUp() {
+        athleteRepository = new InMemoryAthleteRepository();
+        planRepository = new InMemoryPlanRepository();
+        executor = Executors.newFixedThreadPool(4);
+        TrainingPlanService trainingPlanService = new TrainingPlanService();
+        SchedulingConstraintsService constraintsService = new SchedulingConstraintsService(
+                new InMemoryAvailabilityTemplateRepository(),
+                new InMemoryTravelExceptionRepository(),
+                new InMemoryEventRepository());
+        PlanService planService =
+                new PlanService(planRepository, trainingPlanService, athleteRepository, constraintsService,
+                        new ZoneDistributionService(new InMemoryZoneDistributionRepository(), new DistributionAnalyzer()));
+        service = new SquadPlanService(
+                new InMemoryAthleteDirectory(athleteRepository), trainingPlanService, planService, constraintsService,
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should create one draft plan per athlete in the squad")
+    void shouldCreatePlanPerAthlete() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+        athleteRepository.save(createTestAthlete("athlete-2"));
+        athleteRepository.save(createTestAthlete("athlete-3"));
+
+        // When
+        List<SquadPlanResult> results = service.createPlans(command(List.of("athlete-1", "athlete-2", "athlete-3")))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(results).hasSize(3);
+        assertThat(results).allMatch(result -> "created".equals(result.status()));
+        assertThat(results).extracting(SquadPlanResult::athleteId)
+                .containsExactlyInAnyOrder("athlete-1", "athlete-2", "athlete-3");
+        assertThat(planRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should report unknown athletes without failing the rest of the squad")
+    void shouldReportUnknownAthletes() {
+        // Given
+        athleteRepository.save(createTestAthlete("athlete-1"));
+
+        // When
+        List<SquadPlanResult> results = service.createPlans(command(List.of("athlete-1", "missing", "athlete-1")))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results).filteredOn(result -> "failed".equals(result.status()))
+                .extracting(SquadPlanResult::athleteId)
+                .containsExactly("missing");
+        assertThat(planRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty squad")
+    void shouldRejectEmptySquad() {
+        assertThatThrownBy(() -> service.createPlans(command(List.of())).blockLast())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CreateSquadPlansCommand command(List<String> athleteIds) {
+        return new CreateSquadPlansCommand(athleteIds, "base", LocalDate.of(2026, 1, 5), Hours.of(8.0), null);
+    }
+
+    private Athlete createTestAthlete(String id) {
+        AthleteProfile profile =
+                new AthleteProfile("male", 30, Kilograms.of(75.0), Centimeters.of(175.0), "intermediate");
+        TrainingMetrics metrics =
+                new TrainingMetrics(Watts.of(250.0), BeatsPerMinute.of(180.0), Vo2Max.of(45.0), Kilograms.of(75.0));
+        Set<DayOfWeek> availableDays = Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+        TrainingPreferences preferences = new TrainingPreferences(availableDays, Hours.of(8.0), "base");
+        return new Athlete(id, "Athlete " + id, profile, metrics, preferences);
+    }
+}
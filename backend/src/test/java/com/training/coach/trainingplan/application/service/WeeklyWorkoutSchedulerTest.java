@@ -0,0 +1,99 @@
+package com.training.coach.trainingplan.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.athlete.domain.model.Event;
+import com.training.coach.athlete.domain.model.TravelException;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.trainingplan.application.service.WeeklyWorkoutScheduler.ScheduledSession;
+import com.training.coach.trainingplan.domain.model.SchedulingConstraints;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Weekly Workout Scheduler Tests")
+class WeeklyWorkoutSchedulerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    private WeeklyWorkoutScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new WeeklyWorkoutScheduler();
+    }
+
+    @Test
+    @DisplayName("Should place two hard sessions with an easy day between them")
+    void shouldSpaceHardSessions() {
+        // Given
+        SchedulingConstraints constraints = constraints(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+
+        // When
+        List<ScheduledSession> sessions = scheduler.schedule(MONDAY, constraints, null);
+
+        // Then
+        assertThat(sessions).extracting(ScheduledSession::type).containsExactly(
+                Workout.WorkoutType.INTERVALS, Workout.WorkoutType.ENDURANCE, Workout.WorkoutType.THRESHOLD);
+        assertThat(sessions).extracting(ScheduledSession::date)
+                .containsExactly(MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(4));
+    }
+
+    @Test
+    @DisplayName("Should skip dates blocked by an active travel exception")
+    void shouldSkipBlockedDates() {
+        // Given
+        TravelException travel = TravelException.create(
+                "athlete-1", MONDAY.plusDays(2), MONDAY.plusDays(3), TravelException.ExceptionType.TRAVEL, "Trip");
+        SchedulingConstraints constraints = constraints(Set.of(DayOfWeek.values()))
+                .withTravelExceptions(List.of(travel));
+
+        // When
+        List<ScheduledSession> sessions = scheduler.schedule(MONDAY, constraints, null);
+
+        // Then
+        assertThat(sessions).hasSize(5);
+        assertThat(sessions).extracting(ScheduledSession::date)
+                .doesNotContain(MONDAY.plusDays(2), MONDAY.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("Should keep hard sessions away from an A priority event")
+    void shouldProtectDaysBeforeEvent() {
+        // Given
+        Event race = Event.create("athlete-1", "Race", MONDAY.plusDays(6), Event.EventPriority.A);
+        SchedulingConstraints constraints = constraints(Set.of(DayOfWeek.values())).withEvents(List.of(race));
+
+        // When
+        List<ScheduledSession> sessions = scheduler.schedule(MONDAY, constraints, null);
+
+        // Then
+        assertThat(sessions).extracting(ScheduledSession::date).doesNotContain(race.date());
+        assertThat(sessions).filteredOn(ScheduledSession::isHighIntensity)
+                .hasSize(2)
+                .allMatch(session -> session.date().isBefore(MONDAY.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("Should respect recovery from a hard session in the previous week")
+    void shouldCarryRecoveryAcrossWeeks() {
+        // Given
+        SchedulingConstraints constraints = constraints(Set.of(DayOfWeek.values()));
+
+        // When
+        List<ScheduledSession> sessions = scheduler.schedule(MONDAY, constraints, MONDAY.minusDays(1));
+
+        // Then
+        assertThat(sessions).filteredOn(ScheduledSession::isHighIntensity)
+                .extracting(ScheduledSession::date)
+                .containsExactly(MONDAY.plusDays(2), MONDAY.plusDays(5));
+    }
+
+    private SchedulingConstraints constraints(Set<DayOfWeek> availableDays) {
+        return new SchedulingConstraints(availableDays, Set.of(), List.of(), null);
+    }
+}
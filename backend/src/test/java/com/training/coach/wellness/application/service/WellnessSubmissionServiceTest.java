@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.training.coach.shared.domain.unit.BeatsPerMinute;
 import com.training.coach.shared.domain.unit.HeartRateVariability;
 import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.wellness.application.port.out.ReactiveWellnessRepository;
 import com.training.coach.wellness.application.port.out.TrainingLoadRepository;
 import com.training.coach.wellness.application.port.out.WellnessRepository;
 import com.training.coach.wellness.domain.model.PhysiologicalData;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WellnessSubmissionService Tests")
@@ -26,16 +28,23 @@ class WellnessSubmissionServiceTest {
     @Mock
     private WellnessRepository wellnessRepository;
 
+    @Mock
+    private ReactiveWellnessRepository reactiveWellnessRepository;
+
     @Mock
     private TrainingLoadRepository trainingLoadRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ReadinessCalculatorService readinessCalculator;
     private WellnessSubmissionService service;
 
     @BeforeEach
     void setUp() {
         readinessCalculator = new ReadinessCalculatorService();
-        service = new WellnessSubmissionService(wellnessRepository, readinessCalculator, trainingLoadRepository);
+        service = new WellnessSubmissionService(
+                wellnessRepository, reactiveWellnessRepository, readinessCalculator, trainingLoadRepository, eventPublisher);
     }
 
     @Test
@@ -77,6 +86,34 @@ class WellnessSubmissionServiceTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Should stream wellness history from the reactive repository")
+    void shouldStreamWellnessHistory() {
+        var snapshots = reactor.core.publisher.Flux.just(
+                WellnessSnapshot.create("athlete-1", LocalDate.now().minusDays(1), null, null, null, 75.0),
+                WellnessSnapshot.create("athlete-1", LocalDate.now(), null, null, null, 80.0));
+
+        org.mockito.Mockito.when(reactiveWellnessRepository.streamByAthleteIdAndDateRange(
+                        "athlete-1", LocalDate.now().minusYears(3), LocalDate.now()))
+                .thenReturn(snapshots);
+
+        var result = service.streamWellnessHistory("athlete-1", LocalDate.now().minusYears(3), LocalDate.now())
+                .collectList()
+                .block();
+
+        assertThat(result).extracting(WellnessSnapshot::readinessScore).containsExactly(75.0, 80.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a history stream that ends before it starts")
+    void shouldRejectReversedHistoryStream() {
+        org.assertj.core.api.Assertions.assertThatThrownBy(() -> service.streamWellnessHistory(
+                        "athlete-1", LocalDate.now(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        org.mockito.Mockito.verifyNoInteractions(reactiveWellnessRepository);
+    }
+
     @Test
     @DisplayName("Should return latest wellness for athlete")
     void shouldReturnLatestWellness() {
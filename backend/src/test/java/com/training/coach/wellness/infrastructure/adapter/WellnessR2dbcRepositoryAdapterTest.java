@@ -0,0 +1,191 @@
+package com.training.coach.wellness.infrastructure.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.training.coach.shared.domain.unit.BeatsPerMinute;
+import com.training.coach.shared.domain.unit.HeartRateVariability;
+import com.training.coach.shared.domain.unit.Hours;
+import com.training.coach.shared.domain.unit.Kilograms;
+import com.training.coach.testconfig.H2TestDatabase;
+import com.training.coach.wellness.domain.model.PhysiologicalData;
+import com.training.coach.wellness.domain.model.SleepMetrics;
+import com.training.coach.wellness.domain.model.SubjectiveWellness;
+import com.training.coach.wellness.domain.model.TrainingLoadSummary;
+import com.training.coach.wellness.domain.model.WellnessSnapshot;
+import com.training.coach.wellness.infrastructure.persistence.WellnessJpaRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Wellness R2DBC Repository Adapter Tests")
+class WellnessR2dbcRepositoryAdapterTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    private H2TestDatabase database;
+    private WellnessR2dbcRepositoryAdapter r2dbcAdapter;
+    private WellnessRepositoryAdapter jpaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new H2TestDatabase(4, 3, 4);
+        r2dbcAdapter = new WellnessR2dbcRepositoryAdapter(database.databaseClient(), database.r2dbcProperties());
+        jpaAdapter = new WellnessRepositoryAdapter(database.jpaRepository(WellnessJpaRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("Should upsert in batches and read back the same snapshots the JPA adapter reads")
+    void shouldUpsertAndMatchJpaAdapter() {
+        // Given
+        List<WellnessSnapshot> snapshots = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            snapshots.add(day % 2 == 0 ? fullSnapshot("athlete-1", START.plusDays(day), 50 + day)
+                    : sparseSnapshot("athlete-1", START.plusDays(day), 50 + day));
+        }
+        snapshots.add(fullSnapshot("athlete-2", START, 80));
+
+        // When
+        long inserted = r2dbcAdapter.upsertAll(snapshots).block();
+        long updated = r2dbcAdapter.upsertAll(List.of(
+                fullSnapshot("athlete-1", START.plusDays(3), 99),
+                sparseSnapshot("athlete-1", START.plusDays(4), 11))).block();
+
+        // Then
+        assertThat(inserted).isEqualTo(11);
+        assertThat(updated).isEqualTo(2);
+        List<WellnessSnapshot> streamed = r2dbcAdapter
+                .streamByAthleteIdAndDateRange("athlete-1", START, START.plusDays(30))
+                .collectList()
+                .block();
+        assertThat(streamed).extracting(WellnessSnapshot::date)
+                .containsExactlyElementsOf(snapshots.subList(0, 10).stream().map(WellnessSnapshot::date).toList());
+        assertThat(streamed.get(3).readinessScore()).isEqualTo(99);
+        assertThat(streamed.get(4).physiological().restingHeartRate()).isNull();
+        assertThat(streamed.get(4).loadSummary()).isNull();
+        assertThat(streamed)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(
+                        jpaAdapter.findByAthleteIdAndDateRange("athlete-1", START, START.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("Should stream a range across page boundaries, one row at a time when asked to")
+    void shouldStreamRangeInPages() {
+        // Given
+        List<WellnessSnapshot> snapshots = new ArrayList<>();
+        for (int day = 0; day < 9; day++) {
+            snapshots.add(sparseSnapshot("athlete-1", START.plusDays(day), 60));
+        }
+        r2dbcAdapter.upsertAll(snapshots).block();
+
+        // When
+        List<WellnessSnapshot> firstFour = r2dbcAdapter
+                .streamByAthleteIdAndDateRange("athlete-1", START.plusDays(1), START.plusDays(7))
+                .limitRate(1)
+                .take(4)
+                .collectList()
+                .block();
+        List<WellnessSnapshot> exactPages = r2dbcAdapter
+                .streamByAthleteIdAndDateRange("athlete-1", START, START.plusDays(5))
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(firstFour).extracting(WellnessSnapshot::date)
+                .containsExactly(START.plusDays(1), START.plusDays(2), START.plusDays(3), START.plusDays(4));
+        assertThat(exactPages).hasSize(6);
+        assertThat(jpaAdapter.streamByAthleteIdAndDateRange("athlete-1", START, START.plusDays(5))
+                        .collectList()
+                        .block())
+                .extracting(WellnessSnapshot::date)
+                .containsExactlyElementsOf(exactPages.stream().map(WellnessSnapshot::date).toList());
+    }
+
+    @Test
+    @DisplayName("Should not skip snapshots sharing a date across a page boundary")
+    void shouldPageOnDateAndId() {
+        // Given three snapshots on the second day, so the first page ends in the middle of that date
+        List<WellnessSnapshot> snapshots = new ArrayList<>();
+        snapshots.add(sparseSnapshot("athlete-1", START, 60));
+        for (String suffix : List.of("a", "b", "c")) {
+            WellnessSnapshot snapshot = sparseSnapshot("athlete-1", START.plusDays(1), 61);
+            snapshots.add(new WellnessSnapshot(snapshot.id() + "-" + suffix, snapshot.athleteId(), snapshot.date(),
+                    snapshot.physiological(), snapshot.subjective(), snapshot.loadSummary(),
+                    snapshot.readinessScore()));
+        }
+        snapshots.add(sparseSnapshot("athlete-1", START.plusDays(2), 62));
+        r2dbcAdapter.upsertAll(snapshots).block();
+
+        // When
+        List<WellnessSnapshot> streamed = r2dbcAdapter
+                .streamByAthleteIdAndDateRange("athlete-1", START, START.plusDays(2))
+                .collectList()
+                .block();
+
+        // Then
+        List<String> expected = snapshots.stream().map(WellnessSnapshot::id).toList();
+        assertThat(streamed).extracting(WellnessSnapshot::id).containsExactlyElementsOf(expected);
+        assertThat(jpaAdapter.streamByAthleteIdAndDateRange("athlete-1", START, START.plusDays(2))
+                        .collectList()
+                        .block())
+                .extracting(WellnessSnapshot::id)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should serve the blocking port from the same table")
+    void shouldServeBlockingPort() {
+        // Given
+        r2dbcAdapter.saveAll(List.of(
+                fullSnapshot("athlete-1", START, 70), fullSnapshot("athlete-1", START.plusDays(2), 72)));
+        jpaAdapter.save(sparseSnapshot("athlete-1", START.plusDays(1), 71));
+
+        // When
+        r2dbcAdapter.deleteByAthleteIdAndDate("athlete-1", START);
+
+        // Then
+        assertThat(r2dbcAdapter.findLatestByAthleteId("athlete-1"))
+                .map(WellnessSnapshot::readinessScore)
+                .contains(72.0);
+        assertThat(r2dbcAdapter.findByAthleteIdAndDate("athlete-1", START.plusDays(1)))
+                .map(WellnessSnapshot::readinessScore)
+                .contains(71.0);
+        assertThat(r2dbcAdapter.existsByAthleteIdAndDate("athlete-1", START)).isFalse();
+        assertThat(jpaAdapter.findByAthleteIdAndDateRange("athlete-1", START, START.plusDays(2))).hasSize(2);
+        r2dbcAdapter.deleteByAthleteId("athlete-1");
+        assertThat(r2dbcAdapter.findLatestByAthleteId("athlete-1")).isEmpty();
+    }
+
+    private static WellnessSnapshot fullSnapshot(String athleteId, LocalDate date, double readiness) {
+        return WellnessSnapshot.create(
+                athleteId,
+                date,
+                new PhysiologicalData(
+                        BeatsPerMinute.of(48),
+                        HeartRateVariability.of(65),
+                        Kilograms.of(71.5),
+                        SleepMetrics.basic(Hours.of(7.5), 8)),
+                SubjectiveWellness.create(3, 4, 8, 7, 2),
+                new TrainingLoadSummary(85, 70, 75, -5, 120),
+                readiness);
+    }
+
+    private static WellnessSnapshot sparseSnapshot(String athleteId, LocalDate date, double readiness) {
+        return WellnessSnapshot.create(
+                athleteId,
+                date,
+                new PhysiologicalData(null, null, null, SleepMetrics.basic(Hours.of(6), 6)),
+                SubjectiveWellness.create(5, 5, 6, 6, 4),
+                null,
+                readiness);
+    }
+}
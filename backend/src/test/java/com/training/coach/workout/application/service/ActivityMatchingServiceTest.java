@@ -0,0 +1,156 @@
+package com.training.coach.workout.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.training.coach.activity.domain.model.ActivityLight;
+import com.training.coach.athlete.domain.model.Workout;
+import com.training.coach.shared.domain.unit.Minutes;
+import com.training.coach.shared.domain.unit.Percent;
+import com.training.coach.shared.domain.unit.Seconds;
+import com.training.coach.testconfig.inmemory.InMemoryPlanRepository;
+import com.training.coach.testconfig.inmemory.InMemoryWorkoutMatchRepository;
+import com.training.coach.trainingplan.domain.model.PlanSummary;
+import com.training.coach.trainingplan.domain.model.PlanVersion;
+import com.training.coach.trainingplan.infrastructure.persistence.entity.PlanVersionStatus;
+import com.training.coach.workout.application.service.ActivityMatchingService.ExecutionSummary;
+import com.training.coach.workout.application.service.ActivityMatchingService.MatchingResult;
+import com.training.coach.workout.domain.ExecutionStatus;
+import com.training.coach.workout.domain.WorkoutMatch;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Activity Matching Service Tests")
+class ActivityMatchingServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private InMemoryPlanRepository planRepository;
+    private InMemoryWorkoutMatchRepository matchRepository;
+    private ActivityMatchingService service;
+
+    @BeforeEach
+    void setUp() {
+        planRepository = new InMemoryPlanRepository();
+        matchRepository = new InMemoryWorkoutMatchRepository();
+        service = new ActivityMatchingService(planRepository, matchRepository);
+    }
+
+    @Test
+    @DisplayName("Should match each activity to the closest fitting planned workout in one batch")
+    void shouldMatchActivitiesInBulk() {
+        // Given
+        publish("athlete-1",
+                workout("w-mon", MONDAY, Workout.WorkoutType.ENDURANCE, 90),
+                workout("w-wed", MONDAY.plusDays(2), Workout.WorkoutType.INTERVALS, 60),
+                workout("w-fri", MONDAY.plusDays(4), Workout.WorkoutType.THRESHOLD, 75));
+        List<ActivityLight> activities = List.of(
+                activity("a-mon", MONDAY, "Ride", 95, 0.68),
+                // Intervals done a day late
+                activity("a-thu", MONDAY.plusDays(3), "Ride", 55, 0.93),
+                activity("a-gym", MONDAY.plusDays(4), "Strength", 75, null),
+                activity("a-sun", MONDAY.plusDays(6), "Ride", 240, 0.62));
+
+        // When
+        MatchingResult result = service.matchActivities("athlete-1", MONDAY, MONDAY.plusDays(6), activities);
+
+        // Then
+        assertThat(result.matches())
+                .extracting(WorkoutMatch::activityId, WorkoutMatch::plannedWorkoutId)
+                .containsExactly(
+                        tuple("athlete-1_a-mon", "w-mon"),
+                        tuple("athlete-1_a-thu", "w-wed"));
+        assertThat(result.unmatchedActivityIds()).containsExactly("athlete-1_a-gym", "athlete-1_a-sun");
+        assertThat(result.unmatchedPlannedWorkoutIds()).containsExactly("w-fri");
+        assertThat(result.matches().get(0).execution().status()).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(result.matches().get(1).execution().intensityMinutes()).isEqualTo(55);
+        assertThat(matchRepository.batches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should prefer the better fitting workout when two are within tolerance")
+    void shouldPreferBetterFittingWorkout() {
+        // Given
+        publish("athlete-1",
+                workout("w-easy", MONDAY, Workout.WorkoutType.RECOVERY, 30),
+                workout("w-long", MONDAY.plusDays(1), Workout.WorkoutType.ENDURANCE, 180));
+
+        // When
+        MatchingResult result = service.matchActivities("athlete-1", MONDAY, MONDAY.plusDays(1),
+                List.of(activity("a-1", MONDAY, "Ride", 170, 0.65)));
+
+        // Then
+        assertThat(result.matches()).extracting(WorkoutMatch::plannedWorkoutId).containsExactly("w-long");
+    }
+
+    @Test
+    @DisplayName("Should leave earlier matches alone when a window is synced again")
+    void shouldBeIdempotentAcrossSyncs() {
+        // Given
+        publish("athlete-1",
+                workout("w-mon", MONDAY, Workout.WorkoutType.ENDURANCE, 60),
+                workout("w-tue", MONDAY.plusDays(1), Workout.WorkoutType.ENDURANCE, 60));
+        ActivityLight monday = activity("a-mon", MONDAY, "Ride", 60, 0.7);
+        service.matchActivities("athlete-1", MONDAY, MONDAY, List.of(monday));
+
+        // When
+        MatchingResult result = service.matchActivities("athlete-1", MONDAY, MONDAY.plusDays(1),
+                List.of(monday, activity("a-tue", MONDAY.plusDays(1), "Ride", 58, 0.7)));
+
+        // Then
+        assertThat(result.matches()).extracting(WorkoutMatch::activityId).containsExactly("athlete-1_a-tue");
+        assertThat(matchRepository.findByAthleteIdAndDateRange("athlete-1", MONDAY, MONDAY.plusDays(1)))
+                .extracting(WorkoutMatch::plannedWorkoutId)
+                .containsExactly("w-mon", "w-tue");
+    }
+
+    @Test
+    @DisplayName("Should summarize planned and executed workouts for compliance")
+    void shouldSummarizeExecutions() {
+        // Given
+        publish("athlete-1",
+                workout("w-mon", MONDAY, Workout.WorkoutType.ENDURANCE, 90),
+                workout("w-wed", MONDAY.plusDays(2), Workout.WorkoutType.INTERVALS, 60),
+                workout("w-fri", MONDAY.plusDays(4), Workout.WorkoutType.THRESHOLD, 75));
+        service.matchActivities("athlete-1", MONDAY, MONDAY.plusDays(6), List.of(
+                activity("a-mon", MONDAY, "Ride", 90, 0.7),
+                activity("a-wed", MONDAY.plusDays(2), "Ride", 60, 0.95)));
+
+        // When
+        ExecutionSummary summary = service.summarizeExecutions("athlete-1", MONDAY, MONDAY.plusDays(6));
+
+        // Then
+        assertThat(summary.plannedCount()).isEqualTo(3);
+        assertThat(summary.executedCount()).isEqualTo(2);
+        assertThat(summary.keySessionCount()).isEqualTo(2);
+        assertThat(summary.keySessionCompletionPercent()).isEqualTo(50.0);
+        assertThat(summary.executedMinutes()).isEqualTo(150);
+    }
+
+    private void publish(String athleteId, Workout... workouts) {
+        String planId = "plan-" + athleteId;
+        planRepository.save(new PlanSummary(planId, athleteId, 1, PlanVersionStatus.PUBLISHED, Instant.now(), Instant.now()));
+        planRepository.saveVersion(new PlanVersion(planId, 1, PlanVersionStatus.PUBLISHED, List.of(workouts), Instant.now()));
+    }
+
+    private static Workout workout(String id, LocalDate date, Workout.WorkoutType type, int minutes) {
+        return new Workout(
+                id,
+                date,
+                type,
+                Minutes.of(minutes),
+                new Workout.IntensityProfile(Percent.of(80), Percent.of(20), Percent.of(0), Percent.of(0), Percent.of(0)),
+                List.of());
+    }
+
+    private static ActivityLight activity(
+            String externalId, LocalDate date, String type, int minutes, Double intensityFactor) {
+        return ActivityLight.create(
+                "athlete-1", externalId, date, type, type, Seconds.of(minutes * 60),
+                null, null, null, null, intensityFactor, null);
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,6 +42,9 @@ class WorkoutExecutionServiceTest {
     @Mock
     private ActivityRepository activityRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private WorkoutExecutionService workoutExecutionService;
 
     @BeforeEach
@@ -49,7 +53,8 @@ class WorkoutExecutionServiceTest {
             athleteRepository,
             workoutRepository,
             workoutExecutionRepository,
-            activityRepository
+            activityRepository,
+            eventPublisher
         );
     }
 
@@ -4,9 +4,13 @@ import com.training.coach.athlete.application.port.out.FitnessPlatformPort
 import com.training.coach.testconfig.inmemory.InMemoryActivityRepository
 import com.training.coach.testconfig.inmemory.InMemoryAthleteRepository
 import com.training.coach.testconfig.inmemory.InMemoryEventRepository
+import com.training.coach.testconfig.inmemory.InMemoryJobLeaseRepository
+import com.training.coach.testconfig.inmemory.InMemoryJobRunRepository
+import com.training.coach.testconfig.inmemory.InMemoryNotificationOutbox
 import com.training.coach.testconfig.inmemory.InMemoryNotificationRepository
 import com.training.coach.testconfig.inmemory.InMemoryPlanRepository
 import com.training.coach.testconfig.inmemory.InMemoryRefreshTokenStore
+import com.training.coach.testconfig.inmemory.InMemorySyncShardRepository
 import com.training.coach.testconfig.inmemory.InMemorySystemUserRepository
 import com.training.coach.testconfig.inmemory.InMemoryTrainingLoadRepository
 import com.training.coach.testconfig.inmemory.InMemoryTrainingPlanRepository
@@ -77,4 +81,17 @@ open class CucumberTestConfig {
     @Bean
     @ScenarioScope
     open fun notificationRepository(): InMemoryNotificationRepository = InMemoryNotificationRepository()
+
+    @Bean
+    @ScenarioScope
+    open fun notificationOutbox(): InMemoryNotificationOutbox = InMemoryNotificationOutbox()
+
+    @Bean
+    open fun jobLeaseRepository(): InMemoryJobLeaseRepository = InMemoryJobLeaseRepository()
+
+    @Bean
+    open fun jobRunRepository(): InMemoryJobRunRepository = InMemoryJobRunRepository()
+
+    @Bean
+    open fun syncShardRepository(): InMemorySyncShardRepository = InMemorySyncShardRepository()
 }